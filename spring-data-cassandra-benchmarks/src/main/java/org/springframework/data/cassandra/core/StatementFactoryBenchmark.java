@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
+import org.springframework.data.cassandra.core.cql.util.TermFactory;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.core.query.Update;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.term.Term;
+
+/**
+ * Benchmarks for {@link StatementFactory} comparing statement rendering through the statement shape cache with
+ * rendering the full statement on each call. Also covers rendering of {@link Query}-based selects and
+ * {@link Update}-based updates.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+public class StatementFactoryBenchmark {
+
+	private MappingCassandraConverter converter;
+
+	private StatementFactory statementFactory;
+
+	private CassandraPersistentEntity<?> entity;
+
+	private CqlIdentifier tableName;
+
+	private Person person;
+
+	private Query selectQuery;
+
+	private Query updateQuery;
+
+	private Update update;
+
+	@Setup
+	public void setUp() {
+
+		this.converter = new MappingCassandraConverter();
+		this.converter.afterPropertiesSet();
+		this.statementFactory = new StatementFactory(this.converter);
+		this.entity = this.converter.getMappingContext().getRequiredPersistentEntity(Person.class);
+		this.tableName = this.entity.getTableName();
+
+		this.person = new Person();
+		this.person.id = UUID.randomUUID().toString();
+		this.person.firstName = "Walter";
+		this.person.lastName = "White";
+		this.person.age = 50;
+
+		this.selectQuery = Query.query(Criteria.where("lastName").is("White"), Criteria.where("age").gt(40)).limit(10)
+				.withAllowFiltering();
+		this.updateQuery = Query.query(Criteria.where("id").is(this.person.id));
+		this.update = Update.update("firstName", "Walter").set("age", 51);
+	}
+
+	@Benchmark
+	public SimpleStatement selectOneByIdShaped() {
+		return this.statementFactory.selectOneById(this.person.id, this.entity, this.tableName)
+				.build(ParameterHandling.BY_INDEX);
+	}
+
+	@Benchmark
+	public SimpleStatement selectOneByIdRendered() {
+
+		Where where = new Where();
+		this.converter.write(this.person.id, where, this.entity);
+
+		return StatementBuilder.of(QueryBuilder.selectFrom(this.tableName).all().limit(1))
+				.bind((statement, factory) -> statement.where(toRelations(where, factory)))
+				.build(ParameterHandling.BY_INDEX);
+	}
+
+	@Benchmark
+	public SimpleStatement insertShaped() {
+		return this.statementFactory.insert(this.person, InsertOptions.empty(), this.entity, this.tableName)
+				.build(ParameterHandling.BY_INDEX);
+	}
+
+	@Benchmark
+	public SimpleStatement insertRendered() {
+
+		Map<CqlIdentifier, Object> object = new Where();
+		this.converter.write(this.person, object, this.entity);
+
+		return StatementBuilder.of(QueryBuilder.insertInto(this.tableName).valuesByIds(Collections.emptyMap()))
+				.bind((statement, factory) -> {
+
+					Map<CqlIdentifier, Term> terms = new LinkedHashMap<>();
+					object.forEach((key, value) -> {
+
+						if (value != null) {
+							terms.put(key, factory.create(value));
+						}
+					});
+
+					return statement.valuesByIds(terms);
+				}).build(ParameterHandling.BY_INDEX);
+	}
+
+	@Benchmark
+	public SimpleStatement selectByQuery() {
+		return this.statementFactory.select(this.selectQuery, this.entity, this.tableName)
+				.build(ParameterHandling.BY_INDEX);
+	}
+
+	@Benchmark
+	public SimpleStatement updateByQuery() {
+		return this.statementFactory.update(this.updateQuery, this.update, this.entity, this.tableName)
+				.build(ParameterHandling.BY_INDEX);
+	}
+
+	@Benchmark
+	public SimpleStatement updateEntity() {
+		return this.statementFactory.update(this.person, UpdateOptions.empty(), this.entity, this.tableName)
+				.build(ParameterHandling.BY_INDEX);
+	}
+
+	private static List<Relation> toRelations(Where where, TermFactory factory) {
+		return where.entrySet().stream().map(it -> Relation.column(it.getKey()).isEqualTo(factory.create(it.getValue())))
+				.collect(Collectors.toList());
+	}
+
+	@Table
+	static class Person {
+
+		@Id String id;
+
+		String firstName;
+
+		String lastName;
+
+		int age;
+	}
+}
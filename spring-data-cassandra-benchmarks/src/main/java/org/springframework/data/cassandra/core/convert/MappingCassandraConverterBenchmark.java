@@ -0,0 +1,245 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.Embedded;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.mapping.UserDefinedType;
+import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.support.StubRow;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.internal.core.type.DefaultUserDefinedType;
+
+/**
+ * Benchmarks for {@link MappingCassandraConverter} reading entities from and writing entities to their tabular
+ * representation. Covers flat entities, embedded entities, entities referencing a user-defined type and
+ * collection-heavy entities. Rows are provided by {@link StubRow} so that no Cassandra cluster is required.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+public class MappingCassandraConverterBenchmark {
+
+	private MappingCassandraConverter converter;
+
+	private CassandraPersistentEntity<?> flatEntity;
+	private CassandraPersistentEntity<?> embeddedEntity;
+	private CassandraPersistentEntity<?> udtEntity;
+	private CassandraPersistentEntity<?> collectionEntity;
+
+	private Row flatRow;
+	private Row embeddedRow;
+	private Row udtRow;
+	private Row collectionRow;
+
+	private FlatPerson flatPerson;
+	private EmbeddedPerson embeddedPerson;
+	private UdtPerson udtPerson;
+	private CollectionPerson collectionPerson;
+
+	@Setup
+	public void setUp() {
+
+		com.datastax.oss.driver.api.core.type.UserDefinedType addressType = new DefaultUserDefinedType(
+				CqlIdentifier.fromCql("benchmark"), CqlIdentifier.fromCql("address"), false,
+				Arrays.asList(CqlIdentifier.fromCql("street"), CqlIdentifier.fromCql("city"), CqlIdentifier.fromCql("zip")),
+				Arrays.<DataType> asList(DataTypes.TEXT, DataTypes.TEXT, DataTypes.TEXT));
+		UserTypeResolver userTypeResolver = typeName -> typeName.equals(addressType.getName()) ? addressType : null;
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.setUserTypeResolver(userTypeResolver);
+
+		this.converter = new MappingCassandraConverter(mappingContext);
+		this.converter.setUserTypeResolver(userTypeResolver);
+		this.converter.afterPropertiesSet();
+
+		this.flatEntity = mappingContext.getRequiredPersistentEntity(FlatPerson.class);
+		this.embeddedEntity = mappingContext.getRequiredPersistentEntity(EmbeddedPerson.class);
+		this.udtEntity = mappingContext.getRequiredPersistentEntity(UdtPerson.class);
+		this.collectionEntity = mappingContext.getRequiredPersistentEntity(CollectionPerson.class);
+
+		this.flatRow = StubRow.builder().column("id", DataTypes.TEXT, "heisenberg")
+				.column("firstname", DataTypes.TEXT, "Walter").column("lastname", DataTypes.TEXT, "White")
+				.column("age", DataTypes.INT, 50).column("score", DataTypes.BIGINT, 42L)
+				.column("createdat", DataTypes.TIMESTAMP, Instant.ofEpochMilli(1_600_000_000_000L)).build();
+
+		this.embeddedRow = StubRow.builder().column("id", DataTypes.TEXT, "heisenberg")
+				.column("firstname", DataTypes.TEXT, "Walter").column("address_street", DataTypes.TEXT, "Negra Arroyo Lane")
+				.column("address_city", DataTypes.TEXT, "Albuquerque").column("address_zip", DataTypes.TEXT, "87104").build();
+
+		this.udtRow = StubRow.builder().column("id", DataTypes.TEXT, "heisenberg")
+				.column("firstname", DataTypes.TEXT, "Walter").column("address", addressType, addressType.newValue()
+						.setString("street", "Negra Arroyo Lane").setString("city", "Albuquerque").setString("zip", "87104"))
+				.build();
+
+		Map<String, String> attributes = new LinkedHashMap<>();
+		for (int i = 0; i < 10; i++) {
+			attributes.put("key" + i, "value" + i);
+		}
+
+		this.collectionRow = StubRow.builder().column("id", DataTypes.TEXT, "heisenberg")
+				.column("tags", DataTypes.listOf(DataTypes.TEXT), Arrays.asList("chemist", "teacher", "cook", "kingpin"))
+				.column("scores", DataTypes.setOf(DataTypes.INT), new HashSet<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8)))
+				.column("attributes", DataTypes.mapOf(DataTypes.TEXT, DataTypes.TEXT), attributes).build();
+
+		this.flatPerson = this.converter.read(FlatPerson.class, this.flatRow);
+		this.embeddedPerson = this.converter.read(EmbeddedPerson.class, this.embeddedRow);
+		this.udtPerson = this.converter.read(UdtPerson.class, this.udtRow);
+		this.collectionPerson = this.converter.read(CollectionPerson.class, this.collectionRow);
+	}
+
+	@Benchmark
+	public FlatPerson readFlat() {
+		return this.converter.read(FlatPerson.class, this.flatRow);
+	}
+
+	@Benchmark
+	public EmbeddedPerson readEmbedded() {
+		return this.converter.read(EmbeddedPerson.class, this.embeddedRow);
+	}
+
+	@Benchmark
+	public UdtPerson readUdt() {
+		return this.converter.read(UdtPerson.class, this.udtRow);
+	}
+
+	@Benchmark
+	public CollectionPerson readCollections() {
+		return this.converter.read(CollectionPerson.class, this.collectionRow);
+	}
+
+	@Benchmark
+	public Map<CqlIdentifier, Object> writeFlat() {
+		return write(this.flatPerson, this.flatEntity);
+	}
+
+	@Benchmark
+	public Map<CqlIdentifier, Object> writeEmbedded() {
+		return write(this.embeddedPerson, this.embeddedEntity);
+	}
+
+	@Benchmark
+	public Map<CqlIdentifier, Object> writeUdt() {
+		return write(this.udtPerson, this.udtEntity);
+	}
+
+	@Benchmark
+	public Map<CqlIdentifier, Object> writeCollections() {
+		return write(this.collectionPerson, this.collectionEntity);
+	}
+
+	private Map<CqlIdentifier, Object> write(Object source, CassandraPersistentEntity<?> entity) {
+
+		Map<CqlIdentifier, Object> sink = new LinkedHashMap<>();
+		this.converter.write(source, sink, entity);
+
+		return sink;
+	}
+
+	@Table
+	static class FlatPerson {
+
+		@Id String id;
+
+		String firstname;
+
+		String lastname;
+
+		int age;
+
+		long score;
+
+		Instant createdAt;
+	}
+
+	@Table
+	static class EmbeddedPerson {
+
+		@Id String id;
+
+		String firstname;
+
+		@Embedded.Nullable(prefix = "address_") Address address;
+	}
+
+	static class Address {
+
+		String street;
+
+		String city;
+
+		String zip;
+	}
+
+	@Table
+	static class UdtPerson {
+
+		@Id String id;
+
+		String firstname;
+
+		UdtAddress address;
+	}
+
+	@UserDefinedType("address")
+	static class UdtAddress {
+
+		String street;
+
+		String city;
+
+		String zip;
+	}
+
+	@Table
+	static class CollectionPerson {
+
+		@Id String id;
+
+		List<String> tags;
+
+		Set<Integer> scores;
+
+		Map<String, String> attributes;
+	}
+}
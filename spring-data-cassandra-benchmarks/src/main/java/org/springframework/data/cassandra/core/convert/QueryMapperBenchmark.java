@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.Column;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.query.Columns;
+import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.Update;
+import org.springframework.data.domain.Sort;
+
+import com.datastax.oss.driver.api.querybuilder.select.Selector;
+
+/**
+ * Benchmarks for {@link QueryMapper} and {@link UpdateMapper} mapping property-based queries and updates to their
+ * column-based representation.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+public class QueryMapperBenchmark {
+
+	private QueryMapper queryMapper;
+
+	private UpdateMapper updateMapper;
+
+	private CassandraPersistentEntity<?> entity;
+
+	private Filter filter;
+
+	private Sort sort;
+
+	private Columns columns;
+
+	private Update update;
+
+	@Setup
+	public void setUp() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		this.queryMapper = new QueryMapper(converter);
+		this.updateMapper = new UpdateMapper(converter);
+		this.entity = converter.getMappingContext().getRequiredPersistentEntity(Person.class);
+
+		this.filter = Filter.from(Criteria.where("lastName").is("White"), Criteria.where("age").gt(40),
+				Criteria.where("nickname").in("Heisenberg", "Mr. White"));
+		this.sort = Sort.by("lastName", "firstName");
+		this.columns = Columns.from("firstName", "lastName", "age");
+		this.update = Update.update("firstName", "Walter").set("age", 51).addTo("tags").appendAll("chemist", "cook")
+				.increment("visits");
+	}
+
+	@Benchmark
+	public Filter mapFilter() {
+		return this.queryMapper.getMappedObject(this.filter, this.entity);
+	}
+
+	@Benchmark
+	public Sort mapSort() {
+		return this.queryMapper.getMappedSort(this.sort, this.entity);
+	}
+
+	@Benchmark
+	public List<Selector> mapSelectors() {
+		return this.queryMapper.getMappedSelectors(this.columns, this.entity);
+	}
+
+	@Benchmark
+	public Update mapUpdate() {
+		return this.updateMapper.getMappedObject(this.update, this.entity);
+	}
+
+	@Table
+	static class Person {
+
+		@Id String id;
+
+		@Column("first_name") String firstName;
+
+		@Column("last_name") String lastName;
+
+		String nickname;
+
+		int age;
+
+		long visits;
+
+		List<String> tags;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.cassandra.support.StubRow;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+
+/**
+ * Benchmarks for {@link BeanPropertyRowMapper} and {@link DataClassRowMapper} mapping a {@link Row} to a JavaBean
+ * respectively to a constructor-based data class.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+public class RowMapperBenchmark {
+
+	private BeanPropertyRowMapper<PersonBean> beanPropertyRowMapper;
+
+	private DataClassRowMapper<PersonData> dataClassRowMapper;
+
+	private Row row;
+
+	@Setup
+	public void setUp() {
+
+		this.beanPropertyRowMapper = new BeanPropertyRowMapper<>(PersonBean.class);
+		this.dataClassRowMapper = new DataClassRowMapper<>(PersonData.class);
+
+		this.row = StubRow.builder().column("id", DataTypes.TEXT, "heisenberg")
+				.column("first_name", DataTypes.TEXT, "Walter").column("last_name", DataTypes.TEXT, "White")
+				.column("age", DataTypes.INT, 50).column("active", DataTypes.BOOLEAN, true).build();
+	}
+
+	@Benchmark
+	public PersonBean beanPropertyRowMapper() {
+		return this.beanPropertyRowMapper.mapRow(this.row, 0);
+	}
+
+	@Benchmark
+	public PersonData dataClassRowMapper() {
+		return this.dataClassRowMapper.mapRow(this.row, 0);
+	}
+
+	public static class PersonBean {
+
+		private String id;
+
+		private String firstName;
+
+		private String lastName;
+
+		private int age;
+
+		private boolean active;
+
+		public String getId() {
+			return this.id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		public String getFirstName() {
+			return this.firstName;
+		}
+
+		public void setFirstName(String firstName) {
+			this.firstName = firstName;
+		}
+
+		public String getLastName() {
+			return this.lastName;
+		}
+
+		public void setLastName(String lastName) {
+			this.lastName = lastName;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public boolean isActive() {
+			return this.active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+	}
+
+	public static class PersonData {
+
+		private final String id;
+
+		private final String firstName;
+
+		private final String lastName;
+
+		private final int age;
+
+		private final boolean active;
+
+		public PersonData(String id, String firstName, String lastName, int age, boolean active) {
+			this.id = id;
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.age = age;
+			this.active = active;
+		}
+
+		public String getId() {
+			return this.id;
+		}
+
+		public String getFirstName() {
+			return this.firstName;
+		}
+
+		public String getLastName() {
+			return this.lastName;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public boolean isActive() {
+			return this.active;
+		}
+	}
+}
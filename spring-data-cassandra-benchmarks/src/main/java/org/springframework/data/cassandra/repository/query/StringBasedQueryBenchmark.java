@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.ExtensionAwareQueryMethodEvaluationContextProvider;
+import org.springframework.data.repository.query.Param;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ReflectionUtils;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Benchmarks for {@link StringBasedCassandraQuery} binding method arguments to string-based queries using indexed
+ * parameters, named parameters and SpEL expressions.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+public class StringBasedQueryBenchmark {
+
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	private StringBasedCassandraQuery indexedQuery;
+	private StringBasedCassandraQuery namedQuery;
+	private StringBasedCassandraQuery expressionQuery;
+
+	private CassandraParametersParameterAccessor indexedAccessor;
+	private CassandraParametersParameterAccessor namedAccessor;
+	private CassandraParametersParameterAccessor expressionAccessor;
+
+	@Setup
+	public void setUp() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		CassandraTemplate operations = new CassandraTemplate(new CqlTemplate(), converter);
+		RepositoryMetadata metadata = AbstractRepositoryMetadata.getMetadata(PersonRepository.class);
+
+		this.indexedQuery = createQuery(metadata, operations, "findByIndexedParameters");
+		this.namedQuery = createQuery(metadata, operations, "findByNamedParameters");
+		this.expressionQuery = createQuery(metadata, operations, "findByExpression");
+
+		this.indexedAccessor = new CassandraParametersParameterAccessor(this.indexedQuery.getQueryMethod(), "White",
+				"Walter");
+		this.namedAccessor = new CassandraParametersParameterAccessor(this.namedQuery.getQueryMethod(), "White",
+				"Walter");
+		this.expressionAccessor = new CassandraParametersParameterAccessor(this.expressionQuery.getQueryMethod(),
+				"White", "Walter");
+	}
+
+	@Benchmark
+	public SimpleStatement bindIndexedParameters() {
+		return this.indexedQuery.createQuery(this.indexedAccessor);
+	}
+
+	@Benchmark
+	public SimpleStatement bindNamedParameters() {
+		return this.namedQuery.createQuery(this.namedAccessor);
+	}
+
+	@Benchmark
+	public SimpleStatement bindExpressions() {
+		return this.expressionQuery.createQuery(this.expressionAccessor);
+	}
+
+	private static StringBasedCassandraQuery createQuery(RepositoryMetadata metadata, CassandraTemplate operations,
+			String methodName) {
+
+		Method method = ReflectionUtils.findMethod(PersonRepository.class, methodName, String.class, String.class);
+		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata,
+				new SpelAwareProxyProjectionFactory(), operations.getConverter().getMappingContext());
+
+		return new StringBasedCassandraQuery(queryMethod, operations, PARSER,
+				ExtensionAwareQueryMethodEvaluationContextProvider.DEFAULT);
+	}
+
+	interface PersonRepository extends Repository<Person, String> {
+
+		@Query("SELECT * FROM person WHERE lastname = ?0 AND firstname = ?1")
+		Person findByIndexedParameters(String lastname, String firstname);
+
+		@Query("SELECT * FROM person WHERE lastname = :lastname AND firstname = :firstname")
+		Person findByNamedParameters(@Param("lastname") String lastname, @Param("firstname") String firstname);
+
+		@Query("SELECT * FROM person WHERE lastname = :#{[0]} AND firstname = :#{[1]}")
+		Person findByExpression(String lastname, String firstname);
+	}
+
+	@Table
+	static class Person {
+
+		@Id String id;
+
+		String firstname;
+
+		String lastname;
+	}
+}
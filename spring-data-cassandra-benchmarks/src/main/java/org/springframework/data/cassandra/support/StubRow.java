@@ -0,0 +1,439 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.support;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+/**
+ * Stub {@link Row} implementation holding pre-encoded column values. Values are encoded once through the
+ * {@link CodecRegistry#DEFAULT default codec registry} when building the row so that benchmarks measure decoding and
+ * mapping only. Encoded values are read without changing their position so a single row can be read repeatedly.
+ */
+public class StubRow implements Row {
+
+	private final StubColumnDefinitions columnDefinitions;
+
+	private final ByteBuffer[] values;
+
+	private StubRow(StubColumnDefinitions columnDefinitions, ByteBuffer[] values) {
+		this.columnDefinitions = columnDefinitions;
+		this.values = values;
+	}
+
+	/**
+	 * Create a new {@link Builder} to build a {@link StubRow}.
+	 *
+	 * @return a new {@link Builder}.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.cql.Row#getColumnDefinitions()
+	 */
+	@Override
+	public ColumnDefinitions getColumnDefinitions() {
+		return this.columnDefinitions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.Data#size()
+	 */
+	@Override
+	public int size() {
+		return this.values.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.GettableByIndex#getType(int)
+	 */
+	@Override
+	public DataType getType(int i) {
+		return this.columnDefinitions.get(i).getType();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.GettableByName#getType(java.lang.String)
+	 */
+	@Override
+	public DataType getType(String name) {
+		return getType(this.columnDefinitions.firstIndexOf(name));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.GettableById#getType(com.datastax.oss.driver.api.core.CqlIdentifier)
+	 */
+	@Override
+	public DataType getType(CqlIdentifier id) {
+		return getType(this.columnDefinitions.firstIndexOf(id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.GettableByName#firstIndexOf(java.lang.String)
+	 */
+	@Override
+	public int firstIndexOf(String name) {
+		return this.columnDefinitions.requiredIndexOf(name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.GettableById#firstIndexOf(com.datastax.oss.driver.api.core.CqlIdentifier)
+	 */
+	@Override
+	public int firstIndexOf(CqlIdentifier id) {
+		return this.columnDefinitions.requiredIndexOf(id);
+	}
+
+	public List<Integer> allIndicesOf(String name) {
+		return Collections.singletonList(firstIndexOf(name));
+	}
+
+	public List<Integer> allIndicesOf(CqlIdentifier id) {
+		return Collections.singletonList(firstIndexOf(id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.GettableByIndex#getBytesUnsafe(int)
+	 */
+	@Nullable
+	@Override
+	public ByteBuffer getBytesUnsafe(int i) {
+		return this.values[i];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.Data#codecRegistry()
+	 */
+	@Override
+	public CodecRegistry codecRegistry() {
+		return CodecRegistry.DEFAULT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.data.Data#protocolVersion()
+	 */
+	@Override
+	public ProtocolVersion protocolVersion() {
+		return ProtocolVersion.DEFAULT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.detach.Detachable#isDetached()
+	 */
+	@Override
+	public boolean isDetached() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.detach.Detachable#attach(com.datastax.oss.driver.api.core.detach.AttachmentPoint)
+	 */
+	@Override
+	public void attach(AttachmentPoint attachmentPoint) {}
+
+	/**
+	 * Builder for {@link StubRow}.
+	 */
+	public static class Builder {
+
+		private final List<ColumnDefinition> columns = new ArrayList<>();
+
+		private final List<ByteBuffer> values = new ArrayList<>();
+
+		private Builder() {}
+
+		/**
+		 * Add a column and encode its {@code value} using the codec for {@link DataType}.
+		 *
+		 * @param name the column name.
+		 * @param type the CQL type of the column.
+		 * @param value the column value, can be {@literal null}.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder column(String name, DataType type, @Nullable Object value) {
+
+			Assert.hasText(name, "Column name must not be empty");
+			Assert.notNull(type, "DataType must not be null");
+
+			TypeCodec<Object> codec = CodecRegistry.DEFAULT.codecFor(type);
+
+			this.columns.add(new StubColumnDefinition(CqlIdentifier.fromCql(name), type));
+			this.values.add(value != null ? codec.encode(value, ProtocolVersion.DEFAULT) : null);
+
+			return this;
+		}
+
+		/**
+		 * Build the {@link StubRow}.
+		 *
+		 * @return the {@link StubRow}.
+		 */
+		public StubRow build() {
+			return new StubRow(new StubColumnDefinitions(this.columns), this.values.toArray(new ByteBuffer[0]));
+		}
+	}
+
+	/**
+	 * Stub {@link ColumnDefinitions} resolving column names through pre-computed indexes.
+	 */
+	static class StubColumnDefinitions implements ColumnDefinitions {
+
+		private final List<ColumnDefinition> columns;
+
+		private final Map<CqlIdentifier, Integer> byId = new HashMap<>();
+
+		private final Map<String, Integer> byCaseInsensitiveName = new HashMap<>();
+
+		StubColumnDefinitions(List<ColumnDefinition> columns) {
+
+			this.columns = new ArrayList<>(columns);
+
+			for (int i = 0; i < columns.size(); i++) {
+
+				CqlIdentifier name = columns.get(i).getName();
+
+				this.byId.putIfAbsent(name, i);
+				this.byCaseInsensitiveName.putIfAbsent(name.asInternal().toLowerCase(Locale.ROOT), i);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinitions#size()
+		 */
+		@Override
+		public int size() {
+			return this.columns.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinitions#get(int)
+		 */
+		@Override
+		public ColumnDefinition get(int i) {
+			return this.columns.get(i);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinitions#contains(java.lang.String)
+		 */
+		@Override
+		public boolean contains(String name) {
+			return firstIndexOf(name) != -1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinitions#contains(com.datastax.oss.driver.api.core.CqlIdentifier)
+		 */
+		@Override
+		public boolean contains(CqlIdentifier id) {
+			return firstIndexOf(id) != -1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinitions#firstIndexOf(java.lang.String)
+		 */
+		@Override
+		public int firstIndexOf(String name) {
+
+			Integer index = name.startsWith("\"") ? this.byId.get(CqlIdentifier.fromCql(name))
+					: this.byCaseInsensitiveName.get(name.toLowerCase(Locale.ROOT));
+
+			return index != null ? index : -1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinitions#firstIndexOf(com.datastax.oss.driver.api.core.CqlIdentifier)
+		 */
+		@Override
+		public int firstIndexOf(CqlIdentifier id) {
+
+			Integer index = this.byId.get(id);
+
+			return index != null ? index : -1;
+		}
+
+		public List<Integer> allIndicesOf(String name) {
+
+			int index = firstIndexOf(name);
+
+			return index != -1 ? Collections.singletonList(index) : Collections.emptyList();
+		}
+
+		public List<Integer> allIndicesOf(CqlIdentifier id) {
+
+			int index = firstIndexOf(id);
+
+			return index != -1 ? Collections.singletonList(index) : Collections.emptyList();
+		}
+
+		int requiredIndexOf(String name) {
+
+			int index = firstIndexOf(name);
+
+			if (index == -1) {
+				throw new IllegalArgumentException(String.format("%s is not a column in this row", name));
+			}
+
+			return index;
+		}
+
+		int requiredIndexOf(CqlIdentifier id) {
+
+			int index = firstIndexOf(id);
+
+			if (index == -1) {
+				throw new IllegalArgumentException(String.format("%s is not a column in this row", id));
+			}
+
+			return index;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Iterable#iterator()
+		 */
+		@Override
+		public Iterator<ColumnDefinition> iterator() {
+			return this.columns.iterator();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.detach.Detachable#isDetached()
+		 */
+		@Override
+		public boolean isDetached() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.detach.Detachable#attach(com.datastax.oss.driver.api.core.detach.AttachmentPoint)
+		 */
+		@Override
+		public void attach(AttachmentPoint attachmentPoint) {}
+	}
+
+	/**
+	 * Stub {@link ColumnDefinition} of a column in the {@code benchmark} keyspace.
+	 */
+	static class StubColumnDefinition implements ColumnDefinition {
+
+		private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromCql("benchmark");
+
+		private static final CqlIdentifier TABLE = CqlIdentifier.fromCql("stub");
+
+		private final CqlIdentifier name;
+
+		private final DataType type;
+
+		StubColumnDefinition(CqlIdentifier name, DataType type) {
+			this.name = name;
+			this.type = type;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinition#getKeyspace()
+		 */
+		@Override
+		public CqlIdentifier getKeyspace() {
+			return KEYSPACE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinition#getTable()
+		 */
+		@Override
+		public CqlIdentifier getTable() {
+			return TABLE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinition#getName()
+		 */
+		@Override
+		public CqlIdentifier getName() {
+			return this.name;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ColumnDefinition#getType()
+		 */
+		@Override
+		public DataType getType() {
+			return this.type;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.detach.Detachable#isDetached()
+		 */
+		@Override
+		public boolean isDetached() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.detach.Detachable#attach(com.datastax.oss.driver.api.core.detach.AttachmentPoint)
+		 */
+		@Override
+		public void attach(AttachmentPoint attachmentPoint) {}
+	}
+}
@@ -68,6 +68,21 @@ public interface ReactiveResultSet {
 	 */
 	Flux<Row> availableRows();
 
+	/**
+	 * Returns a {@link Flux} over the pages of this result set applying transparent paging. Each page is emitted as
+	 * {@link List} of the {@link Row rows} that were fetched with a single request.
+	 * <p>
+	 * The default implementation does not know the page boundaries and emits {@link #rows()} in chunks of up to 5000
+	 * rows, the default page size of the driver. Implementations that have access to the underlying pages should
+	 * override this method.
+	 *
+	 * @return a {@link Flux} of pages that will stream over all {@link Row rows} of the entire result.
+	 * @since 3.1
+	 */
+	default Flux<List<Row>> pages() {
+		return rows().buffer(5000);
+	}
+
 	/**
 	 * Returns the columns returned in this {@link ReactiveResultSet}.
 	 *
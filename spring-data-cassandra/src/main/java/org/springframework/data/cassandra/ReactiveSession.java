@@ -25,6 +25,7 @@ import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
 
 /**
  * A session holds connections to a Cassandra cluster, allowing it to be queried. {@link ReactiveSession} executes
@@ -68,6 +69,15 @@ public interface ReactiveSession extends Closeable {
 	 */
 	DriverContext getContext();
 
+	/**
+	 * Returns a snapshot of the Cassandra cluster's topology and schema metadata.
+	 *
+	 * @return the cluster metadata.
+	 * @since 3.1
+	 * @see com.datastax.oss.driver.api.core.session.Session#getMetadata()
+	 */
+	Metadata getMetadata();
+
 	/**
 	 * Executes the provided query.
 	 * <p/>
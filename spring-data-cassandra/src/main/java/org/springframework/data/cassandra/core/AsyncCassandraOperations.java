@@ -185,6 +185,25 @@ public interface AsyncCassandraOperations {
 	<T> ListenableFuture<Void> select(Query query, Consumer<T> entityConsumer, Class<T> entityClass)
 			throws DataAccessException;
 
+	/**
+	 * Scan all rows of the table mapped by {@code entityClass} and convert these notifying {@link Consumer} for each
+	 * entity. The scan splits the token ring into token ranges and queries up to {@link ScanOptions#getConcurrency()}
+	 * ranges in parallel routing each range query to replicas owning the range. {@code entityConsumer} may be notified
+	 * concurrently for entities of different ranges.
+	 * <p>
+	 * Completed token ranges are reported to the {@link ScanOptions#getCheckpointListener() checkpoint listener} to allow
+	 * {@link ScanOptions.ScanOptionsBuilder#resumeFrom(Iterable) resuming} an interrupted scan.
+	 *
+	 * @param entityClass the entity type to scan, must not be {@literal null}.
+	 * @param options scan options, must not be {@literal null}.
+	 * @param entityConsumer object that will be notified on each entity, must not be {@literal null}.
+	 * @return the completion handle
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	<T> ListenableFuture<Void> scanAll(Class<T> entityClass, ScanOptions options, Consumer<T> entityConsumer)
+			throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -241,6 +260,20 @@ public interface AsyncCassandraOperations {
 	 */
 	ListenableFuture<Long> count(Query query, Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Returns the number of rows for the given entity class by counting token ranges in parallel. The count splits the
+	 * token ring into token ranges, counts up to {@link CountOptions#getConcurrency()} ranges in parallel routing each
+	 * range count to replicas owning the range, and sums up the per-range counts. Use this method instead of
+	 * {@link #count(Class)} for large tables where a single count query coordinated by one node times out.
+	 *
+	 * @param entityClass {@link Class type} of the entity; must not be {@literal null}.
+	 * @param options count options, must not be {@literal null}.
+	 * @return the number of existing entities.
+	 * @throws DataAccessException if any problem occurs while executing the query.
+	 * @since 3.1
+	 */
+	ListenableFuture<Long> count(Class<?> entityClass, CountOptions options) throws DataAccessException;
+
 	/**
 	 * Determine whether a row of {@code entityClass} with the given {@code id} exists.
 	 *
@@ -296,6 +329,25 @@ public interface AsyncCassandraOperations {
 	 */
 	<T> ListenableFuture<EntityWriteResult<T>> insert(T entity, InsertOptions options) throws DataAccessException;
 
+	/**
+	 * Insert all given entities applying {@link BulkWriteOptions#getInsertOptions() insert options}. The insert statement
+	 * of each entity is prepared once per statement shape and executed as bound statement. Up to
+	 * {@link BulkWriteOptions#getConcurrency()} inserts are kept in flight; further entities are read from
+	 * {@code entities} as in-flight inserts complete. Failed inserts do not stop the bulk write and are reported through
+	 * {@link BulkWriteResult}.
+	 * <p>
+	 * Entity callbacks and lifecycle events may be invoked on the thread completing a previous insert, typically a
+	 * driver I/O thread, so listeners and callbacks must not block.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the aggregated {@link BulkWriteResult} once all inserts completed.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	ListenableFuture<BulkWriteResult> bulkInsert(Iterable<?> entities, BulkWriteOptions options)
+			throws DataAccessException;
+
 	/**
 	 * Update the given entity and return the entity if the update was applied.
 	 *
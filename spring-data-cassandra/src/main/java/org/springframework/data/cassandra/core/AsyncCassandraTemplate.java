@@ -16,7 +16,9 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -29,21 +31,32 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.EntityOperations.AdaptibleEntity;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.AsyncCqlOperations;
 import org.springframework.data.cassandra.core.cql.AsyncCqlTemplate;
+import org.springframework.data.cassandra.core.cql.AsyncPreparedStatementCreator;
+import org.springframework.data.cassandra.core.cql.AsyncResultSetExtractor;
 import org.springframework.data.cassandra.core.cql.AsyncSessionCallback;
 import org.springframework.data.cassandra.core.cql.CassandraAccessor;
 import org.springframework.data.cassandra.core.cql.CqlExceptionTranslator;
 import org.springframework.data.cassandra.core.cql.CqlProvider;
+import org.springframework.data.cassandra.core.cql.PreparedStatementBinder;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.RowCallbackHandler;
+import org.springframework.data.cassandra.core.cql.RowMapper;
+import org.springframework.data.cassandra.core.cql.SingleColumnRowMapper;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.AsyncCachedPreparedStatementCreator;
+import org.springframework.data.cassandra.core.cql.support.AsyncPreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.support.BoundedAsyncPreparedStatementCache;
 import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.cassandra.core.mapping.event.AfterDeleteEvent;
@@ -63,12 +76,15 @@ import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -112,10 +128,14 @@ public class AsyncCassandraTemplate
 
 	private final StatementFactory statementFactory;
 
-	private @Nullable ApplicationEventPublisher eventPublisher;
+	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
 
 	private @Nullable EntityCallbacks entityCallbacks;
 
+	private AsyncPreparedStatementCache preparedStatementCache = BoundedAsyncPreparedStatementCache.create();
+
+	private boolean usePreparedStatements = false;
+
 	/**
 	 * Creates an instance of {@link AsyncCassandraTemplate} initialized with the given {@link CqlSession} and a default
 	 * {@link MappingCassandraConverter}.
@@ -184,7 +204,7 @@ public class AsyncCassandraTemplate
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-		this.eventPublisher = applicationEventPublisher;
+		this.eventDelegate.setPublisher(applicationEventPublisher);
 	}
 
 	/* (non-Javadoc)
@@ -210,6 +230,81 @@ public class AsyncCassandraTemplate
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Configure whether lifecycle events such as {@link AfterLoadEvent}, {@link BeforeSaveEvent}, etc. should be
+	 * published or whether emission should be suppressed. Enabled by default. Events are only created if the configured
+	 * {@link ApplicationEventPublisher} has listeners for the particular event type.
+	 *
+	 * @param enabled {@literal true} to enable entity lifecycle events; {@literal false} to disable entity lifecycle
+	 *          events.
+	 * @since 3.1
+	 * @see CassandraMappingEvent
+	 */
+	public void setEntityLifecycleEventsEnabled(boolean enabled) {
+		this.eventDelegate.setEventsEnabled(enabled);
+	}
+
+	/**
+	 * Returns whether entity lifecycle events are enabled.
+	 *
+	 * @return {@literal true} if entity lifecycle events are enabled.
+	 * @since 3.1
+	 * @see #setEntityLifecycleEventsEnabled(boolean)
+	 */
+	public boolean isEntityLifecycleEventsEnabled() {
+		return this.eventDelegate.isEventsEnabled();
+	}
+
+	/**
+	 * Configure whether this template renders statements derived from entities and {@link Query} objects using bind
+	 * markers, prepares them through the {@link AsyncPreparedStatementCache} and executes {@link BoundStatement}s.
+	 * {@link SimpleStatement}s passed to the template are prepared as well if they carry positional values. Statements
+	 * without values (such as CQL with inlined literals) and statements using named values are executed unprepared.
+	 * Disabled by default.
+	 *
+	 * @param usePreparedStatements {@literal true} to execute statements as prepared statements.
+	 * @since 3.1
+	 * @see #setPreparedStatementCache(AsyncPreparedStatementCache)
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * Returns whether this template executes statements as prepared statements.
+	 *
+	 * @return {@literal true} if this template executes statements as prepared statements.
+	 * @since 3.1
+	 */
+	public boolean isUsePreparedStatements() {
+		return this.usePreparedStatements;
+	}
+
+	/**
+	 * Configure the {@link AsyncPreparedStatementCache} to use when {@link #setUsePreparedStatements(boolean) prepared
+	 * statements} are enabled. Defaults to a {@link BoundedAsyncPreparedStatementCache} holding up to
+	 * {@link BoundedAsyncPreparedStatementCache#DEFAULT_MAXIMUM_SIZE} statements.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setPreparedStatementCache(AsyncPreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "AsyncPreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the {@link AsyncPreparedStatementCache} used to prepare statements.
+	 *
+	 * @return the {@link AsyncPreparedStatementCache} used to prepare statements.
+	 * @since 3.1
+	 */
+	public AsyncPreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#getAsyncCqlOperations()
 	 */
@@ -325,7 +420,7 @@ public class AsyncCassandraTemplate
 
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
 
-		return getAsyncCqlOperations().query(statement, (row, rowNum) -> mapper.apply(row));
+		return doQuery(statement, (row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -341,7 +436,7 @@ public class AsyncCassandraTemplate
 
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
 
-		return getAsyncCqlOperations().query(statement, row -> {
+		return doQuery(statement, row -> {
 			entityConsumer.accept(mapper.apply(row));
 		});
 	}
@@ -364,7 +459,7 @@ public class AsyncCassandraTemplate
 		Assert.notNull(statement, "Statement must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		ListenableFuture<AsyncResultSet> resultSet = getAsyncCqlOperations().queryForResultSet(statement);
+		ListenableFuture<AsyncResultSet> resultSet = doQueryForResultSet(statement);
 
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
 
@@ -385,7 +480,8 @@ public class AsyncCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return select(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(), entityClass);
+		return select(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass))
+				.build(getParameterHandling()), entityClass);
 	}
 
 	/* (non-Javadoc)
@@ -399,8 +495,34 @@ public class AsyncCassandraTemplate
 		Assert.notNull(entityConsumer, "Entity Consumer must not be empty");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return select(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(), entityConsumer,
-				entityClass);
+		return select(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass))
+				.build(getParameterHandling()), entityConsumer, entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#scanAll(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions, java.util.function.Consumer)
+	 */
+	@Override
+	public <T> ListenableFuture<Void> scanAll(Class<T> entityClass, ScanOptions options, Consumer<T> entityConsumer)
+			throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+		Assert.notNull(entityConsumer, "Entity Consumer must not be empty");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return getAsyncCqlOperations().execute((AsyncSessionCallback<Void>) session -> {
+
+			TokenRangeScanner scanner = TokenRangeScanner.create(session.getMetadata(), getConverter().getMappingContext(),
+					entity, tableName, options);
+
+			return scanner.scanAsync(range -> getAsyncCqlOperations().query(
+					AsyncCachedPreparedStatementCreator.of(getPreparedStatementCache(), scanner.getStatement(range)),
+					ps -> scanner.bind(range, ps), row -> entityConsumer.accept(mapper.apply(row))));
+		});
 	}
 
 	/* (non-Javadoc)
@@ -412,8 +534,8 @@ public class AsyncCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return selectOne(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(),
-				entityClass);
+		return selectOne(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass))
+				.build(getParameterHandling()), entityClass);
 	}
 
 	/* (non-Javadoc)
@@ -425,7 +547,8 @@ public class AsyncCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return slice(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(), entityClass);
+		return slice(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass))
+				.build(getParameterHandling()), entityClass);
 	}
 
 	/* (non-Javadoc)
@@ -439,8 +562,10 @@ public class AsyncCassandraTemplate
 		Assert.notNull(update, "Update must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return getAsyncCqlOperations()
-				.execute(getStatementFactory().update(query, update, getRequiredPersistentEntity(entityClass)).build());
+		SimpleStatement statement = getStatementFactory().update(query, update, getRequiredPersistentEntity(entityClass))
+				.build(getParameterHandling());
+
+		return new MappingListenableFutureAdapter<>(doQueryForResultSet(statement), AsyncResultSet::wasApplied);
 	}
 
 	/* (non-Javadoc)
@@ -459,11 +584,12 @@ public class AsyncCassandraTemplate
 
 		StatementBuilder<Delete> builder = getStatementFactory().delete(query, getRequiredPersistentEntity(entityClass),
 				tableName);
-		SimpleStatement delete = builder.build();
+		SimpleStatement delete = builder.build(getParameterHandling());
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
 
-		ListenableFuture<Boolean> future = getAsyncCqlOperations().execute(delete);
+		ListenableFuture<Boolean> future = new MappingListenableFutureAdapter<>(doQueryForResultSet(delete),
+				AsyncResultSet::wasApplied);
 
 		future.addCallback(success -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)), e -> {});
 
@@ -497,14 +623,37 @@ public class AsyncCassandraTemplate
 		return doCount(query, entityClass, getTableName(entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#count(java.lang.Class, org.springframework.data.cassandra.core.CountOptions)
+	 */
+	@Override
+	public ListenableFuture<Long> count(Class<?> entityClass, CountOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "CountOptions must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+
+		return getAsyncCqlOperations().execute((AsyncSessionCallback<Long>) session -> {
+
+			TokenRangeScanner scanner = TokenRangeScanner.create(session.getMetadata(), getConverter().getMappingContext(),
+					entity, entity.getTableName(), options.toScanOptions());
+
+			return scanner.countAsync(range -> new MappingListenableFutureAdapter<>(getAsyncCqlOperations().query(
+					AsyncCachedPreparedStatementCreator.of(getPreparedStatementCache(), scanner.getCountStatement(range)),
+					ps -> scanner.bindCount(range, ps), (row, rowNum) -> TokenRangeScanner.getCount(row)),
+					counts -> counts.stream().mapToLong(Long::longValue).sum()), options.getRetriesPerRange());
+		});
+	}
+
 	ListenableFuture<Long> doCount(Query query, Class<?> entityClass, CqlIdentifier tableName) {
 
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.select.Select> countStatement = getStatementFactory()
 				.count(query, getRequiredPersistentEntity(entityClass), tableName);
 
-		SimpleStatement statement = countStatement.build();
+		SimpleStatement statement = countStatement.build(getParameterHandling());
 
-		ListenableFuture<Long> result = getAsyncCqlOperations().queryForObject(statement, Long.class);
+		ListenableFuture<Long> result = doQueryForObject(statement, Long.class);
 
 		return new MappingListenableFutureAdapter<>(result, it -> it != null ? it : 0L);
 	}
@@ -523,7 +672,7 @@ public class AsyncCassandraTemplate
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.select.Select> select = getStatementFactory()
 				.selectOneById(id, entity, entity.getTableName());
 
-		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().queryForResultSet(select.build()),
+		return new MappingListenableFutureAdapter<>(doQueryForResultSet(select.build(getParameterHandling())),
 				resultSet -> resultSet.one() != null);
 	}
 
@@ -539,7 +688,7 @@ public class AsyncCassandraTemplate
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.select.Select> select = getStatementFactory()
 				.select(query.limit(1), getRequiredPersistentEntity(entityClass), getTableName(entityClass));
 
-		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().queryForResultSet(select.build()),
+		return new MappingListenableFutureAdapter<>(doQueryForResultSet(select.build(getParameterHandling())),
 				resultSet -> resultSet.one() != null);
 	}
 
@@ -558,7 +707,7 @@ public class AsyncCassandraTemplate
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
 
 		return new MappingListenableFutureAdapter<>(
-				getAsyncCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row)),
+				doQuery(select.build(getParameterHandling()), (row, rowNum) -> mapper.apply(row)),
 				it -> it.isEmpty() ? null : it.get(0));
 	}
 
@@ -582,6 +731,57 @@ public class AsyncCassandraTemplate
 		return doInsert(entity, options, getTableName(entity.getClass()));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#bulkInsert(java.lang.Iterable, org.springframework.data.cassandra.core.BulkWriteOptions)
+	 */
+	@Override
+	public ListenableFuture<BulkWriteResult> bulkInsert(Iterable<?> entities, BulkWriteOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "BulkWriteOptions must not be null");
+
+		return new BulkInsert(entities.iterator(), options).start();
+	}
+
+	private ListenableFuture<Object> doBulkInsert(Object entity, InsertOptions options) {
+
+		CqlIdentifier tableName = getTableName(entity.getClass());
+		AdaptibleEntity<Object> source = getEntityOperations().forEntity(maybeCallBeforeConvert(entity, tableName),
+				getConverter().getConversionService());
+
+		Object entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : source.getBean();
+
+		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options,
+				source.getPersistentEntity(), tableName);
+
+		if (source.isVersionedEntity()) {
+			builder.apply(Insert::ifNotExists);
+		}
+
+		// bulk inserts are always prepared to avoid parsing the insert per entity
+		SimpleStatement statement = builder.build(ParameterHandling.BY_INDEX);
+
+		maybeEmitEvent(new BeforeSaveEvent<>(entityToUse, tableName, statement));
+		Object entityToSave = maybeCallBeforeSave(entityToUse, tableName, statement);
+
+		AsyncPreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+		ListenableFuture<AsyncResultSet> result = getAsyncCqlOperations().query(statementHandler, statementHandler,
+				(AsyncResultSetExtractor<AsyncResultSet>) AsyncResult::forValue);
+
+		return new MappingListenableFutureAdapter<>(result, resultSet -> {
+
+			if (source.isVersionedEntity() && !resultSet.wasApplied()) {
+				throw new OptimisticLockingFailureException(
+						String.format("Cannot insert entity %s with version %s into table %s as it already exists", entityToSave,
+								source.getVersion(), tableName));
+			}
+
+			maybeEmitEvent(new AfterSaveEvent<>(entityToSave, tableName));
+
+			return entityToSave;
+		});
+	}
+
 	private <T> ListenableFuture<EntityWriteResult<T>> doInsert(T entity, WriteOptions options, CqlIdentifier tableName) {
 
 		AdaptibleEntity<T> source = getEntityOperations().forEntity(maybeCallBeforeConvert(entity, tableName),
@@ -596,10 +796,10 @@ public class AsyncCassandraTemplate
 		if (source.isVersionedEntity()) {
 
 			builder.apply(Insert::ifNotExists);
-			return doInsertVersioned(builder.build(), entityToUse, source, tableName);
+			return doInsertVersioned(builder.build(getParameterHandling()), entityToUse, source, tableName);
 		}
 
-		return doInsert(builder.build(), entityToUse, source, tableName);
+		return doInsert(builder.build(getParameterHandling()), entityToUse, source, tableName);
 	}
 
 	private <T> ListenableFuture<EntityWriteResult<T>> doInsertVersioned(SimpleStatement insert, T entity,
@@ -660,7 +860,7 @@ public class AsyncCassandraTemplate
 		StatementBuilder<Update> update = getStatementFactory().update(toSave, options, persistentEntity, tableName);
 		source.appendVersionCondition(update, previousVersion);
 
-		return executeSave(toSave, tableName, update.build(), result -> {
+		return executeSave(toSave, tableName, update.build(getParameterHandling()), result -> {
 
 			if (!result.wasApplied()) {
 				throw new OptimisticLockingFailureException(
@@ -675,7 +875,7 @@ public class AsyncCassandraTemplate
 
 		StatementBuilder<Update> update = getStatementFactory().update(entity, options, persistentEntity, tableName);
 
-		return executeSave(entity, tableName, update.build());
+		return executeSave(entity, tableName, update.build(getParameterHandling()));
 	}
 
 	/* (non-Javadoc)
@@ -709,7 +909,9 @@ public class AsyncCassandraTemplate
 		StatementBuilder<Delete> delete = getStatementFactory().delete(entity, options, getConverter(), tableName);
 		;
 
-		return executeDelete(entity, tableName, source.appendVersionCondition(delete).build(), result -> {
+		SimpleStatement statement = source.appendVersionCondition(delete).build(getParameterHandling());
+
+		return executeDelete(entity, tableName, statement, result -> {
 
 			if (!result.wasApplied()) {
 				throw new OptimisticLockingFailureException(
@@ -723,7 +925,7 @@ public class AsyncCassandraTemplate
 
 		StatementBuilder<Delete> delete = getStatementFactory().delete(entity, options, getConverter(), tableName);
 
-		return executeDelete(entity, tableName, delete.build(), result -> {});
+		return executeDelete(entity, tableName, delete.build(getParameterHandling()), result -> {});
 	}
 
 	/* (non-Javadoc)
@@ -739,11 +941,12 @@ public class AsyncCassandraTemplate
 		CqlIdentifier tableName = entity.getTableName();
 
 		StatementBuilder<Delete> builder = getStatementFactory().deleteById(id, entity, tableName);
-		SimpleStatement delete = builder.build();
+		SimpleStatement delete = builder.build(getParameterHandling());
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
 
-		ListenableFuture<Boolean> future = getAsyncCqlOperations().execute(delete);
+		ListenableFuture<Boolean> future = new MappingListenableFutureAdapter<>(doQueryForResultSet(delete),
+				AsyncResultSet::wasApplied);
 		future.addCallback(success -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)), e -> {});
 
 		return future;
@@ -785,7 +988,7 @@ public class AsyncCassandraTemplate
 		maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
 		T entityToSave = maybeCallBeforeSave(entity, tableName, statement);
 
-		ListenableFuture<AsyncResultSet> result = getAsyncCqlOperations().execute(new AsyncStatementCallback(statement));
+		ListenableFuture<AsyncResultSet> result = doExecute(statement);
 
 		return new MappingListenableFutureAdapter<>(result, resultSet -> {
 
@@ -806,7 +1009,7 @@ public class AsyncCassandraTemplate
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
-		ListenableFuture<AsyncResultSet> result = getAsyncCqlOperations().execute(new AsyncStatementCallback(statement));
+		ListenableFuture<AsyncResultSet> result = doExecute(statement);
 
 		return new MappingListenableFutureAdapter<>(result, resultSet -> {
 
@@ -821,6 +1024,71 @@ public class AsyncCassandraTemplate
 		});
 	}
 
+	private ParameterHandling getParameterHandling() {
+		return PreparedStatementDelegate.getParameterHandling(isUsePreparedStatements());
+	}
+
+	private <T> ListenableFuture<List<T>> doQuery(Statement<?> statement, RowMapper<T> rowMapper) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			AsyncPreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getAsyncCqlOperations().query(statementHandler, statementHandler, rowMapper);
+		}
+
+		return getAsyncCqlOperations().query(statement, rowMapper);
+	}
+
+	private ListenableFuture<Void> doQuery(Statement<?> statement, RowCallbackHandler callbackHandler) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			AsyncPreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getAsyncCqlOperations().query(statementHandler, statementHandler, callbackHandler);
+		}
+
+		return getAsyncCqlOperations().query(statement, callbackHandler);
+	}
+
+	private ListenableFuture<AsyncResultSet> doQueryForResultSet(Statement<?> statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			AsyncPreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getAsyncCqlOperations().query(statementHandler, statementHandler,
+					(AsyncResultSetExtractor<AsyncResultSet>) AsyncResult::forValue);
+		}
+
+		return getAsyncCqlOperations().queryForResultSet(statement);
+	}
+
+	private <T> ListenableFuture<T> doQueryForObject(Statement<?> statement, Class<T> requiredType) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			AsyncPreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			ListenableFuture<List<T>> results = getAsyncCqlOperations().query(statementHandler, statementHandler,
+					new SingleColumnRowMapper<>(requiredType));
+
+			return new MappingListenableFutureAdapter<>(results, DataAccessUtils::requiredSingleResult);
+		}
+
+		return getAsyncCqlOperations().queryForObject(statement, requiredType);
+	}
+
+	private ListenableFuture<AsyncResultSet> doExecute(SimpleStatement statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+			return doQueryForResultSet(statement);
+		}
+
+		return getAsyncCqlOperations().execute(new AsyncStatementCallback(statement));
+	}
+
+	private AsyncPreparedStatementHandler createPreparedStatementHandler(Statement<?> statement) {
+		return new AsyncPreparedStatementHandler((SimpleStatement) statement);
+	}
+
 	private static List<Row> getFirstPage(AsyncResultSet resultSet) {
 		return StreamSupport.stream(resultSet.currentPage().spliterator(), false).collect(Collectors.toList());
 	}
@@ -853,16 +1121,27 @@ public class AsyncCassandraTemplate
 	private <T> Function<Row, T> getMapper(Class<?> entityType, Class<T> targetType, CqlIdentifier tableName) {
 
 		Class<?> typeToRead = resolveTypeToRead(entityType, targetType);
+		Function<Row, T> projectionReader = getProjectionReader(entityType, targetType);
+		boolean emitAfterLoad = this.eventDelegate.isPublishing(AfterLoadEvent.class);
+		boolean emitAfterConvert = this.eventDelegate.isPublishing(AfterConvertEvent.class);
 
 		return row -> {
 
-			maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
+			if (emitAfterLoad) {
+				maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
+			}
+
+			T result;
 
-			Object source = getConverter().read(typeToRead, row);
+			if (projectionReader != null) {
+				result = projectionReader.apply(row);
+			} else {
 
-			T result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+				Object source = getConverter().read(typeToRead, row);
+				result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+			}
 
-			if (result != null) {
+			if (emitAfterConvert && result != null) {
 				maybeEmitEvent(new AfterConvertEvent<>(row, result, tableName));
 			}
 
@@ -870,6 +1149,17 @@ public class AsyncCassandraTemplate
 		};
 	}
 
+	@Nullable
+	private <T> Function<Row, T> getProjectionReader(Class<?> entityType, Class<T> targetType) {
+
+		if (!targetType.isInterface() || !(getConverter() instanceof MappingCassandraConverter)) {
+			return null;
+		}
+
+		return ((MappingCassandraConverter) getConverter()).getProjectionReader(entityType, targetType,
+				getProjectionFactory());
+	}
+
 	private Class<?> resolveTypeToRead(Class<?> entityType, Class<?> targetType) {
 		return targetType.isInterface() || targetType.isAssignableFrom(entityType) ? entityType : targetType;
 	}
@@ -884,10 +1174,7 @@ public class AsyncCassandraTemplate
 	}
 
 	protected <E extends CassandraMappingEvent<T>, T> void maybeEmitEvent(E event) {
-
-		if (this.eventPublisher != null) {
-			this.eventPublisher.publishEvent(event);
-		}
+		this.eventDelegate.publishEvent(event);
 	}
 
 	protected <T> T maybeCallBeforeConvert(T object, CqlIdentifier tableName) {
@@ -927,6 +1214,190 @@ public class AsyncCassandraTemplate
 		}
 	}
 
+	/**
+	 * Bulk insert keeping a bounded number of inserts in flight. The next entity is obtained from the source
+	 * {@link Iterator} once an in-flight insert completes. Inserts are issued from a drain loop so that inserts
+	 * completing synchronously (e.g. failing immediately) continue the loop instead of growing the stack.
+	 *
+	 * @since 3.1
+	 */
+	private class BulkInsert {
+
+		private final Iterator<?> entities;
+
+		private final BulkWriteOptions options;
+
+		private final BulkWriteCollector collector;
+
+		private final SettableListenableFuture<BulkWriteResult> result = new SettableListenableFuture<>();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private int active;
+
+		BulkInsert(Iterator<?> entities, BulkWriteOptions options) {
+			this.entities = entities;
+			this.options = options;
+			this.collector = new BulkWriteCollector(exceptionTranslator, options);
+		}
+
+		ListenableFuture<BulkWriteResult> start() {
+
+			drain();
+
+			return this.result;
+		}
+
+		/**
+		 * Issue inserts until the maximum number of inserts is in flight or the source is exhausted. Only one thread
+		 * drains at a time. Completions signalled while draining are picked up by the draining thread.
+		 */
+		private void drain() {
+
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+
+			do {
+
+				while (insertNext()) {
+					// continue with the next entity
+				}
+
+				missed = this.wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		/**
+		 * Issue the next insert.
+		 *
+		 * @return {@literal true} if an insert was issued, {@literal false} if no further insert can be issued currently.
+		 */
+		private boolean insertNext() {
+
+			Object entity;
+			int slot;
+
+			synchronized (this) {
+
+				if (this.result.isDone() || this.active >= this.options.getConcurrency()) {
+					return false;
+				}
+
+				try {
+
+					if (!this.entities.hasNext()) {
+
+						if (this.active == 0) {
+							this.result.set(this.collector.getResult());
+						}
+
+						return false;
+					}
+
+					entity = this.entities.next();
+				} catch (RuntimeException e) {
+
+					this.result.setException(e);
+					return false;
+				}
+
+				if (entity == null) {
+
+					this.result.setException(new IllegalArgumentException("Entity must not be null"));
+					return false;
+				}
+
+				this.active++;
+				slot = this.collector.register();
+			}
+
+			ListenableFuture<Object> insert;
+
+			try {
+				insert = doBulkInsert(entity, this.options.getInsertOptions());
+			} catch (RuntimeException e) {
+
+				this.collector.failed(e);
+
+				synchronized (this) {
+					this.active--;
+				}
+
+				return true;
+			}
+
+			insert.addCallback(written -> {
+
+				this.collector.succeeded(slot, written);
+				completed();
+			}, e -> {
+
+				this.collector.failed(e);
+				completed();
+			});
+
+			return true;
+		}
+
+		private void completed() {
+
+			synchronized (this) {
+				this.active--;
+			}
+
+			drain();
+		}
+	}
+
+	/**
+	 * Prepares a {@link SimpleStatement} asynchronously through the {@link AsyncPreparedStatementCache} and binds its
+	 * positional values.
+	 *
+	 * @since 3.1
+	 */
+	class AsyncPreparedStatementHandler implements AsyncPreparedStatementCreator, PreparedStatementBinder, CqlProvider {
+
+		private final SimpleStatement statement;
+
+		AsyncPreparedStatementHandler(SimpleStatement statement) {
+			this.statement = statement;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.AsyncPreparedStatementCreator#createPreparedStatement(com.datastax.oss.driver.api.core.CqlSession)
+		 */
+		@Override
+		public ListenableFuture<PreparedStatement> createPreparedStatement(CqlSession session) throws DriverException {
+			return new CassandraFutureAdapter<>(getPreparedStatementCache().getPreparedStatement(session,
+					PreparedStatementDelegate.getStatementForPreparation(this.statement)),
+					e -> e instanceof DriverException
+							? exceptionTranslator.translate("AsyncPreparedStatementHandler", getCql(), e)
+							: exceptionTranslator.translateExceptionIfPossible(e));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.PreparedStatementBinder#bindValues(com.datastax.oss.driver.api.core.cql.PreparedStatement)
+		 */
+		@Override
+		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+			return PreparedStatementDelegate.bind(this.statement, ps);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.CqlProvider#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return this.statement.getQuery();
+		}
+	}
+
 	class AsyncStatementCallback implements AsyncSessionCallback<AsyncResultSet>, CqlProvider {
 
 		SimpleStatement statement;
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for batches that are split into sub-batches by partition. Statements targeting the same partition are
+ * grouped into a sub-batch. Each sub-batch is capped at {@link #getMaxStatements()} statements and at an estimated
+ * {@link #getMaxSizeInBytes()} serialized size. Sub-batches are executed with up to {@link #getConcurrency()} requests
+ * in flight.
+ * <p>
+ * The default maximum size corresponds to the default {@code batch_size_warn_threshold_in_kb} of Cassandra.
+ *
+ * @since 3.1
+ * @see CassandraBatchOperations#splitByPartition(BatchSplitOptions)
+ * @see ReactiveCassandraBatchOperations#splitByPartition(BatchSplitOptions)
+ */
+public class BatchSplitOptions {
+
+	/**
+	 * Default maximum number of statements per sub-batch.
+	 */
+	public static final int DEFAULT_MAX_STATEMENTS = 100;
+
+	/**
+	 * Default maximum estimated size of a sub-batch in bytes.
+	 */
+	public static final int DEFAULT_MAX_SIZE_IN_BYTES = 5 * 1024;
+
+	/**
+	 * Default number of sub-batches that are executed concurrently.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 16;
+
+	private static final BatchSplitOptions EMPTY = new BatchSplitOptionsBuilder().build();
+
+	private final int maxStatements;
+
+	private final int maxSizeInBytes;
+
+	private final int concurrency;
+
+	private BatchSplitOptions(int maxStatements, int maxSizeInBytes, int concurrency) {
+		this.maxStatements = maxStatements;
+		this.maxSizeInBytes = maxSizeInBytes;
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Create a new {@link BatchSplitOptionsBuilder}.
+	 *
+	 * @return a new {@link BatchSplitOptionsBuilder}.
+	 */
+	public static BatchSplitOptionsBuilder builder() {
+		return new BatchSplitOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link BatchSplitOptions}.
+	 *
+	 * @return default {@link BatchSplitOptions}.
+	 */
+	public static BatchSplitOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link BatchSplitOptionsBuilder} to mutate properties of this {@link BatchSplitOptions}.
+	 *
+	 * @return a new {@link BatchSplitOptionsBuilder} initialized with this {@link BatchSplitOptions}.
+	 */
+	public BatchSplitOptionsBuilder mutate() {
+		return new BatchSplitOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum number of statements per sub-batch.
+	 */
+	public int getMaxStatements() {
+		return this.maxStatements;
+	}
+
+	/**
+	 * @return the maximum estimated size of a sub-batch in bytes.
+	 */
+	public int getMaxSizeInBytes() {
+		return this.maxSizeInBytes;
+	}
+
+	/**
+	 * @return the maximum number of sub-batches executed concurrently.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof BatchSplitOptions)) {
+			return false;
+		}
+
+		BatchSplitOptions that = (BatchSplitOptions) o;
+
+		return this.maxStatements == that.maxStatements && this.maxSizeInBytes == that.maxSizeInBytes
+				&& this.concurrency == that.concurrency;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = this.maxStatements;
+		result = 31 * result + this.maxSizeInBytes;
+		result = 31 * result + this.concurrency;
+		return result;
+	}
+
+	/**
+	 * Builder for {@link BatchSplitOptions}.
+	 *
+	 * @since 3.1
+	 */
+	public static class BatchSplitOptionsBuilder {
+
+		private int maxStatements = DEFAULT_MAX_STATEMENTS;
+
+		private int maxSizeInBytes = DEFAULT_MAX_SIZE_IN_BYTES;
+
+		private int concurrency = DEFAULT_CONCURRENCY;
+
+		private BatchSplitOptionsBuilder() {}
+
+		private BatchSplitOptionsBuilder(BatchSplitOptions options) {
+			this.maxStatements = options.maxStatements;
+			this.maxSizeInBytes = options.maxSizeInBytes;
+			this.concurrency = options.concurrency;
+		}
+
+		/**
+		 * Sets the maximum number of statements per sub-batch.
+		 *
+		 * @param maxStatements the maximum number of statements, must be greater than zero.
+		 * @return {@code this} {@link BatchSplitOptionsBuilder}
+		 */
+		public BatchSplitOptionsBuilder maxStatements(int maxStatements) {
+
+			Assert.isTrue(maxStatements > 0, "Maximum number of statements must be greater than zero");
+
+			this.maxStatements = maxStatements;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum estimated size of a sub-batch in bytes. A statement that exceeds the size on its own is
+		 * executed in a sub-batch of its own.
+		 *
+		 * @param maxSizeInBytes the maximum estimated size, must be greater than zero.
+		 * @return {@code this} {@link BatchSplitOptionsBuilder}
+		 */
+		public BatchSplitOptionsBuilder maxSizeInBytes(int maxSizeInBytes) {
+
+			Assert.isTrue(maxSizeInBytes > 0, "Maximum size must be greater than zero");
+
+			this.maxSizeInBytes = maxSizeInBytes;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of sub-batches executed concurrently.
+		 *
+		 * @param concurrency the maximum number of sub-batches in flight, must be greater than zero.
+		 * @return {@code this} {@link BatchSplitOptionsBuilder}
+		 */
+		public BatchSplitOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link BatchSplitOptions} with the configured values.
+		 *
+		 * @return a new {@link BatchSplitOptions} with the configured values
+		 */
+		public BatchSplitOptions build() {
+			return new BatchSplitOptions(this.maxStatements, this.maxSizeInBytes, this.concurrency);
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Splits batch statements into sub-batches per partition according to {@link BatchSplitOptions}. Statements are
+ * grouped by table and partition key values of the entity they were created for. Groups retain the order in which their
+ * first statement was added.
+ *
+ * @since 3.1
+ */
+class BatchSplitter {
+
+	private final CassandraConverter converter;
+
+	private final BatchSplitOptions options;
+
+	BatchSplitter(CassandraConverter converter, BatchSplitOptions options) {
+		this.converter = converter;
+		this.options = options;
+	}
+
+	/**
+	 * Create a single {@link BatchStatement} containing all {@code statements}. The batch is idempotent if all
+	 * {@code statements} are idempotent.
+	 *
+	 * @param statements the statements to batch.
+	 * @param batchType the batch type.
+	 * @param timestamp the query timestamp, can be {@literal null}.
+	 * @return the {@link BatchStatement}.
+	 */
+	static BatchStatement createBatch(List<EntityStatement> statements, BatchType batchType, @Nullable Long timestamp) {
+
+		BatchStatementBuilder builder = BatchStatement.builder(batchType);
+		boolean idempotent = true;
+
+		for (EntityStatement statement : statements) {
+			builder.addStatement(statement.getStatement());
+			idempotent &= Boolean.TRUE.equals(statement.getStatement().isIdempotent());
+		}
+
+		if (timestamp != null) {
+			builder.setQueryTimestamp(timestamp);
+		}
+
+		if (idempotent) {
+			builder.setIdempotence(true);
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Combine the results of sub-batch executions into a single {@link WriteResult}. The combined result was applied if
+	 * all sub-batches were applied.
+	 *
+	 * @param results the sub-batch results.
+	 * @return the combined {@link WriteResult}.
+	 */
+	static WriteResult combine(List<WriteResult> results) {
+
+		if (results.size() == 1) {
+			return results.get(0);
+		}
+
+		boolean wasApplied = true;
+		List<ExecutionInfo> executionInfo = new ArrayList<>(results.size());
+		List<Row> rows = new ArrayList<>();
+
+		for (WriteResult result : results) {
+
+			wasApplied &= result.wasApplied();
+			executionInfo.addAll(result.getExecutionInfo());
+			rows.addAll(result.getRows());
+		}
+
+		return new WriteResult(Collections.unmodifiableList(executionInfo), wasApplied,
+				Collections.unmodifiableList(rows));
+	}
+
+	/**
+	 * Split {@code statements} into sub-batches per partition.
+	 *
+	 * @param statements the statements to split.
+	 * @param batchType the batch type of each sub-batch.
+	 * @param timestamp the query timestamp to apply to each sub-batch, can be {@literal null}.
+	 * @return the sub-batches.
+	 */
+	List<BatchStatement> split(List<EntityStatement> statements, BatchType batchType, @Nullable Long timestamp) {
+
+		Map<List<Object>, List<EntityStatement>> partitions = new LinkedHashMap<>();
+
+		for (EntityStatement statement : statements) {
+
+			List<Object> partitionKey = getPartitionKey(this.converter, statement.getEntity(),
+					statement.getPersistentEntity());
+
+			partitions.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(statement);
+		}
+
+		List<BatchStatement> batches = new ArrayList<>();
+
+		for (List<EntityStatement> partition : partitions.values()) {
+
+			List<EntityStatement> current = new ArrayList<>();
+			int currentSize = 0;
+
+			for (EntityStatement statement : partition) {
+
+				int size = estimateSize(statement.getStatement());
+
+				if (!current.isEmpty() && (current.size() >= this.options.getMaxStatements()
+						|| currentSize + size > this.options.getMaxSizeInBytes())) {
+
+					batches.add(createBatch(current, batchType, timestamp));
+					current = new ArrayList<>();
+					currentSize = 0;
+				}
+
+				current.add(statement);
+				currentSize += size;
+			}
+
+			if (!current.isEmpty()) {
+				batches.add(createBatch(current, batchType, timestamp));
+			}
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Determine the partition key of {@code entity}. The partition key consists of the table name followed by the
+	 * partition key column values.
+	 *
+	 * @param converter the converter to map the primary key.
+	 * @param entity the entity.
+	 * @param persistentEntity the persistent entity of {@code entity}.
+	 * @return the partition key.
+	 */
+	static List<Object> getPartitionKey(CassandraConverter converter, Object entity,
+			CassandraPersistentEntity<?> persistentEntity) {
+
+		List<CqlIdentifier> partitionKeyColumns = StatementFactory.getPartitionKeyColumns(converter, persistentEntity);
+
+		Where primaryKey = new Where();
+		converter.write(entity, primaryKey, persistentEntity);
+
+		List<Object> key = new ArrayList<>(partitionKeyColumns.size() + 1);
+		key.add(persistentEntity.getTableName());
+
+		primaryKey.forEach((column, value) -> {
+			if (partitionKeyColumns.contains(column)) {
+				key.add(value);
+			}
+		});
+
+		return key;
+	}
+
+	private static int estimateSize(BatchableStatement<?> statement) {
+
+		if (statement instanceof SimpleStatement) {
+
+			SimpleStatement simpleStatement = (SimpleStatement) statement;
+
+			return simpleStatement.getQuery().getBytes(StandardCharsets.UTF_8).length
+					+ simpleStatement.getPositionalValues().stream().mapToInt(BatchSplitter::estimateSize).sum();
+		}
+
+		if (statement instanceof BoundStatement) {
+
+			BoundStatement boundStatement = (BoundStatement) statement;
+			int size = boundStatement.getPreparedStatement().getId().remaining();
+
+			for (int i = 0; i < boundStatement.size(); i++) {
+
+				ByteBuffer value = boundStatement.getBytesUnsafe(i);
+				size += value == null ? 0 : value.remaining();
+			}
+
+			return size;
+		}
+
+		return 0;
+	}
+
+	private static int estimateSize(@Nullable Object value) {
+		return value == null ? 0 : value.toString().length();
+	}
+
+	/**
+	 * A batchable statement along with the entity it was created for.
+	 */
+	static class EntityStatement {
+
+		private final BatchableStatement<?> statement;
+
+		private final Object entity;
+
+		private final CassandraPersistentEntity<?> persistentEntity;
+
+		EntityStatement(BatchableStatement<?> statement, Object entity, CassandraPersistentEntity<?> persistentEntity) {
+			this.statement = statement;
+			this.entity = entity;
+			this.persistentEntity = persistentEntity;
+		}
+
+		BatchableStatement<?> getStatement() {
+			return this.statement;
+		}
+
+		Object getEntity() {
+			return this.entity;
+		}
+
+		CassandraPersistentEntity<?> getPersistentEntity() {
+			return this.persistentEntity;
+		}
+
+		EntityStatement withStatement(BatchableStatement<?> statement) {
+			return new EntityStatement(statement, this.entity, this.persistentEntity);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.cassandra.core.cql.CqlExceptionTranslator;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.DriverException;
+
+/**
+ * Collector for outcomes of individual writes of a bulk write. Collectors can be used concurrently.
+ *
+ * @since 3.1
+ * @see BulkWriteResult
+ */
+class BulkWriteCollector {
+
+	private final AtomicLong successes = new AtomicLong();
+
+	private final AtomicLong failures = new AtomicLong();
+
+	private final List<Throwable> reportedFailures = new ArrayList<>();
+
+	private final @Nullable List<Object> entities;
+
+	private final CqlExceptionTranslator exceptionTranslator;
+
+	BulkWriteCollector(CqlExceptionTranslator exceptionTranslator, BulkWriteOptions options) {
+		this.exceptionTranslator = exceptionTranslator;
+		this.entities = options.isRetainEntities() ? new ArrayList<>() : null;
+	}
+
+	/**
+	 * Register a write in the order of the source. Must be called serially.
+	 *
+	 * @return the slot of the write to be passed to {@link #succeeded(int, Object)}.
+	 */
+	int register() {
+
+		if (this.entities == null) {
+			return -1;
+		}
+
+		synchronized (this.entities) {
+			this.entities.add(null);
+			return this.entities.size() - 1;
+		}
+	}
+
+	void succeeded(int slot, Object entity) {
+
+		this.successes.incrementAndGet();
+
+		if (this.entities != null && slot >= 0) {
+			synchronized (this.entities) {
+				this.entities.set(slot, entity);
+			}
+		}
+	}
+
+	void failed(Throwable failure) {
+
+		this.failures.incrementAndGet();
+
+		Throwable cause = failure;
+
+		while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+
+		Throwable translated = cause instanceof DriverException
+				? this.exceptionTranslator.translate("BulkInsert", null, (DriverException) cause)
+				: cause;
+
+		synchronized (this.reportedFailures) {
+			if (this.reportedFailures.size() < BulkWriteResult.MAX_REPORTED_FAILURES) {
+				this.reportedFailures.add(translated);
+			}
+		}
+	}
+
+	BulkWriteResult getResult() {
+
+		List<Object> written = new ArrayList<>();
+
+		if (this.entities != null) {
+			synchronized (this.entities) {
+				this.entities.stream().filter(Objects::nonNull).forEach(written::add);
+			}
+		}
+
+		synchronized (this.reportedFailures) {
+			return BulkWriteResult.of(this.successes.get(), this.failures.get(), new ArrayList<>(this.reportedFailures),
+					written);
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Options for {@link CassandraOperations#bulkInsert(Iterable, BulkWriteOptions) bulk writes}. Bulk writes apply
+ * {@link InsertOptions} to each written entity and keep up to {@link #getConcurrency()} write requests in flight.
+ *
+ * @since 3.1
+ * @see CassandraOperations#bulkInsert(Iterable, BulkWriteOptions)
+ */
+public class BulkWriteOptions {
+
+	/**
+	 * Default number of write requests that are kept in flight.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 64;
+
+	private static final BulkWriteOptions EMPTY = new BulkWriteOptionsBuilder().build();
+
+	private final InsertOptions insertOptions;
+
+	private final int concurrency;
+
+	private final boolean retainEntities;
+
+	private BulkWriteOptions(InsertOptions insertOptions, int concurrency, boolean retainEntities) {
+		this.insertOptions = insertOptions;
+		this.concurrency = concurrency;
+		this.retainEntities = retainEntities;
+	}
+
+	/**
+	 * Create a new {@link BulkWriteOptionsBuilder}.
+	 *
+	 * @return a new {@link BulkWriteOptionsBuilder}.
+	 */
+	public static BulkWriteOptionsBuilder builder() {
+		return new BulkWriteOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link BulkWriteOptions}.
+	 *
+	 * @return default {@link BulkWriteOptions}.
+	 */
+	public static BulkWriteOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link BulkWriteOptionsBuilder} to mutate properties of this {@link BulkWriteOptions}.
+	 *
+	 * @return a new {@link BulkWriteOptionsBuilder} initialized with this {@link BulkWriteOptions}.
+	 */
+	public BulkWriteOptionsBuilder mutate() {
+		return new BulkWriteOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the {@link InsertOptions} applied to each written entity.
+	 */
+	public InsertOptions getInsertOptions() {
+		return this.insertOptions;
+	}
+
+	/**
+	 * @return the maximum number of write requests in flight.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return {@literal true} if written entities are retained by {@link BulkWriteResult#getEntities()}.
+	 */
+	public boolean isRetainEntities() {
+		return this.retainEntities;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof BulkWriteOptions)) {
+			return false;
+		}
+
+		BulkWriteOptions that = (BulkWriteOptions) o;
+
+		if (this.concurrency != that.concurrency) {
+			return false;
+		}
+
+		if (this.retainEntities != that.retainEntities) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(this.insertOptions, that.insertOptions);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = ObjectUtils.nullSafeHashCode(this.insertOptions);
+		result = 31 * result + this.concurrency;
+		result = 31 * result + (this.retainEntities ? 1 : 0);
+		return result;
+	}
+
+	/**
+	 * Builder for {@link BulkWriteOptions}.
+	 *
+	 * @since 3.1
+	 */
+	public static class BulkWriteOptionsBuilder {
+
+		private InsertOptions insertOptions = InsertOptions.empty();
+
+		private int concurrency = DEFAULT_CONCURRENCY;
+
+		private boolean retainEntities;
+
+		private BulkWriteOptionsBuilder() {}
+
+		private BulkWriteOptionsBuilder(BulkWriteOptions options) {
+			this.insertOptions = options.insertOptions;
+			this.concurrency = options.concurrency;
+			this.retainEntities = options.retainEntities;
+		}
+
+		/**
+		 * Sets the {@link InsertOptions} to apply to each written entity.
+		 *
+		 * @param insertOptions must not be {@literal null}.
+		 * @return {@code this} {@link BulkWriteOptionsBuilder}
+		 */
+		public BulkWriteOptionsBuilder insertOptions(InsertOptions insertOptions) {
+
+			Assert.notNull(insertOptions, "InsertOptions must not be null");
+
+			this.insertOptions = insertOptions;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of write requests in flight. Reading further entities from the source is suspended
+		 * until in-flight requests complete.
+		 *
+		 * @param concurrency the maximum number of requests in flight, must be greater than zero.
+		 * @return {@code this} {@link BulkWriteOptionsBuilder}
+		 */
+		public BulkWriteOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Retain written entities in {@link BulkWriteResult#getEntities()}. Written entities are the entities returned by
+		 * entity callbacks and retain their order in the source. Retaining entities keeps all written entities in memory
+		 * until the bulk write completes.
+		 *
+		 * @return {@code this} {@link BulkWriteOptionsBuilder}
+		 */
+		public BulkWriteOptionsBuilder retainEntities() {
+
+			this.retainEntities = true;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link BulkWriteOptions} with the configured values.
+		 *
+		 * @return a new {@link BulkWriteOptions} with the configured values
+		 */
+		public BulkWriteOptions build() {
+			return new BulkWriteOptions(this.insertOptions, this.concurrency, this.retainEntities);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregated result of a {@link CassandraOperations#bulkInsert(Iterable, BulkWriteOptions) bulk write}. Failed writes
+ * do not stop the bulk write. Only the first {@link #MAX_REPORTED_FAILURES} failures are retained.
+ *
+ * @since 3.1
+ */
+public final class BulkWriteResult {
+
+	/**
+	 * Maximum number of failures retained by {@link #getFailures()}.
+	 */
+	public static final int MAX_REPORTED_FAILURES = 100;
+
+	private final long successCount;
+
+	private final long failureCount;
+
+	private final List<Throwable> failures;
+
+	private final List<Object> entities;
+
+	private BulkWriteResult(long successCount, long failureCount, List<Throwable> failures, List<Object> entities) {
+		this.successCount = successCount;
+		this.failureCount = failureCount;
+		this.failures = failures;
+		this.entities = entities;
+	}
+
+	/**
+	 * Create a new {@link BulkWriteResult}.
+	 *
+	 * @param successCount number of successful writes.
+	 * @param failureCount number of failed writes.
+	 * @param failures the retained failures.
+	 * @param entities the retained written entities.
+	 * @return the {@link BulkWriteResult}.
+	 */
+	static BulkWriteResult of(long successCount, long failureCount, List<Throwable> failures, List<Object> entities) {
+		return new BulkWriteResult(successCount, failureCount, Collections.unmodifiableList(failures),
+				Collections.unmodifiableList(entities));
+	}
+
+	/**
+	 * @return the number of successfully written entities.
+	 */
+	public long getSuccessCount() {
+		return this.successCount;
+	}
+
+	/**
+	 * @return the number of entities that could not be written.
+	 */
+	public long getFailureCount() {
+		return this.failureCount;
+	}
+
+	/**
+	 * @return the first {@link #MAX_REPORTED_FAILURES} failures in order of their occurrence.
+	 */
+	public List<Throwable> getFailures() {
+		return this.failures;
+	}
+
+	/**
+	 * Return the successfully written entities in the order of the source if
+	 * {@link BulkWriteOptions#isRetainEntities() retaining entities} was enabled. Written entities are the entities
+	 * returned by entity callbacks and may differ from the source entities.
+	 *
+	 * @return the written entities. Empty if retaining entities was not enabled.
+	 * @see BulkWriteOptions.BulkWriteOptionsBuilder#retainEntities()
+	 */
+	public List<Object> getEntities() {
+		return this.entities;
+	}
+
+	/**
+	 * @return {@literal true} if all entities were written.
+	 */
+	public boolean wasSuccessful() {
+		return this.failureCount == 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("BulkWriteResult [successCount=%d, failureCount=%d]", this.successCount, this.failureCount);
+	}
+}
@@ -15,25 +15,46 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.data.cassandra.core.BatchSplitter.EntityStatement;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.data.cassandra.core.cql.support.PreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.util.FutureUtils;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
-import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 
 /**
  * Default implementation for {@link CassandraBatchOperations}.
+ * <p>
+ * Batched statements are rendered with inlined values by default. Bound batches are opt-in: if the batch is created
+ * by a {@link CassandraTemplate} with {@link CassandraTemplate#setUsePreparedStatements(boolean) prepared statements}
+ * enabled, statements are rendered with bind markers, prepared through the template's prepared statement cache and
+ * added to the batch as bound statements.
  *
  * @author Mark Paluch
  * @author John Blum
@@ -44,7 +65,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private final AtomicBoolean executed = new AtomicBoolean();
 
-	private final BatchStatementBuilder batch = BatchStatement.builder(BatchType.LOGGED);
+	private final List<EntityStatement> statements = new ArrayList<>();
 
 	private final CassandraConverter converter;
 
@@ -54,6 +75,14 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final @Nullable PreparedStatementCache preparedStatementCache;
+
+	private BatchType batchType = BatchType.LOGGED;
+
+	private @Nullable Long timestamp;
+
+	private @Nullable BatchSplitOptions splitOptions;
+
 	/**
 	 * Create a new {@link CassandraBatchTemplate} given {@link CassandraOperations}.
 	 *
@@ -66,7 +95,30 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		this.operations = operations;
 		this.converter = operations.getConverter();
 		this.mappingContext = this.converter.getMappingContext();
-		this.statementFactory = new StatementFactory(new UpdateMapper(converter));
+		this.statementFactory = getStatementFactory(operations);
+		this.preparedStatementCache = getPreparedStatementCache(operations);
+	}
+
+	private static StatementFactory getStatementFactory(CassandraOperations operations) {
+
+		if (operations instanceof CassandraTemplate) {
+			return ((CassandraTemplate) operations).getStatementFactory();
+		}
+
+		return new StatementFactory(new UpdateMapper(operations.getConverter()));
+	}
+
+	@Nullable
+	private static PreparedStatementCache getPreparedStatementCache(CassandraOperations operations) {
+
+		if (operations instanceof CassandraTemplate) {
+
+			CassandraTemplate template = (CassandraTemplate) operations;
+
+			return template.isUsePreparedStatements() ? template.getPreparedStatementCache() : null;
+		}
+
+		return null;
 	}
 
 	/**
@@ -109,12 +161,103 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 	public WriteResult execute() {
 
 		if (this.executed.compareAndSet(false, true)) {
-			return WriteResult.of(this.operations.getCqlOperations().queryForResultSet(batch.build()));
+
+			List<EntityStatement> statements = prepareAndBind(this.statements);
+
+			if (this.splitOptions != null) {
+				return executeSplit(statements, this.splitOptions);
+			}
+
+			return WriteResult.of(this.operations.getCqlOperations()
+					.queryForResultSet(BatchSplitter.createBatch(statements, this.batchType, this.timestamp)));
 		}
 
 		throw new IllegalStateException("This Cassandra Batch was already executed");
 	}
 
+	private List<EntityStatement> prepareAndBind(List<EntityStatement> statements) {
+
+		PreparedStatementCache cache = this.preparedStatementCache;
+
+		if (cache == null || statements.isEmpty()) {
+			return statements;
+		}
+
+		return this.operations.getCqlOperations().execute((SessionCallback<List<EntityStatement>>) session -> {
+
+			List<EntityStatement> boundStatements = new ArrayList<>(statements.size());
+
+			for (EntityStatement statement : statements) {
+
+				SimpleStatement simpleStatement = (SimpleStatement) statement.getStatement();
+				PreparedStatement preparedStatement = cache.getPreparedStatement(session,
+						PreparedStatementDelegate.getStatementForPreparation(simpleStatement));
+
+				boundStatements
+						.add(statement.withStatement(PreparedStatementDelegate.bind(simpleStatement, preparedStatement)));
+			}
+
+			return boundStatements;
+		});
+	}
+
+	private WriteResult executeSplit(List<EntityStatement> statements, BatchSplitOptions options) {
+
+		List<BatchStatement> batches = new BatchSplitter(getConverter(), options).split(statements, this.batchType,
+				this.timestamp);
+
+		CqlOperations cqlOperations = this.operations.getCqlOperations();
+
+		// sub-batches are sent through the CqlOperations to apply the template's statement settings and listener
+		return cqlOperations.execute((SessionCallback<WriteResult>) session -> {
+
+			Iterator<BatchStatement> pending = batches.iterator();
+			Deque<CompletionStage<AsyncResultSet>> inFlight = new ArrayDeque<>();
+			List<WriteResult> results = new ArrayList<>(batches.size());
+
+			while (pending.hasNext() || !inFlight.isEmpty()) {
+
+				while (inFlight.size() < options.getConcurrency() && pending.hasNext()) {
+					inFlight.add(cqlOperations.executeAsync(pending.next()));
+				}
+
+				try {
+					results.add(toWriteResult(FutureUtils.getUninterruptibly(inFlight.poll())));
+				} catch (RuntimeException e) {
+
+					awaitCompletion(inFlight);
+					throw e;
+				}
+			}
+
+			return BatchSplitter.combine(results);
+		});
+	}
+
+	/**
+	 * Await completion of sub-batches that were already sent before propagating a failure so that the failure is
+	 * reported after all writes of this batch have settled.
+	 */
+	private static void awaitCompletion(Deque<CompletionStage<AsyncResultSet>> inFlight) {
+
+		for (CompletionStage<AsyncResultSet> stage : inFlight) {
+			try {
+				FutureUtils.getUninterruptibly(stage);
+			} catch (RuntimeException ignore) {
+				// only the first failure is reported
+			}
+		}
+	}
+
+	private static WriteResult toWriteResult(AsyncResultSet resultSet) {
+
+		List<Row> rows = new ArrayList<>(resultSet.remaining());
+		resultSet.currentPage().forEach(rows::add);
+
+		return new WriteResult(Collections.singletonList(resultSet.getExecutionInfo()), resultSet.wasApplied(),
+				Collections.unmodifiableList(rows));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraBatchOperations#withTimestamp(long)
 	 */
@@ -123,7 +266,45 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		assertNotExecuted();
 
-		this.batch.setQueryTimestamp(timestamp);
+		this.timestamp = timestamp;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBatchOperations#withBatchType(com.datastax.oss.driver.api.core.cql.BatchType)
+	 */
+	@Override
+	public CassandraBatchOperations withBatchType(BatchType batchType) {
+
+		assertNotExecuted();
+
+		Assert.notNull(batchType, "BatchType must not be null");
+
+		this.batchType = batchType;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBatchOperations#splitByPartition()
+	 */
+	@Override
+	public CassandraBatchOperations splitByPartition() {
+		return splitByPartition(BatchSplitOptions.empty());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBatchOperations#splitByPartition(org.springframework.data.cassandra.core.BatchSplitOptions)
+	 */
+	@Override
+	public CassandraBatchOperations splitByPartition(BatchSplitOptions options) {
+
+		assertNotExecuted();
+
+		Assert.notNull(options, "BatchSplitOptions must not be null");
+
+		this.splitOptions = options;
 
 		return this;
 	}
@@ -168,9 +349,9 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 					.getRequiredPersistentEntity(entity.getClass());
 
 			SimpleStatement insertQuery = getStatementFactory()
-					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build();
+					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build(getParameterHandling());
 
-			this.batch.addStatement(insertQuery);
+			this.statements.add(new EntityStatement(insertQuery, entity, persistentEntity));
 		}
 
 		return this;
@@ -213,9 +394,9 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
 
 			SimpleStatement update = getStatementFactory()
-					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build();
+					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build(getParameterHandling());
 
-			this.batch.addStatement(update);
+			this.statements.add(new EntityStatement(update, entity, persistentEntity));
 		}
 
 		return this;
@@ -258,14 +439,18 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
 
 			SimpleStatement delete = getStatementFactory()
-					.delete(entity, options, this.getConverter(), persistentEntity.getTableName()).build();
+					.delete(entity, options, this.getConverter(), persistentEntity.getTableName()).build(getParameterHandling());
 
-			this.batch.addStatement(delete);
+			this.statements.add(new EntityStatement(delete, entity, persistentEntity));
 		}
 
 		return this;
 	}
 
+	private ParameterHandling getParameterHandling() {
+		return PreparedStatementDelegate.getParameterHandling(this.preparedStatementCache != null);
+	}
+
 	private void assertNotExecuted() {
 		Assert.state(!this.executed.get(), "This Cassandra Batch was already executed");
 	}
@@ -197,6 +197,24 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	<T> Slice<T> slice(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query with paging and return a cursor over the {@link Slice}s of the result. The
+	 * statement is created once and reused for all pages. Each page is fetched lazily by attaching the paging state of
+	 * the previous page to that statement. When using prepared statements, the statement is prepared and bound once.
+	 * <p>
+	 * The cursor starts at the paging state carried by {@link Query}. The paging state of each {@link Slice} can be
+	 * {@link CassandraPageRequest#getEncodedPagingState() encoded} to continue paging in a subsequent request. Each
+	 * {@link Iterable#iterator() iterator} starts over at the first page of the cursor.
+	 *
+	 * @param query the query object used to create a CQL statement, must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the {@link Iterable} of {@link Slice}s.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see CassandraPageRequest
+	 */
+	<T> Iterable<Slice<T>> cursor(Query query, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting items to a {@link Iterator} of entities.
 	 * <p>
@@ -211,6 +229,23 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	<T> Stream<T> stream(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Scan all rows of the table mapped by {@code entityClass} and convert these to a {@link Stream} of entities. The
+	 * scan splits the token ring into token ranges and queries up to {@link ScanOptions#getConcurrency()} ranges in
+	 * parallel routing each range query to replicas owning the range. Entities are emitted in token order.
+	 * <p>
+	 * Completed token ranges are reported to the {@link ScanOptions#getCheckpointListener() checkpoint listener} to allow
+	 * {@link ScanOptions.ScanOptionsBuilder#resumeFrom(Iterable) resuming} an interrupted scan.
+	 *
+	 * @param <T> element return type.
+	 * @param entityClass the entity type to scan, must not be {@literal null}.
+	 * @param options scan options, must not be {@literal null}.
+	 * @return a {@link Stream} over all entities.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	<T> Stream<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -268,6 +303,20 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	long count(Query query, Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Returns the number of rows for the given entity class by counting token ranges in parallel. The count splits the
+	 * token ring into token ranges, counts up to {@link CountOptions#getConcurrency()} ranges in parallel routing each
+	 * range count to replicas owning the range, and sums up the per-range counts. Use this method instead of
+	 * {@link #count(Class)} for large tables where a single count query coordinated by one node times out.
+	 *
+	 * @param entityClass {@link Class type} of the entity; must not be {@literal null}.
+	 * @param options count options, must not be {@literal null}.
+	 * @return the number of existing entities.
+	 * @throws DataAccessException if any problem occurs while executing the query.
+	 * @since 3.1
+	 */
+	long count(Class<?> entityClass, CountOptions options) throws DataAccessException;
+
 	/**
 	 * Determine whether a row of {@code entityClass} with the given {@code id} exists.
 	 *
@@ -304,6 +353,25 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	@Nullable
 	<T> T selectOneById(Object id, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute the Select by {@code id} for each of the given {@code ids}. Each {@code id} is looked up using a
+	 * single-partition prepared statement instead of a multi-partition {@code IN} query so that lookups are routed to
+	 * replicas owning the partition. Lookups are issued concurrently with bounded parallelism. Entities are returned in
+	 * the order of {@code ids}, omitting ids that were not found. Duplicate ids are looked up once.
+	 *
+	 * @param ids the Id values. For single primary keys the plain values. For composite primary keys either the
+	 *          {@link org.springframework.data.cassandra.core.mapping.PrimaryKeyClass} or
+	 *          {@link org.springframework.data.cassandra.core.mapping.MapId} carrying values for all primary key columns.
+	 *          Must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted objects.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if an id is an empty
+	 *           {@link org.springframework.data.cassandra.core.mapping.MapId}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	<T> List<T> selectAllById(Iterable<?> ids, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Insert the given entity and return the entity if the insert was applied.
 	 *
@@ -324,6 +392,24 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	<T> EntityWriteResult<T> insert(T entity, InsertOptions options) throws DataAccessException;
 
+	/**
+	 * Insert all given entities applying {@link BulkWriteOptions#getInsertOptions() insert options}. The insert statement
+	 * of each entity is prepared once per statement shape and executed as bound statement. Up to
+	 * {@link BulkWriteOptions#getConcurrency()} inserts are kept in flight; iterating {@code entities} blocks while the
+	 * maximum number of inserts is in flight. Failed inserts do not stop the bulk write and are reported through
+	 * {@link BulkWriteResult}.
+	 * <p>
+	 * Entity callbacks and lifecycle events, including
+	 * {@link org.springframework.data.cassandra.core.mapping.event.AfterSaveEvent}, are invoked on the calling thread.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the aggregated {@link BulkWriteResult}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	BulkWriteResult bulkInsert(Iterable<?> entities, BulkWriteOptions options) throws DataAccessException;
+
 	/**
 	 * Update the given entity and return the entity if the update was applied.
 	 *
@@ -15,7 +15,20 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -27,6 +40,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.EntityOperations.AdaptibleEntity;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
@@ -34,14 +48,24 @@ import org.springframework.data.cassandra.core.convert.MappingCassandraConverter
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.cql.CassandraAccessor;
+import org.springframework.data.cassandra.core.cql.CassandraExceptionTranslator;
+import org.springframework.data.cassandra.core.cql.CqlExceptionTranslator;
 import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.CqlProvider;
 import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.core.cql.PreparedStatementBinder;
+import org.springframework.data.cassandra.core.cql.PreparedStatementCreator;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.RowMapper;
 import org.springframework.data.cassandra.core.cql.SessionCallback;
+import org.springframework.data.cassandra.core.cql.SingleColumnRowMapper;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.support.PreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.util.FutureUtils;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
@@ -67,6 +91,9 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -99,7 +126,7 @@ import com.datastax.oss.driver.api.querybuilder.update.Update;
  */
 public class CassandraTemplate implements CassandraOperations, ApplicationEventPublisherAware, ApplicationContextAware {
 
-	private @Nullable ApplicationEventPublisher eventPublisher;
+	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
 
 	private @Nullable EntityCallbacks entityCallbacks;
 
@@ -115,6 +142,12 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 	private final StatementFactory statementFactory;
 
+	private PreparedStatementCache preparedStatementCache = BoundedPreparedStatementCache.create();
+
+	private boolean usePreparedStatements = false;
+
+	private int idLookupConcurrency = 32;
+
 	/**
 	 * Creates an instance of {@link CassandraTemplate} initialized with the given {@link CqlSession} and a default
 	 * {@link MappingCassandraConverter}.
@@ -191,7 +224,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-		this.eventPublisher = applicationEventPublisher;
+		this.eventDelegate.setPublisher(applicationEventPublisher);
 	}
 
 	/* (non-Javadoc)
@@ -217,6 +250,105 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Configure whether lifecycle events such as {@link AfterLoadEvent}, {@link BeforeSaveEvent}, etc. should be
+	 * published or whether emission should be suppressed. Enabled by default. Events are only created if the configured
+	 * {@link ApplicationEventPublisher} has listeners for the particular event type.
+	 *
+	 * @param enabled {@literal true} to enable entity lifecycle events; {@literal false} to disable entity lifecycle
+	 *          events.
+	 * @since 3.1
+	 * @see CassandraMappingEvent
+	 */
+	public void setEntityLifecycleEventsEnabled(boolean enabled) {
+		this.eventDelegate.setEventsEnabled(enabled);
+	}
+
+	/**
+	 * Returns whether entity lifecycle events are enabled.
+	 *
+	 * @return {@literal true} if entity lifecycle events are enabled.
+	 * @since 3.1
+	 * @see #setEntityLifecycleEventsEnabled(boolean)
+	 */
+	public boolean isEntityLifecycleEventsEnabled() {
+		return this.eventDelegate.isEventsEnabled();
+	}
+
+	/**
+	 * Configure whether this template renders statements derived from entities and {@link Query} objects using bind
+	 * markers, prepares them through the {@link PreparedStatementCache} and executes {@link BoundStatement}s.
+	 * {@link SimpleStatement}s passed to the template are prepared as well if they carry positional values. Statements
+	 * without values (such as CQL with inlined literals) and statements using named values are executed unprepared.
+	 * Disabled by default.
+	 *
+	 * @param usePreparedStatements {@literal true} to execute statements as prepared statements.
+	 * @since 3.1
+	 * @see #setPreparedStatementCache(PreparedStatementCache)
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * Returns whether this template executes statements as prepared statements.
+	 *
+	 * @return {@literal true} if this template executes statements as prepared statements.
+	 * @since 3.1
+	 */
+	public boolean isUsePreparedStatements() {
+		return this.usePreparedStatements;
+	}
+
+	/**
+	 * Configure the maximum number of concurrent lookups issued by {@link #selectAllById(Iterable, Class)}. Defaults to
+	 * {@literal 32}.
+	 *
+	 * @param idLookupConcurrency maximum number of concurrent lookups, must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setIdLookupConcurrency(int idLookupConcurrency) {
+
+		Assert.isTrue(idLookupConcurrency > 0, "Id lookup concurrency must be greater than zero");
+
+		this.idLookupConcurrency = idLookupConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent lookups issued by {@link #selectAllById(Iterable, Class)}.
+	 *
+	 * @return the maximum number of concurrent lookups.
+	 * @since 3.1
+	 */
+	public int getIdLookupConcurrency() {
+		return this.idLookupConcurrency;
+	}
+
+	/**
+	 * Configure the {@link PreparedStatementCache} to use when {@link #setUsePreparedStatements(boolean) prepared
+	 * statements} are enabled. Defaults to a {@link BoundedPreparedStatementCache} holding up to
+	 * {@link BoundedPreparedStatementCache#DEFAULT_MAXIMUM_SIZE} statements.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "PreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the {@link PreparedStatementCache} used to prepare statements.
+	 *
+	 * @return the {@link PreparedStatementCache} used to prepare statements.
+	 * @since 3.1
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#getConverter()
 	 */
@@ -334,7 +466,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
 
-		return getCqlOperations().query(statement, (row, rowNum) -> mapper.apply(row));
+		return doQuery(statement, (row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -356,7 +488,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(statement, "Statement must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		ResultSet resultSet = getCqlOperations().queryForResultSet(statement);
+		ResultSet resultSet = doQueryForResultSet(statement);
 
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
 
@@ -374,7 +506,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(entityClass, "Entity type must not be null");
 
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
-		return getCqlOperations().queryForStream(statement, (row, rowNum) -> mapper.apply(row));
+		return doQueryForStream(statement, (row, rowNum) -> mapper.apply(row));
 	}
 
 	// -------------------------------------------------------------------------
@@ -405,7 +537,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
 
-		return getCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row));
+		return doQuery(select.build(getParameterHandling()), (row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -430,7 +562,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		StatementBuilder<Select> select = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass));
 
-		return slice(select.build(), entityClass);
+		return slice(select.build(getParameterHandling()), entityClass);
 	}
 
 	/* (non-Javadoc)
@@ -445,13 +577,52 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doStream(query, entityClass, getTableName(entityClass), entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#cursor(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Iterable<Slice<T>> cursor(Query query, Class<T> entityClass) throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		StatementBuilder<Select> select = getStatementFactory().select(query, entity);
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, entity.getTableName());
+
+		return new SliceCursor<>(select.build(getParameterHandling()), (row, rowNum) -> mapper.apply(row));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#scanAll(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> Stream<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return getCqlOperations().execute((SessionCallback<Stream<T>>) session -> {
+
+			TokenRangeScanner scanner = TokenRangeScanner.create(session.getMetadata(), this.mappingContext, entity,
+					tableName, options);
+
+			return scanner.stream(getCqlOperations()::executeAsync,
+					statement -> getPreparedStatementCache().getPreparedStatement(session, statement), mapper);
+		});
+	}
+
 	<T> Stream<T> doStream(Query query, Class<?> entityClass, CqlIdentifier tableName, Class<T> returnType) {
 
 		StatementBuilder<Select> select = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass),
 				tableName);
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
-		return getCqlOperations().queryForStream(select.build(), (row, rowNum) -> mapper.apply(row));
+		return doQueryForStream(select.build(getParameterHandling()), (row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -468,7 +639,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update,
 				getRequiredPersistentEntity(entityClass));
 
-		return getCqlOperations().execute(updateStatement.build());
+		return doQueryForResultSet(updateStatement.build(getParameterHandling())).wasApplied();
 	}
 
 	@Nullable
@@ -478,7 +649,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update,
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		return getCqlOperations().execute(new StatementCallback(updateStatement.build()));
+		return doExecute(updateStatement.build(getParameterHandling()));
 	}
 
 	/* (non-Javadoc)
@@ -500,11 +671,11 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		StatementBuilder<Delete> delete = getStatementFactory().delete(query, getRequiredPersistentEntity(entityClass),
 				tableName);
-		SimpleStatement statement = delete.build();
+		SimpleStatement statement = delete.build(getParameterHandling());
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		WriteResult writeResult = getCqlOperations().execute(new StatementCallback(statement));
+		WriteResult writeResult = doExecute(statement);
 
 		maybeEmitEvent(new AfterDeleteEvent<>(statement, entityClass, tableName));
 
@@ -538,13 +709,37 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doCount(query, entityClass, getTableName(entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#count(java.lang.Class, org.springframework.data.cassandra.core.CountOptions)
+	 */
+	@Override
+	public long count(Class<?> entityClass, CountOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "CountOptions must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+
+		Long count = getCqlOperations().execute((SessionCallback<Long>) session -> {
+
+			TokenRangeScanner scanner = TokenRangeScanner.create(session.getMetadata(), this.mappingContext, entity,
+					entity.getTableName(), options.toScanOptions());
+
+			return scanner.count(getCqlOperations()::executeAsync,
+					statement -> getPreparedStatementCache().getPreparedStatement(session, statement),
+					options.getRetriesPerRange());
+		});
+
+		return count != null ? count : 0L;
+	}
+
 	long doCount(Query query, Class<?> entityClass, CqlIdentifier tableName) {
 
 		StatementBuilder<Select> countStatement = getStatementFactory().count(query,
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		SimpleStatement statement = countStatement.build();
-		Long count = getCqlOperations().queryForObject(statement, Long.class);
+		SimpleStatement statement = countStatement.build(getParameterHandling());
+		Long count = doQueryForObject(statement, Long.class);
 
 		return count != null ? count : 0L;
 	}
@@ -561,7 +756,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
 		StatementBuilder<Select> select = getStatementFactory().selectOneById(id, entity, entity.getTableName());
 
-		return getCqlOperations().queryForResultSet(select.build()).one() != null;
+		return doQueryForResultSet(select.build(getParameterHandling())).one() != null;
 	}
 
 	/* (non-Javadoc)
@@ -581,7 +776,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Select> select = getStatementFactory().select(query.limit(1),
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		return getCqlOperations().queryForResultSet(select.build()).one() != null;
+		return doQueryForResultSet(select.build(getParameterHandling())).one() != null;
 	}
 
 	/* (non-Javadoc)
@@ -597,11 +792,73 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		CqlIdentifier tableName = entity.getTableName();
 		StatementBuilder<Select> select = getStatementFactory().selectOneById(id, entity, tableName);
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
-		List<T> result = getCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row));
+		List<T> result = doQuery(select.build(getParameterHandling()), (row, rowNum) -> mapper.apply(row));
 
 		return result.isEmpty() ? null : result.get(0);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <T> List<T> selectAllById(Iterable<?> ids, Class<T> entityClass) {
+
+		Assert.notNull(ids, "Ids must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+		Set<Object> distinctIds = new LinkedHashSet<>();
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, "Id must not be null");
+
+			distinctIds.add(id);
+		}
+
+		if (distinctIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		// lookups are always prepared to obtain the routing key of each partition
+		List<SimpleStatement> statements = new ArrayList<>(distinctIds.size());
+
+		for (Object id : distinctIds) {
+			statements.add(getStatementFactory().selectOneById(id, entity, tableName).build(ParameterHandling.BY_INDEX));
+		}
+
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return getCqlOperations().execute((SessionCallback<List<T>>) session -> {
+
+			Iterator<SimpleStatement> pending = statements.iterator();
+			Deque<CompletionStage<AsyncResultSet>> inFlight = new ArrayDeque<>();
+			List<T> result = new ArrayList<>(statements.size());
+
+			while (pending.hasNext() || !inFlight.isEmpty()) {
+
+				while (inFlight.size() < getIdLookupConcurrency() && pending.hasNext()) {
+					inFlight.add(getCqlOperations().executeAsync(prepareAndBind(session, pending.next())));
+				}
+
+				for (Row row : FutureUtils.getUninterruptibly(inFlight.poll()).currentPage()) {
+					result.add(mapper.apply(row));
+				}
+			}
+
+			return result;
+		});
+	}
+
+	private BoundStatement prepareAndBind(CqlSession session, SimpleStatement statement) {
+
+		PreparedStatement preparedStatement = getPreparedStatementCache().getPreparedStatement(session,
+				PreparedStatementDelegate.getStatementForPreparation(statement));
+
+		return PreparedStatementDelegate.bind(statement, preparedStatement);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#insert(java.lang.Object)
 	 */
@@ -622,6 +879,107 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doInsert(entity, options, getTableName(entity.getClass()));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#bulkInsert(java.lang.Iterable, org.springframework.data.cassandra.core.BulkWriteOptions)
+	 */
+	@Override
+	public BulkWriteResult bulkInsert(Iterable<?> entities, BulkWriteOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "BulkWriteOptions must not be null");
+
+		return getCqlOperations().execute((SessionCallback<BulkWriteResult>) session -> {
+
+			BulkWriteCollector collector = new BulkWriteCollector(getExceptionTranslator(), options);
+			Semaphore inFlight = new Semaphore(options.getConcurrency());
+			Queue<AfterSaveEvent<Object>> written = new ConcurrentLinkedQueue<>();
+
+			for (Object entity : entities) {
+
+				Assert.notNull(entity, "Entity must not be null");
+
+				inFlight.acquireUninterruptibly();
+				publishEvents(written);
+
+				int slot = collector.register();
+				CompletionStage<AfterSaveEvent<Object>> insert;
+
+				try {
+					insert = doBulkInsert(session, entity, options.getInsertOptions());
+				} catch (RuntimeException e) {
+
+					inFlight.release();
+					collector.failed(e);
+					continue;
+				}
+
+				insert.whenComplete((event, e) -> {
+
+					if (e == null) {
+						collector.succeeded(slot, event.getSource());
+						written.add(event);
+					} else {
+						collector.failed(e);
+					}
+
+					inFlight.release();
+				});
+			}
+
+			inFlight.acquireUninterruptibly(options.getConcurrency());
+			publishEvents(written);
+
+			return collector.getResult();
+		});
+	}
+
+	/**
+	 * Publish {@link AfterSaveEvent}s of completed bulk inserts on the calling thread. Inserts complete on driver I/O
+	 * threads that must not be blocked by event listeners.
+	 */
+	private void publishEvents(Queue<AfterSaveEvent<Object>> written) {
+
+		AfterSaveEvent<Object> event;
+
+		while ((event = written.poll()) != null) {
+			maybeEmitEvent(event);
+		}
+	}
+
+	private CompletionStage<AfterSaveEvent<Object>> doBulkInsert(CqlSession session, Object entity,
+			InsertOptions options) {
+
+		CqlIdentifier tableName = getTableName(entity.getClass());
+		AdaptibleEntity<Object> source = getEntityOperations().forEntity(maybeCallBeforeConvert(entity, tableName),
+				getConverter().getConversionService());
+
+		Object entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : source.getBean();
+
+		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options,
+				source.getPersistentEntity(), tableName);
+
+		if (source.isVersionedEntity()) {
+			builder.apply(Insert::ifNotExists);
+		}
+
+		// bulk inserts are always prepared to avoid parsing the insert per entity
+		SimpleStatement statement = builder.build(ParameterHandling.BY_INDEX);
+
+		maybeEmitEvent(new BeforeSaveEvent<>(entityToUse, tableName, statement));
+		Object entityToSave = maybeCallBeforeSave(entityToUse, tableName, statement);
+
+		return getCqlOperations().executeAsync(prepareAndBind(session, statement)).thenApply(resultSet -> {
+
+			if (source.isVersionedEntity() && !resultSet.wasApplied()) {
+				throw new OptimisticLockingFailureException(
+						String.format("Cannot insert entity %s with version %s into table %s as it already exists", entityToSave,
+								source.getVersion(), tableName));
+			}
+
+			return new AfterSaveEvent<>(entityToSave, tableName);
+		});
+	}
+
 	<T> EntityWriteResult<T> doInsert(T entity, WriteOptions options, CqlIdentifier tableName) {
 
 		AdaptibleEntity<T> source = getEntityOperations().forEntity(maybeCallBeforeConvert(entity, tableName),
@@ -635,10 +993,10 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		if (source.isVersionedEntity()) {
 
 			builder.apply(Insert::ifNotExists);
-			return doInsertVersioned(builder.build(), entityToUse, source, tableName);
+			return doInsertVersioned(builder.build(getParameterHandling()), entityToUse, source, tableName);
 		}
 
-		return doInsert(builder.build(), entityToUse, tableName);
+		return doInsert(builder.build(getParameterHandling()), entityToUse, tableName);
 	}
 
 	private <T> EntityWriteResult<T> doInsertVersioned(SimpleStatement insert, T entity, AdaptibleEntity<T> source,
@@ -694,7 +1052,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		T toSave = source.incrementVersion();
 
 		StatementBuilder<Update> builder = getStatementFactory().update(toSave, options, persistentEntity, tableName);
-		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build();
+		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build(getParameterHandling());
 
 		return executeSave(toSave, tableName, update, result -> {
 
@@ -711,7 +1069,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		StatementBuilder<Update> builder = getStatementFactory().update(entity, options, persistentEntity, tableName);
 
-		return executeSave(entity, tableName, builder.build());
+		return executeSave(entity, tableName, builder.build(getParameterHandling()));
 	}
 
 	/* (non-Javadoc)
@@ -738,8 +1096,9 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Delete> builder = getStatementFactory().delete(entity, options, getConverter(), tableName);
 
 		return source.isVersionedEntity()
-				? doDeleteVersioned(source.appendVersionCondition(builder).build(), entity, source, tableName)
-				: doDelete(builder.build(), entity, tableName);
+				? doDeleteVersioned(source.appendVersionCondition(builder).build(getParameterHandling()), entity, source,
+						tableName)
+				: doDelete(builder.build(getParameterHandling()), entity, tableName);
 
 	}
 
@@ -773,11 +1132,11 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		CqlIdentifier tableName = entity.getTableName();
 
 		StatementBuilder<Delete> delete = getStatementFactory().deleteById(id, entity, tableName);
-		SimpleStatement statement = delete.build();
+		SimpleStatement statement = delete.build(getParameterHandling());
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		boolean result = getCqlOperations().execute(statement);
+		boolean result = doQueryForResultSet(statement).wasApplied();
 
 		maybeEmitEvent(new AfterDeleteEvent<>(statement, entityClass, tableName));
 
@@ -853,7 +1212,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
 		T entityToSave = maybeCallBeforeSave(entity, tableName, statement);
 
-		WriteResult result = getCqlOperations().execute(new StatementCallback(statement));
+		WriteResult result = doExecute(statement);
 		resultConsumer.accept(result);
 
 		maybeEmitEvent(new AfterSaveEvent<>(entityToSave, tableName));
@@ -866,7 +1225,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
-		WriteResult result = getCqlOperations().execute(new StatementCallback(statement));
+		WriteResult result = doExecute(statement);
 
 		resultConsumer.accept(result);
 
@@ -875,6 +1234,79 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return result;
 	}
 
+	private CqlExceptionTranslator getExceptionTranslator() {
+
+		CqlOperations cqlOperations = getCqlOperations();
+
+		return cqlOperations instanceof CassandraAccessor ? ((CassandraAccessor) cqlOperations).getExceptionTranslator()
+				: new CassandraExceptionTranslator();
+	}
+
+	private ParameterHandling getParameterHandling() {
+		return PreparedStatementDelegate.getParameterHandling(isUsePreparedStatements());
+	}
+
+	private <T> List<T> doQuery(Statement<?> statement, RowMapper<T> rowMapper) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			PreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getCqlOperations().query(statementHandler, statementHandler, rowMapper);
+		}
+
+		return getCqlOperations().query(statement, rowMapper);
+	}
+
+	private <T> Stream<T> doQueryForStream(Statement<?> statement, RowMapper<T> rowMapper) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			PreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getCqlOperations().queryForStream(statementHandler, statementHandler, rowMapper);
+		}
+
+		return getCqlOperations().queryForStream(statement, rowMapper);
+	}
+
+	private ResultSet doQueryForResultSet(Statement<?> statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			PreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getCqlOperations().query(statementHandler, statementHandler, resultSet -> resultSet);
+		}
+
+		return getCqlOperations().queryForResultSet(statement);
+	}
+
+	@Nullable
+	private <T> T doQueryForObject(Statement<?> statement, Class<T> requiredType) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			PreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return DataAccessUtils.requiredSingleResult(
+					getCqlOperations().query(statementHandler, statementHandler, new SingleColumnRowMapper<>(requiredType)));
+		}
+
+		return getCqlOperations().queryForObject(statement, requiredType);
+	}
+
+	private WriteResult doExecute(SimpleStatement statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			PreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getCqlOperations().query(statementHandler, statementHandler, WriteResult::of);
+		}
+
+		return getCqlOperations().execute(new StatementCallback(statement));
+	}
+
+	private PreparedStatementHandler createPreparedStatementHandler(Statement<?> statement) {
+		return new PreparedStatementHandler((SimpleStatement) statement, getPreparedStatementCache());
+	}
+
 	private int getConfiguredPageSize(CqlSession session) {
 		return session.getContext().getConfig().getDefaultProfile().getInt(DefaultDriverOption.REQUEST_PAGE_SIZE, 5000);
 	}
@@ -902,16 +1334,27 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 	private <T> Function<Row, T> getMapper(Class<?> entityType, Class<T> targetType, CqlIdentifier tableName) {
 
 		Class<?> typeToRead = resolveTypeToRead(entityType, targetType);
+		Function<Row, T> projectionReader = getProjectionReader(entityType, targetType);
+		boolean emitAfterLoad = this.eventDelegate.isPublishing(AfterLoadEvent.class);
+		boolean emitAfterConvert = this.eventDelegate.isPublishing(AfterConvertEvent.class);
 
 		return row -> {
 
-			maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
+			if (emitAfterLoad) {
+				maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
+			}
 
-			Object source = getConverter().read(typeToRead, row);
+			T result;
 
-			T result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+			if (projectionReader != null) {
+				result = projectionReader.apply(row);
+			} else {
 
-			if (result != null) {
+				Object source = getConverter().read(typeToRead, row);
+				result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+			}
+
+			if (emitAfterConvert && result != null) {
 				maybeEmitEvent(new AfterConvertEvent<>(row, result, tableName));
 			}
 
@@ -919,6 +1362,17 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		};
 	}
 
+	@Nullable
+	private <T> Function<Row, T> getProjectionReader(Class<?> entityType, Class<T> targetType) {
+
+		if (!targetType.isInterface() || !(getConverter() instanceof MappingCassandraConverter)) {
+			return null;
+		}
+
+		return ((MappingCassandraConverter) getConverter()).getProjectionReader(entityType, targetType,
+				getProjectionFactory());
+	}
+
 	private Class<?> resolveTypeToRead(Class<?> entityType, Class<?> targetType) {
 		return targetType.isInterface() || targetType.isAssignableFrom(entityType) ? entityType : targetType;
 	}
@@ -933,10 +1387,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 	}
 
 	protected <E extends CassandraMappingEvent<T>, T> void maybeEmitEvent(E event) {
-
-		if (this.eventPublisher != null) {
-			this.eventPublisher.publishEvent(event);
-		}
+		this.eventDelegate.publishEvent(event);
 	}
 
 	protected <T> T maybeCallBeforeConvert(T object, CqlIdentifier tableName) {
@@ -957,6 +1408,149 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return object;
 	}
 
+	/**
+	 * Prepares a {@link SimpleStatement} through a {@link PreparedStatementCache} and binds its positional values.
+	 *
+	 * @since 3.1
+	 */
+	static class PreparedStatementHandler implements PreparedStatementCreator, PreparedStatementBinder, CqlProvider {
+
+		private final SimpleStatement statement;
+
+		private final PreparedStatementCache cache;
+
+		PreparedStatementHandler(SimpleStatement statement, PreparedStatementCache cache) {
+			this.statement = statement;
+			this.cache = cache;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.PreparedStatementCreator#createPreparedStatement(com.datastax.oss.driver.api.core.CqlSession)
+		 */
+		@Override
+		public PreparedStatement createPreparedStatement(CqlSession session) throws DriverException {
+			return this.cache.getPreparedStatement(session,
+					PreparedStatementDelegate.getStatementForPreparation(this.statement));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.PreparedStatementBinder#bindValues(com.datastax.oss.driver.api.core.cql.PreparedStatement)
+		 */
+		@Override
+		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+			return PreparedStatementDelegate.bind(this.statement, ps);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.CqlProvider#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return this.statement.getQuery();
+		}
+	}
+
+	/**
+	 * Cursor over {@link Slice}s of a query result. The statement to execute is resolved once (prepared and bound when
+	 * using prepared statements) and each page is fetched by attaching the paging state of the previous page.
+	 *
+	 * @since 3.1
+	 */
+	private class SliceCursor<T> implements Iterable<Slice<T>> {
+
+		private final Statement<?> statement;
+
+		private final RowMapper<T> mapper;
+
+		private @Nullable Statement<?> executable;
+
+		SliceCursor(Statement<?> statement, RowMapper<T> mapper) {
+			this.statement = statement;
+			this.mapper = mapper;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Iterable#iterator()
+		 */
+		@Override
+		public Iterator<Slice<T>> iterator() {
+			return new SliceIterator();
+		}
+
+		private Statement<?> getExecutable() {
+
+			Statement<?> executable = this.executable;
+
+			if (executable == null) {
+
+				executable = PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), this.statement)
+						? bind((SimpleStatement) this.statement)
+						: this.statement;
+
+				this.executable = executable;
+			}
+
+			return executable;
+		}
+
+		private BoundStatement bind(SimpleStatement statement) {
+
+			PreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			PreparedStatement preparedStatement = getCqlOperations()
+					.execute((SessionCallback<PreparedStatement>) statementHandler::createPreparedStatement);
+
+			Assert.state(preparedStatement != null, "PreparedStatement must not be null");
+
+			return statementHandler.bindValues(preparedStatement);
+		}
+
+		private class SliceIterator implements Iterator<Slice<T>> {
+
+			private final int pageSize = getEffectivePageSize(SliceCursor.this.statement);
+
+			private @Nullable ByteBuffer pagingState = SliceCursor.this.statement.getPagingState();
+
+			private int page;
+
+			private boolean hasNext = true;
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#hasNext()
+			 */
+			@Override
+			public boolean hasNext() {
+				return this.hasNext;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.Iterator#next()
+			 */
+			@Override
+			public Slice<T> next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				Statement<?> statement = getExecutable().setPagingState(this.pagingState);
+				ResultSet resultSet = getCqlOperations().queryForResultSet(statement);
+
+				Slice<T> slice = EntityQueryUtils.readSlice(resultSet, SliceCursor.this.mapper, this.page++, this.pageSize);
+
+				this.pagingState = resultSet.getExecutionInfo().getPagingState();
+				this.hasNext = this.pagingState != null;
+
+				return slice;
+			}
+		}
+	}
+
 	static class StatementCallback implements SessionCallback<WriteResult>, CqlProvider {
 
 		private final SimpleStatement statement;
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for coalescing writers. Coalescing writers buffer writes for up to {@link #getFlushInterval()} or until
+ * {@link #getBufferSize()} writes are buffered. Buffered writes are grouped by partition into unlogged batches of up to
+ * {@link #getMaxBatchStatements()} statements. Up to {@link #getConcurrency()} batches are written concurrently. At
+ * most {@link #getMaxPendingWrites()} writes are buffered or in flight at a time.
+ *
+ * @since 3.1
+ * @see CoalescingWriter
+ * @see ReactiveCoalescingWriter
+ */
+public class CoalescingOptions {
+
+	/**
+	 * Default maximum time to buffer writes.
+	 */
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(5);
+
+	/**
+	 * Default number of buffered writes that triggers a flush.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	/**
+	 * Default maximum number of statements per batch.
+	 */
+	public static final int DEFAULT_MAX_BATCH_STATEMENTS = 16;
+
+	/**
+	 * Default number of batches that are written concurrently.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 16;
+
+	/**
+	 * Default maximum number of writes that are buffered or in flight.
+	 */
+	public static final int DEFAULT_MAX_PENDING_WRITES = DEFAULT_BUFFER_SIZE * DEFAULT_CONCURRENCY;
+
+	private static final CoalescingOptions EMPTY = new CoalescingOptionsBuilder().build();
+
+	private final Duration flushInterval;
+
+	private final int bufferSize;
+
+	private final int maxBatchStatements;
+
+	private final int concurrency;
+
+	private final int maxPendingWrites;
+
+	private final InsertOptions insertOptions;
+
+	private CoalescingOptions(Duration flushInterval, int bufferSize, int maxBatchStatements, int concurrency,
+			int maxPendingWrites, InsertOptions insertOptions) {
+		this.flushInterval = flushInterval;
+		this.bufferSize = bufferSize;
+		this.maxBatchStatements = maxBatchStatements;
+		this.concurrency = concurrency;
+		this.maxPendingWrites = maxPendingWrites;
+		this.insertOptions = insertOptions;
+	}
+
+	/**
+	 * Create a new {@link CoalescingOptionsBuilder}.
+	 *
+	 * @return a new {@link CoalescingOptionsBuilder}.
+	 */
+	public static CoalescingOptionsBuilder builder() {
+		return new CoalescingOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link CoalescingOptions}.
+	 *
+	 * @return default {@link CoalescingOptions}.
+	 */
+	public static CoalescingOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link CoalescingOptionsBuilder} to mutate properties of this {@link CoalescingOptions}.
+	 *
+	 * @return a new {@link CoalescingOptionsBuilder} initialized with this {@link CoalescingOptions}.
+	 */
+	public CoalescingOptionsBuilder mutate() {
+		return new CoalescingOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum time to buffer writes.
+	 */
+	public Duration getFlushInterval() {
+		return this.flushInterval;
+	}
+
+	/**
+	 * @return the number of buffered writes that triggers a flush.
+	 */
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+	/**
+	 * @return the maximum number of statements per batch.
+	 */
+	public int getMaxBatchStatements() {
+		return this.maxBatchStatements;
+	}
+
+	/**
+	 * @return the maximum number of batches written concurrently.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return the maximum number of writes that are buffered or in flight.
+	 */
+	public int getMaxPendingWrites() {
+		return this.maxPendingWrites;
+	}
+
+	/**
+	 * @return the {@link InsertOptions} applied to inserts.
+	 */
+	public InsertOptions getInsertOptions() {
+		return this.insertOptions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof CoalescingOptions)) {
+			return false;
+		}
+
+		CoalescingOptions that = (CoalescingOptions) o;
+
+		return this.bufferSize == that.bufferSize && this.maxBatchStatements == that.maxBatchStatements
+				&& this.concurrency == that.concurrency && this.maxPendingWrites == that.maxPendingWrites
+				&& this.flushInterval.equals(that.flushInterval)
+				&& this.insertOptions.equals(that.insertOptions);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = this.flushInterval.hashCode();
+		result = 31 * result + this.bufferSize;
+		result = 31 * result + this.maxBatchStatements;
+		result = 31 * result + this.concurrency;
+		result = 31 * result + this.maxPendingWrites;
+		result = 31 * result + this.insertOptions.hashCode();
+		return result;
+	}
+
+	/**
+	 * Builder for {@link CoalescingOptions}.
+	 *
+	 * @since 3.1
+	 */
+	public static class CoalescingOptionsBuilder {
+
+		private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+		private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+		private int maxBatchStatements = DEFAULT_MAX_BATCH_STATEMENTS;
+
+		private int concurrency = DEFAULT_CONCURRENCY;
+
+		private int maxPendingWrites = DEFAULT_MAX_PENDING_WRITES;
+
+		private InsertOptions insertOptions = InsertOptions.empty();
+
+		private CoalescingOptionsBuilder() {}
+
+		private CoalescingOptionsBuilder(CoalescingOptions options) {
+			this.flushInterval = options.flushInterval;
+			this.bufferSize = options.bufferSize;
+			this.maxBatchStatements = options.maxBatchStatements;
+			this.concurrency = options.concurrency;
+			this.maxPendingWrites = options.maxPendingWrites;
+			this.insertOptions = options.insertOptions;
+		}
+
+		/**
+		 * Sets the maximum time to buffer writes before they are flushed.
+		 *
+		 * @param flushInterval must not be {@literal null} or negative.
+		 * @return {@code this} {@link CoalescingOptionsBuilder}
+		 */
+		public CoalescingOptionsBuilder flushInterval(Duration flushInterval) {
+
+			Assert.notNull(flushInterval, "Flush interval must not be null");
+			Assert.isTrue(!flushInterval.isNegative(), "Flush interval must not be negative");
+
+			this.flushInterval = flushInterval;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of buffered writes that triggers a flush.
+		 *
+		 * @param bufferSize the number of writes, must be greater than zero.
+		 * @return {@code this} {@link CoalescingOptionsBuilder}
+		 */
+		public CoalescingOptionsBuilder bufferSize(int bufferSize) {
+
+			Assert.isTrue(bufferSize > 0, "Buffer size must be greater than zero");
+
+			this.bufferSize = bufferSize;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of statements per batch.
+		 *
+		 * @param maxBatchStatements the maximum number of statements, must be greater than zero.
+		 * @return {@code this} {@link CoalescingOptionsBuilder}
+		 */
+		public CoalescingOptionsBuilder maxBatchStatements(int maxBatchStatements) {
+
+			Assert.isTrue(maxBatchStatements > 0, "Maximum number of batch statements must be greater than zero");
+
+			this.maxBatchStatements = maxBatchStatements;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of batches written concurrently.
+		 *
+		 * @param concurrency the maximum number of batches in flight, must be greater than zero.
+		 * @return {@code this} {@link CoalescingOptionsBuilder}
+		 */
+		public CoalescingOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of writes that are buffered or in flight. Inserts exceeding the limit wait until pending
+		 * writes complete.
+		 *
+		 * @param maxPendingWrites the maximum number of pending writes, must be greater than zero.
+		 * @return {@code this} {@link CoalescingOptionsBuilder}
+		 */
+		public CoalescingOptionsBuilder maxPendingWrites(int maxPendingWrites) {
+
+			Assert.isTrue(maxPendingWrites > 0, "Maximum number of pending writes must be greater than zero");
+
+			this.maxPendingWrites = maxPendingWrites;
+
+			return this;
+		}
+
+		/**
+		 * Sets the {@link InsertOptions} to apply to inserts.
+		 *
+		 * @param insertOptions must not be {@literal null}.
+		 * @return {@code this} {@link CoalescingOptionsBuilder}
+		 */
+		public CoalescingOptionsBuilder insertOptions(InsertOptions insertOptions) {
+
+			Assert.notNull(insertOptions, "InsertOptions must not be null");
+
+			this.insertOptions = insertOptions;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link CoalescingOptions} with the configured values.
+		 *
+		 * @return a new {@link CoalescingOptions} with the configured values
+		 */
+		public CoalescingOptions build() {
+			return new CoalescingOptions(this.flushInterval, this.bufferSize, this.maxBatchStatements, this.concurrency,
+					this.maxPendingWrites, this.insertOptions);
+		}
+	}
+}
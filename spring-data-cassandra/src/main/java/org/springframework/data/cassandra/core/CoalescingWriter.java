@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.data.cassandra.core.WriteCoalescer.PendingWrite;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.oss.driver.api.core.cql.BatchType;
+
+/**
+ * Writer that coalesces single-entity inserts into unlogged batches per partition. Inserts are buffered for up to
+ * {@link CoalescingOptions#getFlushInterval()} or until {@link CoalescingOptions#getBufferSize()} inserts are buffered.
+ * Buffered entities are grouped by partition and written through {@link CassandraOperations#batchOps()}. The
+ * {@link ListenableFuture} returned for each insert completes once the batch containing the entity was written.
+ * <p>
+ * Coalesced inserts are batch inserts: entity callbacks and lifecycle events are not invoked and versioned entities are
+ * not supported. Batches are written on the {@link ScheduledExecutorService} of this writer. Inserts block while
+ * {@link CoalescingOptions#getMaxPendingWrites()} inserts are buffered or in flight. {@link #close() Closing} the
+ * writer flushes buffered inserts. Inserts that are not buffered before closing the writer fail.
+ *
+ * @since 3.1
+ * @see CoalescingOptions
+ * @see ReactiveCoalescingWriter
+ */
+public class CoalescingWriter implements AutoCloseable {
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private final CassandraOperations operations;
+
+	private final CoalescingOptions options;
+
+	private final ScheduledExecutorService executor;
+
+	private final boolean disposeExecutor;
+
+	private final WriteCoalescer coalescer;
+
+	private final Semaphore pendingWrites;
+
+	/**
+	 * Create a new {@link CoalescingWriter} using {@link CoalescingOptions#empty() default options}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public CoalescingWriter(CassandraOperations operations) {
+		this(operations, CoalescingOptions.empty());
+	}
+
+	/**
+	 * Create a new {@link CoalescingWriter} that writes batches on a thread pool sized to
+	 * {@link CoalescingOptions#getConcurrency()}. The thread pool is shut down when closing this writer.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 */
+	public CoalescingWriter(CassandraOperations operations, CoalescingOptions options) {
+		this(operations, options, createExecutor(options), true);
+	}
+
+	/**
+	 * Create a new {@link CoalescingWriter} that writes batches on the given {@link ScheduledExecutorService}. The
+	 * concurrency of batch writes is determined by the {@code executor}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public CoalescingWriter(CassandraOperations operations, CoalescingOptions options,
+			ScheduledExecutorService executor) {
+		this(operations, options, executor, false);
+	}
+
+	private CoalescingWriter(CassandraOperations operations, CoalescingOptions options,
+			ScheduledExecutorService executor, boolean disposeExecutor) {
+
+		Assert.notNull(operations, "CassandraOperations must not be null");
+		Assert.notNull(options, "CoalescingOptions must not be null");
+		Assert.notNull(executor, "ScheduledExecutorService must not be null");
+
+		this.operations = operations;
+		this.options = options;
+		this.executor = executor;
+		this.disposeExecutor = disposeExecutor;
+		this.pendingWrites = new Semaphore(options.getMaxPendingWrites());
+		this.coalescer = new WriteCoalescer(operations.getConverter(), options) {
+
+			@Override
+			void scheduleFlush(Duration delay) {
+
+				try {
+					CoalescingWriter.this.executor.schedule(this::flush, delay.toNanos(), TimeUnit.NANOSECONDS);
+				} catch (RejectedExecutionException e) {
+					flush();
+				}
+			}
+
+			@Override
+			void write(List<List<PendingWrite>> groups) {
+
+				for (List<PendingWrite> group : groups) {
+
+					try {
+						CoalescingWriter.this.executor.execute(() -> writeGroup(group));
+					} catch (RejectedExecutionException e) {
+						group.forEach(write -> write.failed(e));
+					}
+				}
+			}
+		};
+	}
+
+	private static ScheduledExecutorService createExecutor(CoalescingOptions options) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cassandra-coalescing-writer-");
+		threadFactory.setDaemon(true);
+
+		return Executors.newScheduledThreadPool(options.getConcurrency(), threadFactory);
+	}
+
+	/**
+	 * Insert the given entity. The entity is buffered and written along with other entities of the same partition.
+	 * Blocks while {@link CoalescingOptions#getMaxPendingWrites()} inserts are pending.
+	 *
+	 * @param entity the entity to insert, must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the inserted entity once it was written. Completes with
+	 *         {@link IllegalStateException} if the writer was closed concurrently.
+	 * @throws IllegalArgumentException if the entity is versioned.
+	 * @throws IllegalStateException if the writer was closed.
+	 */
+	public <T> ListenableFuture<T> insert(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.state(!this.closed.get(), "CoalescingWriter was closed");
+
+		SettableListenableFuture<T> future = new SettableListenableFuture<>();
+
+		this.pendingWrites.acquireUninterruptibly();
+
+		try {
+
+			this.coalescer.enqueue(entity, new WriteCoalescer.Completion() {
+
+				@Override
+				public void succeeded() {
+
+					CoalescingWriter.this.pendingWrites.release();
+					future.set(entity);
+				}
+
+				@Override
+				public void failed(Throwable e) {
+
+					CoalescingWriter.this.pendingWrites.release();
+					future.setException(e);
+				}
+			});
+		} catch (RuntimeException e) {
+
+			this.pendingWrites.release();
+			throw e;
+		}
+
+		return future;
+	}
+
+	/**
+	 * Write all buffered entities without awaiting the flush interval.
+	 */
+	public void flush() {
+		this.coalescer.flush();
+	}
+
+	/**
+	 * Flush buffered entities and stop accepting inserts. Shuts down the thread pool if it was created by this writer.
+	 * Already buffered inserts are written before the thread pool terminates.
+	 */
+	@Override
+	public void close() {
+
+		if (this.closed.compareAndSet(false, true)) {
+
+			this.coalescer.close();
+
+			if (this.disposeExecutor) {
+				this.executor.shutdown();
+			}
+		}
+	}
+
+	private void writeGroup(List<PendingWrite> group) {
+
+		try {
+
+			this.operations.batchOps().withBatchType(BatchType.UNLOGGED)
+					.insert(WriteCoalescer.getEntities(group), this.options.getInsertOptions()).execute();
+		} catch (RuntimeException e) {
+
+			group.forEach(write -> write.failed(e));
+			return;
+		}
+
+		group.forEach(PendingWrite::succeeded);
+	}
+}
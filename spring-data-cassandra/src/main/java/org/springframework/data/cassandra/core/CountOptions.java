@@ -0,0 +1,355 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Duration;
+
+import org.springframework.data.cassandra.core.cql.ExecutionProfileResolver;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Extension to {@link QueryOptions} for counting all rows of a table using token ranges. Instead of a single
+ * {@code SELECT count(*)} that is coordinated by one node, the count splits the token ring into sub-ranges, counts
+ * up to {@link #getConcurrency() concurrency} ranges in parallel and sums up the per-range counts. Range counts that
+ * failed with a transient error (timeouts, unavailable replicas, overloaded coordinators, connection failures) are
+ * retried up to {@link #getRetriesPerRange() retriesPerRange} times before the count fails. Other errors fail the
+ * count immediately.
+ *
+ * @since 3.1
+ * @see CassandraOperations#count(Class, CountOptions)
+ */
+public class CountOptions extends QueryOptions {
+
+	/**
+	 * Default number of token ranges that are counted in parallel.
+	 */
+	public static final int DEFAULT_CONCURRENCY = ScanOptions.DEFAULT_CONCURRENCY;
+
+	/**
+	 * Default number of retries for a failed range count.
+	 */
+	public static final int DEFAULT_RETRIES_PER_RANGE = 2;
+
+	private static final CountOptions EMPTY = new CountOptionsBuilder().build();
+
+	private final int concurrency;
+
+	private final int splitsPerRange;
+
+	private final int retriesPerRange;
+
+	private CountOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, @Nullable Boolean tracing, int concurrency,
+			int splitsPerRange, int retriesPerRange) {
+
+		super(consistencyLevel, executionProfileResolver, idempotent, keyspace, pageSize, serialConsistencyLevel, timeout,
+				tracing);
+
+		this.concurrency = concurrency;
+		this.splitsPerRange = splitsPerRange;
+		this.retriesPerRange = retriesPerRange;
+	}
+
+	/**
+	 * Create a new {@link CountOptionsBuilder}.
+	 *
+	 * @return a new {@link CountOptionsBuilder}.
+	 */
+	public static CountOptionsBuilder builder() {
+		return new CountOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link CountOptions}.
+	 *
+	 * @return default {@link CountOptions}.
+	 */
+	public static CountOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link CountOptionsBuilder} to mutate properties of this {@link CountOptions}.
+	 *
+	 * @return a new {@link CountOptionsBuilder} initialized with this {@link CountOptions}.
+	 */
+	@Override
+	public CountOptionsBuilder mutate() {
+		return new CountOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum number of token ranges that are counted in parallel.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return the number of sub-ranges each token range of the cluster is split into.
+	 */
+	public int getSplitsPerRange() {
+		return this.splitsPerRange;
+	}
+
+	/**
+	 * @return the number of retries for a failed range count.
+	 */
+	public int getRetriesPerRange() {
+		return this.retriesPerRange;
+	}
+
+	/**
+	 * Create {@link ScanOptions} to compute the token ranges to count.
+	 *
+	 * @return {@link ScanOptions} carrying the query options, concurrency and splits of this {@link CountOptions}.
+	 */
+	ScanOptions toScanOptions() {
+		return ScanOptions.builder(this).concurrency(this.concurrency).splitsPerRange(this.splitsPerRange).build();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof CountOptions)) {
+			return false;
+		}
+
+		if (!super.equals(o)) {
+			return false;
+		}
+
+		CountOptions that = (CountOptions) o;
+
+		if (concurrency != that.concurrency) {
+			return false;
+		}
+
+		if (splitsPerRange != that.splitsPerRange) {
+			return false;
+		}
+
+		return retriesPerRange == that.retriesPerRange;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		result = 31 * result + concurrency;
+		result = 31 * result + splitsPerRange;
+		result = 31 * result + retriesPerRange;
+		return result;
+	}
+
+	/**
+	 * Builder for {@link CountOptions}.
+	 *
+	 * @since 3.1
+	 */
+	public static class CountOptionsBuilder extends QueryOptionsBuilder {
+
+		private int concurrency = DEFAULT_CONCURRENCY;
+
+		private int splitsPerRange = 1;
+
+		private int retriesPerRange = DEFAULT_RETRIES_PER_RANGE;
+
+		private CountOptionsBuilder() {}
+
+		private CountOptionsBuilder(CountOptions countOptions) {
+
+			super(countOptions);
+
+			this.concurrency = countOptions.concurrency;
+			this.splitsPerRange = countOptions.splitsPerRange;
+			this.retriesPerRange = countOptions.retriesPerRange;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#consistencyLevel(com.datastax.oss.driver.api.core.ConsistencyLevel)
+		 */
+		@Override
+		public CountOptionsBuilder consistencyLevel(ConsistencyLevel consistencyLevel) {
+
+			super.consistencyLevel(consistencyLevel);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#executionProfile(String)
+		 */
+		@Override
+		public CountOptionsBuilder executionProfile(String profileName) {
+			super.executionProfile(profileName);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#executionProfile(org.springframework.data.cassandra.core.cql.ExecutionProfileResolver)
+		 */
+		@Override
+		public CountOptionsBuilder executionProfile(ExecutionProfileResolver executionProfileResolver) {
+			super.executionProfile(executionProfileResolver);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public CountOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#keyspace(com.datastax.oss.driver.api.core.CqlIdentifier)
+		 */
+		@Override
+		public CountOptionsBuilder keyspace(CqlIdentifier keyspace) {
+
+			super.keyspace(keyspace);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#pageSize(int)
+		 */
+		@Override
+		public CountOptionsBuilder pageSize(int pageSize) {
+
+			super.pageSize(pageSize);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#serialConsistencyLevel(com.datastax.oss.driver.api.core.ConsistencyLevel)
+		 */
+		@Override
+		public CountOptionsBuilder serialConsistencyLevel(ConsistencyLevel consistencyLevel) {
+
+			super.serialConsistencyLevel(consistencyLevel);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#timeout(java.time.Duration)
+		 */
+		@Override
+		public CountOptionsBuilder timeout(Duration timeout) {
+
+			super.timeout(timeout);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#tracing(boolean)
+		 */
+		@Override
+		public CountOptionsBuilder tracing(boolean tracing) {
+
+			super.tracing(tracing);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#withTracing()
+		 */
+		@Override
+		public CountOptionsBuilder withTracing() {
+
+			super.withTracing();
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of token ranges to count in parallel.
+		 *
+		 * @param concurrency the number of concurrently counted ranges, must be greater than zero.
+		 * @return {@code this} {@link CountOptionsBuilder}
+		 */
+		public CountOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of sub-ranges each token range of the cluster is split into. Splitting produces smaller ranges
+		 * that are less likely to time out.
+		 *
+		 * @param splitsPerRange the number of splits per token range, must be greater than zero.
+		 * @return {@code this} {@link CountOptionsBuilder}
+		 */
+		public CountOptionsBuilder splitsPerRange(int splitsPerRange) {
+
+			Assert.isTrue(splitsPerRange > 0, "Splits per range must be greater than zero");
+
+			this.splitsPerRange = splitsPerRange;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of retries for a range count that failed with a transient error. The count fails once a range
+		 * count fails after exhausting its retries or with a non-transient error.
+		 *
+		 * @param retriesPerRange the number of retries per range, must not be negative.
+		 * @return {@code this} {@link CountOptionsBuilder}
+		 */
+		public CountOptionsBuilder retriesPerRange(int retriesPerRange) {
+
+			Assert.isTrue(retriesPerRange >= 0, "Retries per range must not be negative");
+
+			this.retriesPerRange = retriesPerRange;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link CountOptions} with the configured values.
+		 *
+		 * @return a new {@link CountOptions} with the configured values
+		 */
+		public CountOptions build() {
+			return new CountOptions(this.consistencyLevel, this.executionProfileResolver, this.idempotent, this.keyspace,
+					this.pageSize, this.serialConsistencyLevel, this.timeout, this.tracing, this.concurrency, this.splitsPerRange,
+					this.retriesPerRange);
+		}
+	}
+}
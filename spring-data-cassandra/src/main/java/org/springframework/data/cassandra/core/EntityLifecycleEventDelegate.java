@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.cassandra.core.mapping.event.CassandraMappingEvent;
+import org.springframework.lang.Nullable;
+
+/**
+ * Delegate class to encapsulate lifecycle event configuration and publishing. Lifecycle events can be disabled
+ * entirely. Templates can check upfront whether an event type has any listeners to avoid creating events that are not
+ * going to be consumed.
+ * <p>
+ * Listener detection requires the {@link ApplicationEventPublisher} to be an {@link AbstractApplicationContext}.
+ * Detection considers registered {@link ApplicationListener} instances (including {@code @EventListener} methods) and
+ * {@link ApplicationListener} beans of the context and its parents. Detection results are discarded when the number of
+ * registered listeners changes. Any other {@link ApplicationEventPublisher} is assumed to have listeners for all event
+ * types.
+ *
+ * @since 3.1
+ * @see ApplicationEventPublisher
+ */
+class EntityLifecycleEventDelegate {
+
+	private @Nullable ApplicationEventPublisher publisher;
+
+	private boolean eventsEnabled = true;
+
+	private volatile @Nullable ListenerPresence listenerPresence;
+
+	public void setPublisher(@Nullable ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+		this.listenerPresence = null;
+	}
+
+	public boolean isEventsEnabled() {
+		return this.eventsEnabled;
+	}
+
+	public void setEventsEnabled(boolean eventsEnabled) {
+		this.eventsEnabled = eventsEnabled;
+	}
+
+	/**
+	 * Publish an application event if event publishing is enabled.
+	 *
+	 * @param event the application event.
+	 */
+	public void publishEvent(Object event) {
+
+		if (canPublishEvent()) {
+			this.publisher.publishEvent(event);
+		}
+	}
+
+	/**
+	 * Determine whether events of the given {@code eventType} would be published and consumed by at least one listener.
+	 * Callers can use this method to skip event creation.
+	 *
+	 * @param eventType the {@link CassandraMappingEvent} type.
+	 * @return {@literal true} if events of {@code eventType} should be created and published.
+	 */
+	public boolean isPublishing(Class<?> eventType) {
+
+		if (!canPublishEvent()) {
+			return false;
+		}
+
+		if (!(this.publisher instanceof AbstractApplicationContext)) {
+			return true;
+		}
+
+		AbstractApplicationContext context = (AbstractApplicationContext) this.publisher;
+
+		if (!isActive(context)) {
+			return true;
+		}
+
+		int listenerCount = getListenerCount(context);
+		ListenerPresence presence = this.listenerPresence;
+
+		if (presence == null || presence.listenerCount != listenerCount) {
+			presence = new ListenerPresence(listenerCount);
+			this.listenerPresence = presence;
+		}
+
+		return presence.hasListeners(context, eventType);
+	}
+
+	private boolean canPublishEvent() {
+		return this.publisher != null && this.eventsEnabled;
+	}
+
+	private static boolean isActive(AbstractApplicationContext context) {
+
+		ApplicationContext current = context;
+
+		while (current != null) {
+
+			if (current instanceof AbstractApplicationContext && !((AbstractApplicationContext) current).isActive()) {
+				return false;
+			}
+
+			current = current.getParent();
+		}
+
+		return true;
+	}
+
+	private static int getListenerCount(AbstractApplicationContext context) {
+
+		int count = 0;
+		ApplicationContext current = context;
+
+		while (current instanceof AbstractApplicationContext) {
+
+			count += ((AbstractApplicationContext) current).getApplicationListeners().size();
+			current = current.getParent();
+		}
+
+		return count;
+	}
+
+	private static boolean hasListeners(ApplicationContext context, ResolvableType eventType) {
+
+		if (!(context instanceof AbstractApplicationContext)) {
+			return true;
+		}
+
+		for (ApplicationListener<?> listener : ((AbstractApplicationContext) context).getApplicationListeners()) {
+			if (new GenericApplicationListenerAdapter(listener).supportsEventType(eventType)) {
+				return true;
+			}
+		}
+
+		for (String beanName : context.getBeanNamesForType(ApplicationListener.class, true, false)) {
+
+			Class<?> listenerType = context.getType(beanName);
+
+			if (listenerType == null || supportsEventType(listenerType, eventType)) {
+				return true;
+			}
+		}
+
+		return context.getParent() != null && hasListeners(context.getParent(), eventType);
+	}
+
+	private static boolean supportsEventType(Class<?> listenerType, ResolvableType eventType) {
+
+		if (SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+			return true;
+		}
+
+		ResolvableType declaredEventType = ResolvableType.forClass(listenerType).as(ApplicationListener.class).getGeneric();
+
+		return declaredEventType.resolve() == null || declaredEventType.isAssignableFrom(eventType);
+	}
+
+	/**
+	 * Listener presence per event type for a given number of registered listeners.
+	 */
+	private static class ListenerPresence {
+
+		private final int listenerCount;
+
+		private final Map<Class<?>, Boolean> presence = new ConcurrentHashMap<>();
+
+		ListenerPresence(int listenerCount) {
+			this.listenerCount = listenerCount;
+		}
+
+		boolean hasListeners(ApplicationContext context, Class<?> eventType) {
+			return this.presence.computeIfAbsent(eventType,
+					it -> EntityLifecycleEventDelegate.hasListeners(context, ResolvableType.forClass(it)));
+		}
+	}
+}
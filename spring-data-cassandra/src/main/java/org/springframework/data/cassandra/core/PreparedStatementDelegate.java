@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Utility to prepare {@link SimpleStatement}s rendered with {@link ParameterHandling#BY_INDEX index-based bind
+ * markers} and to bind their positional values to the resulting {@link PreparedStatement}.
+ *
+ * @since 3.1
+ */
+class PreparedStatementDelegate {
+
+	private PreparedStatementDelegate() {}
+
+	/**
+	 * Determine the {@link ParameterHandling} to render statements with.
+	 *
+	 * @param usePreparedStatements whether the template is configured to use prepared statements.
+	 * @return the {@link ParameterHandling} to use.
+	 */
+	static ParameterHandling getParameterHandling(boolean usePreparedStatements) {
+		return usePreparedStatements ? ParameterHandling.BY_INDEX : ParameterHandling.INLINE;
+	}
+
+	/**
+	 * Check whether the {@link Statement} can be prepared. Only {@link SimpleStatement}s that carry positional values
+	 * (and no named values) qualify. Statements without values are typically ad-hoc CQL with inlined literals; preparing
+	 * these would create a prepared statement per distinct literal on the client and the server.
+	 *
+	 * @param usePreparedStatements whether the template is configured to use prepared statements.
+	 * @param statement the statement to inspect.
+	 * @return {@literal true} if the statement should be executed as prepared statement.
+	 */
+	static boolean canPrepare(boolean usePreparedStatements, Statement<?> statement) {
+
+		if (!usePreparedStatements || !(statement instanceof SimpleStatement)) {
+			return false;
+		}
+
+		SimpleStatement simpleStatement = (SimpleStatement) statement;
+
+		return !simpleStatement.getPositionalValues().isEmpty() && simpleStatement.getNamedValues().isEmpty();
+	}
+
+	/**
+	 * Return the {@link SimpleStatement} to prepare. Preparation requires a statement without values so positional
+	 * values are removed. The routing key is removed as well as the driver would otherwise apply it to all statements
+	 * bound from the cached {@link PreparedStatement}.
+	 *
+	 * @param statement the statement to prepare.
+	 * @return the {@link SimpleStatement} to prepare.
+	 */
+	static SimpleStatement getStatementForPreparation(SimpleStatement statement) {
+
+		SimpleStatement statementToPrepare = statement.getPositionalValues().isEmpty() ? statement
+				: statement.setPositionalValues(Collections.emptyList());
+
+		return statementToPrepare.getRoutingKey() == null ? statementToPrepare
+				: statementToPrepare.setRoutingKey((ByteBuffer) null);
+	}
+
+	/**
+	 * Bind the positional values of {@link SimpleStatement} to the {@link PreparedStatement} and carry over execution
+	 * settings (consistency, page size, paging state, timeout, tracing, execution profile, routing key) that were applied
+	 * to the {@link SimpleStatement}.
+	 *
+	 * @param statement the source statement providing values and settings.
+	 * @param preparedStatement the prepared statement.
+	 * @return the {@link BoundStatement}.
+	 */
+	static BoundStatement bind(SimpleStatement statement, PreparedStatement preparedStatement) {
+
+		BoundStatement boundStatement = preparedStatement.bind(statement.getPositionalValues().toArray());
+
+		if (statement.getConsistencyLevel() != null) {
+			boundStatement = boundStatement.setConsistencyLevel(statement.getConsistencyLevel());
+		}
+
+		if (statement.getSerialConsistencyLevel() != null) {
+			boundStatement = boundStatement.setSerialConsistencyLevel(statement.getSerialConsistencyLevel());
+		}
+
+		if (statement.getPageSize() > 0) {
+			boundStatement = boundStatement.setPageSize(statement.getPageSize());
+		}
+
+		if (statement.getPagingState() != null) {
+			boundStatement = boundStatement.setPagingState(statement.getPagingState());
+		}
+
+		if (statement.getTimeout() != null) {
+			boundStatement = boundStatement.setTimeout(statement.getTimeout());
+		}
+
+		if (statement.isTracing()) {
+			boundStatement = boundStatement.setTracing(true);
+		}
+
+		if (statement.isIdempotent() != null) {
+			boundStatement = boundStatement.setIdempotent(statement.isIdempotent());
+		}
+
+		if (statement.getExecutionProfileName() != null) {
+			boundStatement = boundStatement.setExecutionProfileName(statement.getExecutionProfileName());
+		}
+
+		if (statement.getExecutionProfile() != null) {
+			boundStatement = boundStatement.setExecutionProfile(statement.getExecutionProfile());
+		}
+
+		if (statement.getQueryTimestamp() != Statement.NO_DEFAULT_TIMESTAMP) {
+			boundStatement = boundStatement.setQueryTimestamp(statement.getQueryTimestamp());
+		}
+
+		if (statement.getRoutingKey() != null) {
+			boundStatement = boundStatement.setRoutingKey(statement.getRoutingKey());
+		}
+
+		return boundStatement;
+	}
+}
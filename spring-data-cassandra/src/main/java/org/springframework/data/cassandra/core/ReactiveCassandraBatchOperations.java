@@ -20,9 +20,11 @@ import reactor.core.publisher.Mono;
 import org.reactivestreams.Subscriber;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 
+import com.datastax.oss.driver.api.core.cql.BatchType;
+
 /**
  * Reactive Batch operations for insert/update/delete actions on a table. {@link ReactiveCassandraBatchOperations} use
- * logged Cassandra {@code BATCH}es for single entities and collections of entities. A
+ * Cassandra {@code BATCH}es for single entities and collections of entities. A
  * {@link ReactiveCassandraBatchOperations} instance cannot be modified/used once it was executed.
  * <p>
  * Batches are atomic by default. In the context of a Cassandra batch operation, atomic means that if any of the batch
@@ -33,6 +35,9 @@ import org.springframework.data.cassandra.core.cql.WriteOptions;
  * Multi partition batches should only be used to achieve atomicity for a few writes on different tables. Apart from
  * this they should be avoided because they’re too expensive. Single partition batches can be used to get atomicity and
  * isolation, they're not much more expensive than normal writes.
+ * <p>
+ * Batches consist of bound statements if the originating template is configured to use prepared statements. Each
+ * distinct statement is prepared once and bound per entity.
  *
  * @author Oleh Dokuka
  * @author Mark Paluch
@@ -58,6 +63,47 @@ public interface ReactiveCassandraBatchOperations {
 	 */
 	ReactiveCassandraBatchOperations withTimestamp(long timestamp);
 
+	/**
+	 * Apply a given {@link BatchType} to the batch. Defaults to {@link BatchType#LOGGED}. Unlogged batches skip the
+	 * batch log and should be used for single partition batches or when batch atomicity is not required.
+	 * {@link BatchType#COUNTER} batches can contain only counter updates.
+	 *
+	 * @param batchType the batch type to apply; must not be {@literal null}.
+	 * @return {@code this} {@link ReactiveCassandraBatchOperations}.
+	 * @throws IllegalStateException if the batch was already executed.
+	 * @since 3.1
+	 */
+	ReactiveCassandraBatchOperations withBatchType(BatchType batchType);
+
+	/**
+	 * Split the batch into sub-batches per partition using {@link BatchSplitOptions#empty() default options}.
+	 *
+	 * @return {@code this} {@link ReactiveCassandraBatchOperations}.
+	 * @throws IllegalStateException if the batch was already executed.
+	 * @since 3.1
+	 * @see #splitByPartition(BatchSplitOptions)
+	 */
+	ReactiveCassandraBatchOperations splitByPartition();
+
+	/**
+	 * Split the batch into sub-batches per partition. Statements are grouped by the table and partition key of the
+	 * entity they were created for. Each group is split into sub-batches that do not exceed the statement count and
+	 * estimated size configured in {@link BatchSplitOptions}. Sub-batches use the configured
+	 * {@link #withBatchType(BatchType) batch type} and {@link #withTimestamp(long) timestamp} and are executed
+	 * concurrently. The batch {@link WriteResult} combines the results of all sub-batches.
+	 * <p>
+	 * Splitting gives up atomicity across partitions: sub-batches are applied independently of each other. If a
+	 * sub-batch fails, no further sub-batches are issued and the execution terminates with the failure. Sub-batches that
+	 * were already sent to the cluster cannot be revoked, so a failed execution may have written some of the
+	 * partitions.
+	 *
+	 * @param options the {@link BatchSplitOptions} to apply; must not be {@literal null}.
+	 * @return {@code this} {@link ReactiveCassandraBatchOperations}.
+	 * @throws IllegalStateException if the batch was already executed.
+	 * @since 3.1
+	 */
+	ReactiveCassandraBatchOperations splitByPartition(BatchSplitOptions options);
+
 	/**
 	 * Add an array of inserts to the batch.
 	 *
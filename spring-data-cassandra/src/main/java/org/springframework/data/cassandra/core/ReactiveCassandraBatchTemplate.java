@@ -24,23 +24,33 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+
+import org.springframework.data.cassandra.core.BatchSplitter.EntityStatement;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.data.cassandra.core.cql.support.ReactivePreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
-import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.BatchType;
-import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 
 /**
  * Default implementation for {@link ReactiveCassandraBatchOperations}.
+ * <p>
+ * Batched statements are rendered with inlined values by default. Bound batches are opt-in: if the batch is created
+ * by a {@link ReactiveCassandraTemplate} with
+ * {@link ReactiveCassandraTemplate#setUsePreparedStatements(boolean) prepared statements} enabled, statements are
+ * rendered with bind markers, prepared through the template's prepared statement cache and added to the batch as bound
+ * statements.
  *
  * @author Oleh Dokuka
  * @author Mark Paluch
@@ -50,18 +60,24 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 
 	private final AtomicBoolean executed = new AtomicBoolean();
 
-	private final BatchStatementBuilder batch = BatchStatement.builder(BatchType.LOGGED);
-
 	private final CassandraConverter converter;
 
 	private final CassandraMappingContext mappingContext;
 
-	private final List<Mono<Collection<? extends BatchableStatement<?>>>> batchMonos = new CopyOnWriteArrayList<>();
+	private final List<Mono<Collection<EntityStatement>>> batchMonos = new CopyOnWriteArrayList<>();
 
 	private final ReactiveCassandraOperations operations;
 
 	private final StatementFactory statementFactory;
 
+	private final @Nullable ReactivePreparedStatementCache preparedStatementCache;
+
+	private volatile BatchType batchType = BatchType.LOGGED;
+
+	private volatile @Nullable Long timestamp;
+
+	private volatile @Nullable BatchSplitOptions splitOptions;
+
 	/**
 	 * Create a new {@link CassandraBatchTemplate} given {@link CassandraOperations}.
 	 *
@@ -74,7 +90,34 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		this.operations = operations;
 		this.converter = operations.getConverter();
 		this.mappingContext = this.converter.getMappingContext();
-		this.statementFactory = new StatementFactory(new UpdateMapper(converter));
+		this.statementFactory = getStatementFactory(operations);
+		this.preparedStatementCache = getPreparedStatementCache(operations);
+	}
+
+	private static StatementFactory getStatementFactory(ReactiveCassandraOperations operations) {
+
+		if (operations instanceof ReactiveCassandraTemplate) {
+			return ((ReactiveCassandraTemplate) operations).getStatementFactory();
+		}
+
+		return new StatementFactory(new UpdateMapper(operations.getConverter()));
+	}
+
+	@Nullable
+	private static ReactivePreparedStatementCache getPreparedStatementCache(ReactiveCassandraOperations operations) {
+
+		if (operations instanceof ReactiveCassandraTemplate) {
+
+			ReactiveCassandraTemplate template = (ReactiveCassandraTemplate) operations;
+
+			return template.isUsePreparedStatements() ? template.getPreparedStatementCache() : null;
+		}
+
+		return null;
+	}
+
+	private ParameterHandling getParameterHandling() {
+		return PreparedStatementDelegate.getParameterHandling(this.preparedStatementCache != null);
 	}
 
 	private void assertNotExecuted() {
@@ -128,24 +171,64 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 
 			if (this.executed.compareAndSet(false, true)) {
 
-				return Flux.merge(this.batchMonos) //
+				BatchSplitOptions splitOptions = this.splitOptions;
+
+				Mono<List<EntityStatement>> statements = Flux.merge(this.batchMonos) //
 						.flatMap(Flux::fromIterable) //
 						.collectList() //
-						.flatMap(statements -> {
-
-							this.batch.addStatements((List<BatchableStatement<?>>) statements);
+						.flatMap(this::prepareAndBind);
 
-							return this.operations.getReactiveCqlOperations().queryForResultSet(this.batch.build());
+				if (splitOptions != null) {
+					return statements.flatMap(it -> executeSplit(it, splitOptions));
+				}
 
-						}) //
-						.flatMap(resultSet -> resultSet.rows().collectList()
-								.map(rows -> new WriteResult(resultSet.getAllExecutionInfo(), resultSet.wasApplied(), rows)));
+				return statements.flatMap(it -> executeBatch(BatchSplitter.createBatch(it, this.batchType, this.timestamp)));
 			}
 
 			return Mono.error(new IllegalStateException("This Cassandra Batch was already executed"));
 		});
 	}
 
+	private Mono<List<EntityStatement>> prepareAndBind(List<EntityStatement> statements) {
+
+		ReactivePreparedStatementCache cache = this.preparedStatementCache;
+
+		if (cache == null || statements.isEmpty()) {
+			return Mono.just(statements);
+		}
+
+		return this.operations.getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<List<EntityStatement>>) session -> Flux.fromIterable(statements)
+						.concatMap(statement -> {
+
+							SimpleStatement simpleStatement = (SimpleStatement) statement.getStatement();
+
+							return cache
+									.getPreparedStatement(session, PreparedStatementDelegate.getStatementForPreparation(simpleStatement))
+									.map(preparedStatement -> statement
+											.withStatement(PreparedStatementDelegate.bind(simpleStatement, preparedStatement)));
+						}).collectList())
+				.single();
+	}
+
+	private Mono<WriteResult> executeSplit(List<EntityStatement> statements, BatchSplitOptions options) {
+
+		List<BatchStatement> batches = new BatchSplitter(getConverter(), options).split(statements, this.batchType,
+				this.timestamp);
+
+		return Flux.fromIterable(batches) //
+				.flatMapSequential(this::executeBatch, options.getConcurrency()) //
+				.collectList() //
+				.map(BatchSplitter::combine);
+	}
+
+	private Mono<WriteResult> executeBatch(BatchStatement batch) {
+
+		return this.operations.getReactiveCqlOperations().queryForResultSet(batch)
+				.flatMap(resultSet -> resultSet.rows().collectList()
+						.map(rows -> new WriteResult(resultSet.getAllExecutionInfo(), resultSet.wasApplied(), rows)));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraBatchOperations#withTimestamp(long)
 	 */
@@ -154,7 +237,45 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 
 		assertNotExecuted();
 
-		this.batch.setQueryTimestamp(timestamp);
+		this.timestamp = timestamp;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraBatchOperations#withBatchType(com.datastax.oss.driver.api.core.cql.BatchType)
+	 */
+	@Override
+	public ReactiveCassandraBatchOperations withBatchType(BatchType batchType) {
+
+		assertNotExecuted();
+
+		Assert.notNull(batchType, "BatchType must not be null");
+
+		this.batchType = batchType;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraBatchOperations#splitByPartition()
+	 */
+	@Override
+	public ReactiveCassandraBatchOperations splitByPartition() {
+		return splitByPartition(BatchSplitOptions.empty());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraBatchOperations#splitByPartition(org.springframework.data.cassandra.core.BatchSplitOptions)
+	 */
+	@Override
+	public ReactiveCassandraBatchOperations splitByPartition(BatchSplitOptions options) {
+
+		assertNotExecuted();
+
+		Assert.notNull(options, "BatchSplitOptions must not be null");
+
+		this.splitOptions = options;
 
 		return this;
 	}
@@ -218,10 +339,10 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		return this;
 	}
 
-	private Collection<SimpleStatement> doInsert(Iterable<?> entities, WriteOptions options) {
+	private Collection<EntityStatement> doInsert(Iterable<?> entities, WriteOptions options) {
 
 		CassandraMappingContext mappingContext = getMappingContext();
-		List<SimpleStatement> insertQueries = new ArrayList<>();
+		List<EntityStatement> insertQueries = new ArrayList<>();
 
 		for (Object entity : entities) {
 
@@ -231,9 +352,9 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 					.getRequiredPersistentEntity(entity.getClass());
 
 			SimpleStatement insertQuery = getStatementFactory()
-					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build();
+					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build(getParameterHandling());
 
-			insertQueries.add(insertQuery);
+			insertQueries.add(new EntityStatement(insertQuery, entity, persistentEntity));
 		}
 
 		return insertQueries;
@@ -298,9 +419,9 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		return this;
 	}
 
-	private Collection<SimpleStatement> doUpdate(Iterable<?> entities, WriteOptions options) {
+	private Collection<EntityStatement> doUpdate(Iterable<?> entities, WriteOptions options) {
 
-		List<SimpleStatement> updateQueries = new ArrayList<>();
+		List<EntityStatement> updateQueries = new ArrayList<>();
 
 		for (Object entity : entities) {
 
@@ -309,9 +430,9 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
 
 			SimpleStatement update = getStatementFactory()
-					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build();
+					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build(getParameterHandling());
 
-			updateQueries.add(update);
+			updateQueries.add(new EntityStatement(update, entity, persistentEntity));
 		}
 
 		return updateQueries;
@@ -376,9 +497,9 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		return this;
 	}
 
-	private Collection<SimpleStatement> doDelete(Iterable<?> entities, WriteOptions options) {
+	private Collection<EntityStatement> doDelete(Iterable<?> entities, WriteOptions options) {
 
-		List<SimpleStatement> deleteQueries = new ArrayList<>();
+		List<EntityStatement> deleteQueries = new ArrayList<>();
 
 		for (Object entity : entities) {
 
@@ -387,9 +508,9 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
 
 			SimpleStatement delete = getStatementFactory()
-					.delete(entity, options, getConverter(), persistentEntity.getTableName()).build();
+					.delete(entity, options, getConverter(), persistentEntity.getTableName()).build(getParameterHandling());
 
-			deleteQueries.add(delete);
+			deleteQueries.add(new EntityStatement(delete, entity, persistentEntity));
 		}
 
 		return deleteQueries;
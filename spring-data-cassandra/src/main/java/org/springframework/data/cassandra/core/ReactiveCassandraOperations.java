@@ -18,6 +18,8 @@ package org.springframework.data.cassandra.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.reactivestreams.Publisher;
+
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
@@ -147,6 +149,23 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	<T> Flux<T> select(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Scan all rows of the table mapped by {@code entityClass} and convert these to a stream of entities. The scan splits
+	 * the token ring into token ranges and queries up to {@link ScanOptions#getConcurrency()} ranges in parallel routing
+	 * each range query to replicas owning the range. Entities of different ranges may be emitted interleaved.
+	 * <p>
+	 * Completed token ranges are reported to the {@link ScanOptions#getCheckpointListener() checkpoint listener} after
+	 * all entities of the range were emitted to allow {@link ScanOptions.ScanOptionsBuilder#resumeFrom(Iterable)
+	 * resuming} an interrupted scan.
+	 *
+	 * @param entityClass the entity type to scan, must not be {@literal null}.
+	 * @param options scan options, must not be {@literal null}.
+	 * @return all entities.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	<T> Flux<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query with paging and convert the result set to a {@link Slice} of entities.
 	 *
@@ -215,6 +234,20 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	Mono<Long> count(Query query, Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Returns the number of rows for the given entity class by counting token ranges in parallel. The count splits the
+	 * token ring into token ranges, counts up to {@link CountOptions#getConcurrency()} ranges in parallel routing each
+	 * range count to replicas owning the range, and sums up the per-range counts. Use this method instead of
+	 * {@link #count(Class)} for large tables where a single count query coordinated by one node times out.
+	 *
+	 * @param entityClass {@link Class type} of the entity; must not be {@literal null}.
+	 * @param options count options, must not be {@literal null}.
+	 * @return the number of existing entities.
+	 * @throws DataAccessException if any problem occurs while executing the query.
+	 * @since 3.1
+	 */
+	Mono<Long> count(Class<?> entityClass, CountOptions options) throws DataAccessException;
+
 	/**
 	 * Determine whether a row of {@code entityClass} with the given {@code id} exists.
 	 *
@@ -250,6 +283,25 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	<T> Mono<T> selectOneById(Object id, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute the Select by {@code id} for each of the emitted {@code ids}. Each {@code id} is looked up using a
+	 * single-partition prepared statement instead of a multi-partition {@code IN} query so that lookups are routed to
+	 * replicas owning the partition. Lookups are issued concurrently with bounded parallelism. Entities are emitted in
+	 * the order of {@code ids}, omitting ids that were not found. Duplicate ids are looked up once.
+	 *
+	 * @param ids the Id values. For single primary keys the plain values. For composite primary keys either the
+	 *          {@link org.springframework.data.cassandra.core.mapping.PrimaryKeyClass} or
+	 *          {@link org.springframework.data.cassandra.core.mapping.MapId} carrying values for all primary key columns.
+	 *          Must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted objects.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if an id is an empty
+	 *           {@link org.springframework.data.cassandra.core.mapping.MapId}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 */
+	<T> Flux<T> selectAllById(Publisher<?> ids, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Insert the given entity and emit the entity if the insert was applied.
 	 *
@@ -270,6 +322,24 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	<T> Mono<EntityWriteResult<T>> insert(T entity, InsertOptions options) throws DataAccessException;
 
+	/**
+	 * Insert all given entities applying {@link BulkWriteOptions#getInsertOptions() insert options}. The insert statement
+	 * of each entity is prepared once per statement shape and executed as bound statement. Up to
+	 * {@link BulkWriteOptions#getConcurrency()} inserts are kept in flight; further entities are requested from
+	 * {@code entities} as in-flight inserts complete. Failed inserts do not stop the bulk write and are reported through
+	 * {@link BulkWriteResult}.
+	 * <p>
+	 * {@link org.springframework.data.cassandra.core.mapping.event.AfterSaveEvent}s are published on the thread
+	 * completing the insert, typically a driver I/O thread, so listeners must not block.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the aggregated {@link BulkWriteResult} once all inserts completed.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	Mono<BulkWriteResult> bulkInsert(Publisher<?> entities, BulkWriteOptions options) throws DataAccessException;
+
 	/**
 	 * Update the given entity and emit the entity if the update was applied.
 	 *
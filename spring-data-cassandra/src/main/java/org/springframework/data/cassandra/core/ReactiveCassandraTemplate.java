@@ -18,6 +18,7 @@ package org.springframework.data.cassandra.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
+import reactor.util.retry.Retry;
 
 import java.util.Collections;
 import java.util.function.BiConsumer;
@@ -32,6 +33,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.ReactiveSessionFactory;
@@ -39,15 +41,26 @@ import org.springframework.data.cassandra.core.EntityOperations.AdaptibleEntity;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.CassandraAccessor;
+import org.springframework.data.cassandra.core.cql.CassandraExceptionTranslator;
+import org.springframework.data.cassandra.core.cql.CqlExceptionTranslator;
 import org.springframework.data.cassandra.core.cql.CqlProvider;
+import org.springframework.data.cassandra.core.cql.PreparedStatementBinder;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.ReactiveCassandraAccessor;
 import org.springframework.data.cassandra.core.cql.ReactiveCqlOperations;
 import org.springframework.data.cassandra.core.cql.ReactiveCqlTemplate;
+import org.springframework.data.cassandra.core.cql.ReactivePreparedStatementCreator;
+import org.springframework.data.cassandra.core.cql.ReactiveResultSetExtractor;
 import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
 import org.springframework.data.cassandra.core.cql.RowMapper;
+import org.springframework.data.cassandra.core.cql.SingleColumnRowMapper;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedReactivePreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.support.ReactiveCachedPreparedStatementCreator;
+import org.springframework.data.cassandra.core.cql.support.ReactivePreparedStatementCache;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.cassandra.core.mapping.event.AfterDeleteEvent;
@@ -73,6 +86,8 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -105,7 +120,7 @@ import com.datastax.oss.driver.api.querybuilder.update.Update;
 public class ReactiveCassandraTemplate
 		implements ReactiveCassandraOperations, ApplicationEventPublisherAware, ApplicationContextAware {
 
-	private @Nullable ApplicationEventPublisher eventPublisher;
+	private final EntityLifecycleEventDelegate eventDelegate = new EntityLifecycleEventDelegate();
 
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
@@ -119,6 +134,12 @@ public class ReactiveCassandraTemplate
 
 	private final StatementFactory statementFactory;
 
+	private ReactivePreparedStatementCache preparedStatementCache = BoundedReactivePreparedStatementCache.create();
+
+	private boolean usePreparedStatements = false;
+
+	private int idLookupConcurrency = 32;
+
 	/**
 	 * Creates an instance of {@link ReactiveCassandraTemplate} initialized with the given {@link ReactiveSession} and a
 	 * default {@link MappingCassandraConverter}.
@@ -182,6 +203,80 @@ public class ReactiveCassandraTemplate
 		this.statementFactory = new StatementFactory(converter);
 	}
 
+	/**
+	 * Configure whether this template renders statements derived from entities and {@link Query} objects using bind
+	 * markers, prepares them through the {@link ReactivePreparedStatementCache} and executes {@link BoundStatement}s.
+	 * {@link SimpleStatement}s passed to the template are prepared as well if they carry positional values. Statements
+	 * without values (such as CQL with inlined literals) and statements using named values are executed unprepared.
+	 * Disabled by default.
+	 *
+	 * @param usePreparedStatements {@literal true} to execute statements as prepared statements.
+	 * @since 3.1
+	 * @see #setPreparedStatementCache(ReactivePreparedStatementCache)
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * Returns whether this template executes statements as prepared statements.
+	 *
+	 * @return {@literal true} if this template executes statements as prepared statements.
+	 * @since 3.1
+	 */
+	public boolean isUsePreparedStatements() {
+		return this.usePreparedStatements;
+	}
+
+	/**
+	 * Configure the maximum number of concurrent lookups issued by {@link #selectAllById(Publisher, Class)}. Defaults to
+	 * {@literal 32}.
+	 *
+	 * @param idLookupConcurrency maximum number of concurrent lookups, must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setIdLookupConcurrency(int idLookupConcurrency) {
+
+		Assert.isTrue(idLookupConcurrency > 0, "Id lookup concurrency must be greater than zero");
+
+		this.idLookupConcurrency = idLookupConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent lookups issued by {@link #selectAllById(Publisher, Class)}.
+	 *
+	 * @return the maximum number of concurrent lookups.
+	 * @since 3.1
+	 */
+	public int getIdLookupConcurrency() {
+		return this.idLookupConcurrency;
+	}
+
+	/**
+	 * Configure the {@link ReactivePreparedStatementCache} to use when {@link #setUsePreparedStatements(boolean) prepared
+	 * statements} are enabled. Defaults to a {@link BoundedReactivePreparedStatementCache} holding up to
+	 * {@link BoundedReactivePreparedStatementCache#DEFAULT_MAXIMUM_SIZE} statements.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setPreparedStatementCache(ReactivePreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "ReactivePreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the {@link ReactivePreparedStatementCache} used to prepare statements.
+	 *
+	 * @return the {@link ReactivePreparedStatementCache} used to prepare statements.
+	 * @since 3.1
+	 */
+	public ReactivePreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#batchOps()
 	 */
@@ -195,7 +290,7 @@ public class ReactiveCassandraTemplate
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-		this.eventPublisher = applicationEventPublisher;
+		this.eventDelegate.setPublisher(applicationEventPublisher);
 	}
 
 	/* (non-Javadoc)
@@ -221,6 +316,31 @@ public class ReactiveCassandraTemplate
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Configure whether lifecycle events such as {@link AfterLoadEvent}, {@link BeforeSaveEvent}, etc. should be
+	 * published or whether emission should be suppressed. Enabled by default. Events are only created if the configured
+	 * {@link ApplicationEventPublisher} has listeners for the particular event type.
+	 *
+	 * @param enabled {@literal true} to enable entity lifecycle events; {@literal false} to disable entity lifecycle
+	 *          events.
+	 * @since 3.1
+	 * @see CassandraMappingEvent
+	 */
+	public void setEntityLifecycleEventsEnabled(boolean enabled) {
+		this.eventDelegate.setEventsEnabled(enabled);
+	}
+
+	/**
+	 * Returns whether entity lifecycle events are enabled.
+	 *
+	 * @return {@literal true} if entity lifecycle events are enabled.
+	 * @since 3.1
+	 * @see #setEntityLifecycleEventsEnabled(boolean)
+	 */
+	public boolean isEntityLifecycleEventsEnabled() {
+		return this.eventDelegate.isEventsEnabled();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#getConverter()
 	 */
@@ -318,7 +438,7 @@ public class ReactiveCassandraTemplate
 
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
 
-		return getReactiveCqlOperations().query(statement, (row, rowNum) -> mapper.apply(row));
+		return doQuery(statement, (row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -338,7 +458,7 @@ public class ReactiveCassandraTemplate
 		Assert.notNull(statement, "Statement must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		Mono<ReactiveResultSet> resultSetMono = getReactiveCqlOperations().queryForResultSet(statement);
+		Mono<ReactiveResultSet> resultSetMono = doQueryForResultSet(statement);
 		Mono<Integer> effectiveFetchSizeMono = getEffectiveFetchSize(statement);
 		RowMapper<T> rowMapper = (row, i) -> getConverter().read(entityClass, row);
 
@@ -369,6 +489,47 @@ public class ReactiveCassandraTemplate
 		return doSelect(query, entityClass, getTableName(entityClass), entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#scanAll(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Flux<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<TokenRangeScanner>) session -> Mono.just(TokenRangeScanner
+						.create(session.getMetadata(), getConverter().getMappingContext(), entity, tableName, options)))
+				.flatMap(scanner -> Flux.fromIterable(scanner.getRanges())
+						.flatMap(range -> scanRange(scanner, range, mapper), scanner.getConcurrency())
+						.handle((item, sink) -> {
+
+							// range markers follow the last row of their range
+							if (item instanceof TokenRangeScanner.ScanRange) {
+								scanner.completed((TokenRangeScanner.ScanRange) item);
+							} else {
+								sink.next((T) item);
+							}
+						}));
+	}
+
+	private <T> Flux<Object> scanRange(TokenRangeScanner scanner, TokenRangeScanner.ScanRange range,
+			Function<Row, T> mapper) {
+
+		ReactivePreparedStatementCreator creator = ReactiveCachedPreparedStatementCreator.of(getPreparedStatementCache(),
+				scanner.getStatement(range));
+
+		return getReactiveCqlOperations()
+				.query(creator, ps -> scanner.bind(range, ps), (row, rowNum) -> (Object) mapper.apply(row))
+				.concatWith(Mono.just(range));
+	}
+
 	<T> Flux<T> doSelect(Query query, Class<?> entityClass, CqlIdentifier tableName, Class<T> returnType) {
 
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityClass);
@@ -382,7 +543,7 @@ public class ReactiveCassandraTemplate
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
 
-		return getReactiveCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row));
+		return doQuery(select.build(getParameterHandling()), (row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -408,7 +569,7 @@ public class ReactiveCassandraTemplate
 
 		StatementBuilder<Select> select = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass));
 
-		return slice(select.build(), entityClass);
+		return slice(select.build(getParameterHandling()), entityClass);
 	}
 
 	/* (non-Javadoc)
@@ -431,7 +592,7 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Update> statement = getStatementFactory().update(query, update,
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		return getReactiveCqlOperations().execute(new StatementCallback(statement.build())).next();
+		return doExecute(statement.build(getParameterHandling())).next();
 	}
 
 	/* (non-Javadoc)
@@ -451,9 +612,9 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Delete> builder = getStatementFactory().delete(query, getRequiredPersistentEntity(entityClass),
 				tableName);
 
-		SimpleStatement delete = builder.build();
+		SimpleStatement delete = builder.build(getParameterHandling());
 
-		Mono<WriteResult> writeResult = getReactiveCqlOperations().execute(new StatementCallback(delete))
+		Mono<WriteResult> writeResult = doExecute(delete)
 				.doOnSubscribe(it -> maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName))).next();
 
 		return writeResult.doOnNext(it -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)));
@@ -486,12 +647,45 @@ public class ReactiveCassandraTemplate
 		return doCount(query, entityClass, getTableName(entityClass));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#count(java.lang.Class, org.springframework.data.cassandra.core.CountOptions)
+	 */
+	@Override
+	public Mono<Long> count(Class<?> entityClass, CountOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "CountOptions must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+
+		// retry transient failures only and surface the last failure instead of RetryExhaustedException
+		Retry retry = Retry.max(options.getRetriesPerRange()).filter(TokenRangeScanner::isRetryable)
+				.onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<TokenRangeScanner>) session -> Mono.just(TokenRangeScanner.create(
+						session.getMetadata(), getConverter().getMappingContext(), entity, entity.getTableName(),
+						options.toScanOptions())))
+				.flatMap(scanner -> Flux.fromIterable(scanner.getRanges())
+						.flatMap(range -> countRange(scanner, range).retryWhen(retry), scanner.getConcurrency()))
+				.reduce(0L, Long::sum);
+	}
+
+	private Flux<Long> countRange(TokenRangeScanner scanner, TokenRangeScanner.ScanRange range) {
+
+		ReactivePreparedStatementCreator creator = ReactiveCachedPreparedStatementCreator.of(getPreparedStatementCache(),
+				scanner.getCountStatement(range));
+
+		return getReactiveCqlOperations().query(creator, ps -> scanner.bindCount(range, ps),
+				(row, rowNum) -> TokenRangeScanner.getCount(row));
+	}
+
 	Mono<Long> doCount(Query query, Class<?> entityClass, CqlIdentifier tableName) {
 
 		StatementBuilder<Select> count = getStatementFactory().count(query, getRequiredPersistentEntity(entityClass),
 				tableName);
 
-		return getReactiveCqlOperations().queryForObject(count.build(), Long.class).switchIfEmpty(Mono.just(0L));
+		return doQueryForObject(count.build(getParameterHandling()), Long.class).switchIfEmpty(Mono.just(0L));
 	}
 
 	/* (non-Javadoc)
@@ -506,7 +700,7 @@ public class ReactiveCassandraTemplate
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
 		StatementBuilder<Select> builder = getStatementFactory().selectOneById(id, entity, entity.getTableName());
 
-		return getReactiveCqlOperations().queryForRows(builder.build()).hasElements();
+		return doQueryForRows(builder.build(getParameterHandling())).hasElements();
 	}
 
 	/* (non-Javadoc)
@@ -526,7 +720,7 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Select> builder = getStatementFactory().select(query.limit(1),
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		return getReactiveCqlOperations().queryForRows(builder.build()).hasElements();
+		return doQueryForRows(builder.build(getParameterHandling())).hasElements();
 	}
 
 	/* (non-Javadoc)
@@ -541,7 +735,30 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Select> builder = getStatementFactory().selectOneById(id, getRequiredPersistentEntity(entityClass),
 				getTableName(entityClass));
 
-		return selectOne(builder.build(), entityClass);
+		return selectOne(builder.build(getParameterHandling()), entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectAllById(org.reactivestreams.Publisher, java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<T> selectAllById(Publisher<?> ids, Class<T> entityClass) {
+
+		Assert.notNull(ids, "Ids must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return Flux.from(ids).distinct().flatMapSequential(id -> {
+
+			// lookups are always prepared to obtain the routing key of each partition
+			ReactivePreparedStatementHandler statementHandler = createPreparedStatementHandler(
+					getStatementFactory().selectOneById(id, entity, tableName).build(ParameterHandling.BY_INDEX));
+
+			return getReactiveCqlOperations().query(statementHandler, statementHandler, (row, rowNum) -> mapper.apply(row));
+		}, getIdLookupConcurrency());
 	}
 
 	/* (non-Javadoc)
@@ -564,6 +781,82 @@ public class ReactiveCassandraTemplate
 		return doInsert(entity, options, getTableName(entity.getClass()));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#bulkInsert(org.reactivestreams.Publisher, org.springframework.data.cassandra.core.BulkWriteOptions)
+	 */
+	@Override
+	public Mono<BulkWriteResult> bulkInsert(Publisher<?> entities, BulkWriteOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "BulkWriteOptions must not be null");
+
+		return Mono.defer(() -> {
+
+			BulkWriteCollector collector = new BulkWriteCollector(getExceptionTranslator(), options);
+
+			return Flux.from(entities).flatMap(entity -> {
+
+				int slot = collector.register();
+
+				return doBulkInsert(entity, options.getInsertOptions()) //
+						.doOnNext(written -> collector.succeeded(slot, written)) //
+						.onErrorResume(e -> {
+
+							collector.failed(e);
+							return Mono.empty();
+						});
+			}, options.getConcurrency()) //
+					.then(Mono.fromSupplier(collector::getResult));
+		});
+	}
+
+	private Mono<Object> doBulkInsert(Object entity, InsertOptions options) {
+
+		CqlIdentifier tableName = getTableName(entity.getClass());
+
+		return maybeCallBeforeConvert(entity, tableName).flatMap(entityToInsert -> {
+
+			AdaptibleEntity<Object> source = this.entityOperations.forEntity(entityToInsert,
+					getConverter().getConversionService());
+
+			Object entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entityToInsert;
+
+			StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options,
+					source.getPersistentEntity(), tableName);
+
+			if (source.isVersionedEntity()) {
+				builder.apply(Insert::ifNotExists);
+			}
+
+			// bulk inserts are always prepared to avoid parsing the insert per entity
+			SimpleStatement statement = builder.build(ParameterHandling.BY_INDEX);
+
+			maybeEmitEvent(new BeforeSaveEvent<>(entityToUse, tableName, statement));
+
+			return maybeCallBeforeSave(entityToUse, tableName, statement).flatMap(entityToSave -> {
+
+				ReactivePreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+
+				return getReactiveCqlOperations()
+						.query(statementHandler, statementHandler, StatementCallback::toWriteResult).next()
+						.<Object> handle((result, sink) -> {
+
+							if (source.isVersionedEntity() && !result.wasApplied()) {
+
+								sink.error(new OptimisticLockingFailureException(
+										String.format("Cannot insert entity %s with version %s into table %s as it already exists",
+												entityToSave, source.getVersion(), tableName)));
+
+								return;
+							}
+
+							maybeEmitEvent(new AfterSaveEvent<>(entityToSave, tableName));
+							sink.next(entityToSave);
+						});
+			});
+		});
+	}
+
 	<T> Mono<EntityWriteResult<T>> doInsert(T entity, WriteOptions options, CqlIdentifier tableName) {
 
 		return maybeCallBeforeConvert(entity, tableName).flatMap(entityToInsert -> {
@@ -579,10 +872,10 @@ public class ReactiveCassandraTemplate
 
 			if (source.isVersionedEntity()) {
 				builder.apply(Insert::ifNotExists);
-				return doInsertVersioned(builder.build(), entityToUse, source, tableName);
+				return doInsertVersioned(builder.build(getParameterHandling()), entityToUse, source, tableName);
 			}
 
-			return doInsert(builder.build(), entityToUse, tableName);
+			return doInsert(builder.build(getParameterHandling()), entityToUse, tableName);
 		});
 	}
 
@@ -644,7 +937,7 @@ public class ReactiveCassandraTemplate
 		T toSave = source.incrementVersion();
 
 		StatementBuilder<Update> builder = getStatementFactory().update(toSave, options, persistentEntity, tableName);
-		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build();
+		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build(getParameterHandling());
 
 		return executeSave(toSave, tableName, update, (result, sink) -> {
 
@@ -666,7 +959,7 @@ public class ReactiveCassandraTemplate
 
 		StatementBuilder<Update> builder = getStatementFactory().update(entity, options, persistentEntity, tableName);
 
-		return executeSave(entity, tableName, builder.build());
+		return executeSave(entity, tableName, builder.build(getParameterHandling()));
 	}
 
 	/* (non-Javadoc)
@@ -693,8 +986,9 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Delete> builder = getStatementFactory().delete(entity, options, getConverter(), tableName);
 
 		return source.isVersionedEntity()
-				? doDeleteVersioned(source.appendVersionCondition(builder).build(), entity, source, tableName)
-				: doDelete(builder.build(), entity, tableName);
+				? doDeleteVersioned(source.appendVersionCondition(builder).build(getParameterHandling()), entity, source,
+						tableName)
+				: doDelete(builder.build(getParameterHandling()), entity, tableName);
 	}
 
 	private Mono<WriteResult> doDeleteVersioned(SimpleStatement delete, Object entity, AdaptibleEntity<Object> source,
@@ -732,9 +1026,9 @@ public class ReactiveCassandraTemplate
 		CqlIdentifier tableName = entity.getTableName();
 
 		StatementBuilder<Delete> builder = getStatementFactory().deleteById(id, entity, tableName);
-		SimpleStatement delete = builder.build();
+		SimpleStatement delete = builder.build(getParameterHandling());
 
-		Mono<Boolean> result = getReactiveCqlOperations().execute(delete)
+		Mono<Boolean> result = doQueryForResultSet(delete).map(ReactiveResultSet::wasApplied)
 				.doOnSubscribe(it -> maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName)));
 
 		return result.doOnNext(it -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)));
@@ -810,7 +1104,7 @@ public class ReactiveCassandraTemplate
 			maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
 
 			return maybeCallBeforeSave(entity, tableName, statement).flatMapMany(entityToSave -> {
-				Flux<WriteResult> execute = getReactiveCqlOperations().execute(new StatementCallback(statement));
+				Flux<WriteResult> execute = doExecute(statement);
 
 				return execute.map(it -> EntityWriteResult.of(it, entityToSave)).handle(handler) //
 						.doOnNext(it -> maybeEmitEvent(new AfterSaveEvent<>(entityToSave, tableName)));
@@ -824,7 +1118,7 @@ public class ReactiveCassandraTemplate
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
-		Flux<WriteResult> execute = getReactiveCqlOperations().execute(new StatementCallback(statement));
+		Flux<WriteResult> execute = doExecute(statement);
 
 		return execute.map(it -> EntityWriteResult.of(it, entity)).handle(handler) //
 				.doOnSubscribe(it -> maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement))) //
@@ -832,6 +1126,85 @@ public class ReactiveCassandraTemplate
 				.next();
 	}
 
+	private ParameterHandling getParameterHandling() {
+		return PreparedStatementDelegate.getParameterHandling(isUsePreparedStatements());
+	}
+
+	private <T> Flux<T> doQuery(Statement<?> statement, RowMapper<T> rowMapper) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			ReactivePreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getReactiveCqlOperations().query(statementHandler, statementHandler, rowMapper);
+		}
+
+		return getReactiveCqlOperations().query(statement, rowMapper);
+	}
+
+	private Flux<Row> doQueryForRows(Statement<?> statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			ReactivePreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getReactiveCqlOperations().query(statementHandler, statementHandler, (row, rowNum) -> row);
+		}
+
+		return getReactiveCqlOperations().queryForRows(statement);
+	}
+
+	private Mono<ReactiveResultSet> doQueryForResultSet(Statement<?> statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			ReactivePreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getReactiveCqlOperations()
+					.query(statementHandler, statementHandler, (ReactiveResultSetExtractor<ReactiveResultSet>) Mono::just)
+					.next();
+		}
+
+		return getReactiveCqlOperations().queryForResultSet(statement);
+	}
+
+	private <T> Mono<T> doQueryForObject(Statement<?> statement, Class<T> requiredType) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			ReactivePreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getReactiveCqlOperations()
+					.query(statementHandler, statementHandler, new SingleColumnRowMapper<>(requiredType)) //
+					.buffer(2) //
+					.flatMap(list -> Mono.just(DataAccessUtils.requiredSingleResult(list))) //
+					.next();
+		}
+
+		return getReactiveCqlOperations().queryForObject(statement, requiredType);
+	}
+
+	private Flux<WriteResult> doExecute(SimpleStatement statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement)) {
+
+			ReactivePreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+			return getReactiveCqlOperations().query(statementHandler, statementHandler,
+					StatementCallback::toWriteResult);
+		}
+
+		return getReactiveCqlOperations().execute(new StatementCallback(statement));
+	}
+
+	private CqlExceptionTranslator getExceptionTranslator() {
+
+		ReactiveCqlOperations cqlOperations = getReactiveCqlOperations();
+
+		return cqlOperations instanceof ReactiveCassandraAccessor
+				? ((ReactiveCassandraAccessor) cqlOperations).getExceptionTranslator()
+				: new CassandraExceptionTranslator();
+	}
+
+	private ReactivePreparedStatementHandler createPreparedStatementHandler(Statement<?> statement) {
+		return new ReactivePreparedStatementHandler(getPreparedStatementCache(), (SimpleStatement) statement);
+	}
+
 	private int getConfiguredPageSize(DriverContext context) {
 		return context.getConfig().getDefaultProfile().getInt(DefaultDriverOption.REQUEST_PAGE_SIZE, 5000);
 	}
@@ -858,16 +1231,27 @@ public class ReactiveCassandraTemplate
 	private <T> Function<Row, T> getMapper(Class<?> entityType, Class<T> targetType, CqlIdentifier tableName) {
 
 		Class<?> typeToRead = resolveTypeToRead(entityType, targetType);
+		Function<Row, T> projectionReader = getProjectionReader(entityType, targetType);
+		boolean emitAfterLoad = this.eventDelegate.isPublishing(AfterLoadEvent.class);
+		boolean emitAfterConvert = this.eventDelegate.isPublishing(AfterConvertEvent.class);
 
 		return row -> {
 
-			maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
+			if (emitAfterLoad) {
+				maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
+			}
+
+			T result;
 
-			Object source = getConverter().read(typeToRead, row);
+			if (projectionReader != null) {
+				result = projectionReader.apply(row);
+			} else {
 
-			T result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+				Object source = getConverter().read(typeToRead, row);
+				result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+			}
 
-			if (result != null) {
+			if (emitAfterConvert && result != null) {
 				maybeEmitEvent(new AfterConvertEvent<>(row, result, tableName));
 			}
 
@@ -875,6 +1259,17 @@ public class ReactiveCassandraTemplate
 		};
 	}
 
+	@Nullable
+	private <T> Function<Row, T> getProjectionReader(Class<?> entityType, Class<T> targetType) {
+
+		if (!targetType.isInterface() || !(getConverter() instanceof MappingCassandraConverter)) {
+			return null;
+		}
+
+		return ((MappingCassandraConverter) getConverter()).getProjectionReader(entityType, targetType,
+				getProjectionFactory());
+	}
+
 	private Class<?> resolveTypeToRead(Class<?> entityType, Class<?> targetType) {
 		return targetType.isInterface() || targetType.isAssignableFrom(entityType) ? entityType : targetType;
 	}
@@ -889,10 +1284,7 @@ public class ReactiveCassandraTemplate
 	}
 
 	protected <E extends CassandraMappingEvent<T>, T> void maybeEmitEvent(E event) {
-
-		if (this.eventPublisher != null) {
-			this.eventPublisher.publishEvent(event);
-		}
+		this.eventDelegate.publishEvent(event);
 	}
 
 	protected <T> Mono<T> maybeCallBeforeConvert(T object, CqlIdentifier tableName) {
@@ -913,6 +1305,53 @@ public class ReactiveCassandraTemplate
 		return Mono.just(object);
 	}
 
+	/**
+	 * Prepares a {@link SimpleStatement} through the {@link ReactivePreparedStatementCache} and binds its positional
+	 * values.
+	 *
+	 * @since 3.1
+	 */
+	static class ReactivePreparedStatementHandler
+			implements ReactivePreparedStatementCreator, PreparedStatementBinder, CqlProvider {
+
+		private final ReactivePreparedStatementCache cache;
+
+		private final SimpleStatement statement;
+
+		ReactivePreparedStatementHandler(ReactivePreparedStatementCache cache, SimpleStatement statement) {
+			this.cache = cache;
+			this.statement = statement;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.ReactivePreparedStatementCreator#createPreparedStatement(org.springframework.data.cassandra.ReactiveSession)
+		 */
+		@Override
+		public Mono<PreparedStatement> createPreparedStatement(ReactiveSession session) throws DriverException {
+			return this.cache.getPreparedStatement(session,
+					PreparedStatementDelegate.getStatementForPreparation(this.statement));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.PreparedStatementBinder#bindValues(com.datastax.oss.driver.api.core.cql.PreparedStatement)
+		 */
+		@Override
+		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+			return PreparedStatementDelegate.bind(this.statement, ps);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.CqlProvider#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return this.statement.getQuery();
+		}
+	}
+
 	static class StatementCallback implements ReactiveSessionCallback<WriteResult>, CqlProvider {
 
 		private final SimpleStatement statement;
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.data.cassandra.core.WriteCoalescer.PendingWrite;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.BatchType;
+
+/**
+ * Reactive writer that coalesces single-entity inserts into unlogged batches per partition. Inserts are buffered for up
+ * to {@link CoalescingOptions#getFlushInterval()} or until {@link CoalescingOptions#getBufferSize()} inserts are
+ * buffered. Buffered entities are grouped by partition and written through
+ * {@link ReactiveCassandraOperations#batchOps()} with up to {@link CoalescingOptions#getConcurrency()} batches in
+ * flight. The {@link Mono} returned for each insert completes once the batch containing the entity was written.
+ * <p>
+ * Coalesced inserts are batch inserts: entity callbacks and lifecycle events are not invoked and versioned entities are
+ * not supported. Once {@link CoalescingOptions#getMaxPendingWrites()} inserts are pending, further inserts wait for
+ * pending inserts to complete before they are buffered. {@link #dispose() Disposing} the writer flushes buffered
+ * inserts. Inserts that are not buffered before disposing the writer fail.
+ *
+ * @since 3.1
+ * @see CoalescingOptions
+ * @see CoalescingWriter
+ */
+public class ReactiveCoalescingWriter implements Disposable {
+
+	private final AtomicBoolean disposed = new AtomicBoolean();
+
+	private final ReactiveCassandraOperations operations;
+
+	private final CoalescingOptions options;
+
+	private final Scheduler scheduler;
+
+	private final WriteCoalescer coalescer;
+
+	private final Object permitLock = new Object();
+
+	private final Deque<PendingInsert<?>> awaitingPermit = new ArrayDeque<>();
+
+	private int availablePermits;
+
+	/**
+	 * Create a new {@link ReactiveCoalescingWriter} using {@link CoalescingOptions#empty() default options}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public ReactiveCoalescingWriter(ReactiveCassandraOperations operations) {
+		this(operations, CoalescingOptions.empty());
+	}
+
+	/**
+	 * Create a new {@link ReactiveCoalescingWriter} that schedules flushes on {@link Schedulers#parallel()}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 */
+	public ReactiveCoalescingWriter(ReactiveCassandraOperations operations, CoalescingOptions options) {
+		this(operations, options, Schedulers.parallel());
+	}
+
+	/**
+	 * Create a new {@link ReactiveCoalescingWriter} that schedules flushes on the given {@link Scheduler}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 */
+	public ReactiveCoalescingWriter(ReactiveCassandraOperations operations, CoalescingOptions options,
+			Scheduler scheduler) {
+
+		Assert.notNull(operations, "ReactiveCassandraOperations must not be null");
+		Assert.notNull(options, "CoalescingOptions must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.operations = operations;
+		this.options = options;
+		this.scheduler = scheduler;
+		this.availablePermits = options.getMaxPendingWrites();
+		this.coalescer = new WriteCoalescer(operations.getConverter(), options) {
+
+			@Override
+			void scheduleFlush(Duration delay) {
+				ReactiveCoalescingWriter.this.scheduler.schedule(this::flush, delay.toNanos(), TimeUnit.NANOSECONDS);
+			}
+
+			@Override
+			void write(List<List<PendingWrite>> groups) {
+				Flux.fromIterable(groups).flatMap(ReactiveCoalescingWriter.this::writeGroup,
+						ReactiveCoalescingWriter.this.options.getConcurrency()).subscribe();
+			}
+		};
+	}
+
+	/**
+	 * Insert the given entity. The entity is buffered upon subscription and written along with other entities of the
+	 * same partition.
+	 *
+	 * @param entity the entity to insert, must not be {@literal null}.
+	 * @return a {@link Mono} emitting the inserted entity once it was written. Terminates with
+	 *         {@link IllegalArgumentException} if the entity is versioned and with {@link IllegalStateException} if the
+	 *         writer was disposed.
+	 */
+	public <T> Mono<T> insert(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return Mono.create(sink -> {
+
+			if (isDisposed()) {
+				sink.error(new IllegalStateException("ReactiveCoalescingWriter was disposed"));
+				return;
+			}
+
+			PendingInsert<T> insert = new PendingInsert<>(entity, sink);
+			sink.onCancel(insert::cancel);
+
+			acquire(insert);
+		});
+	}
+
+	/**
+	 * Write all buffered entities without awaiting the flush interval.
+	 */
+	public void flush() {
+		this.coalescer.flush();
+	}
+
+	/**
+	 * Flush buffered entities and stop accepting inserts.
+	 */
+	@Override
+	public void dispose() {
+
+		if (this.disposed.compareAndSet(false, true)) {
+			this.coalescer.close();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see reactor.core.Disposable#isDisposed()
+	 */
+	@Override
+	public boolean isDisposed() {
+		return this.disposed.get();
+	}
+
+	private void acquire(PendingInsert<?> insert) {
+
+		synchronized (this.permitLock) {
+
+			if (this.availablePermits == 0) {
+				this.awaitingPermit.add(insert);
+				return;
+			}
+
+			this.availablePermits--;
+		}
+
+		insert.run();
+	}
+
+	private void release() {
+
+		PendingInsert<?> next;
+
+		synchronized (this.permitLock) {
+
+			next = this.awaitingPermit.poll();
+
+			if (next == null) {
+				this.availablePermits++;
+				return;
+			}
+		}
+
+		// hand over the permit without growing the stack of the completing write
+		this.scheduler.schedule(next);
+	}
+
+	private Mono<Void> writeGroup(List<PendingWrite> group) {
+
+		return Mono.defer(() -> this.operations.batchOps().withBatchType(BatchType.UNLOGGED)
+				.insert(WriteCoalescer.getEntities(group), this.options.getInsertOptions()).execute())
+				.doOnSuccess(result -> group.forEach(PendingWrite::succeeded))
+				.doOnError(e -> group.forEach(write -> write.failed(e)))
+				.onErrorResume(e -> Mono.empty())
+				.then();
+	}
+
+	/**
+	 * An insert holding a permit while it is pending.
+	 */
+	private class PendingInsert<T> implements Runnable, WriteCoalescer.Completion {
+
+		private final T entity;
+
+		private final MonoSink<T> sink;
+
+		private volatile boolean cancelled;
+
+		PendingInsert(T entity, MonoSink<T> sink) {
+			this.entity = entity;
+			this.sink = sink;
+		}
+
+		void cancel() {
+			this.cancelled = true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+
+			if (this.cancelled) {
+				release();
+				return;
+			}
+
+			try {
+				ReactiveCoalescingWriter.this.coalescer.enqueue(this.entity, this);
+			} catch (RuntimeException e) {
+				failed(e);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.WriteCoalescer.Completion#succeeded()
+		 */
+		@Override
+		public void succeeded() {
+
+			release();
+			this.sink.success(this.entity);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.WriteCoalescer.Completion#failed(java.lang.Throwable)
+		 */
+		@Override
+		public void failed(Throwable e) {
+
+			release();
+			this.sink.error(e);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Checkpoint of a completed token range during a {@link CassandraOperations#scanAll(Class, ScanOptions) token range
+ * scan}. A checkpoint describes the token range {@code (start, end]} using the textual token representation of the
+ * partitioner so that it can be persisted and used to {@link ScanOptions.ScanOptionsBuilder#resumeFrom(Iterable)
+ * resume} a scan. A {@literal null} start or end denotes a range that is not bounded on that side.
+ *
+ * @since 3.1
+ * @see ScanOptions
+ * @see com.datastax.oss.driver.api.core.metadata.TokenMap#format(com.datastax.oss.driver.api.core.metadata.token.Token)
+ */
+public final class ScanCheckpoint {
+
+	private final @Nullable String start;
+
+	private final @Nullable String end;
+
+	private ScanCheckpoint(@Nullable String start, @Nullable String end) {
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * Create a new {@link ScanCheckpoint} for the token range {@code (start, end]}.
+	 *
+	 * @param start the formatted start token (exclusive), can be {@literal null} if the range is not bounded.
+	 * @param end the formatted end token (inclusive), can be {@literal null} if the range is not bounded.
+	 * @return the {@link ScanCheckpoint} for the given range.
+	 */
+	public static ScanCheckpoint of(@Nullable String start, @Nullable String end) {
+		return new ScanCheckpoint(start, end);
+	}
+
+	/**
+	 * @return the formatted start token (exclusive), or {@literal null} if the range is not bounded.
+	 */
+	@Nullable
+	public String getStart() {
+		return this.start;
+	}
+
+	/**
+	 * @return the formatted end token (inclusive), or {@literal null} if the range is not bounded.
+	 */
+	@Nullable
+	public String getEnd() {
+		return this.end;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof ScanCheckpoint)) {
+			return false;
+		}
+
+		ScanCheckpoint that = (ScanCheckpoint) o;
+
+		return ObjectUtils.nullSafeEquals(this.start, that.start) && ObjectUtils.nullSafeEquals(this.end, that.end);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = ObjectUtils.nullSafeHashCode(this.start);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(this.end);
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("(%s, %s]", this.start != null ? this.start : "", this.end != null ? this.end : "");
+	}
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.cassandra.core.cql.ExecutionProfileResolver;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Extension to {@link QueryOptions} for full table scans using token ranges. A scan splits the token ring into
+ * sub-ranges and queries up to {@link #getConcurrency() concurrency} ranges in parallel. Completed ranges are reported
+ * as {@link ScanCheckpoint} to the {@link #getCheckpointListener() checkpoint listener}. Checkpoints of a previous scan
+ * can be used to {@link ScanOptionsBuilder#resumeFrom(Iterable) resume} that scan by skipping completed ranges.
+ *
+ * @since 3.1
+ * @see CassandraOperations#scanAll(Class, ScanOptions)
+ */
+public class ScanOptions extends QueryOptions {
+
+	/**
+	 * Default number of token ranges that are scanned in parallel.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 4;
+
+	private static final Consumer<ScanCheckpoint> NO_OP = checkpoint -> {};
+
+	private static final ScanOptions EMPTY = new ScanOptionsBuilder().build();
+
+	private final int concurrency;
+
+	private final int splitsPerRange;
+
+	private final Consumer<ScanCheckpoint> checkpointListener;
+
+	private final Set<ScanCheckpoint> completedRanges;
+
+	private ScanOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, @Nullable Boolean tracing, int concurrency,
+			int splitsPerRange, Consumer<ScanCheckpoint> checkpointListener, Set<ScanCheckpoint> completedRanges) {
+
+		super(consistencyLevel, executionProfileResolver, idempotent, keyspace, pageSize, serialConsistencyLevel, timeout,
+				tracing);
+
+		this.concurrency = concurrency;
+		this.splitsPerRange = splitsPerRange;
+		this.checkpointListener = checkpointListener;
+		this.completedRanges = completedRanges;
+	}
+
+	/**
+	 * Create a new {@link ScanOptionsBuilder}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder}.
+	 */
+	public static ScanOptionsBuilder builder() {
+		return new ScanOptionsBuilder();
+	}
+
+	/**
+	 * Create a new {@link ScanOptionsBuilder} initialized with the given {@link QueryOptions}.
+	 *
+	 * @param queryOptions the query options to apply to the scan.
+	 * @return a new {@link ScanOptionsBuilder}.
+	 */
+	static ScanOptionsBuilder builder(QueryOptions queryOptions) {
+		return new ScanOptionsBuilder(queryOptions);
+	}
+
+	/**
+	 * Create default {@link ScanOptions}.
+	 *
+	 * @return default {@link ScanOptions}.
+	 */
+	public static ScanOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link ScanOptionsBuilder} to mutate properties of this {@link ScanOptions}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder} initialized with this {@link ScanOptions}.
+	 */
+	@Override
+	public ScanOptionsBuilder mutate() {
+		return new ScanOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum number of token ranges that are scanned in parallel.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return the number of sub-ranges each token range of the cluster is split into.
+	 */
+	public int getSplitsPerRange() {
+		return this.splitsPerRange;
+	}
+
+	/**
+	 * @return the listener notified with a {@link ScanCheckpoint} for each completed token range.
+	 */
+	public Consumer<ScanCheckpoint> getCheckpointListener() {
+		return this.checkpointListener;
+	}
+
+	/**
+	 * @return the token ranges that are already completed and skipped by the scan.
+	 */
+	public Set<ScanCheckpoint> getCompletedRanges() {
+		return this.completedRanges;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof ScanOptions)) {
+			return false;
+		}
+
+		if (!super.equals(o)) {
+			return false;
+		}
+
+		ScanOptions that = (ScanOptions) o;
+
+		if (concurrency != that.concurrency) {
+			return false;
+		}
+
+		if (splitsPerRange != that.splitsPerRange) {
+			return false;
+		}
+
+		if (!ObjectUtils.nullSafeEquals(checkpointListener, that.checkpointListener)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(completedRanges, that.completedRanges);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		result = 31 * result + concurrency;
+		result = 31 * result + splitsPerRange;
+		result = 31 * result + ObjectUtils.nullSafeHashCode(checkpointListener);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(completedRanges);
+		return result;
+	}
+
+	/**
+	 * Builder for {@link ScanOptions}.
+	 *
+	 * @since 3.1
+	 */
+	public static class ScanOptionsBuilder extends QueryOptionsBuilder {
+
+		private int concurrency = DEFAULT_CONCURRENCY;
+
+		private int splitsPerRange = 1;
+
+		private Consumer<ScanCheckpoint> checkpointListener = NO_OP;
+
+		private Set<ScanCheckpoint> completedRanges = Collections.emptySet();
+
+		private ScanOptionsBuilder() {}
+
+		private ScanOptionsBuilder(QueryOptions queryOptions) {
+			super(queryOptions);
+		}
+
+		private ScanOptionsBuilder(ScanOptions scanOptions) {
+
+			super(scanOptions);
+
+			this.concurrency = scanOptions.concurrency;
+			this.splitsPerRange = scanOptions.splitsPerRange;
+			this.checkpointListener = scanOptions.checkpointListener;
+			this.completedRanges = scanOptions.completedRanges;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#consistencyLevel(com.datastax.oss.driver.api.core.ConsistencyLevel)
+		 */
+		@Override
+		public ScanOptionsBuilder consistencyLevel(ConsistencyLevel consistencyLevel) {
+
+			super.consistencyLevel(consistencyLevel);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#executionProfile(String)
+		 */
+		@Override
+		public ScanOptionsBuilder executionProfile(String profileName) {
+			super.executionProfile(profileName);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#executionProfile(org.springframework.data.cassandra.core.cql.ExecutionProfileResolver)
+		 */
+		@Override
+		public ScanOptionsBuilder executionProfile(ExecutionProfileResolver executionProfileResolver) {
+			super.executionProfile(executionProfileResolver);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public ScanOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#keyspace(com.datastax.oss.driver.api.core.CqlIdentifier)
+		 */
+		@Override
+		public ScanOptionsBuilder keyspace(CqlIdentifier keyspace) {
+
+			super.keyspace(keyspace);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#pageSize(int)
+		 */
+		@Override
+		public ScanOptionsBuilder pageSize(int pageSize) {
+
+			super.pageSize(pageSize);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#serialConsistencyLevel(com.datastax.oss.driver.api.core.ConsistencyLevel)
+		 */
+		@Override
+		public ScanOptionsBuilder serialConsistencyLevel(ConsistencyLevel consistencyLevel) {
+
+			super.serialConsistencyLevel(consistencyLevel);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#timeout(java.time.Duration)
+		 */
+		@Override
+		public ScanOptionsBuilder timeout(Duration timeout) {
+
+			super.timeout(timeout);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#tracing(boolean)
+		 */
+		@Override
+		public ScanOptionsBuilder tracing(boolean tracing) {
+
+			super.tracing(tracing);
+			return this;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#withTracing()
+		 */
+		@Override
+		public ScanOptionsBuilder withTracing() {
+
+			super.withTracing();
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of token ranges to scan in parallel.
+		 *
+		 * @param concurrency the number of concurrently scanned ranges, must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of sub-ranges each token range of the cluster is split into. Splitting produces smaller ranges
+		 * and therefore more fine-grained checkpoints.
+		 *
+		 * @param splitsPerRange the number of splits per token range, must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder splitsPerRange(int splitsPerRange) {
+
+			Assert.isTrue(splitsPerRange > 0, "Splits per range must be greater than zero");
+
+			this.splitsPerRange = splitsPerRange;
+
+			return this;
+		}
+
+		/**
+		 * Sets the listener to notify with a {@link ScanCheckpoint} once all rows of a token range were emitted. The
+		 * listener may be called from different threads.
+		 *
+		 * @param checkpointListener must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder checkpointListener(Consumer<ScanCheckpoint> checkpointListener) {
+
+			Assert.notNull(checkpointListener, "Checkpoint listener must not be null");
+
+			this.checkpointListener = checkpointListener;
+
+			return this;
+		}
+
+		/**
+		 * Resume a scan by skipping token ranges that were reported as completed. Ranges are matched by their exact
+		 * bounds, so resuming requires the same {@link #splitsPerRange(int) splits} and cluster topology. Ranges that do
+		 * not match any checkpoint are scanned again.
+		 *
+		 * @param completedRanges checkpoints of completed ranges, must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder resumeFrom(Iterable<ScanCheckpoint> completedRanges) {
+
+			Assert.notNull(completedRanges, "Completed ranges must not be null");
+
+			Set<ScanCheckpoint> checkpoints = new LinkedHashSet<>();
+			completedRanges.forEach(checkpoints::add);
+
+			this.completedRanges = Collections.unmodifiableSet(checkpoints);
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link ScanOptions} with the configured values.
+		 *
+		 * @return a new {@link ScanOptions} with the configured values
+		 */
+		public ScanOptions build() {
+			return new ScanOptions(this.consistencyLevel, this.executionProfileResolver, this.idempotent, this.keyspace,
+					this.pageSize, this.serialConsistencyLevel, this.timeout, this.tracing, this.concurrency, this.splitsPerRange,
+					this.checkpointListener, this.completedRanges);
+		}
+	}
+}
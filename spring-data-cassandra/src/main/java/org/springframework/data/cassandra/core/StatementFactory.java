@@ -16,17 +16,22 @@
 package org.springframework.data.cassandra.core;
 
 import java.beans.PropertyDescriptor;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
@@ -35,8 +40,10 @@ import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
+import org.springframework.data.cassandra.core.cql.util.StatementShapeCache;
 import org.springframework.data.cassandra.core.cql.util.TermFactory;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Columns.ColumnSelector;
 import org.springframework.data.cassandra.core.query.Columns.FunctionCall;
@@ -68,7 +75,12 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.querybuilder.BindMarker;
+import com.datastax.oss.driver.api.querybuilder.BuildableQuery;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.condition.Condition;
 import com.datastax.oss.driver.api.querybuilder.condition.ConditionBuilder;
@@ -106,6 +118,10 @@ public class StatementFactory {
 
 	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
+	private final StatementShapeCache shapeCache = new StatementShapeCache();
+
+	private final Map<CassandraPersistentEntity<?>, List<CqlIdentifier>> partitionKeyColumns = new ConcurrentHashMap<>();
+
 	/**
 	 * Create {@link StatementFactory} given {@link CassandraConverter}.
 	 *
@@ -209,6 +225,8 @@ public class StatementFactory {
 	 * @param persistentEntity must not be {@literal null}.
 	 * @param tableName must not be {@literal null}.
 	 * @return the select builder.
+	 * @throws InvalidDataAccessApiUsageException if {@code id} does not map to any primary key column, such as an empty
+	 *           {@link org.springframework.data.cassandra.core.mapping.MapId}.
 	 */
 	StatementBuilder<Select> selectOneById(Object id, CassandraPersistentEntity<?> persistentEntity,
 			CqlIdentifier tableName) {
@@ -217,8 +235,17 @@ public class StatementFactory {
 
 		cassandraConverter.write(id, where, persistentEntity);
 
-		return StatementBuilder.of(QueryBuilder.selectFrom(tableName).all().limit(1))
-				.bind((statement, factory) -> statement.where(toRelations(where, factory)));
+		if (where.isEmpty()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Cannot select [%s] by id [%s] without primary key values", persistentEntity.getName(), id));
+		}
+
+		StatementBuilder<Select> builder = StatementBuilder.of(QueryBuilder.selectFrom(tableName).all().limit(1))
+				.bind((statement, factory) -> statement.where(toRelations(where, factory)))
+				.shape(Arrays.asList("SELECT_ONE_BY_ID", tableName, new ArrayList<>(where.keySet())), this.shapeCache,
+						() -> new ArrayList<>(where.values()));
+
+		return setRoutingKey(builder, persistentEntity, where);
 	}
 
 	/**
@@ -306,17 +333,35 @@ public class StatementFactory {
 		Map<CqlIdentifier, Object> object = new LinkedHashMap<>();
 		cassandraConverter.write(objectToInsert, object, persistentEntity);
 
+		List<CqlIdentifier> columns = new ArrayList<>(object.size());
+		List<Object> values = new ArrayList<>(object.size());
+
+		object.forEach((cqlIdentifier, o) -> {
+
+			if (o != null || insertNulls) {
+				columns.add(cqlIdentifier);
+				values.add(o);
+			}
+		});
+
 		StatementBuilder<RegularInsert> builder = StatementBuilder
 				.of(QueryBuilder.insertInto(tableName).valuesByIds(Collections.emptyMap())).bind((statement, factory) -> {
 
-					Map<CqlIdentifier, Term> values = createTerms(insertNulls, object, factory);
+					Map<CqlIdentifier, Term> terms = createTerms(insertNulls, object, factory);
 
-					return statement.valuesByIds(values);
-				}).apply(statement -> (RegularInsert) addWriteOptions(statement, options));
+					return (RegularInsert) addWriteOptions(statement.valuesByIds(terms), options, factory);
+				}).shape(Arrays.asList("INSERT", tableName, columns, isIfNotExists(options), options.getTimestamp() != null,
+						getInsertTtl(options) != null), this.shapeCache, () -> {
+
+							List<Object> valuesToBind = new ArrayList<>(values);
+							valuesToBind.addAll(getWriteOptionValues(options.getTimestamp(), getInsertTtl(options)));
+
+							return valuesToBind;
+						});
 
 		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
 
-		return builder;
+		return setRoutingKey(builder, persistentEntity, object);
 	}
 
 	private static Map<CqlIdentifier, Term> createTerms(boolean insertNulls, Map<CqlIdentifier, Object> object,
@@ -373,20 +418,32 @@ public class StatementFactory {
 
 		Update mappedUpdate = getUpdateMapper().getMappedObject(update, persistentEntity);
 
+		WriteOptions writeOptions = query.getQueryOptions().filter(WriteOptions.class::isInstance)
+				.map(WriteOptions.class::cast).orElse(null);
+
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> builder = update(tableName, mappedUpdate,
-				filter);
+				filter, writeOptions);
 
-		query.getQueryOptions().filter(UpdateOptions.class::isInstance).map(UpdateOptions.class::cast)
-				.map(UpdateOptions::getIfCondition)
-				.ifPresent(criteriaDefinitions -> applyUpdateIfCondition(builder, criteriaDefinitions));
+		Filter ifCondition = query.getQueryOptions().filter(UpdateOptions.class::isInstance)
+				.map(UpdateOptions.class::cast).map(UpdateOptions::getIfCondition).orElse(null);
 
-		query.getQueryOptions().filter(WriteOptions.class::isInstance).map(WriteOptions.class::cast)
-				.ifPresent(writeOptions -> builder.apply(statement -> addWriteOptions(statement, writeOptions)));
+		if (ifCondition != null) {
+			applyUpdateIfCondition(builder, ifCondition);
+		}
+
+		List<Object> filterShape = getShape(filter);
+		List<Object> conditionShape = ifCondition != null ? getShape(ifCondition) : Collections.emptyList();
+
+		if (filterShape != null && conditionShape != null) {
+			builder.shape(Arrays.asList("UPDATE_QUERY", tableName, getShape(mappedUpdate), filterShape, conditionShape,
+					isIfExists(writeOptions), writeOptions != null && writeOptions.getTimestamp() != null,
+					writeOptions != null && getUpdateTtl(writeOptions) != null), this.shapeCache);
+		}
 
 		query.getQueryOptions().ifPresent(
 				options -> builder.transform(statementBuilder -> QueryOptionsUtil.addQueryOptions(statementBuilder, options)));
 
-		return builder;
+		return setRoutingKey(builder, persistentEntity, filter);
 	}
 
 	/**
@@ -437,9 +494,19 @@ public class StatementFactory {
 
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> builder = StatementBuilder
 				.of(QueryBuilder.update(tableName).set().where())
-				.bind((statement, factory) -> ((UpdateWithAssignments) statement).set(toAssignments(object, factory))
-						.where(toRelations(where, factory)))
-				.apply(update -> addWriteOptions(update, options));
+				.bind((statement, factory) -> ((UpdateWithAssignments) addWriteOptions(statement, options, factory))
+						.set(toAssignments(object, factory)).where(toRelations(where, factory)))
+				.shape(Arrays.asList("UPDATE", tableName, new ArrayList<>(object.keySet()), new ArrayList<>(where.keySet()),
+						isIfExists(options), options.getTimestamp() != null, getUpdateTtl(options) != null), this.shapeCache,
+						() -> {
+
+							List<Object> values = new ArrayList<>(object.size() + where.size() + 2);
+							values.addAll(getWriteOptionValues(options.getTimestamp(), getUpdateTtl(options)));
+							values.addAll(object.values());
+							values.addAll(where.values());
+
+							return values;
+						});
 
 		Optional.of(options).filter(UpdateOptions.class::isInstance).map(UpdateOptions.class::cast)
 				.map(UpdateOptions::getIfCondition)
@@ -447,7 +514,7 @@ public class StatementFactory {
 
 		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
 
-		return builder;
+		return setRoutingKey(builder, entity, where);
 	}
 
 	/**
@@ -466,8 +533,12 @@ public class StatementFactory {
 
 		cassandraConverter.write(id, where, persistentEntity);
 
-		return StatementBuilder.of(QueryBuilder.deleteFrom(tableName).where())
-				.bind((statement, factory) -> statement.where(toRelations(where, factory)));
+		StatementBuilder<Delete> builder = StatementBuilder.of(QueryBuilder.deleteFrom(tableName).where())
+				.bind((statement, factory) -> statement.where(toRelations(where, factory)))
+				.shape(Arrays.asList("DELETE_BY_ID", tableName, new ArrayList<>(where.keySet())), this.shapeCache,
+						() -> new ArrayList<>(where.values()));
+
+		return setRoutingKey(builder, persistentEntity, where);
 	}
 
 	/**
@@ -504,19 +575,30 @@ public class StatementFactory {
 		Filter filter = getQueryMapper().getMappedObject(query, persistentEntity);
 		List<CqlIdentifier> columnNames = getQueryMapper().getMappedColumnNames(query.getColumns(), persistentEntity);
 
-		StatementBuilder<Delete> builder = delete(columnNames, tableName, filter);
+		WriteOptions writeOptions = query.getQueryOptions().filter(WriteOptions.class::isInstance)
+				.map(WriteOptions.class::cast).orElse(null);
 
-		query.getQueryOptions().filter(DeleteOptions.class::isInstance).map(DeleteOptions.class::cast)
-				.map(DeleteOptions::getIfCondition)
-				.ifPresent(criteriaDefinitions -> applyDeleteIfCondition(builder, criteriaDefinitions));
+		StatementBuilder<Delete> builder = delete(columnNames, tableName, filter, writeOptions);
+
+		Filter ifCondition = query.getQueryOptions().filter(DeleteOptions.class::isInstance)
+				.map(DeleteOptions.class::cast).map(DeleteOptions::getIfCondition).orElse(null);
 
-		query.getQueryOptions().filter(WriteOptions.class::isInstance).map(WriteOptions.class::cast)
-				.ifPresent(writeOptions -> builder.apply(statement -> addWriteOptions(statement, writeOptions)));
+		if (ifCondition != null) {
+			applyDeleteIfCondition(builder, ifCondition);
+		}
+
+		List<Object> filterShape = getShape(filter);
+		List<Object> conditionShape = ifCondition != null ? getShape(ifCondition) : Collections.emptyList();
+
+		if (filterShape != null && conditionShape != null) {
+			builder.shape(Arrays.asList("DELETE_QUERY", tableName, columnNames, filterShape, conditionShape,
+					isIfExists(writeOptions), writeOptions != null && writeOptions.getTimestamp() != null), this.shapeCache);
+		}
 
 		query.getQueryOptions()
 				.ifPresent(options -> builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options)));
 
-		return builder;
+		return setRoutingKey(builder, persistentEntity, filter);
 	}
 
 	/**
@@ -539,11 +621,25 @@ public class StatementFactory {
 		Where where = new Where();
 		entityWriter.write(entity, where);
 
+		WriteOptions writeOptions = options instanceof WriteOptions ? (WriteOptions) options : null;
+		Long timestamp = writeOptions != null ? writeOptions.getTimestamp() : null;
+
 		StatementBuilder<Delete> builder = StatementBuilder.of(QueryBuilder.deleteFrom(tableName).where())
-				.bind((statement, factory) -> statement.where(toRelations(where, factory)));
+				.bind((statement, factory) -> {
+
+					Delete delete = writeOptions != null ? addWriteOptions(statement, writeOptions, factory) : statement;
 
-		Optional.of(options).filter(WriteOptions.class::isInstance).map(WriteOptions.class::cast)
-				.ifPresent(it -> builder.apply(statement -> addWriteOptions(statement, it)));
+					return delete.where(toRelations(where, factory));
+				});
+
+		builder.shape(Arrays.asList("DELETE", tableName, new ArrayList<>(where.keySet()), isIfExists(options),
+				timestamp != null), this.shapeCache, () -> {
+
+					List<Object> values = getWriteOptionValues(timestamp, null);
+					values.addAll(where.values());
+
+					return values;
+				});
 
 		Optional.of(options).filter(DeleteOptions.class::isInstance).map(DeleteOptions.class::cast)
 				.map(DeleteOptions::getIfCondition)
@@ -551,7 +647,10 @@ public class StatementFactory {
 
 		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
 
-		return builder;
+		CassandraPersistentEntity<?> persistentEntity = cassandraConverter.getMappingContext()
+				.getPersistentEntity(ClassUtils.getUserClass(entity));
+
+		return persistentEntity != null ? setRoutingKey(builder, persistentEntity, where) : builder;
 	}
 
 	/**
@@ -600,19 +699,119 @@ public class StatementFactory {
 		StatementBuilder<Select> select = createSelectAndOrder(selectors, tableName, filter, sort);
 
 		if (query.getLimit() > 0) {
-			select.apply(it -> it.limit(Math.toIntExact(query.getLimit())));
+
+			int limit = Math.toIntExact(query.getLimit());
+
+			// render the limit as bind marker so that queries differing only in their limit share a shape
+			select.bind((it, factory) -> {
+
+				Term term = factory.create(limit);
+				return term instanceof BindMarker ? it.limit((BindMarker) term) : it.limit(limit);
+			});
 		}
 
 		if (query.isAllowFiltering()) {
 			select.apply(Select::allowFiltering);
 		}
 
+		List<Object> filterShape = getShape(filter);
+
+		if (filterShape != null) {
+			select.shape(Arrays.asList("SELECT", tableName, selectors, filterShape, sort, query.getLimit() > 0,
+					query.isAllowFiltering()), this.shapeCache);
+		}
+
 		select.onBuild(statementBuilder -> query.getPagingState().ifPresent(statementBuilder::setPagingState));
 
 		query.getQueryOptions()
 				.ifPresent(it -> select.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, it)));
 
-		return select;
+		return setRoutingKey(select, entity, filter);
+	}
+
+	private <T extends BuildableQuery> StatementBuilder<T> setRoutingKey(StatementBuilder<T> builder,
+			CassandraPersistentEntity<?> entity, Filter filter) {
+
+		Map<CqlIdentifier, Object> values = new HashMap<>();
+
+		for (CriteriaDefinition criteriaDefinition : filter) {
+
+			Predicate predicate = criteriaDefinition.getPredicate();
+
+			if (predicate.getOperator() == CriteriaDefinition.Operators.EQ) {
+				criteriaDefinition.getColumnName().getCqlIdentifier()
+						.ifPresent(columnName -> values.put(columnName, predicate.getValue()));
+			}
+		}
+
+		return setRoutingKey(builder, entity, values);
+	}
+
+	/**
+	 * Set the routing key on the built statement if {@code values} contain all partition key columns of {@code entity}.
+	 * The routing key allows token-aware load balancing to select a replica as coordinator for statements that are not
+	 * prepared.
+	 */
+	private <T extends BuildableQuery> StatementBuilder<T> setRoutingKey(StatementBuilder<T> builder,
+			CassandraPersistentEntity<?> entity, Map<CqlIdentifier, Object> values) {
+
+		List<CqlIdentifier> columns = this.partitionKeyColumns.computeIfAbsent(entity,
+				it -> getPartitionKeyColumns(this.cassandraConverter, it));
+
+		if (columns.isEmpty()) {
+			return builder;
+		}
+
+		CodecRegistry codecRegistry = this.cassandraConverter.getCodecRegistry();
+		ByteBuffer[] routingKey = new ByteBuffer[columns.size()];
+
+		for (int i = 0; i < routingKey.length; i++) {
+
+			Object value = values.get(columns.get(i));
+
+			if (value == null) {
+				return builder;
+			}
+
+			try {
+				routingKey[i] = codecRegistry.codecFor(value).encode(value, ProtocolVersion.DEFAULT);
+			} catch (CodecNotFoundException e) {
+				return builder;
+			}
+
+			if (routingKey[i] == null) {
+				return builder;
+			}
+		}
+
+		return builder.transform(statement -> statement.setRoutingKey(routingKey));
+	}
+
+	/**
+	 * Determine the partition key columns of {@code entity} in the order of their declaration in the primary key.
+	 *
+	 * @param converter the converter providing the mapping context.
+	 * @param entity the entity.
+	 * @return the partition key column names.
+	 */
+	static List<CqlIdentifier> getPartitionKeyColumns(CassandraConverter converter,
+			CassandraPersistentEntity<?> entity) {
+
+		List<CassandraPersistentProperty> properties = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey()) {
+				converter.getMappingContext().getRequiredPersistentEntity(property).forEach(properties::add);
+			} else if (property.isIdProperty()) {
+				return Collections.singletonList(property.getRequiredColumnName());
+			} else {
+				properties.add(property);
+			}
+		}
+
+		return properties.stream().filter(CassandraPersistentProperty::isPartitionKeyColumn)
+				.map(CassandraPersistentProperty::getRequiredColumnName).collect(Collectors.toList());
 	}
 
 	private static StatementBuilder<Select> createSelectAndOrder(List<Selector> selectors, CqlIdentifier from,
@@ -675,26 +874,32 @@ public class StatementFactory {
 	}
 
 	private static StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update(CqlIdentifier table,
-			Update mappedUpdate, Filter filter) {
+			Update mappedUpdate, Filter filter, @Nullable WriteOptions writeOptions) {
 
 		UpdateStart updateStart = QueryBuilder.update(table);
 
-		return StatementBuilder.of((com.datastax.oss.driver.api.querybuilder.update.Update) updateStart)
-				.bind((statement, factory) -> {
+		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> builder = StatementBuilder
+				.of((com.datastax.oss.driver.api.querybuilder.update.Update) updateStart);
 
-					List<Assignment> assignments = mappedUpdate.getUpdateOperations().stream()
-							.map(assignmentOp -> getAssignment(assignmentOp, factory)).collect(Collectors.toList());
+		if (writeOptions != null) {
+			builder.bind((statement, factory) -> addWriteOptions(statement, writeOptions, factory));
+		}
 
-					return (com.datastax.oss.driver.api.querybuilder.update.Update) ((OngoingAssignment) statement)
-							.set(assignments);
+		return builder.bind((statement, factory) -> {
 
-				}).bind((statement, factory) -> {
+			List<Assignment> assignments = mappedUpdate.getUpdateOperations().stream()
+					.map(assignmentOp -> getAssignment(assignmentOp, factory)).collect(Collectors.toList());
 
-					List<Relation> relations = filter.stream().map(criteriaDefinition -> toClause(criteriaDefinition, factory))
-							.collect(Collectors.toList());
+			return (com.datastax.oss.driver.api.querybuilder.update.Update) ((OngoingAssignment) statement)
+					.set(assignments);
 
-					return statement.where(relations);
-				});
+		}).bind((statement, factory) -> {
+
+			List<Relation> relations = filter.stream().map(criteriaDefinition -> toClause(criteriaDefinition, factory))
+					.collect(Collectors.toList());
+
+			return statement.where(relations);
+		});
 	}
 
 	static Iterable<Relation> toRelations(Where where, TermFactory factory) {
@@ -827,7 +1032,8 @@ public class StatementFactory {
 		return Assignment.append(updateOp.toCqlIdentifier(), termFactory.create(updateOp.getValue()));
 	}
 
-	private StatementBuilder<Delete> delete(List<CqlIdentifier> columnNames, CqlIdentifier from, Filter filter) {
+	private StatementBuilder<Delete> delete(List<CqlIdentifier> columnNames, CqlIdentifier from, Filter filter,
+			@Nullable WriteOptions writeOptions) {
 
 		DeleteSelection select = QueryBuilder.deleteFrom(from);
 
@@ -837,93 +1043,227 @@ public class StatementFactory {
 
 		return StatementBuilder.of(select.where()).bind((statement, factory) -> {
 
+			Delete delete = writeOptions != null ? addWriteOptions(statement, writeOptions, factory) : statement;
+
 			List<Relation> relations = filter.stream().map(criteriaDefinition -> toClause(criteriaDefinition, factory))
 					.collect(Collectors.toList());
 
-			return statement.where(relations);
+			return delete.where(relations);
 		});
 	}
 
 	/**
-	 * Add common {@link WriteOptions} options to {@link Insert} CQL statements.
+	 * Add common {@link WriteOptions} options to {@link Insert} CQL statements. TTL and timestamp are bound through
+	 * {@link TermFactory} so that the rendered CQL does not depend on their values when using bind markers.
 	 *
 	 * @param insert {@link Insert} CQL statement, must not be {@literal null}.
 	 * @param writeOptions write options (e.g. consistency level) to add to the CQL statement.
+	 * @param factory the {@link TermFactory} to create TTL and timestamp terms.
 	 * @return the given {@link Insert}.
-	 * @see #addWriteOptions(Insert, WriteOptions)
+	 * @see QueryOptionsUtil#addWriteOptions(Insert, WriteOptions)
 	 * @since 2.1
 	 */
-	static Insert addWriteOptions(Insert insert, WriteOptions writeOptions) {
+	static Insert addWriteOptions(Insert insert, WriteOptions writeOptions, TermFactory factory) {
 
 		Assert.notNull(insert, "Insert must not be null");
 
-		if (writeOptions instanceof InsertOptions) {
+		Insert insertToUse = isIfNotExists(writeOptions) ? insert.ifNotExists() : insert;
 
-			InsertOptions insertOptions = (InsertOptions) writeOptions;
+		Long timestamp = writeOptions.getTimestamp();
 
-			if (insertOptions.isIfNotExists()) {
-				insert = insert.ifNotExists();
-			}
+		if (timestamp != null) {
+
+			Term term = factory.create(timestamp);
+			insertToUse = term instanceof BindMarker ? insertToUse.usingTimestamp((BindMarker) term)
+					: insertToUse.usingTimestamp(timestamp);
 		}
 
-		return QueryOptionsUtil.addWriteOptions(insert, writeOptions);
+		Integer ttl = getInsertTtl(writeOptions);
+
+		if (ttl != null) {
+
+			Term term = factory.create(ttl);
+			insertToUse = term instanceof BindMarker ? insertToUse.usingTtl((BindMarker) term) : insertToUse.usingTtl(ttl);
+		}
+
+		return insertToUse;
 	}
 
 	/**
 	 * Add common {@link WriteOptions} options to {@link com.datastax.oss.driver.api.querybuilder.update.Update} CQL
-	 * statements.
+	 * statements. TTL and timestamp are bound through {@link TermFactory} so that the rendered CQL does not depend on
+	 * their values when using bind markers. Must be applied before binding assignments and relations.
 	 *
 	 * @param update {@link com.datastax.oss.driver.api.querybuilder.update.Update} CQL statement, must not be
 	 *          {@literal null}.
 	 * @param writeOptions write options (e.g. consistency level) to add to the CQL statement.
+	 * @param factory the {@link TermFactory} to create TTL and timestamp terms.
 	 * @return the given {@link com.datastax.oss.driver.api.querybuilder.update.Update}.
 	 * @see QueryOptionsUtil#addWriteOptions(com.datastax.oss.driver.api.querybuilder.update.Update, WriteOptions)
 	 * @since 2.1
 	 */
 	static com.datastax.oss.driver.api.querybuilder.update.Update addWriteOptions(
-			com.datastax.oss.driver.api.querybuilder.update.Update update, WriteOptions writeOptions) {
+			com.datastax.oss.driver.api.querybuilder.update.Update update, WriteOptions writeOptions, TermFactory factory) {
 
 		Assert.notNull(update, "Update must not be null");
 
-		com.datastax.oss.driver.api.querybuilder.update.Update updateToUse = QueryOptionsUtil.addWriteOptions(update,
-				writeOptions);
+		UpdateStart updateToUse = (UpdateStart) update;
 
-		if (writeOptions instanceof UpdateOptions) {
+		Long timestamp = writeOptions.getTimestamp();
 
-			UpdateOptions updateOptions = (UpdateOptions) writeOptions;
+		if (timestamp != null) {
 
-			if (updateOptions.isIfExists()) {
-				updateToUse = updateToUse.ifExists();
-			}
+			Term term = factory.create(timestamp);
+			updateToUse = term instanceof BindMarker ? updateToUse.usingTimestamp((BindMarker) term)
+					: updateToUse.usingTimestamp(timestamp);
+		}
+
+		Integer ttl = getUpdateTtl(writeOptions);
+
+		if (ttl != null) {
+
+			Term term = factory.create(ttl);
+			updateToUse = term instanceof BindMarker ? updateToUse.usingTtl((BindMarker) term) : updateToUse.usingTtl(ttl);
+		}
+
+		if (isIfExists(writeOptions)) {
+			return ((com.datastax.oss.driver.api.querybuilder.update.Update) updateToUse).ifExists();
 		}
 
-		return updateToUse;
+		return (com.datastax.oss.driver.api.querybuilder.update.Update) updateToUse;
 	}
 
 	/**
-	 * Add common {@link WriteOptions} options to {@link Delete} CQL statements.
+	 * Add common {@link WriteOptions} options to {@link Delete} CQL statements. The timestamp is bound through
+	 * {@link TermFactory} so that the rendered CQL does not depend on its value when using bind markers. Must be applied
+	 * before binding relations.
 	 *
 	 * @param delete {@link Delete} CQL statement, must not be {@literal null}.
 	 * @param writeOptions write options (e.g. consistency level) to add to the CQL statement.
+	 * @param factory the {@link TermFactory} to create the timestamp term.
 	 * @return the given {@link Delete}.
+	 * @see QueryOptionsUtil#addWriteOptions(Delete, WriteOptions)
 	 * @since 2.1
 	 */
-	static Delete addWriteOptions(Delete delete, WriteOptions writeOptions) {
+	static Delete addWriteOptions(Delete delete, WriteOptions writeOptions, TermFactory factory) {
 
 		Assert.notNull(delete, "Delete must not be null");
 
-		Delete deleteToUse = QueryOptionsUtil.addWriteOptions(delete, writeOptions);
+		Delete deleteToUse = delete;
+
+		Long timestamp = writeOptions.getTimestamp();
+
+		if (timestamp != null) {
+
+			Term term = factory.create(timestamp);
+			DeleteSelection selection = (DeleteSelection) deleteToUse;
+			deleteToUse = (Delete) (term instanceof BindMarker ? selection.usingTimestamp((BindMarker) term)
+					: selection.usingTimestamp(timestamp));
+		}
+
+		return isIfExists(writeOptions) ? deleteToUse.where().ifExists() : deleteToUse;
+	}
+
+	private static boolean isIfNotExists(@Nullable QueryOptions options) {
+		return options instanceof InsertOptions && ((InsertOptions) options).isIfNotExists();
+	}
+
+	private static boolean isIfExists(@Nullable QueryOptions options) {
+
+		if (options instanceof UpdateOptions) {
+			return ((UpdateOptions) options).isIfExists();
+		}
+
+		return options instanceof DeleteOptions && ((DeleteOptions) options).isIfExists();
+	}
+
+	@Nullable
+	private static Integer getInsertTtl(WriteOptions options) {
+		return options.getTtl().isNegative() ? null : Math.toIntExact(options.getTtl().getSeconds());
+	}
+
+	@Nullable
+	private static Integer getUpdateTtl(WriteOptions options) {
+
+		Duration ttl = options.getTtl();
+
+		return ttl.isZero() || ttl.isNegative() ? null : Math.toIntExact(ttl.getSeconds());
+	}
+
+	/**
+	 * Return the timestamp and TTL values in the order of their bind markers.
+	 */
+	private static List<Object> getWriteOptionValues(@Nullable Long timestamp, @Nullable Integer ttl) {
+
+		List<Object> values = new ArrayList<>(2);
+
+		if (timestamp != null) {
+			values.add(timestamp);
+		}
+
+		if (ttl != null) {
+			values.add(ttl);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Determine the structure of {@link Filter} to be used within a shape key.
+	 *
+	 * @return the structure of the {@link Filter} or {@literal null} if the filter renders values as literals.
+	 */
+	@Nullable
+	private static List<Object> getShape(Filter filter) {
+
+		List<Object> shape = new ArrayList<>();
+
+		for (CriteriaDefinition criteriaDefinition : filter) {
+
+			Predicate predicate = criteriaDefinition.getPredicate();
+			Object value = predicate.getValue();
 
-		if (writeOptions instanceof DeleteOptions) {
+			if (CriteriaDefinition.Operators.IN.toString().equals(predicate.getOperator().toString())
+					&& (value instanceof List || (value != null && value.getClass().isArray()))) {
+				return null;
+			}
+
+			shape.add(criteriaDefinition.getColumnName());
+			shape.add(predicate.getOperator().toString());
+		}
+
+		return shape;
+	}
 
-			DeleteOptions deleteOptions = (DeleteOptions) writeOptions;
+	/**
+	 * Determine the structure of {@link Update} to be used within a shape key.
+	 */
+	private static List<Object> getShape(Update update) {
+
+		List<Object> shape = new ArrayList<>();
+
+		for (AssignmentOp assignmentOp : update.getUpdateOperations()) {
+
+			shape.add(assignmentOp.getClass());
+			shape.add(assignmentOp.getColumnName());
+
+			if (assignmentOp instanceof IncrOp) {
+				shape.add(((IncrOp) assignmentOp).getValue().longValue() > 0);
+			}
+
+			if (assignmentOp instanceof RemoveOp) {
+
+				Object value = ((RemoveOp) assignmentOp).getValue();
+				shape.add(value instanceof Set ? Set.class : value instanceof List ? List.class : Object.class);
+			}
 
-			if (deleteOptions.isIfExists()) {
-				deleteToUse = deleteToUse.where().ifExists();
+			if (assignmentOp instanceof AddToOp) {
+				shape.add(((AddToOp) assignmentOp).getValue() instanceof Set);
+				shape.add(((AddToOp) assignmentOp).getMode());
 			}
 		}
 
-		return deleteToUse;
+		return shape;
 	}
 
 	private static Relation toClause(CriteriaDefinition criteriaDefinition, TermFactory factory) {
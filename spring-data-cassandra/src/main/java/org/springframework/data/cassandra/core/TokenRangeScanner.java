@@ -0,0 +1,699 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
+import org.springframework.data.cassandra.core.cql.util.FutureUtils;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.oss.driver.api.core.AllNodesFailedException;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.connection.ClosedConnectionException;
+import com.datastax.oss.driver.api.core.connection.HeartbeatException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.core.servererrors.BootstrappingException;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+import com.datastax.oss.driver.api.core.servererrors.ReadTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.UnavailableException;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+
+/**
+ * Scanner for full table scans split into token ranges. Token ranges are obtained from the driver {@link TokenMap},
+ * optionally split into sub-ranges, and queried using {@code token(partition key) > ? AND token(partition key) <= ?}.
+ * Statements are routed to replicas of the scanned range.
+ * <p>
+ * Ranges that are listed as {@link ScanOptions#getCompletedRanges() completed} are skipped. Each range that was
+ * scanned entirely is reported to the {@link ScanOptions#getCheckpointListener() checkpoint listener}.
+ *
+ * @since 3.1
+ * @see ScanOptions
+ */
+class TokenRangeScanner {
+
+	private final TokenMap tokenMap;
+
+	private final List<CqlIdentifier> partitionKey;
+
+	private final CqlIdentifier tableName;
+
+	private final ScanOptions options;
+
+	private TokenRangeScanner(TokenMap tokenMap, List<CqlIdentifier> partitionKey, CqlIdentifier tableName,
+			ScanOptions options) {
+
+		this.tokenMap = tokenMap;
+		this.partitionKey = partitionKey;
+		this.tableName = tableName;
+		this.options = options;
+	}
+
+	/**
+	 * Create a new {@link TokenRangeScanner} for the given {@link CassandraPersistentEntity}.
+	 *
+	 * @param metadata the cluster metadata providing the {@link TokenMap}.
+	 * @param mappingContext the mapping context to resolve composite primary keys.
+	 * @param entity the entity to scan.
+	 * @param tableName the table to scan.
+	 * @param options the scan options.
+	 * @return the {@link TokenRangeScanner}.
+	 * @throws IllegalStateException if token metadata is not available.
+	 */
+	static TokenRangeScanner create(Metadata metadata,
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext,
+			CassandraPersistentEntity<?> entity, CqlIdentifier tableName, ScanOptions options) {
+
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		Optional<TokenMap> tokenMap = metadata.getTokenMap();
+
+		Assert.state(tokenMap.isPresent(), "Token metadata is not available; Make sure token metadata is enabled");
+
+		return new TokenRangeScanner(tokenMap.get(), getPartitionKeyColumns(mappingContext, entity), tableName, options);
+	}
+
+	private static List<CqlIdentifier> getPartitionKeyColumns(
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext,
+			CassandraPersistentEntity<?> entity) {
+
+		List<CqlIdentifier> columns = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				CassandraPersistentEntity<?> primaryKeyEntity = mappingContext
+						.getRequiredPersistentEntity(property.getRawType());
+
+				for (CassandraPersistentProperty primaryKeyProperty : primaryKeyEntity) {
+					if (primaryKeyProperty.isPartitionKeyColumn()) {
+						columns.add(primaryKeyProperty.getRequiredColumnName());
+					}
+				}
+			} else if (!property.isEmbedded() && (property.isIdProperty() || property.isPartitionKeyColumn())) {
+				columns.add(property.getRequiredColumnName());
+			}
+		}
+
+		if (columns.isEmpty()) {
+			throw new MappingException(String.format("No partition key columns found in entity [%s]", entity.getType()));
+		}
+
+		return columns;
+	}
+
+	/**
+	 * @return the maximum number of ranges to scan in parallel.
+	 */
+	int getConcurrency() {
+		return this.options.getConcurrency();
+	}
+
+	/**
+	 * Compute the token ranges to scan in ring order. Wrapping ranges are unwrapped and ranges that are already
+	 * completed are omitted.
+	 *
+	 * @return the token ranges to scan.
+	 */
+	List<ScanRange> getRanges() {
+
+		List<TokenRange> tokenRanges = new ArrayList<>(this.tokenMap.getTokenRanges());
+		Collections.sort(tokenRanges);
+
+		List<ScanRange> ranges = new ArrayList<>();
+
+		if (tokenRanges.size() == 1 && tokenRanges.get(0).getStart().equals(tokenRanges.get(0).getEnd())) {
+			addIfPending(ranges, new ScanRange(null, null, ScanCheckpoint.of(null, null)));
+			return ranges;
+		}
+
+		for (TokenRange tokenRange : tokenRanges) {
+
+			List<TokenRange> splits = this.options.getSplitsPerRange() > 1
+					? tokenRange.splitEvenly(this.options.getSplitsPerRange())
+					: Collections.singletonList(tokenRange);
+
+			for (TokenRange split : splits) {
+				for (TokenRange range : split.unwrap()) {
+					addIfPending(ranges, createRange(range));
+				}
+			}
+		}
+
+		return ranges;
+	}
+
+	private ScanRange createRange(TokenRange range) {
+
+		Token start = range.getStart();
+
+		// an unwrapped range that does not end after its start ends at the minimum token, i.e. the end of the ring.
+		Token end = start.compareTo(range.getEnd()) < 0 ? range.getEnd() : null;
+
+		return new ScanRange(start, end,
+				ScanCheckpoint.of(this.tokenMap.format(start), end != null ? this.tokenMap.format(end) : null));
+	}
+
+	private void addIfPending(List<ScanRange> ranges, ScanRange range) {
+
+		if (!this.options.getCompletedRanges().contains(range.getCheckpoint())) {
+			ranges.add(range);
+		}
+	}
+
+	/**
+	 * Create the {@link SimpleStatement} to prepare for scanning {@link ScanRange}. The statement does not carry values.
+	 * Token bounds are bound through {@link #bind(ScanRange, PreparedStatement)}.
+	 *
+	 * @param range the range to scan.
+	 * @return the statement for the range.
+	 */
+	SimpleStatement getStatement(ScanRange range) {
+		return restrict(QueryBuilder.selectFrom(this.tableName).all(), range);
+	}
+
+	/**
+	 * Create the {@link SimpleStatement} to prepare for counting rows within {@link ScanRange}. The statement does not
+	 * carry values. Token bounds are bound through {@link #bindCount(ScanRange, PreparedStatement)}.
+	 *
+	 * @param range the range to count.
+	 * @return the count statement for the range.
+	 */
+	SimpleStatement getCountStatement(ScanRange range) {
+		return restrict(QueryBuilder.selectFrom(this.tableName).countAll(), range);
+	}
+
+	private SimpleStatement restrict(Select select, ScanRange range) {
+
+		if (range.start != null) {
+			select = select.where(Relation.tokenFromIds(this.partitionKey).isGreaterThan(QueryBuilder.bindMarker()));
+		}
+
+		if (range.end != null) {
+			select = select.where(Relation.tokenFromIds(this.partitionKey).isLessThanOrEqualTo(QueryBuilder.bindMarker()));
+		}
+
+		return QueryOptionsUtil.addQueryOptions(select.build(), this.options);
+	}
+
+	/**
+	 * Bind the token bounds of {@link ScanRange} to the {@link PreparedStatement} obtained from
+	 * {@link #getStatement(ScanRange)} and route the statement to replicas of the range.
+	 *
+	 * @param range the range to scan.
+	 * @param preparedStatement the prepared statement.
+	 * @return the bound statement.
+	 */
+	BoundStatement bind(ScanRange range, PreparedStatement preparedStatement) {
+		return bind(range, getStatement(range), preparedStatement);
+	}
+
+	/**
+	 * Bind the token bounds of {@link ScanRange} to the {@link PreparedStatement} obtained from
+	 * {@link #getCountStatement(ScanRange)} and route the statement to replicas of the range.
+	 *
+	 * @param range the range to count.
+	 * @param preparedStatement the prepared statement.
+	 * @return the bound statement.
+	 */
+	BoundStatement bindCount(ScanRange range, PreparedStatement preparedStatement) {
+		return bind(range, getCountStatement(range), preparedStatement);
+	}
+
+	private static BoundStatement bind(ScanRange range, SimpleStatement source, PreparedStatement preparedStatement) {
+
+		BoundStatement statement = PreparedStatementDelegate.bind(source, preparedStatement);
+		int index = 0;
+
+		if (range.start != null) {
+			statement = statement.setToken(index++, range.start);
+		}
+
+		if (range.end != null) {
+			statement = statement.setToken(index, range.end).setRoutingToken(range.end);
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Report completion of {@link ScanRange} to the checkpoint listener.
+	 *
+	 * @param range the completed range.
+	 */
+	void completed(ScanRange range) {
+		this.options.getCheckpointListener().accept(range.getCheckpoint());
+	}
+
+	/**
+	 * Scan all ranges returning a {@link Stream}. Up to {@link #getConcurrency()} ranges are requested in parallel while
+	 * rows are emitted in ring order. Consuming the stream blocks until the next page is available.
+	 *
+	 * @param executor function to execute statements asynchronously, typically
+	 *          {@link org.springframework.data.cassandra.core.cql.CqlOperations#executeAsync(Statement)}.
+	 * @param preparer function to prepare statements.
+	 * @param mapper the row mapper.
+	 * @return the {@link Stream} of mapped rows.
+	 */
+	<T> Stream<T> stream(Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+			Function<SimpleStatement, PreparedStatement> preparer, Function<Row, T> mapper) {
+		return StreamSupport.stream(new ScanSpliterator<>(executor, preparer, mapper), false);
+	}
+
+	/**
+	 * Scan all ranges asynchronously. Up to {@link #getConcurrency()} ranges are scanned in parallel. A range is
+	 * completed once the {@link ListenableFuture} returned by {@code rangeScan} completes.
+	 *
+	 * @param rangeScan function scanning a single range.
+	 * @return a {@link ListenableFuture} that completes once all ranges are scanned.
+	 */
+	ListenableFuture<Void> scanAsync(Function<ScanRange, ListenableFuture<Void>> rangeScan) {
+		return scanAsync(getRanges(), rangeScan);
+	}
+
+	private ListenableFuture<Void> scanAsync(List<ScanRange> ranges,
+			Function<ScanRange, ListenableFuture<Void>> rangeScan) {
+
+		SettableListenableFuture<Void> target = new SettableListenableFuture<>();
+		AsyncScan scan = new AsyncScan(ranges.iterator(), rangeScan, target);
+
+		for (int i = 0; i < getConcurrency(); i++) {
+			scan.scanNext();
+		}
+
+		return target;
+	}
+
+	/**
+	 * Count rows of all ranges asynchronously and sum up the per-range counts. Up to {@link #getConcurrency()} ranges are
+	 * counted in parallel. A range count that failed with a {@link #isRetryable(Throwable) retryable} error is retried up
+	 * to {@code retriesPerRange} times. Other errors fail the count immediately.
+	 *
+	 * @param rangeCount function counting rows of a single range.
+	 * @param retriesPerRange number of retries for a failed range count.
+	 * @return a {@link ListenableFuture} that completes with the total count once all ranges are counted.
+	 */
+	ListenableFuture<Long> countAsync(Function<ScanRange, ListenableFuture<Long>> rangeCount, int retriesPerRange) {
+		return countAsync(getRanges(), rangeCount, retriesPerRange);
+	}
+
+	private ListenableFuture<Long> countAsync(List<ScanRange> ranges,
+			Function<ScanRange, ListenableFuture<Long>> rangeCount, int retriesPerRange) {
+
+		LongAdder total = new LongAdder();
+		SettableListenableFuture<Long> target = new SettableListenableFuture<>();
+
+		scanAsync(ranges, range -> {
+
+			SettableListenableFuture<Void> counted = new SettableListenableFuture<>();
+			countRange(range, rangeCount, retriesPerRange, counted, total);
+
+			return counted;
+		}).addCallback(result -> target.set(total.sum()), target::setException);
+
+		return target;
+	}
+
+	private static void countRange(ScanRange range, Function<ScanRange, ListenableFuture<Long>> rangeCount,
+			int retries, SettableListenableFuture<Void> counted, LongAdder total) {
+
+		ListenableFuture<Long> count;
+
+		try {
+			count = rangeCount.apply(range);
+		} catch (RuntimeException e) {
+			counted.setException(e);
+			return;
+		}
+
+		count.addCallback(result -> {
+
+			total.add(result != null ? result : 0L);
+			counted.set(null);
+		}, e -> {
+
+			if (retries > 0 && isRetryable(e)) {
+				countRange(range, rangeCount, retries - 1, counted, total);
+			} else {
+				counted.setException(e);
+			}
+		});
+	}
+
+	/**
+	 * Count rows of all ranges and sum up the per-range counts. Blocks until all ranges are counted. Count statements are
+	 * prepared upfront on the calling thread as {@code preparer} may block. Ranges share a few statement shapes only, so
+	 * follow-up range counts issued from driver threads do not prepare.
+	 *
+	 * @param executor function to execute statements asynchronously, typically
+	 *          {@link org.springframework.data.cassandra.core.cql.CqlOperations#executeAsync(Statement)}.
+	 * @param preparer function to prepare statements.
+	 * @param retriesPerRange number of retries for a failed range count.
+	 * @return the total count.
+	 * @see #countAsync(Function, int)
+	 */
+	long count(Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+			Function<SimpleStatement, PreparedStatement> preparer, int retriesPerRange) {
+
+		List<ScanRange> ranges = getRanges();
+		Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+
+		for (ScanRange range : ranges) {
+
+			SimpleStatement statement = getCountStatement(range);
+			preparedStatements.computeIfAbsent(statement.getQuery(), it -> preparer.apply(statement));
+		}
+
+		ListenableFuture<Long> count = countAsync(ranges, range -> {
+
+			SettableListenableFuture<Long> result = new SettableListenableFuture<>();
+			PreparedStatement preparedStatement = preparedStatements.get(getCountStatement(range).getQuery());
+
+			executor.apply(bindCount(range, preparedStatement)).whenComplete((resultSet, e) -> {
+
+				if (e != null) {
+					result.setException(unwrap(e));
+				} else {
+					result.set(getCount(resultSet.one()));
+				}
+			});
+
+			return result;
+		}, retriesPerRange);
+
+		return FutureUtils.getUninterruptibly(count.completable());
+	}
+
+	/**
+	 * Determine whether a failed range count is worth retrying. Timeouts, unavailable replicas, overloaded or
+	 * bootstrapping coordinators and connection failures are transient and retryable, either as driver exception or as
+	 * their translated {@link DataAccessException}. Errors such as invalid queries or missing permissions fail the same
+	 * way on retry and are not retryable.
+	 *
+	 * @param error the error of a failed range count.
+	 * @return {@literal true} if the range count should be retried.
+	 */
+	static boolean isRetryable(Throwable error) {
+
+		Throwable cause = unwrap(error);
+
+		return cause instanceof TransientDataAccessException || cause instanceof CassandraConnectionFailureException
+				|| cause instanceof ReadTimeoutException || cause instanceof UnavailableException
+				|| cause instanceof OverloadedException || cause instanceof BootstrappingException
+				|| cause instanceof DriverTimeoutException || cause instanceof AllNodesFailedException
+				|| cause instanceof ClosedConnectionException || cause instanceof HeartbeatException;
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
+	/**
+	 * Extract the count from the result {@link Row} of a count statement.
+	 *
+	 * @param row the result row, can be {@literal null}.
+	 * @return the count.
+	 */
+	static long getCount(@Nullable Row row) {
+		return row != null ? row.getLong(0) : 0L;
+	}
+
+	/**
+	 * A token range {@code (start, end]} to scan. {@literal null} bounds denote an open range.
+	 */
+	static class ScanRange {
+
+		private final @Nullable Token start;
+
+		private final @Nullable Token end;
+
+		private final ScanCheckpoint checkpoint;
+
+		ScanRange(@Nullable Token start, @Nullable Token end, ScanCheckpoint checkpoint) {
+			this.start = start;
+			this.end = end;
+			this.checkpoint = checkpoint;
+		}
+
+		ScanCheckpoint getCheckpoint() {
+			return this.checkpoint;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return this.checkpoint.toString();
+		}
+	}
+
+	/**
+	 * Asynchronous scan of ranges with bounded concurrency.
+	 */
+	private class AsyncScan {
+
+		private final Iterator<ScanRange> ranges;
+
+		private final Function<ScanRange, ListenableFuture<Void>> rangeScan;
+
+		private final SettableListenableFuture<Void> target;
+
+		private final AtomicInteger active = new AtomicInteger();
+
+		AsyncScan(Iterator<ScanRange> ranges, Function<ScanRange, ListenableFuture<Void>> rangeScan,
+				SettableListenableFuture<Void> target) {
+			this.ranges = ranges;
+			this.rangeScan = rangeScan;
+			this.target = target;
+		}
+
+		void scanNext() {
+
+			ScanRange range;
+
+			synchronized (this.ranges) {
+
+				if (this.target.isDone()) {
+					return;
+				}
+
+				if (!this.ranges.hasNext()) {
+
+					if (this.active.get() == 0) {
+						this.target.set(null);
+					}
+
+					return;
+				}
+
+				range = this.ranges.next();
+				this.active.incrementAndGet();
+			}
+
+			ListenableFuture<Void> scan;
+
+			try {
+				scan = this.rangeScan.apply(range);
+			} catch (RuntimeException e) {
+				this.target.setException(e);
+				return;
+			}
+
+			scan.addCallback(result -> {
+
+				completed(range);
+				this.active.decrementAndGet();
+				scanNext();
+			}, this.target::setException);
+		}
+	}
+
+	/**
+	 * {@link Spliterator} requesting the first page of up to {@link #getConcurrency()} ranges ahead of the range that is
+	 * currently consumed.
+	 */
+	private class ScanSpliterator<T> implements Spliterator<T> {
+
+		private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor;
+
+		private final Function<SimpleStatement, PreparedStatement> preparer;
+
+		private final Function<Row, T> mapper;
+
+		private final Iterator<ScanRange> pending;
+
+		private final Deque<RangeFetch> inFlight = new ArrayDeque<>();
+
+		private @Nullable RangeFetch current;
+
+		private @Nullable AsyncResultSet page;
+
+		private Iterator<Row> rows = Collections.emptyIterator();
+
+		ScanSpliterator(Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+				Function<SimpleStatement, PreparedStatement> preparer, Function<Row, T> mapper) {
+
+			this.executor = executor;
+			this.preparer = preparer;
+			this.mapper = mapper;
+			this.pending = getRanges().iterator();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			while (!this.rows.hasNext()) {
+
+				if (this.page != null && this.page.hasMorePages()) {
+					setPage(FutureUtils.getUninterruptibly(this.page.fetchNextPage()));
+					continue;
+				}
+
+				if (this.current != null) {
+					completed(this.current.range);
+					this.current = null;
+					this.page = null;
+				}
+
+				fill();
+
+				RangeFetch next = this.inFlight.poll();
+
+				if (next == null) {
+					return false;
+				}
+
+				this.current = next;
+				fill();
+
+				setPage(FutureUtils.getUninterruptibly(next.firstPage));
+			}
+
+			action.accept(this.mapper.apply(this.rows.next()));
+
+			return true;
+		}
+
+		private void setPage(AsyncResultSet page) {
+			this.page = page;
+			this.rows = page.currentPage().iterator();
+		}
+
+		private void fill() {
+
+			int capacity = getConcurrency() - (this.current != null ? 1 : 0);
+
+			while (this.inFlight.size() < capacity && this.pending.hasNext()) {
+
+				ScanRange range = this.pending.next();
+				PreparedStatement preparedStatement = this.preparer.apply(getStatement(range));
+
+				this.inFlight.add(new RangeFetch(range,
+						this.executor.apply(bind(range, preparedStatement)).toCompletableFuture()));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#trySplit()
+		 */
+		@Override
+		@Nullable
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#estimateSize()
+		 */
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#characteristics()
+		 */
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED;
+		}
+	}
+
+	/**
+	 * A range along with the request for its first page.
+	 */
+	private static class RangeFetch {
+
+		final ScanRange range;
+
+		final CompletableFuture<AsyncResultSet> firstPage;
+
+		RangeFetch(ScanRange range, CompletableFuture<AsyncResultSet> firstPage) {
+			this.range = range;
+			this.firstPage = firstPage;
+		}
+	}
+}
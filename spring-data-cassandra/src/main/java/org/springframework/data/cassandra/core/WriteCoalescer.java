@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Buffers single-entity writes and hands them off in groups per partition. A flush is triggered once
+ * {@link CoalescingOptions#getBufferSize()} writes are buffered or {@link CoalescingOptions#getFlushInterval()} after
+ * the first write was buffered. Subclasses schedule delayed flushes and write the grouped entities. Writes enqueued
+ * after {@link #close() closing} fail with {@link IllegalStateException}.
+ *
+ * @since 3.1
+ */
+abstract class WriteCoalescer {
+
+	private final Object lock = new Object();
+
+	private final CassandraConverter converter;
+
+	private final CoalescingOptions options;
+
+	private List<PendingWrite> buffer = new ArrayList<>();
+
+	private boolean flushScheduled;
+
+	private boolean closed;
+
+	WriteCoalescer(CassandraConverter converter, CoalescingOptions options) {
+		this.converter = converter;
+		this.options = options;
+	}
+
+	/**
+	 * Buffer a write of {@code entity}.
+	 *
+	 * @param entity the entity to write.
+	 * @param completion the completion to notify once the entity was written. Notified with
+	 *          {@link IllegalStateException} if the coalescer was closed.
+	 * @throws IllegalArgumentException if the entity is versioned.
+	 */
+	void enqueue(Object entity, Completion completion) {
+
+		CassandraPersistentEntity<?> persistentEntity = this.converter.getMappingContext()
+				.getRequiredPersistentEntity(ClassUtils.getUserClass(entity.getClass()));
+
+		Assert.isTrue(!persistentEntity.hasVersionProperty(),
+				() -> String.format("Cannot coalesce writes of versioned entity [%s]", persistentEntity.getName()));
+
+		PendingWrite write = new PendingWrite(entity, persistentEntity, completion);
+		List<PendingWrite> toWrite = null;
+		boolean accepted = false;
+		boolean scheduleFlush = false;
+
+		synchronized (this.lock) {
+
+			if (!this.closed) {
+
+				accepted = true;
+				this.buffer.add(write);
+
+				if (this.buffer.size() >= this.options.getBufferSize()) {
+					toWrite = drain();
+				} else if (!this.flushScheduled) {
+					this.flushScheduled = true;
+					scheduleFlush = true;
+				}
+			}
+		}
+
+		if (!accepted) {
+			write.failed(new IllegalStateException("Cannot coalesce writes after closing the writer"));
+			return;
+		}
+
+		if (scheduleFlush) {
+			scheduleFlush(this.options.getFlushInterval());
+		}
+
+		if (toWrite != null) {
+			write(group(toWrite));
+		}
+	}
+
+	/**
+	 * Write all buffered entities.
+	 */
+	void flush() {
+
+		List<PendingWrite> toWrite;
+
+		synchronized (this.lock) {
+			toWrite = drain();
+		}
+
+		if (!toWrite.isEmpty()) {
+			write(group(toWrite));
+		}
+	}
+
+	/**
+	 * Stop accepting writes and write all buffered entities. Writes enqueued afterwards fail.
+	 */
+	void close() {
+
+		List<PendingWrite> toWrite;
+
+		synchronized (this.lock) {
+			this.closed = true;
+			toWrite = drain();
+		}
+
+		if (!toWrite.isEmpty()) {
+			write(group(toWrite));
+		}
+	}
+
+	/**
+	 * Schedule a {@link #flush()} after the given {@code delay}.
+	 *
+	 * @param delay the delay.
+	 */
+	abstract void scheduleFlush(Duration delay);
+
+	/**
+	 * Write the given groups. Entities of each group belong to the same partition. Implementations must notify the
+	 * {@link PendingWrite pending writes} upon completion.
+	 *
+	 * @param groups the groups to write.
+	 */
+	abstract void write(List<List<PendingWrite>> groups);
+
+	private List<PendingWrite> drain() {
+
+		List<PendingWrite> drained = this.buffer;
+
+		this.buffer = new ArrayList<>();
+		this.flushScheduled = false;
+
+		return drained;
+	}
+
+	private List<List<PendingWrite>> group(List<PendingWrite> writes) {
+
+		Map<List<Object>, List<PendingWrite>> partitions = new LinkedHashMap<>();
+
+		for (PendingWrite write : writes) {
+
+			List<Object> partitionKey;
+
+			try {
+				partitionKey = BatchSplitter.getPartitionKey(this.converter, write.getEntity(), write.persistentEntity);
+			} catch (RuntimeException e) {
+
+				write.failed(e);
+				continue;
+			}
+
+			partitions.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(write);
+		}
+
+		List<List<PendingWrite>> groups = new ArrayList<>();
+
+		for (List<PendingWrite> partition : partitions.values()) {
+			for (int i = 0; i < partition.size(); i += this.options.getMaxBatchStatements()) {
+				groups.add(partition.subList(i, Math.min(partition.size(), i + this.options.getMaxBatchStatements())));
+			}
+		}
+
+		return groups;
+	}
+
+	/**
+	 * Return the entities of the given {@code group}.
+	 *
+	 * @param group the group of pending writes.
+	 * @return the entities to write.
+	 */
+	static List<Object> getEntities(List<PendingWrite> group) {
+
+		List<Object> entities = new ArrayList<>(group.size());
+
+		for (PendingWrite write : group) {
+			entities.add(write.getEntity());
+		}
+
+		return entities;
+	}
+
+	/**
+	 * Callback notified once a buffered write completes.
+	 */
+	interface Completion {
+
+		void succeeded();
+
+		void failed(Throwable e);
+	}
+
+	/**
+	 * A buffered write.
+	 */
+	static class PendingWrite {
+
+		private final Object entity;
+
+		private final CassandraPersistentEntity<?> persistentEntity;
+
+		private final Completion completion;
+
+		PendingWrite(Object entity, CassandraPersistentEntity<?> persistentEntity, Completion completion) {
+			this.entity = entity;
+			this.persistentEntity = persistentEntity;
+			this.completion = completion;
+		}
+
+		Object getEntity() {
+			return this.entity;
+		}
+
+		void succeeded() {
+			this.completion.succeeded();
+		}
+
+		void failed(Throwable e) {
+			this.completion.failed(e);
+		}
+	}
+}
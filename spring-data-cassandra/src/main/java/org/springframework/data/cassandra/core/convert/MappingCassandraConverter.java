@@ -15,12 +15,19 @@
  */
 package org.springframework.data.cassandra.core.convert;
 
+import java.beans.PropertyDescriptor;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -58,6 +65,8 @@ import org.springframework.data.mapping.model.PersistentEntityParameterValueProv
 import org.springframework.data.mapping.model.SpELContext;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.mapping.model.SpELExpressionParameterValueProvider;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
@@ -104,6 +113,10 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	private final DefaultColumnTypeResolver cassandraTypeResolver;
 	private final EmbeddedEntityOperations embeddedEntityOperations;
 
+	private final Map<Class<?>, Function<Row, ?>> rowReaders = new ConcurrentHashMap<>();
+
+	private final Map<ProjectionReaderKey, Optional<Function<Row, ?>>> projectionReaders = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@link MappingCassandraConverter} with a {@link CassandraMappingContext}.
 	 */
@@ -172,6 +185,28 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.beanClassLoader = classLoader;
+		this.rowReaders.clear();
+		this.projectionReaders.clear();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#setCustomConversions(org.springframework.data.convert.CustomConversions)
+	 */
+	@Override
+	public void setCustomConversions(org.springframework.data.convert.CustomConversions conversions) {
+		super.setCustomConversions(conversions);
+		this.rowReaders.clear();
+		this.projectionReaders.clear();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		super.afterPropertiesSet();
+		this.rowReaders.clear();
+		this.projectionReaders.clear();
 	}
 
 	private TypeCodec<Object> getCodec(CassandraPersistentProperty property) {
@@ -302,7 +337,9 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	/**
-	 * Read a {@link Row} into the requested target {@link Class type}.
+	 * Read a {@link Row} into the requested target {@link Class type}. The way how rows are read is resolved once per
+	 * {@link Class type}. Reading entities uses a {@link RowReadingPlan} that is shared across rows with the same
+	 * {@link com.datastax.oss.driver.api.core.cql.ColumnDefinitions}.
 	 *
 	 * @param type must not be {@literal null}.
 	 * @param row must not be {@literal null}.
@@ -310,39 +347,100 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	 */
 	@SuppressWarnings("unchecked")
 	public <R> R readRow(Class<R> type, Row row) {
+		return (R) this.rowReaders.computeIfAbsent(type, this::createRowReader).apply(row);
+	}
+
+	/**
+	 * Return a reader that reads {@link Row rows} directly into a closed interface projection of the given
+	 * {@code entityType}. Projection instances are backed by the {@link Row} and read the projected properties lazily
+	 * upon first access instead of materializing the entity. Returns {@literal null} if the projection cannot be read
+	 * directly, for example because it is an open projection, refers to properties that are not mapped by the entity or
+	 * the entity is read through a custom converter. Callers should read the entity and create the projection from the
+	 * entity in that case.
+	 *
+	 * @param entityType the entity type, must not be {@literal null}.
+	 * @param projectionType the interface projection type, must not be {@literal null}.
+	 * @param projectionFactory the {@link ProjectionFactory} to create projection instances, must not be
+	 *          {@literal null}.
+	 * @return the projecting reader or {@literal null} if the projection cannot be read directly from a {@link Row}.
+	 * @since 3.1
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <R> Function<Row, R> getProjectionReader(Class<?> entityType, Class<R> projectionType,
+			ProjectionFactory projectionFactory) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.notNull(projectionType, "Projection type must not be null");
+		Assert.notNull(projectionFactory, "ProjectionFactory must not be null");
+
+		return (Function<Row, R>) this.projectionReaders
+				.computeIfAbsent(new ProjectionReaderKey(entityType, projectionType, projectionFactory),
+						key -> Optional.ofNullable(createProjectionReader(entityType, projectionType, projectionFactory)))
+				.orElse(null);
+	}
+
+	@Nullable
+	private <R> Function<Row, R> createProjectionReader(Class<?> entityType, Class<R> projectionType,
+			ProjectionFactory projectionFactory) {
+
+		if (!projectionType.isInterface() || projectionType.isAssignableFrom(entityType)
+				|| getCustomConversions().hasCustomReadTarget(Row.class, entityType)) {
+			return null;
+		}
+
+		CassandraPersistentEntity<?> entity = getMappingContext().getPersistentEntity(entityType);
+		ProjectionInformation projectionInformation = projectionFactory.getProjectionInformation(projectionType);
+
+		if (entity == null || !projectionInformation.isClosed()) {
+			return null;
+		}
+
+		Map<String, CassandraPersistentProperty> properties = new LinkedHashMap<>();
+
+		for (PropertyDescriptor descriptor : projectionInformation.getInputProperties()) {
+
+			CassandraPersistentProperty property = entity.getPersistentProperty(descriptor.getName());
+
+			if (property == null) {
+				return null;
+			}
+
+			properties.put(descriptor.getName(), property);
+		}
+
+		return new ProjectingRowReader<>(projectionType, projectionFactory, properties);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R> Function<Row, ?> createRowReader(Class<R> type) {
 
 		Class<R> beanClassLoaderClass = transformClassToBeanClassLoaderClass(type);
 		TypeInformation<? extends R> typeInfo = ClassTypeInformation.from(beanClassLoaderClass);
 		Class<? extends R> rawType = typeInfo.getType();
 
 		if (Row.class.isAssignableFrom(rawType)) {
-			return (R) row;
+			return Function.identity();
 		}
 
 		if (getCustomConversions().hasCustomReadTarget(Row.class, rawType)
 				|| getConversionService().canConvert(Row.class, rawType)) {
 
-			return getConversionService().convert(row, rawType);
-		}
-
-		if (getCustomConversions().hasCustomReadTarget(com.datastax.oss.driver.api.core.cql.Row.class, rawType)
-				|| getConversionService().canConvert(com.datastax.oss.driver.api.core.cql.Row.class, rawType)) {
-
-			return getConversionService().convert(row, rawType);
+			return row -> getConversionService().convert(row, rawType);
 		}
 
 		if (typeInfo.isCollectionLike() || typeInfo.isMap()) {
-			return getConversionService().convert(row, type);
+			return row -> getConversionService().convert(row, type);
 		}
 
 		CassandraPersistentEntity<R> persistentEntity = (CassandraPersistentEntity<R>) getMappingContext()
 				.getRequiredPersistentEntity(typeInfo);
 
-		return readEntityFromRow(persistentEntity, row);
+		return new EntityRowReader<>(persistentEntity);
 	}
 
-	private <S> S readEntityFromRow(CassandraPersistentEntity<S> entity, Row row) {
-		return doReadEntity(entity, row, expressionEvaluator -> new RowValueProvider(row, expressionEvaluator));
+	private <S> S readEntityFromRow(CassandraPersistentEntity<S> entity, Row row, RowReadingPlan plan) {
+		return doReadEntity(entity, row, expressionEvaluator -> new RowValueProvider(row, plan, expressionEvaluator));
 	}
 
 	private <S> S readEntityFromTuple(CassandraPersistentEntity<S> entity, TupleValue tupleValue) {
@@ -1108,6 +1206,219 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return Map.class.isAssignableFrom(mapType) ? mapType : Map.class;
 	}
 
+	/**
+	 * Reads {@link Row rows} into an entity. Keeps {@link RowReadingPlan}s per column definitions to reuse resolved
+	 * column indexes and codecs for subsequent rows sharing the same column definitions.
+	 *
+	 * @since 3.1
+	 */
+	private class EntityRowReader<S> implements Function<Row, S> {
+
+		private final CassandraPersistentEntity<S> entity;
+
+		private final RowReadingPlanCache plans = new RowReadingPlanCache();
+
+		EntityRowReader(CassandraPersistentEntity<S> entity) {
+			this.entity = entity;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.function.Function#apply(java.lang.Object)
+		 */
+		@Override
+		public S apply(Row row) {
+
+			RowReadingPlan plan = this.plans.getPlan(row);
+
+			return readEntityFromRow(this.entity, row, plan);
+		}
+	}
+
+	/**
+	 * Reads {@link Row rows} into closed interface projections backed by a {@link RowPropertyMap}. Keeps
+	 * {@link RowReadingPlan}s per column definitions to reuse resolved column indexes and codecs.
+	 *
+	 * @since 3.1
+	 */
+	private class ProjectingRowReader<R> implements Function<Row, R> {
+
+		private final Class<R> projectionType;
+
+		private final ProjectionFactory projectionFactory;
+
+		private final Map<String, CassandraPersistentProperty> properties;
+
+		private final RowReadingPlanCache plans = new RowReadingPlanCache();
+
+		ProjectingRowReader(Class<R> projectionType, ProjectionFactory projectionFactory,
+				Map<String, CassandraPersistentProperty> properties) {
+
+			this.projectionType = projectionType;
+			this.projectionFactory = projectionFactory;
+			this.properties = properties;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.function.Function#apply(java.lang.Object)
+		 */
+		@Override
+		public R apply(Row row) {
+
+			RowReadingPlan plan = this.plans.getPlan(row);
+
+			return this.projectionFactory.createProjection(this.projectionType,
+					new RowPropertyMap(row, plan, this.properties));
+		}
+	}
+
+	/**
+	 * {@link Map} view of the projected properties of a {@link Row}. Values are read and converted upon first access and
+	 * retained for subsequent access. Projection setters update the retained value.
+	 *
+	 * @since 3.1
+	 */
+	private class RowPropertyMap extends AbstractMap<String, Object> {
+
+		private final Row row;
+
+		private final RowReadingPlan plan;
+
+		private final Map<String, CassandraPersistentProperty> properties;
+
+		private final Map<String, Object> values;
+
+		private @Nullable CassandraValueProvider valueProvider;
+
+		RowPropertyMap(Row row, RowReadingPlan plan, Map<String, CassandraPersistentProperty> properties) {
+
+			this.row = row;
+			this.plan = plan;
+			this.properties = properties;
+			this.values = new HashMap<>(properties.size());
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+		 */
+		@Override
+		public boolean containsKey(Object key) {
+			return this.properties.containsKey(key) || this.values.containsKey(key);
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.AbstractMap#get(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object get(Object key) {
+
+			if (this.values.containsKey(key)) {
+				return this.values.get(key);
+			}
+
+			CassandraPersistentProperty property = this.properties.get(key);
+
+			if (property == null) {
+				return null;
+			}
+
+			Object value = getReadValue(getValueProvider(), property);
+			this.values.put((String) key, value);
+
+			return value;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.AbstractMap#put(java.lang.Object, java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		public Object put(String key, @Nullable Object value) {
+
+			Object previous = get(key);
+			this.values.put(key, value);
+
+			return previous;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.AbstractMap#entrySet()
+		 */
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+
+			Map<String, Object> entries = new LinkedHashMap<>(this.properties.size());
+
+			this.properties.keySet().forEach(name -> entries.put(name, get(name)));
+			entries.putAll(this.values);
+
+			return Collections.unmodifiableMap(entries).entrySet();
+		}
+
+		private CassandraValueProvider getValueProvider() {
+
+			if (this.valueProvider == null) {
+				this.valueProvider = new RowValueProvider(this.row, this.plan,
+						new DefaultSpELExpressionEvaluator(this.row, spELContext));
+			}
+
+			return this.valueProvider;
+		}
+	}
+
+	/**
+	 * Cache key for projecting {@link Row} readers.
+	 *
+	 * @since 3.1
+	 */
+	private static class ProjectionReaderKey {
+
+		private final Class<?> entityType;
+
+		private final Class<?> projectionType;
+
+		private final ProjectionFactory projectionFactory;
+
+		ProjectionReaderKey(Class<?> entityType, Class<?> projectionType, ProjectionFactory projectionFactory) {
+			this.entityType = entityType;
+			this.projectionType = projectionType;
+			this.projectionFactory = projectionFactory;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof ProjectionReaderKey)) {
+				return false;
+			}
+
+			ProjectionReaderKey that = (ProjectionReaderKey) o;
+
+			return this.entityType.equals(that.entityType) && this.projectionType.equals(that.projectionType)
+					&& this.projectionFactory == that.projectionFactory;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = this.entityType.hashCode();
+			result = 31 * result + this.projectionType.hashCode();
+			result = 31 * result + System.identityHashCode(this.projectionFactory);
+
+			return result;
+		}
+	}
+
 	enum NoOpParameterValueProvider implements ParameterValueProvider<CassandraPersistentProperty> {
 
 		INSTANCE;
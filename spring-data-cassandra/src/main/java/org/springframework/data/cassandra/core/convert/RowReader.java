@@ -45,11 +45,26 @@ class RowReader {
 
 	private final ColumnDefinitions columns;
 
+	private final @Nullable RowReadingPlan plan;
+
 	public RowReader(Row row) {
+		this(row, null);
+	}
+
+	/**
+	 * Create a new {@link RowReader} for {@link Row} using a {@link RowReadingPlan} to resolve columns and codecs.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param plan the {@link RowReadingPlan} created for the {@link ColumnDefinitions} of {@link Row}, may be
+	 *          {@literal null}.
+	 * @since 3.1
+	 */
+	RowReader(Row row, @Nullable RowReadingPlan plan) {
 
 		this.row = row;
 		this.codecRegistry = row.codecRegistry();
 		this.columns = row.getColumnDefinitions();
+		this.plan = plan;
 	}
 
 	/**
@@ -57,6 +72,11 @@ class RowReader {
 	 */
 	@Nullable
 	public Object get(CqlIdentifier columnName) {
+
+		if (this.plan != null) {
+			return this.plan.read(this.row, this.plan.getRequiredColumnIndex(columnName));
+		}
+
 		return get(columnName.toString());
 	}
 
@@ -77,6 +97,10 @@ class RowReader {
 	@Nullable
 	public Object get(int columnIndex) {
 
+		if (this.plan != null) {
+			return this.plan.read(this.row, columnIndex);
+		}
+
 		if (row.isNull(columnIndex)) {
 			return null;
 		}
@@ -175,6 +199,6 @@ class RowReader {
 	}
 
 	public boolean contains(CqlIdentifier columnName) {
-		return row.getColumnDefinitions().contains(columnName);
+		return this.plan != null ? this.plan.contains(columnName) : row.getColumnDefinitions().contains(columnName);
 	}
 }
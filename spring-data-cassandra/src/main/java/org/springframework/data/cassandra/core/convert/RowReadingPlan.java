@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+/**
+ * Pre-resolved reading metadata for rows sharing the same {@link ColumnDefinitions} instance. The driver shares
+ * {@link ColumnDefinitions} across all rows of a result page (and across executions of a prepared statement) so column
+ * lookups and codec resolution happen once per column instead of once per row and column.
+ * <p>
+ * Column lookups are resolved lazily and memoized to retain the lookup semantics of {@link ColumnDefinitions}.
+ *
+ * @since 3.1
+ */
+class RowReadingPlan {
+
+	private static final ColumnReader[] EMPTY = new ColumnReader[0];
+
+	private final ColumnDefinitions columns;
+
+	private final Map<CqlIdentifier, Integer> indexes = new ConcurrentHashMap<>();
+
+	private final Map<CqlIdentifier, Boolean> contained = new ConcurrentHashMap<>();
+
+	private volatile ColumnReader[] readers = EMPTY;
+
+	private RowReadingPlan(ColumnDefinitions columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Create a new {@link RowReadingPlan} for the given {@link ColumnDefinitions}.
+	 *
+	 * @param columns must not be {@literal null}.
+	 * @return the {@link RowReadingPlan} for {@link ColumnDefinitions}.
+	 */
+	static RowReadingPlan of(ColumnDefinitions columns) {
+
+		Assert.notNull(columns, "ColumnDefinitions must not be null");
+
+		return new RowReadingPlan(columns);
+	}
+
+	/**
+	 * Returns whether this plan applies to the given {@link Row}, i.e. whether the {@link Row} uses the same
+	 * {@link ColumnDefinitions} instance.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return {@literal true} if this plan was created for the {@link ColumnDefinitions} of {@link Row}.
+	 */
+	boolean isApplicable(Row row) {
+		return this.columns == row.getColumnDefinitions();
+	}
+
+	/**
+	 * Returns the index of the column {@code columnName}.
+	 *
+	 * @param columnName must not be {@literal null}.
+	 * @return the column index.
+	 * @throws IllegalArgumentException if the column does not exist.
+	 */
+	int getRequiredColumnIndex(CqlIdentifier columnName) {
+
+		int index = this.indexes.computeIfAbsent(columnName, it -> this.columns.firstIndexOf(it.toString()));
+
+		Assert.isTrue(index > -1, () -> String.format("Column [%s] does not exist in table", columnName));
+
+		return index;
+	}
+
+	/**
+	 * Returns whether the column {@code columnName} is contained in the result.
+	 *
+	 * @param columnName must not be {@literal null}.
+	 * @return {@literal true} if the column exists.
+	 */
+	boolean contains(CqlIdentifier columnName) {
+		return this.contained.computeIfAbsent(columnName, this.columns::contains);
+	}
+
+	/**
+	 * Read the value of the column at {@code columnIndex} from {@link Row}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param columnIndex index of the column.
+	 * @return the column value, or {@literal null} if the column contains no value.
+	 */
+	@Nullable
+	Object read(Row row, int columnIndex) {
+
+		if (row.isNull(columnIndex)) {
+			return null;
+		}
+
+		return getColumnReader(columnIndex).read(row, columnIndex);
+	}
+
+	private ColumnReader getColumnReader(int columnIndex) {
+
+		ColumnReader[] readers = this.readers;
+
+		if (columnIndex < readers.length && readers[columnIndex] != null) {
+			return readers[columnIndex];
+		}
+
+		ColumnReader reader = ColumnReader.of(this.columns.get(columnIndex).getType());
+
+		synchronized (this) {
+
+			ColumnReader[] current = this.readers;
+			ColumnReader[] updated = Arrays.copyOf(current, Math.max(current.length, columnIndex + 1));
+			updated[columnIndex] = reader;
+
+			this.readers = updated;
+		}
+
+		return reader;
+	}
+
+	/**
+	 * Reads a single column. Collection element classes are resolved on first use through the {@link CodecRegistry} of
+	 * the {@link Row}.
+	 */
+	private static class ColumnReader {
+
+		private static final ColumnReader OBJECT = new ColumnReader(null, false);
+
+		private final @Nullable DataType elementType;
+
+		private final boolean list;
+
+		private volatile @Nullable Class<?> elementClass;
+
+		private ColumnReader(@Nullable DataType elementType, boolean list) {
+			this.elementType = elementType;
+			this.list = list;
+		}
+
+		static ColumnReader of(DataType type) {
+
+			if (type instanceof ListType) {
+				return new ColumnReader(((ListType) type).getElementType(), true);
+			}
+
+			if (type instanceof SetType) {
+				return new ColumnReader(((SetType) type).getElementType(), false);
+			}
+
+			return OBJECT;
+		}
+
+		@Nullable
+		Object read(Row row, int columnIndex) {
+
+			if (this.elementType == null) {
+				return row.getObject(columnIndex);
+			}
+
+			Class<?> elementClass = getElementClass(row.codecRegistry());
+
+			return this.list ? row.getList(columnIndex, elementClass) : row.getSet(columnIndex, elementClass);
+		}
+
+		private Class<?> getElementClass(CodecRegistry codecRegistry) {
+
+			Class<?> elementClass = this.elementClass;
+
+			if (elementClass == null) {
+
+				elementClass = codecRegistry.codecFor(this.elementType).getJavaType().getRawType();
+				this.elementClass = elementClass;
+			}
+
+			return elementClass;
+		}
+	}
+}
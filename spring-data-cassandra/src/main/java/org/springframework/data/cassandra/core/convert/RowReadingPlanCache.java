@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Bounded cache of {@link RowReadingPlan}s keyed by {@link ColumnDefinitions}. Reading the same type from different
+ * queries (e.g. different prepared statements or projections) alternates between column definitions. Keeping a small
+ * number of plans avoids recreating plans for each switch. The most recently used plan is checked first so consecutive
+ * rows of the same result do not require a lookup. Least recently used plans are evicted once the cache reaches its
+ * maximum size.
+ *
+ * @since 3.1
+ */
+class RowReadingPlanCache {
+
+	/**
+	 * Default maximum number of cached plans.
+	 */
+	static final int DEFAULT_MAXIMUM_SIZE = 16;
+
+	private final Map<ColumnDefinitions, RowReadingPlan> plans;
+
+	private volatile @Nullable RowReadingPlan last;
+
+	/**
+	 * Create a new {@link RowReadingPlanCache} holding up to {@link #DEFAULT_MAXIMUM_SIZE} plans.
+	 */
+	RowReadingPlanCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a new {@link RowReadingPlanCache} holding up to {@code maximumSize} plans.
+	 *
+	 * @param maximumSize maximum number of cached plans, must be greater than zero.
+	 */
+	RowReadingPlanCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		this.plans = new LinkedHashMap<ColumnDefinitions, RowReadingPlan>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ColumnDefinitions, RowReadingPlan> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Return the {@link RowReadingPlan} for the {@link ColumnDefinitions} of the given {@link Row}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @return the {@link RowReadingPlan} for {@link Row}.
+	 */
+	RowReadingPlan getPlan(Row row) {
+
+		RowReadingPlan plan = this.last;
+
+		if (plan != null && plan.isApplicable(row)) {
+			return plan;
+		}
+
+		synchronized (this.plans) {
+			plan = this.plans.computeIfAbsent(row.getColumnDefinitions(), RowReadingPlan::of);
+		}
+
+		this.last = plan;
+
+		return plan;
+	}
+
+	/**
+	 * @return the number of cached plans.
+	 */
+	int size() {
+
+		synchronized (this.plans) {
+			return this.plans.size();
+		}
+	}
+}
@@ -52,6 +52,25 @@ public class RowValueProvider implements CassandraValueProvider {
 		this.evaluator = evaluator;
 	}
 
+	/**
+	 * Create a new {@link RowValueProvider} with the given {@link Row}, {@link RowReadingPlan} and
+	 * {@link SpELExpressionEvaluator}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @since 3.1
+	 */
+	RowValueProvider(Row source, RowReadingPlan plan, SpELExpressionEvaluator evaluator) {
+
+		Assert.notNull(source, "Source Row must not be null");
+		Assert.notNull(plan, "RowReadingPlan must not be null");
+		Assert.notNull(evaluator, "SpELExpressionEvaluator must not be null");
+
+		this.reader = new RowReader(source, plan);
+		this.evaluator = evaluator;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.mapping.model.PropertyValueProvider#getPropertyValue(org.springframework.data.mapping.PersistentProperty)
 	 */
@@ -494,6 +494,21 @@ public interface AsyncCqlOperations {
 	ListenableFuture<Void> query(Statement<?> statement, RowCallbackHandler rowCallbackHandler)
 			throws DataAccessException;
 
+	/**
+	 * Execute a query given static CQL, reading the {@link ResultSet} page by page in a columnar representation with a
+	 * {@link ColumnBatchHandler}. Each result page is handed out as {@link ColumnBatch}.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @param columnBatchHandler object that will process results, one page at a time, must not be {@literal null}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see ColumnBatch
+	 */
+	ListenableFuture<Void> queryForColumnBatches(Statement<?> statement, ColumnBatchHandler columnBatchHandler)
+			throws DataAccessException;
+
 	/**
 	 * Execute a query given static CQL, mapping each row to a Java object via a {@link RowMapper}.
 	 * <p>
@@ -27,6 +27,7 @@ import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
@@ -166,9 +167,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug("Executing CQL statement [{}]", cql);
 			}
 
-			CompletionStage<T> results = getCurrentSession().executeAsync(applyStatementSettings(newStatement(cql)))
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(ListenableFuture::completable);
+			CompletionStage<T> results = executeAndExtract(getCurrentSession(), applyStatementSettings(newStatement(cql)),
+					resultSetExtractor);
 
 			return new CassandraFutureAdapter<>(results, ex -> translateExceptionIfPossible("Query", cql, ex));
 		} catch (DriverException e) {
@@ -288,10 +288,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
 			}
 
-			CompletionStage<T> results = getCurrentSession() //
-					.executeAsync(applyStatementSettings(statement)) //
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(ListenableFuture::completable);
+			CompletionStage<T> results = executeAndExtract(getCurrentSession(), applyStatementSettings(statement),
+					resultSetExtractor);
 
 			return new CassandraFutureAdapter<>(results,
 					ex -> translateExceptionIfPossible("Query", statement.toString(), ex));
@@ -314,6 +312,21 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				getExceptionTranslator());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.AsyncCqlOperations#queryForColumnBatches(com.datastax.oss.driver.api.core.cql.Statement, org.springframework.data.cassandra.core.cql.ColumnBatchHandler)
+	 */
+	@Override
+	public ListenableFuture<Void> queryForColumnBatches(Statement<?> statement, ColumnBatchHandler columnBatchHandler)
+			throws DataAccessException {
+
+		Assert.notNull(columnBatchHandler, "ColumnBatchHandler must not be null");
+
+		ListenableFuture<Void> result = query(statement, newColumnBatchExtractor(columnBatchHandler));
+
+		return new ExceptionTranslatingListenableFutureAdapter<>(result, getExceptionTranslator());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.cql.AsyncCqlOperations#query(com.datastax.oss.driver.api.core.cql.Statement, org.springframework.data.cassandra.core.cql.RowMapper)
@@ -532,9 +545,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 					});
 
 			CompletableFuture<T> result = statementFuture.completable() //
-					.thenCompose(session::executeAsync) //
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(ListenableFuture::completable);
+					.thenCompose(statement -> executeAndExtract(session, statement, resultSetExtractor));
 
 			return new CassandraFutureAdapter<>(result, exceptionTranslator);
 		} catch (DriverException e) {
@@ -762,7 +773,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 	 */
 	protected AsyncRowCallbackHandlerResultSetExtractor newAsyncResultSetExtractor(
 			RowCallbackHandler rowCallbackHandler) {
-		return new AsyncRowCallbackHandlerResultSetExtractor(rowCallbackHandler);
+		return new AsyncRowCallbackHandlerResultSetExtractor(rowCallbackHandler, getPagePrefetch());
 	}
 
 	/**
@@ -775,7 +786,30 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 	 * @see RowMapperResultSetExtractor
 	 */
 	protected <T> AsyncRowMapperResultSetExtractor<T> newAsyncResultSetExtractor(RowMapper<T> rowMapper) {
-		return new AsyncRowMapperResultSetExtractor<>(rowMapper);
+		return new AsyncRowMapperResultSetExtractor<>(rowMapper, getPagePrefetch());
+	}
+
+	private AsyncResultSetExtractor<Void> newColumnBatchExtractor(ColumnBatchHandler columnBatchHandler) {
+
+		PagePrefetch pagePrefetch = getPagePrefetch();
+
+		return resultSet -> AsyncResultStream.from(resultSet).prefetch(pagePrefetch).forEachPage(
+				page -> columnBatchHandler.processBatch(ColumnBatch.of(page.getColumnDefinitions(),
+						page.currentPage().iterator(), page.remaining())));
+	}
+
+	private <T> CompletionStage<T> executeAndExtract(CqlSession session, Statement<?> statement,
+			AsyncResultSetExtractor<T> resultSetExtractor) {
+
+		CqlExecutionListener executionListener = getExecutionListener();
+
+		if (executionListener == null) {
+			return session.executeAsync(statement) //
+					.thenApply(resultSetExtractor::extractData) //
+					.thenCompose(ListenableFuture::completable);
+		}
+
+		return ExecutionRecorder.executeAsync(executionListener, statement, session::executeAsync, resultSetExtractor);
 	}
 
 	private CqlSession getCurrentSession() {
@@ -833,8 +867,19 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 
 		private final RowCallbackHandler rowCallbackHandler;
 
+		private final PagePrefetch pagePrefetch;
+
 		protected AsyncRowCallbackHandlerResultSetExtractor(RowCallbackHandler rowCallbackHandler) {
+			this(rowCallbackHandler, PagePrefetch.none());
+		}
+
+		/**
+		 * @since 3.1
+		 */
+		protected AsyncRowCallbackHandlerResultSetExtractor(RowCallbackHandler rowCallbackHandler,
+				PagePrefetch pagePrefetch) {
 			this.rowCallbackHandler = rowCallbackHandler;
+			this.pagePrefetch = pagePrefetch;
 		}
 
 		/* (non-Javadoc)
@@ -843,7 +888,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		@Override
 		@Nullable
 		public ListenableFuture<Void> extractData(AsyncResultSet resultSet) {
-			return AsyncResultStream.from(resultSet).forEach(rowCallbackHandler::processRow);
+			return AsyncResultStream.from(resultSet).prefetch(pagePrefetch).forEach(rowCallbackHandler::processRow);
 		}
 	}
 
@@ -15,7 +15,8 @@
  */
 package org.springframework.data.cassandra.core.cql;
 
-import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
@@ -23,6 +24,9 @@ import java.util.stream.Collector;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
+import org.springframework.data.cassandra.core.cql.util.PageReadAhead;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
@@ -30,6 +34,9 @@ import org.springframework.util.concurrent.SettableListenableFuture;
 /**
  * Asynchronous supplied sequence of elements supporting sequential operations over a {@link AsyncResultSet a result
  * set}. An asynchronous stream represents a pipeline of operations to process a {@link AsyncResultSet}.
+ * <p>
+ * Subsequent pages are fetched after processing the current page unless {@link #prefetch(PagePrefetch) page
+ * read-ahead} is configured. Read-ahead requests subsequent pages while rows of the current page are mapped.
  *
  * @author Mark Paluch
  * @since 3.0
@@ -40,9 +47,12 @@ class AsyncResultStream<T> {
 
 	private final RowMapper<T> mapper;
 
-	private AsyncResultStream(AsyncResultSet resultSet, RowMapper<T> mapper) {
+	private final PagePrefetch pagePrefetch;
+
+	private AsyncResultStream(AsyncResultSet resultSet, RowMapper<T> mapper, PagePrefetch pagePrefetch) {
 		this.resultSet = resultSet;
 		this.mapper = mapper;
+		this.pagePrefetch = pagePrefetch;
 	}
 
 	/**
@@ -55,7 +65,7 @@ class AsyncResultStream<T> {
 
 		Assert.notNull(resultSet, "AsyncResultSet must not be null");
 
-		return new AsyncResultStream<>(resultSet, (row, rowNum) -> row);
+		return new AsyncResultStream<>(resultSet, (row, rowNum) -> row, PagePrefetch.none());
 	}
 
 	/**
@@ -70,7 +80,22 @@ class AsyncResultStream<T> {
 
 		Assert.notNull(mapper, "RowMapper must not be null");
 
-		return new AsyncResultStream<>(resultSet, mapper);
+		return new AsyncResultStream<>(resultSet, mapper, pagePrefetch);
+	}
+
+	/**
+	 * Returns a stream that fetches pages ahead according to {@link PagePrefetch}.
+	 * <p>
+	 * This is an intermediate operation.
+	 *
+	 * @param pagePrefetch the read-ahead configuration.
+	 * @since 3.1
+	 */
+	AsyncResultStream<T> prefetch(PagePrefetch pagePrefetch) {
+
+		Assert.notNull(pagePrefetch, "PagePrefetch must not be null");
+
+		return new AsyncResultStream<>(resultSet, mapper, pagePrefetch);
 	}
 
 	/**
@@ -89,7 +114,7 @@ class AsyncResultStream<T> {
 		Assert.notNull(collector, "Collector must not be null");
 
 		SettableListenableFuture<R> future = new SettableListenableFuture<>();
-		CollectState<A, R> collectState = new CollectState<>(collector);
+		CollectState<A, R> collectState = new CollectState<>(collector, newReadAhead());
 
 		collectState.collectAsync(future, this.resultSet);
 
@@ -110,63 +135,152 @@ class AsyncResultStream<T> {
 
 		Assert.notNull(action, "Action must not be null");
 
+		PageReadAhead readAhead = newReadAhead();
+		AtomicInteger rowNumber = new AtomicInteger();
+
+		return forEachPage(readAhead,
+				page -> processPage(page, readAhead, row -> action.accept(mapper.mapRow(row, rowNumber.incrementAndGet()))));
+	}
+
+	/**
+	 * Performs an action for each page of this stream. Rows are not mapped. Pages ahead are requested before the action
+	 * is applied to the current page. This method returns a {@link ListenableFuture} that completes without a value
+	 * ({@code null}) once all pages have been processed.
+	 * <p>
+	 * This is a terminal operation.
+	 *
+	 * @param action a non-interfering action to perform on each page.
+	 * @since 3.1
+	 */
+	ListenableFuture<Void> forEachPage(Consumer<AsyncResultSet> action) {
+
+		Assert.notNull(action, "Action must not be null");
+
+		PageReadAhead readAhead = newReadAhead();
+
+		return forEachPage(readAhead, page -> {
+
+			if (page.hasMorePages()) {
+				readAhead.prefetch();
+			}
+
+			action.accept(page);
+		});
+	}
+
+	private ListenableFuture<Void> forEachPage(PageReadAhead readAhead, Consumer<AsyncResultSet> pageAction) {
+
 		SettableListenableFuture<Void> future = new SettableListenableFuture<>();
-		ForwardLoopState loopState = new ForwardLoopState(action);
+		ForwardLoopState loopState = new ForwardLoopState(pageAction, readAhead);
 
 		loopState.forEachAsync(future, this.resultSet);
 
 		return future;
 	}
 
+	private PageReadAhead newReadAhead() {
+		return new PageReadAhead(this.resultSet, this.pagePrefetch);
+	}
+
 	/**
-	 * State object for forward-looping using {@code forEach}.
+	 * Process all rows of the current page. Pages ahead are requested once the prefetch position of the page is reached.
+	 *
+	 * @param page the current page.
+	 * @param readAhead the page source.
+	 * @param action the action to apply to each row.
 	 */
-	class ForwardLoopState {
+	private static void processPage(AsyncResultSet page, PageReadAhead readAhead, Consumer<Row> action) {
 
-		private final AtomicInteger rowNumber = new AtomicInteger();
-		private final Consumer<T> consumer;
+		if (!page.hasMorePages()) {
+			page.currentPage().forEach(action);
+			return;
+		}
 
-		ForwardLoopState(Consumer<T> consumer) {
-			this.consumer = consumer;
+		int prefetchPosition = readAhead.getPrefetchPosition(page);
+		int position = 0;
+
+		if (prefetchPosition == 0) {
+			readAhead.prefetch();
 		}
 
-		void peekRow(Iterable<Row> rows) {
-			rows.forEach(row -> consumer.accept(mapper.mapRow(row, rowNumber.incrementAndGet())));
+		for (Row row : page.currentPage()) {
+
+			action.accept(row);
+
+			if (++position == prefetchPosition) {
+				readAhead.prefetch();
+			}
+		}
+	}
+
+	/**
+	 * Obtain the next page if it was already fetched. Returns {@literal null} if the next page is not yet available or
+	 * its fetch has failed.
+	 */
+	@Nullable
+	private static AsyncResultSet getIfAvailable(CompletableFuture<AsyncResultSet> nextPage) {
+		return nextPage.isDone() && !nextPage.isCompletedExceptionally() ? nextPage.join() : null;
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+	}
+
+	/**
+	 * State object for forward-looping over pages using {@code forEach} and {@code forEachPage}.
+	 */
+	static class ForwardLoopState {
+
+		private final Consumer<AsyncResultSet> pageAction;
+		private final PageReadAhead readAhead;
+
+		ForwardLoopState(Consumer<AsyncResultSet> pageAction, PageReadAhead readAhead) {
+			this.pageAction = pageAction;
+			this.readAhead = readAhead;
 		}
 
 		/**
-		 * Recursive async iteration.
+		 * Recursive async iteration. Pages that are already available are processed in a loop to not grow the stack.
 		 *
 		 * @param target
 		 * @param resultSet
 		 */
 		void forEachAsync(SettableListenableFuture<Void> target, AsyncResultSet resultSet) {
 
-			if (target.isCancelled()) {
-				return;
-			}
+			AsyncResultSet page = resultSet;
 
-			try {
-				peekRow(resultSet.currentPage());
-			} catch (RuntimeException e) {
-				target.setException(e);
-				return;
-			}
+			while (page != null) {
+
+				if (target.isCancelled()) {
+					return;
+				}
+
+				try {
+					pageAction.accept(page);
+				} catch (RuntimeException e) {
+					target.setException(e);
+					return;
+				}
+
+				if (!page.hasMorePages()) {
+					target.set(null);
+					return;
+				}
 
-			if (!resultSet.hasMorePages()) {
-				target.set(null);
-			} else {
+				CompletableFuture<AsyncResultSet> nextPage = readAhead.nextPage().toCompletableFuture();
+				page = getIfAvailable(nextPage);
 
-				CompletionStage<AsyncResultSet> nextPage = resultSet.fetchNextPage();
+				if (page == null) {
 
-				nextPage.whenComplete((nextResultSet, throwable) -> {
+					nextPage.whenComplete((nextResultSet, throwable) -> {
 
-					if (throwable != null) {
-						target.setException(throwable);
-					} else {
-						forEachAsync(target, nextResultSet);
-					}
-				});
+						if (throwable != null) {
+							target.setException(unwrap(throwable));
+						} else {
+							forEachAsync(target, nextResultSet);
+						}
+					});
+				}
 			}
 		}
 	}
@@ -179,17 +293,17 @@ class AsyncResultStream<T> {
 		private final AtomicInteger rowNumber = new AtomicInteger();
 		private volatile A intermediate;
 		private final Collector<? super T, A, R> collector;
+		private final PageReadAhead readAhead;
 
-		CollectState(Collector<? super T, A, R> collector) {
+		CollectState(Collector<? super T, A, R> collector, PageReadAhead readAhead) {
 			this.collector = collector;
 			this.intermediate = collector.supplier().get();
+			this.readAhead = readAhead;
 		}
 
-		void collectPage(Iterable<Row> rows) {
-
-			for (Row row : rows) {
-				collector.accumulator().accept(intermediate, mapper.mapRow(row, rowNumber.incrementAndGet()));
-			}
+		void collectPage(AsyncResultSet page) {
+			processPage(page, readAhead,
+					row -> collector.accumulator().accept(intermediate, mapper.mapRow(row, rowNumber.incrementAndGet())));
 		}
 
 		R finish() {
@@ -197,38 +311,47 @@ class AsyncResultStream<T> {
 		}
 
 		/**
-		 * Recursive collection.
+		 * Recursive collection. Pages that are already available are processed in a loop to not grow the stack.
 		 *
 		 * @param target
 		 * @param resultSet
 		 */
 		void collectAsync(SettableListenableFuture<R> target, AsyncResultSet resultSet) {
 
-			if (target.isCancelled()) {
-				return;
-			}
+			AsyncResultSet page = resultSet;
 
-			try {
-				collectPage(resultSet.currentPage());
-			} catch (RuntimeException e) {
-				target.setException(e);
-				return;
-			}
+			while (page != null) {
+
+				if (target.isCancelled()) {
+					return;
+				}
+
+				try {
+					collectPage(page);
+				} catch (RuntimeException e) {
+					target.setException(e);
+					return;
+				}
+
+				if (!page.hasMorePages()) {
+					target.set(finish());
+					return;
+				}
 
-			if (!resultSet.hasMorePages()) {
-				target.set(finish());
-			} else {
+				CompletableFuture<AsyncResultSet> nextPage = readAhead.nextPage().toCompletableFuture();
+				page = getIfAvailable(nextPage);
 
-				CompletionStage<AsyncResultSet> nextPage = resultSet.fetchNextPage();
+				if (page == null) {
 
-				nextPage.whenComplete((nextResultSet, throwable) -> {
+					nextPage.whenComplete((nextResultSet, throwable) -> {
 
-					if (throwable != null) {
-						target.setException(throwable);
-					} else {
-						collectAsync(target, nextResultSet);
-					}
-				});
+						if (throwable != null) {
+							target.setException(unwrap(throwable));
+						} else {
+							collectAsync(target, nextResultSet);
+						}
+					});
+				}
 			}
 		}
 	}
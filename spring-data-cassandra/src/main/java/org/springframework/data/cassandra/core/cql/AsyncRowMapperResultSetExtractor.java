@@ -22,6 +22,7 @@ import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
 
@@ -44,16 +45,31 @@ public class AsyncRowMapperResultSetExtractor<T> implements AsyncResultSetExtrac
 
 	private final RowMapper<T> rowMapper;
 
+	private final PagePrefetch pagePrefetch;
+
 	/**
 	 * Create a new {@link AsyncRowMapperResultSetExtractor}.
 	 *
 	 * @param rowMapper the {@link RowMapper} which creates an object for each row, must not be {@literal null}.
 	 */
 	public AsyncRowMapperResultSetExtractor(RowMapper<T> rowMapper) {
+		this(rowMapper, PagePrefetch.none());
+	}
+
+	/**
+	 * Create a new {@link AsyncRowMapperResultSetExtractor} fetching pages ahead according to {@link PagePrefetch}.
+	 *
+	 * @param rowMapper the {@link RowMapper} which creates an object for each row, must not be {@literal null}.
+	 * @param pagePrefetch the page read-ahead configuration, must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public AsyncRowMapperResultSetExtractor(RowMapper<T> rowMapper, PagePrefetch pagePrefetch) {
 
 		Assert.notNull(rowMapper, "RowMapper is must not be null");
+		Assert.notNull(pagePrefetch, "PagePrefetch must not be null");
 
 		this.rowMapper = rowMapper;
+		this.pagePrefetch = pagePrefetch;
 	}
 
 	/* (non-Javadoc)
@@ -61,6 +77,6 @@ public class AsyncRowMapperResultSetExtractor<T> implements AsyncResultSetExtrac
 	 */
 	@Override
 	public ListenableFuture<List<T>> extractData(AsyncResultSet resultSet) throws DriverException, DataAccessException {
-		return AsyncResultStream.from(resultSet).map(rowMapper).collect(Collectors.toList());
+		return AsyncResultStream.from(resultSet).map(rowMapper).prefetch(pagePrefetch).collect(Collectors.toList());
 	}
 }
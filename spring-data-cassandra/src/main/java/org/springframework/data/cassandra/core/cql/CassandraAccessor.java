@@ -24,6 +24,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -74,6 +75,11 @@ public class CassandraAccessor implements InitializingBean {
 	 */
 	private int pageSize = -1;
 
+	/**
+	 * Page read-ahead to apply when consuming results page by page.
+	 */
+	private PagePrefetch pagePrefetch = PagePrefetch.none();
+
 	/**
 	 * If this variable is set to a value, it will be used for setting the {@code consistencyLevel} property on statements
 	 * used for query processing.
@@ -86,6 +92,11 @@ public class CassandraAccessor implements InitializingBean {
 	 */
 	private @Nullable ConsistencyLevel serialConsistencyLevel;
 
+	/**
+	 * Listener notified about statement executions. Execution details are not recorded if no listener is set.
+	 */
+	private @Nullable CqlExecutionListener executionListener;
+
 	private @Nullable SessionFactory sessionFactory;
 
 	/**
@@ -242,6 +253,51 @@ public class CassandraAccessor implements InitializingBean {
 		return this.pageSize;
 	}
 
+	/**
+	 * Set the page read-ahead for this template. Read-ahead requests the next result page while the current page is
+	 * consumed so that fetching and row mapping overlap. It applies to result streams and asynchronous result extraction
+	 * and bounds the number of pages fetched ahead of the current page. Disabled by default.
+	 *
+	 * @param pagePrefetch the read-ahead configuration, must not be {@literal null}.
+	 * @see PagePrefetch
+	 * @since 3.1
+	 */
+	public void setPagePrefetch(PagePrefetch pagePrefetch) {
+
+		Assert.notNull(pagePrefetch, "PagePrefetch must not be null");
+
+		this.pagePrefetch = pagePrefetch;
+	}
+
+	/**
+	 * @return the {@link PagePrefetch} specified for this template.
+	 * @since 3.1
+	 */
+	public PagePrefetch getPagePrefetch() {
+		return this.pagePrefetch;
+	}
+
+	/**
+	 * Set the {@link CqlExecutionListener} to notify about statement executions of this template. Execution details are
+	 * only recorded if a listener is set.
+	 *
+	 * @param executionListener the listener, can be {@literal null} to disable execution recording.
+	 * @see CqlExecutionListener
+	 * @since 3.1
+	 */
+	public void setExecutionListener(@Nullable CqlExecutionListener executionListener) {
+		this.executionListener = executionListener;
+	}
+
+	/**
+	 * @return the {@link CqlExecutionListener} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public CqlExecutionListener getExecutionListener() {
+		return this.executionListener;
+	}
+
 	/**
 	 * Set the serial consistency level for this template.
 	 *
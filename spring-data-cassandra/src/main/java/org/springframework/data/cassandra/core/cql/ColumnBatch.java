@@ -0,0 +1,498 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Columnar representation of the rows of a single result page. Column values are held in primitive arrays for
+ * {@code int}, {@code bigint}, {@code counter}, {@code timestamp}, {@code double}, {@code float} and {@code boolean}
+ * columns. {@code text} and {@code ascii} columns are dictionary-coded: each row holds a code that refers to a distinct
+ * value of the page. Other column types are held as objects.
+ * <p>
+ * Arrays returned by this class are the backing arrays of the batch and are not copied. Array elements of
+ * {@literal null} values are {@literal 0}, {@literal false} respectively {@literal -1} for dictionary codes. Use
+ * {@link #isNull(int, int)} to distinguish {@literal null} values from actual values.
+ *
+ * @since 3.1
+ * @see ColumnBatchHandler
+ */
+public final class ColumnBatch {
+
+	private final ColumnDefinitions columnDefinitions;
+
+	private final int size;
+
+	private final ColumnType[] types;
+
+	private final Object[] values;
+
+	private final BitSet[] nulls;
+
+	private final String[][] dictionaries;
+
+	private ColumnBatch(ColumnDefinitions columnDefinitions, int size, ColumnType[] types, Object[] values,
+			BitSet[] nulls, String[][] dictionaries) {
+
+		this.columnDefinitions = columnDefinitions;
+		this.size = size;
+		this.types = types;
+		this.values = values;
+		this.nulls = nulls;
+		this.dictionaries = dictionaries;
+	}
+
+	/**
+	 * Create a new {@link ColumnBatch} by reading up to {@code maxRows} rows from {@link Iterator rows}.
+	 *
+	 * @param columnDefinitions the column definitions of the rows, must not be {@literal null}.
+	 * @param rows the rows to read, must not be {@literal null}.
+	 * @param maxRows the maximum number of rows to read.
+	 * @return the {@link ColumnBatch} holding the rows that were read.
+	 */
+	static ColumnBatch of(ColumnDefinitions columnDefinitions, Iterator<Row> rows, int maxRows) {
+
+		Assert.notNull(columnDefinitions, "ColumnDefinitions must not be null");
+		Assert.notNull(rows, "Rows must not be null");
+
+		int columnCount = columnDefinitions.size();
+		ColumnType[] types = new ColumnType[columnCount];
+		Object[] values = new Object[columnCount];
+		BitSet[] nulls = new BitSet[columnCount];
+		String[][] dictionaries = new String[columnCount][];
+		DictionaryEncoder[] encoders = new DictionaryEncoder[columnCount];
+
+		for (int column = 0; column < columnCount; column++) {
+
+			types[column] = ColumnType.from(columnDefinitions.get(column).getType());
+			values[column] = types[column].newArray(maxRows);
+			nulls[column] = new BitSet();
+
+			if (types[column] == ColumnType.TEXT) {
+				encoders[column] = new DictionaryEncoder();
+			}
+		}
+
+		int size = 0;
+
+		while (size < maxRows && rows.hasNext()) {
+
+			Row row = rows.next();
+
+			for (int column = 0; column < columnCount; column++) {
+
+				if (row.isNull(column)) {
+					nulls[column].set(size);
+					types[column].setNull(values[column], size);
+				} else if (encoders[column] != null) {
+					((int[]) values[column])[size] = encoders[column].encode(row, column);
+				} else {
+					types[column].read(row, column, values[column], size);
+				}
+			}
+
+			size++;
+		}
+
+		for (int column = 0; column < columnCount; column++) {
+			if (encoders[column] != null) {
+				dictionaries[column] = encoders[column].getDictionary();
+			}
+		}
+
+		return new ColumnBatch(columnDefinitions, size, types, values, nulls, dictionaries);
+	}
+
+	/**
+	 * @return the number of rows in this batch.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the number of columns in this batch.
+	 */
+	public int getColumnCount() {
+		return this.types.length;
+	}
+
+	/**
+	 * @return the column definitions of this batch.
+	 */
+	public ColumnDefinitions getColumnDefinitions() {
+		return this.columnDefinitions;
+	}
+
+	/**
+	 * Return the index of the column with the given {@code name}.
+	 *
+	 * @param name the column name, must not be {@literal null} or empty.
+	 * @return the column index.
+	 * @throws IllegalArgumentException if the batch does not contain a column with the given {@code name}.
+	 */
+	public int getColumnIndex(String name) {
+
+		Assert.hasText(name, "Column name must not be empty");
+
+		int index = this.columnDefinitions.firstIndexOf(name);
+
+		Assert.isTrue(index != -1, () -> String.format("Column [%s] does not exist", name));
+
+		return index;
+	}
+
+	/**
+	 * Return whether the value in {@code column} of {@code row} is {@literal null}.
+	 *
+	 * @param column the column index.
+	 * @param row the row index within this batch.
+	 * @return {@literal true} if the value is {@literal null}.
+	 */
+	public boolean isNull(int column, int row) {
+		return this.nulls[column].get(row);
+	}
+
+	/**
+	 * Return the values of an {@code int} column.
+	 *
+	 * @param column the column index.
+	 * @return the column values.
+	 * @throws IllegalArgumentException if the column is not an {@code int} column.
+	 */
+	public int[] getInts(int column) {
+		return (int[]) getValues(column, ColumnType.INT);
+	}
+
+	/**
+	 * Return the values of a {@code bigint} or {@code counter} column.
+	 *
+	 * @param column the column index.
+	 * @return the column values.
+	 * @throws IllegalArgumentException if the column is not a {@code bigint} or {@code counter} column.
+	 */
+	public long[] getLongs(int column) {
+		return (long[]) getValues(column, ColumnType.LONG);
+	}
+
+	/**
+	 * Return the values of a {@code timestamp} column as milliseconds since the epoch.
+	 *
+	 * @param column the column index.
+	 * @return the column values.
+	 * @throws IllegalArgumentException if the column is not a {@code timestamp} column.
+	 */
+	public long[] getTimestamps(int column) {
+		return (long[]) getValues(column, ColumnType.TIMESTAMP);
+	}
+
+	/**
+	 * Return the values of a {@code double} column.
+	 *
+	 * @param column the column index.
+	 * @return the column values.
+	 * @throws IllegalArgumentException if the column is not a {@code double} column.
+	 */
+	public double[] getDoubles(int column) {
+		return (double[]) getValues(column, ColumnType.DOUBLE);
+	}
+
+	/**
+	 * Return the values of a {@code float} column.
+	 *
+	 * @param column the column index.
+	 * @return the column values.
+	 * @throws IllegalArgumentException if the column is not a {@code float} column.
+	 */
+	public float[] getFloats(int column) {
+		return (float[]) getValues(column, ColumnType.FLOAT);
+	}
+
+	/**
+	 * Return the values of a {@code boolean} column.
+	 *
+	 * @param column the column index.
+	 * @return the column values.
+	 * @throws IllegalArgumentException if the column is not a {@code boolean} column.
+	 */
+	public boolean[] getBooleans(int column) {
+		return (boolean[]) getValues(column, ColumnType.BOOLEAN);
+	}
+
+	/**
+	 * Return the dictionary codes of a {@code text} or {@code ascii} column. Codes refer to the index of the value in
+	 * {@link #getDictionary(int)}.
+	 *
+	 * @param column the column index.
+	 * @return the dictionary codes.
+	 * @throws IllegalArgumentException if the column is not a {@code text} or {@code ascii} column.
+	 */
+	public int[] getDictionaryCodes(int column) {
+		return (int[]) getValues(column, ColumnType.TEXT);
+	}
+
+	/**
+	 * Return the distinct values of a {@code text} or {@code ascii} column in the order of their first occurrence.
+	 *
+	 * @param column the column index.
+	 * @return the dictionary.
+	 * @throws IllegalArgumentException if the column is not a {@code text} or {@code ascii} column.
+	 */
+	public String[] getDictionary(int column) {
+
+		getValues(column, ColumnType.TEXT);
+
+		return this.dictionaries[column];
+	}
+
+	/**
+	 * Return the value of a {@code text} or {@code ascii} column.
+	 *
+	 * @param column the column index.
+	 * @param row the row index within this batch.
+	 * @return the value, may be {@literal null}.
+	 * @throws IllegalArgumentException if the column is not a {@code text} or {@code ascii} column.
+	 */
+	@Nullable
+	public String getString(int column, int row) {
+
+		int code = getDictionaryCodes(column)[row];
+
+		return code == -1 ? null : this.dictionaries[column][code];
+	}
+
+	/**
+	 * Return the values of a column that is not held in a primitive or dictionary-coded representation.
+	 *
+	 * @param column the column index.
+	 * @return the column values.
+	 * @throws IllegalArgumentException if the column is held in a primitive or dictionary-coded representation.
+	 */
+	public Object[] getObjects(int column) {
+		return (Object[]) getValues(column, ColumnType.OBJECT);
+	}
+
+	private Object getValues(int column, ColumnType expectedType) {
+
+		ColumnType type = this.types[column];
+
+		Assert.isTrue(type == expectedType, () -> String.format("Column [%s] of type [%s] is not a %s column",
+				this.columnDefinitions.get(column).getName(), this.columnDefinitions.get(column).getType(), expectedType));
+
+		return this.values[column];
+	}
+
+	/**
+	 * Columnar representation of a CQL type.
+	 */
+	private enum ColumnType {
+
+		INT {
+
+			@Override
+			Object newArray(int size) {
+				return new int[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+				((int[]) values)[index] = row.getInt(column);
+			}
+		},
+
+		LONG {
+
+			@Override
+			Object newArray(int size) {
+				return new long[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+				((long[]) values)[index] = row.getLong(column);
+			}
+		},
+
+		TIMESTAMP {
+
+			@Override
+			Object newArray(int size) {
+				return new long[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+
+				ByteBuffer bytes = row.getBytesUnsafe(column);
+
+				((long[]) values)[index] = bytes.getLong(bytes.position());
+			}
+		},
+
+		DOUBLE {
+
+			@Override
+			Object newArray(int size) {
+				return new double[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+				((double[]) values)[index] = row.getDouble(column);
+			}
+		},
+
+		FLOAT {
+
+			@Override
+			Object newArray(int size) {
+				return new float[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+				((float[]) values)[index] = row.getFloat(column);
+			}
+		},
+
+		BOOLEAN {
+
+			@Override
+			Object newArray(int size) {
+				return new boolean[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+				((boolean[]) values)[index] = row.getBoolean(column);
+			}
+		},
+
+		TEXT {
+
+			@Override
+			Object newArray(int size) {
+				return new int[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+				throw new UnsupportedOperationException("Text columns are read through a dictionary");
+			}
+
+			@Override
+			void setNull(Object values, int index) {
+				((int[]) values)[index] = -1;
+			}
+		},
+
+		OBJECT {
+
+			@Override
+			Object newArray(int size) {
+				return new Object[size];
+			}
+
+			@Override
+			void read(Row row, int column, Object values, int index) {
+				((Object[]) values)[index] = row.getObject(column);
+			}
+		};
+
+		static ColumnType from(DataType type) {
+
+			if (DataTypes.INT.equals(type)) {
+				return INT;
+			}
+
+			if (DataTypes.BIGINT.equals(type) || DataTypes.COUNTER.equals(type)) {
+				return LONG;
+			}
+
+			if (DataTypes.TIMESTAMP.equals(type)) {
+				return TIMESTAMP;
+			}
+
+			if (DataTypes.DOUBLE.equals(type)) {
+				return DOUBLE;
+			}
+
+			if (DataTypes.FLOAT.equals(type)) {
+				return FLOAT;
+			}
+
+			if (DataTypes.BOOLEAN.equals(type)) {
+				return BOOLEAN;
+			}
+
+			if (DataTypes.TEXT.equals(type) || DataTypes.ASCII.equals(type)) {
+				return TEXT;
+			}
+
+			return OBJECT;
+		}
+
+		abstract Object newArray(int size);
+
+		abstract void read(Row row, int column, Object values, int index);
+
+		void setNull(Object values, int index) {}
+	}
+
+	/**
+	 * Assigns codes to distinct values of a text column. Values are compared by their serialized form so that each
+	 * distinct value is decoded only once.
+	 */
+	private static class DictionaryEncoder {
+
+		private final Map<ByteBuffer, Integer> codes = new HashMap<>();
+
+		private final List<String> dictionary = new ArrayList<>();
+
+		int encode(Row row, int column) {
+
+			ByteBuffer bytes = row.getBytesUnsafe(column);
+			Integer code = this.codes.get(bytes);
+
+			if (code == null) {
+
+				code = this.dictionary.size();
+				this.codes.put(bytes, code);
+				this.dictionary.add(row.getString(column));
+			}
+
+			return code;
+		}
+
+		String[] getDictionary() {
+			return this.dictionary.toArray(new String[0]);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import com.datastax.oss.driver.api.core.DriverException;
+
+/**
+ * An interface used by {@link CqlTemplate} and {@link AsyncCqlTemplate} for processing the rows of a
+ * {@link com.datastax.oss.driver.api.core.cql.ResultSet} in a columnar representation. Each result page is handed out
+ * as {@link ColumnBatch} so that implementations can aggregate values without creating objects per row.
+ * {@link DriverException}s will be caught and handled by the calling template.
+ * <p>
+ * Like a {@link RowCallbackHandler}, a {@link ColumnBatchHandler} object is typically stateful: It keeps the result
+ * state within the object, to be available for later inspection.
+ *
+ * @since 3.1
+ * @see ColumnBatch
+ * @see RowCallbackHandler
+ */
+@FunctionalInterface
+public interface ColumnBatchHandler {
+
+	/**
+	 * Implementations must implement this method to process a {@link ColumnBatch}.
+	 *
+	 * @param batch the {@link ColumnBatch} holding the rows of a result page.
+	 * @throws DriverException if a {@link DriverException} is encountered processing the batch.
+	 */
+	void processBatch(ColumnBatch batch) throws DriverException;
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Details of a single statement execution reported to {@link CqlExecutionListener}. The {@link #getCql() CQL} of
+ * prepared statements does not contain bound values and can be used as statement shape to group executions.
+ * {@link #getKeyspace() Keyspace} and {@link #getTable() table} are derived from the statement and from the column
+ * metadata of the result or the bound variables and can be {@literal null} if the statement does not expose them.
+ * <p>
+ * {@link #getExecutionTime() Execution time} is the time spent waiting for the driver to return result pages.
+ * {@link #getMappingTime() Mapping time} is the remaining time of the {@link #getTotalTime() total time} that was
+ * spent on result extraction. Reactive executions account the time to receive the first result page as execution time
+ * only.
+ *
+ * @since 3.1
+ * @see CqlExecutionListener
+ */
+public final class CqlExecution {
+
+	private final Statement<?> statement;
+
+	private final @Nullable ColumnDefinitions resultDefinitions;
+
+	private final long executionTime;
+
+	private final long totalTime;
+
+	private final long rowCount;
+
+	private final int pageCount;
+
+	CqlExecution(Statement<?> statement, @Nullable ColumnDefinitions resultDefinitions, long executionTime,
+			long totalTime, long rowCount, int pageCount) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		this.statement = statement;
+		this.resultDefinitions = resultDefinitions;
+		this.executionTime = executionTime;
+		this.totalTime = totalTime;
+		this.rowCount = rowCount;
+		this.pageCount = pageCount;
+	}
+
+	/**
+	 * @return the executed {@link Statement}.
+	 */
+	public Statement<?> getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * @return the CQL of the executed statement. Bound statements report the CQL of their prepared statement.
+	 */
+	public String getCql() {
+
+		String cql = QueryExtractorDelegate.getCql(this.statement);
+
+		return cql != null ? cql : "";
+	}
+
+	/**
+	 * @return the {@link Operation} of the executed statement.
+	 */
+	public Operation getOperation() {
+		return Operation.from(this.statement);
+	}
+
+	/**
+	 * @return the keyspace of the executed statement or {@literal null} if the keyspace cannot be determined.
+	 */
+	@Nullable
+	public CqlIdentifier getKeyspace() {
+
+		if (this.statement.getKeyspace() != null) {
+			return this.statement.getKeyspace();
+		}
+
+		ColumnDefinitions columnDefinitions = getColumnDefinitions();
+
+		return columnDefinitions != null ? columnDefinitions.get(0).getKeyspace() : null;
+	}
+
+	/**
+	 * @return the table of the executed statement or {@literal null} if the table cannot be determined.
+	 */
+	@Nullable
+	public CqlIdentifier getTable() {
+
+		ColumnDefinitions columnDefinitions = getColumnDefinitions();
+
+		return columnDefinitions != null ? columnDefinitions.get(0).getTable() : null;
+	}
+
+	/**
+	 * @return the time spent waiting for the driver to execute the statement and to fetch result pages.
+	 */
+	public Duration getExecutionTime() {
+		return Duration.ofNanos(this.executionTime);
+	}
+
+	/**
+	 * @return the time spent on result extraction, excluding the time spent waiting for the driver.
+	 */
+	public Duration getMappingTime() {
+		return Duration.ofNanos(Math.max(0, this.totalTime - this.executionTime));
+	}
+
+	/**
+	 * @return the total time of the execution including result extraction.
+	 */
+	public Duration getTotalTime() {
+		return Duration.ofNanos(this.totalTime);
+	}
+
+	/**
+	 * @return the number of rows consumed from the result.
+	 */
+	public long getRowCount() {
+		return this.rowCount;
+	}
+
+	/**
+	 * @return the number of fetched result pages.
+	 */
+	public int getPageCount() {
+		return this.pageCount;
+	}
+
+	@Nullable
+	private ColumnDefinitions getColumnDefinitions() {
+
+		if (this.resultDefinitions != null && this.resultDefinitions.size() != 0) {
+			return this.resultDefinitions;
+		}
+
+		if (this.statement instanceof BoundStatement) {
+
+			ColumnDefinitions variables = ((BoundStatement) this.statement).getPreparedStatement().getVariableDefinitions();
+
+			return variables.size() != 0 ? variables : null;
+		}
+
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s [%s] rows: %d, pages: %d, total: %d ms", getOperation(), getCql(), this.rowCount,
+				this.pageCount, getTotalTime().toMillis());
+	}
+
+	/**
+	 * Operation type of an executed statement.
+	 */
+	public enum Operation {
+
+		SELECT, INSERT, UPDATE, DELETE, BATCH, OTHER;
+
+		/**
+		 * Determine the {@link Operation} of a {@link Statement} from its leading CQL keyword.
+		 *
+		 * @param statement must not be {@literal null}.
+		 * @return the {@link Operation}.
+		 */
+		static Operation from(Statement<?> statement) {
+
+			if (statement instanceof BatchStatement) {
+				return BATCH;
+			}
+
+			String cql = QueryExtractorDelegate.getCql(statement);
+
+			if (cql == null) {
+				return OTHER;
+			}
+
+			String keyword = getLeadingKeyword(cql);
+
+			if (keyword.equals("BEGIN")) {
+				return BATCH;
+			}
+
+			for (Operation operation : values()) {
+				if (operation.name().equals(keyword)) {
+					return operation;
+				}
+			}
+
+			return OTHER;
+		}
+
+		private static String getLeadingKeyword(String cql) {
+
+			int start = 0;
+
+			while (start < cql.length() && Character.isWhitespace(cql.charAt(start))) {
+				start++;
+			}
+
+			int end = start;
+
+			while (end < cql.length() && Character.isLetter(cql.charAt(end))) {
+				end++;
+			}
+
+			return cql.substring(start, end).toUpperCase(Locale.ROOT);
+		}
+	}
+}
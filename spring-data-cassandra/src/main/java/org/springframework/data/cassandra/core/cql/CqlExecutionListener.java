@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Listener notified by {@link CqlTemplate}, {@link AsyncCqlTemplate} and {@link ReactiveCqlTemplate} after executing a
+ * statement and extracting its results. Listeners receive a {@link CqlExecution} describing the executed statement
+ * (CQL, operation, keyspace and table) along with timings, the number of consumed rows and the number of fetched result
+ * pages. Listeners are typically used to bridge execution details into a metrics or tracing library.
+ * <p>
+ * Templates do not record execution details if no listener is configured. Listener callbacks are invoked on the thread
+ * completing the execution and should return quickly. Exceptions thrown by a listener are logged and do not affect
+ * the execution result.
+ * <p>
+ * Some executions are observed partially or not at all:
+ * <ul>
+ * <li>{@link CqlOperations#executeAsync(Statement)} and {@code queryForStream} with
+ * {@link CassandraAccessor#setPagePrefetch page prefetch} report the initial request only. Execution time, rows and
+ * pages cover the first page. Pages fetched later are not reported. Entity scans, id lookups, bulk inserts, range
+ * counts and split batches of the {@code CassandraTemplate} use {@link CqlOperations#executeAsync(Statement)}.</li>
+ * <li>Statements that {@link SessionCallback}s, {@link AsyncSessionCallback}s and {@link ReactiveSessionCallback}s
+ * execute against the session directly are not reported. This includes entity writes that the Cassandra templates
+ * issue without prepared statements.</li>
+ * <li>Statement preparation is not reported and {@link CqlExecution} does not expose whether a prepared statement was
+ * served from a cache. Use {@link org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics}
+ * to observe prepared statement caching.</li>
+ * </ul>
+ *
+ * @since 3.1
+ * @see CassandraAccessor#setExecutionListener(CqlExecutionListener)
+ * @see ReactiveCassandraAccessor#setExecutionListener(CqlExecutionListener)
+ * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics
+ */
+public interface CqlExecutionListener {
+
+	/**
+	 * Callback after a statement was executed and its results were extracted successfully.
+	 *
+	 * @param execution the {@link CqlExecution} details.
+	 */
+	void onSuccess(CqlExecution execution);
+
+	/**
+	 * Callback after a statement execution or the result extraction failed. The default implementation does nothing.
+	 *
+	 * @param execution the {@link CqlExecution} details collected until the failure.
+	 * @param exception the failure. Exceptions are reported before their translation into
+	 *          {@link org.springframework.dao.DataAccessException}.
+	 */
+	default void onError(CqlExecution execution, Throwable exception) {}
+}
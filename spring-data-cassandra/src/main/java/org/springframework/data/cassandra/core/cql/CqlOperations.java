@@ -18,12 +18,15 @@ package org.springframework.data.cassandra.core.cql;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -568,6 +571,21 @@ public interface CqlOperations {
 	 */
 	<T> Stream<T> queryForStream(Statement<?> statement, RowMapper<T> rowMapper) throws DataAccessException;
 
+	/**
+	 * Execute a query given static CQL, reading the {@link ResultSet} page by page in a columnar representation with a
+	 * {@link ColumnBatchHandler}. Each result page is handed out as {@link ColumnBatch}.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @param columnBatchHandler object that will process results, one page at a time, must not be {@literal null}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see ColumnBatch
+	 */
+	void queryForColumnBatches(Statement<?> statement, ColumnBatchHandler columnBatchHandler)
+			throws DataAccessException;
+
 	/**
 	 * Execute a query for a result {@link List}, given static CQL.
 	 * <p>
@@ -675,6 +693,28 @@ public interface CqlOperations {
 	 */
 	ResultSet queryForResultSet(Statement<?> statement) throws DataAccessException;
 
+	/**
+	 * Execute a CQL {@link Statement} asynchronously. Intended for operations that issue many statements concurrently
+	 * from a calling thread, such as lookups by id or bulk writes. Implementations apply the same statement settings
+	 * (consistency level, execution profile, page size) and notify the same execution listener as for synchronous
+	 * executions. The default implementation executes the statement as-is on the session.
+	 * <p>
+	 * Exceptions raised while issuing the statement are translated into {@link DataAccessException}. Failures completing
+	 * the returned {@link CompletionStage} are driver exceptions and are left for the caller to translate.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @return the {@link CompletionStage} emitting the first page of the {@link AsyncResultSet}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 */
+	default CompletionStage<AsyncResultSet> executeAsync(Statement<?> statement) throws DataAccessException {
+
+		Assert.notNull(statement, "CQL Statement must not be null");
+
+		// noinspection ConstantConditions
+		return execute((SessionCallback<CompletionStage<AsyncResultSet>>) session -> session.executeAsync(statement));
+	}
+
 	/**
 	 * Execute a query for Rows, given static CQL.
 	 * <p>
@@ -16,9 +16,11 @@
 package org.springframework.data.cassandra.core.cql;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,11 +30,15 @@ import java.util.stream.StreamSupport;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cassandra.SessionFactory;
+import org.springframework.data.cassandra.core.cql.util.FutureUtils;
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
+import org.springframework.data.cassandra.core.cql.util.PageReadAhead;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -171,9 +177,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 			Statement<?> statement = applyStatementSettings(newStatement(cql));
 
-			ResultSet results = getCurrentSession().execute(statement);
-
-			return resultSetExtractor.extractData(results);
+			return executeAndExtract(getCurrentSession(), statement, resultSetExtractor);
 		} catch (DriverException e) {
 			throw translateException("Query", cql, e);
 		}
@@ -295,7 +299,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
 			}
 
-			return resultSetExtractor.extractData(getCurrentSession().execute(applyStatementSettings(statement)));
+			return executeAndExtract(getCurrentSession(), applyStatementSettings(statement), resultSetExtractor);
 		} catch (DriverException e) {
 			throw translateException("Query", statement.toString(), e);
 		}
@@ -326,8 +330,37 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	 */
 	@Override
 	public <T> Stream<T> queryForStream(Statement<?> statement, RowMapper<T> rowMapper) throws DataAccessException {
-		// noinspection ConstantConditions
-		return query(statement, newStreamExtractor(rowMapper));
+
+		if (!getPagePrefetch().isEnabled()) {
+			// noinspection ConstantConditions
+			return query(statement, newStreamExtractor(rowMapper));
+		}
+
+		Assert.notNull(statement, "CQL Statement must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
+			}
+
+			return newReadAheadStream(doExecuteAsync(getCurrentSession(), applyStatementSettings(statement)), rowMapper);
+		} catch (DriverException e) {
+			throw translateException("Query", statement.toString(), e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForColumnBatches(com.datastax.oss.driver.api.core.cql.Statement, org.springframework.data.cassandra.core.cql.ColumnBatchHandler)
+	 */
+	@Override
+	public void queryForColumnBatches(Statement<?> statement, ColumnBatchHandler columnBatchHandler)
+			throws DataAccessException {
+
+		Assert.notNull(columnBatchHandler, "ColumnBatchHandler must not be null");
+
+		query(statement, new ColumnBatchResultSetExtractor(columnBatchHandler));
 	}
 
 	/*
@@ -387,6 +420,26 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return query(statement, rs -> rs);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#executeAsync(com.datastax.oss.driver.api.core.cql.Statement)
+	 */
+	@Override
+	public CompletionStage<AsyncResultSet> executeAsync(Statement<?> statement) throws DataAccessException {
+
+		Assert.notNull(statement, "CQL Statement must not be null");
+
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
+			}
+
+			return doExecuteAsync(getCurrentSession(), applyStatementSettings(statement));
+		} catch (DriverException e) {
+			throw translateException("Execute", statement.toString(), e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForRows(com.datastax.oss.driver.api.core.cql.Statement)
@@ -505,8 +558,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	@Override
 	public <T> Stream<T> queryForStream(PreparedStatementCreator preparedStatementCreator, RowMapper<T> rowMapper)
 			throws DataAccessException {
-		// noinspection ConstantConditions
-		return query(preparedStatementCreator, null, newStreamExtractor(rowMapper));
+		return queryForStream(preparedStatementCreator, null, rowMapper);
 	}
 
 	/*
@@ -537,9 +589,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 			Statement<?> boundStatement = applyStatementSettings(
 					psb != null ? psb.bindValues(preparedStatement) : preparedStatement.bind());
 
-			ResultSet results = session.execute(boundStatement);
-
-			return resultSetExtractor.extractData(results);
+			return executeAndExtract(session, boundStatement, resultSetExtractor);
 
 		} catch (DriverException e) {
 			throw translateException("Query", toCql(preparedStatementCreator), e);
@@ -575,8 +625,36 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	@Override
 	public <T> Stream<T> queryForStream(PreparedStatementCreator preparedStatementCreator,
 			@Nullable PreparedStatementBinder psb, RowMapper<T> rowMapper) throws DataAccessException {
-		// noinspection ConstantConditions
-		return query(preparedStatementCreator, psb, newStreamExtractor(rowMapper));
+
+		if (!getPagePrefetch().isEnabled()) {
+			// noinspection ConstantConditions
+			return query(preparedStatementCreator, psb, newStreamExtractor(rowMapper));
+		}
+
+		Assert.notNull(preparedStatementCreator, "PreparedStatementCreator must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Preparing statement [{}] using {}", toCql(preparedStatementCreator), preparedStatementCreator);
+			}
+
+			CqlSession session = getCurrentSession();
+
+			PreparedStatement preparedStatement = preparedStatementCreator.createPreparedStatement(session);
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing prepared statement [{}]", QueryExtractorDelegate.getCql(preparedStatement));
+			}
+
+			Statement<?> boundStatement = applyStatementSettings(
+					psb != null ? psb.bindValues(preparedStatement) : preparedStatement.bind());
+
+			return newReadAheadStream(doExecuteAsync(session, boundStatement), rowMapper);
+
+		} catch (DriverException e) {
+			throw translateException("Query", toCql(preparedStatementCreator), e);
+		}
 	}
 
 	/*
@@ -615,8 +693,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	 */
 	@Override
 	public <T> Stream<T> queryForStream(String cql, RowMapper<T> rowMapper, Object... args) throws DataAccessException {
-		// noinspection ConstantConditions
-		return query(newPreparedStatementCreator(cql), newPreparedStatementBinder(args), newStreamExtractor(rowMapper));
+		return queryForStream(newPreparedStatementCreator(cql), newPreparedStatementBinder(args), rowMapper);
 	}
 
 	/*
@@ -829,6 +906,35 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return resultSet -> new ResultSetSpliterator<>(resultSet, rowMapper).stream();
 	}
 
+	private <T> Stream<T> newReadAheadStream(CompletionStage<AsyncResultSet> resultSet, RowMapper<T> rowMapper) {
+		return new ReadAheadSpliterator<>(FutureUtils.getUninterruptibly(resultSet), getPagePrefetch(), rowMapper)
+				.stream();
+	}
+
+	@Nullable
+	private <T> T executeAndExtract(CqlSession session, Statement<?> statement,
+			ResultSetExtractor<T> resultSetExtractor) {
+
+		CqlExecutionListener executionListener = getExecutionListener();
+
+		if (executionListener == null) {
+			return resultSetExtractor.extractData(session.execute(statement));
+		}
+
+		return ExecutionRecorder.execute(executionListener, statement, session::execute, resultSetExtractor);
+	}
+
+	private CompletionStage<AsyncResultSet> doExecuteAsync(CqlSession session, Statement<?> statement) {
+
+		CqlExecutionListener executionListener = getExecutionListener();
+
+		if (executionListener == null) {
+			return session.executeAsync(statement);
+		}
+
+		return ExecutionRecorder.executeAsync(executionListener, statement, session::executeAsync);
+	}
+
 	private CqlSession getCurrentSession() {
 
 		SessionFactory sessionFactory = getSessionFactory();
@@ -861,6 +967,38 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		}
 	}
 
+	/**
+	 * Adapter to enable use of a {@link ColumnBatchHandler} inside a {@link ResultSetExtractor}. Reads rows that are
+	 * available without fetching as {@link ColumnBatch} to hand out one batch per page.
+	 *
+	 * @since 3.1
+	 */
+	private static class ColumnBatchResultSetExtractor implements ResultSetExtractor<Object> {
+
+		private final ColumnBatchHandler columnBatchHandler;
+
+		ColumnBatchResultSetExtractor(ColumnBatchHandler columnBatchHandler) {
+			this.columnBatchHandler = columnBatchHandler;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.ResultSetExtractor#extractData(com.datastax.oss.driver.api.core.cql.ResultSet)
+		 */
+		@Override
+		@Nullable
+		public Object extractData(ResultSet resultSet) {
+
+			Iterator<Row> rows = resultSet.iterator();
+
+			while (rows.hasNext()) {
+				this.columnBatchHandler.processBatch(
+						ColumnBatch.of(resultSet.getColumnDefinitions(), rows, resultSet.getAvailableWithoutFetching()));
+			}
+
+			return null;
+		}
+	}
+
 	/**
 	 * Spliterator for queryForStream adaptation of a {@link ResultSet} to a {@link Stream}.
 	 *
@@ -931,4 +1069,106 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		}
 	}
 
+	/**
+	 * Spliterator for queryForStream adaptation of a {@link AsyncResultSet} to a {@link Stream} fetching pages ahead
+	 * using {@link PageReadAhead}. Consumption blocks only if the next page has not been fetched yet.
+	 *
+	 * @since 3.1
+	 */
+	private static class ReadAheadSpliterator<T> implements Spliterator<T> {
+
+		private final PageReadAhead readAhead;
+
+		private final RowMapper<T> rowMapper;
+
+		private AsyncResultSet page;
+
+		private Iterator<Row> rows;
+
+		private int rowNumber;
+
+		private int position;
+
+		private int prefetchPosition;
+
+		ReadAheadSpliterator(AsyncResultSet resultSet, PagePrefetch pagePrefetch, RowMapper<T> rowMapper) {
+
+			this.readAhead = new PageReadAhead(resultSet, pagePrefetch);
+			this.rowMapper = rowMapper;
+
+			startPage(resultSet);
+		}
+
+		private void startPage(AsyncResultSet page) {
+
+			this.page = page;
+			this.position = 0;
+			this.prefetchPosition = page.hasMorePages() ? this.readAhead.getPrefetchPosition(page) : -1;
+			this.rows = page.currentPage().iterator();
+
+			if (this.prefetchPosition == 0) {
+				this.readAhead.prefetch();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			while (!this.rows.hasNext()) {
+
+				if (!this.page.hasMorePages()) {
+					return false;
+				}
+
+				startPage(FutureUtils.getUninterruptibly(this.readAhead.nextPage()));
+			}
+
+			Row row = this.rows.next();
+
+			if (++this.position == this.prefetchPosition) {
+				this.readAhead.prefetch();
+			}
+
+			action.accept(this.rowMapper.mapRow(row, ++this.rowNumber));
+
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#trySplit()
+		 */
+		@Override
+		@Nullable
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#estimateSize()
+		 */
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#characteristics()
+		 */
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED;
+		}
+
+		Stream<T> stream() {
+			return StreamSupport.stream(this, false);
+		}
+	}
+
 }
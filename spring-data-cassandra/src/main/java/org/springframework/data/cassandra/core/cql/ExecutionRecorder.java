@@ -0,0 +1,569 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.cassandra.ReactiveResultSet;
+import org.springframework.lang.Nullable;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Records the execution of a single {@link Statement} and reports a {@link CqlExecution} to a
+ * {@link CqlExecutionListener}. Results are decorated to count consumed rows and fetched pages and to measure the time
+ * spent waiting for the driver. Templates use this class only if a {@link CqlExecutionListener} is configured.
+ *
+ * @since 3.1
+ */
+class ExecutionRecorder {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExecutionRecorder.class);
+
+	private final CqlExecutionListener listener;
+
+	private final Statement<?> statement;
+
+	private final long startTime = System.nanoTime();
+
+	private long executionTime;
+
+	private long rowCount;
+
+	private int pageCount;
+
+	private @Nullable IntSupplier pageCounter;
+
+	private @Nullable ColumnDefinitions resultDefinitions;
+
+	private ExecutionRecorder(CqlExecutionListener listener, Statement<?> statement) {
+		this.listener = listener;
+		this.statement = statement;
+	}
+
+	/**
+	 * Execute a {@link Statement} and extract its result while recording the execution.
+	 *
+	 * @param listener the listener to notify.
+	 * @param statement the statement to execute.
+	 * @param executor function executing the statement.
+	 * @param resultSetExtractor the extractor to apply to the {@link ResultSet}.
+	 * @return the extracted result.
+	 */
+	@Nullable
+	static <T> T execute(CqlExecutionListener listener, Statement<?> statement,
+			Function<Statement<?>, ResultSet> executor, ResultSetExtractor<T> resultSetExtractor) {
+
+		ExecutionRecorder recorder = new ExecutionRecorder(listener, statement);
+
+		try {
+
+			ResultSet resultSet = executor.apply(statement);
+			recorder.executionTime = System.nanoTime() - recorder.startTime;
+
+			T result = resultSetExtractor.extractData(recorder.new RecordingResultSet(resultSet));
+			recorder.success();
+
+			return result;
+		} catch (RuntimeException e) {
+			recorder.error(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Execute a {@link Statement} asynchronously and extract its result while recording the execution.
+	 *
+	 * @param listener the listener to notify.
+	 * @param statement the statement to execute.
+	 * @param executor function executing the statement.
+	 * @param resultSetExtractor the extractor to apply to the {@link AsyncResultSet}.
+	 * @return the {@link CompletionStage} emitting the extracted result.
+	 */
+	static <T> CompletionStage<T> executeAsync(CqlExecutionListener listener, Statement<?> statement,
+			Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+			AsyncResultSetExtractor<T> resultSetExtractor) {
+
+		ExecutionRecorder recorder = new ExecutionRecorder(listener, statement);
+
+		try {
+
+			return executor.apply(statement) //
+					.thenApply(resultSet -> {
+
+						recorder.executionTime = System.nanoTime() - recorder.startTime;
+
+						return resultSetExtractor.extractData(recorder.new RecordingAsyncResultSet(resultSet));
+					}) //
+					.thenCompose(ListenableFuture::completable) //
+					.whenComplete((result, error) -> {
+
+						if (error != null) {
+							recorder.error(unwrap(error));
+						} else {
+							recorder.success();
+						}
+					});
+		} catch (RuntimeException e) {
+			recorder.error(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Execute a {@link Statement} asynchronously while recording the execution of the initial request. The caller
+	 * consumes the {@link AsyncResultSet} so rows and pages are recorded for the first page only.
+	 *
+	 * @param listener the listener to notify.
+	 * @param statement the statement to execute.
+	 * @param executor function executing the statement.
+	 * @return the {@link CompletionStage} emitting the {@link AsyncResultSet}.
+	 */
+	static CompletionStage<AsyncResultSet> executeAsync(CqlExecutionListener listener, Statement<?> statement,
+			Function<Statement<?>, CompletionStage<AsyncResultSet>> executor) {
+
+		ExecutionRecorder recorder = new ExecutionRecorder(listener, statement);
+
+		try {
+
+			return executor.apply(statement).whenComplete((resultSet, error) -> {
+
+				recorder.executionTime = System.nanoTime() - recorder.startTime;
+
+				if (error != null) {
+					recorder.error(unwrap(error));
+					return;
+				}
+
+				recorder.resultDefinitions = resultSet.getColumnDefinitions();
+				recorder.rowCount = resultSet.remaining();
+				recorder.pageCount = 1;
+				recorder.success();
+			});
+		} catch (RuntimeException e) {
+			recorder.error(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Execute a {@link Statement} reactively and extract its result while recording the execution. Cancellation of the
+	 * result is considered a successful execution.
+	 *
+	 * @param listener the listener to notify.
+	 * @param statement the statement to execute.
+	 * @param executor function executing the statement.
+	 * @param resultSetExtractor the extractor to apply to the {@link ReactiveResultSet}.
+	 * @return the {@link Flux} emitting the extracted results.
+	 */
+	static <T> Flux<T> executeReactive(CqlExecutionListener listener, Statement<?> statement,
+			Function<Statement<?>, Mono<ReactiveResultSet>> executor,
+			Function<ReactiveResultSet, ? extends Publisher<T>> resultSetExtractor) {
+
+		return Flux.defer(() -> {
+
+			ExecutionRecorder recorder = new ExecutionRecorder(listener, statement);
+
+			return executor.apply(statement).map(resultSet -> {
+
+				recorder.executionTime = System.nanoTime() - recorder.startTime;
+
+				return (ReactiveResultSet) recorder.new RecordingReactiveResultSet(resultSet);
+			}).flatMapMany(resultSetExtractor) //
+					.doOnComplete(recorder::success) //
+					.doOnCancel(recorder::success) //
+					.doOnError(recorder::error);
+		});
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
+	private void success() {
+
+		CqlExecution execution = createExecution();
+
+		try {
+			this.listener.onSuccess(execution);
+		} catch (RuntimeException e) {
+			logger.warn("CqlExecutionListener failed to process {}", execution, e);
+		}
+	}
+
+	private void error(Throwable exception) {
+
+		CqlExecution execution = createExecution();
+
+		try {
+			this.listener.onError(execution, exception);
+		} catch (RuntimeException e) {
+			logger.warn("CqlExecutionListener failed to process {}", execution, e);
+		}
+	}
+
+	private CqlExecution createExecution() {
+
+		int pages = this.pageCounter != null ? this.pageCounter.getAsInt() : this.pageCount;
+
+		return new CqlExecution(this.statement, this.resultDefinitions, this.executionTime,
+				System.nanoTime() - this.startTime, this.rowCount, pages);
+	}
+
+	/**
+	 * {@link ResultSet} counting consumed rows and measuring the time spent fetching subsequent pages.
+	 */
+	class RecordingResultSet implements ResultSet {
+
+		private final ResultSet delegate;
+
+		RecordingResultSet(ResultSet delegate) {
+
+			this.delegate = delegate;
+
+			resultDefinitions = delegate.getColumnDefinitions();
+			pageCounter = () -> delegate.getExecutionInfos().size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#getColumnDefinitions()
+		 */
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#getExecutionInfos()
+		 */
+		@Override
+		public List<ExecutionInfo> getExecutionInfos() {
+			return this.delegate.getExecutionInfos();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#isFullyFetched()
+		 */
+		@Override
+		public boolean isFullyFetched() {
+			return this.delegate.isFullyFetched();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#getAvailableWithoutFetching()
+		 */
+		@Override
+		public int getAvailableWithoutFetching() {
+			return this.delegate.getAvailableWithoutFetching();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#wasApplied()
+		 */
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Iterable#iterator()
+		 */
+		@Override
+		public Iterator<Row> iterator() {
+
+			Iterator<Row> iterator = this.delegate.iterator();
+
+			return new Iterator<Row>() {
+
+				@Override
+				public boolean hasNext() {
+
+					if (!isFetching()) {
+						return iterator.hasNext();
+					}
+
+					long fetchStart = System.nanoTime();
+
+					try {
+						return iterator.hasNext();
+					} finally {
+						executionTime += System.nanoTime() - fetchStart;
+					}
+				}
+
+				@Override
+				public Row next() {
+
+					Row row;
+
+					if (isFetching()) {
+
+						long fetchStart = System.nanoTime();
+
+						try {
+							row = iterator.next();
+						} finally {
+							executionTime += System.nanoTime() - fetchStart;
+						}
+					} else {
+						row = iterator.next();
+					}
+
+					rowCount++;
+
+					return row;
+				}
+			};
+		}
+
+		private boolean isFetching() {
+			return this.delegate.getAvailableWithoutFetching() == 0 && !this.delegate.isFullyFetched();
+		}
+	}
+
+	/**
+	 * {@link AsyncResultSet} counting consumed rows and fetched pages and measuring the time spent fetching subsequent
+	 * pages.
+	 */
+	class RecordingAsyncResultSet implements AsyncResultSet {
+
+		private final AsyncResultSet delegate;
+
+		RecordingAsyncResultSet(AsyncResultSet delegate) {
+
+			this.delegate = delegate;
+
+			resultDefinitions = delegate.getColumnDefinitions();
+			pageCount++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#getColumnDefinitions()
+		 */
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#getExecutionInfo()
+		 */
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return this.delegate.getExecutionInfo();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#remaining()
+		 */
+		@Override
+		public int remaining() {
+			return this.delegate.remaining();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#currentPage()
+		 */
+		@Override
+		public Iterable<Row> currentPage() {
+
+			Iterable<Row> page = this.delegate.currentPage();
+
+			return () -> {
+
+				Iterator<Row> iterator = page.iterator();
+
+				return new Iterator<Row>() {
+
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Row next() {
+
+						Row row = iterator.next();
+						rowCount++;
+
+						return row;
+					}
+				};
+			};
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#hasMorePages()
+		 */
+		@Override
+		public boolean hasMorePages() {
+			return this.delegate.hasMorePages();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#fetchNextPage()
+		 */
+		@Override
+		public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+
+			long fetchStart = System.nanoTime();
+
+			return this.delegate.fetchNextPage().thenApply(resultSet -> {
+
+				executionTime += System.nanoTime() - fetchStart;
+
+				return new RecordingAsyncResultSet(resultSet);
+			});
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#wasApplied()
+		 */
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+	}
+
+	/**
+	 * {@link ReactiveResultSet} counting consumed rows. Fetched pages are counted by observing changes of the
+	 * {@link ReactiveResultSet#getExecutionInfo() current ExecutionInfo} as result sets retain only the latest one.
+	 */
+	class RecordingReactiveResultSet implements ReactiveResultSet {
+
+		private final ReactiveResultSet delegate;
+
+		private @Nullable ExecutionInfo lastExecutionInfo;
+
+		RecordingReactiveResultSet(ReactiveResultSet delegate) {
+
+			this.delegate = delegate;
+			this.lastExecutionInfo = delegate.getExecutionInfo();
+
+			resultDefinitions = delegate.getColumnDefinitions();
+			pageCount = 1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#rows()
+		 */
+		@Override
+		public Flux<Row> rows() {
+			return this.delegate.rows().doOnNext(it -> {
+
+				rowCount++;
+
+				ExecutionInfo executionInfo = this.delegate.getExecutionInfo();
+
+				if (executionInfo != this.lastExecutionInfo) {
+					this.lastExecutionInfo = executionInfo;
+					pageCount++;
+				}
+			});
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#availableRows()
+		 */
+		@Override
+		public Flux<Row> availableRows() {
+			return this.delegate.availableRows().doOnNext(it -> rowCount++);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#pages()
+		 */
+		@Override
+		public Flux<List<Row>> pages() {
+
+			return this.delegate.pages().doOnSubscribe(it -> pageCount = 0).doOnNext(it -> {
+
+				rowCount += it.size();
+				pageCount++;
+			});
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#getColumnDefinitions()
+		 */
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#wasApplied()
+		 */
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#getExecutionInfo()
+		 */
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return this.delegate.getExecutionInfo();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#getAllExecutionInfo()
+		 */
+		@Override
+		public List<ExecutionInfo> getAllExecutionInfo() {
+			return this.delegate.getAllExecutionInfo();
+		}
+	}
+}
@@ -43,6 +43,8 @@ public class QueryOptions {
 
 	private final ExecutionProfileResolver executionProfileResolver;
 
+	private final @Nullable Boolean idempotent;
+
 	private final @Nullable CqlIdentifier keyspace;
 
 	private final @Nullable Integer pageSize;
@@ -53,12 +55,27 @@ public class QueryOptions {
 
 	private final @Nullable Boolean tracing;
 
+	/**
+	 * @deprecated since 3.1, use the constructor accepting {@code idempotent}.
+	 */
+	@Deprecated
 	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable CqlIdentifier keyspace, @Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel,
 			Duration timeout, @Nullable Boolean tracing) {
+		this(consistencyLevel, executionProfileResolver, null, keyspace, pageSize, serialConsistencyLevel, timeout,
+				tracing);
+	}
+
+	/**
+	 * @since 3.1
+	 */
+	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, @Nullable Boolean tracing) {
 
 		this.consistencyLevel = consistencyLevel;
 		this.executionProfileResolver = executionProfileResolver;
+		this.idempotent = idempotent;
 		this.keyspace = keyspace;
 		this.pageSize = pageSize;
 		this.serialConsistencyLevel = serialConsistencyLevel;
@@ -160,6 +177,17 @@ public class QueryOptions {
 		return this.tracing;
 	}
 
+	/**
+	 * @return whether the query is idempotent. May be {@literal null} if not set. Statements created from mapped objects
+	 *         infer idempotence from their structure if not set.
+	 * @since 3.1
+	 * @see com.datastax.oss.driver.api.core.cql.Statement#setIdempotent(Boolean)
+	 */
+	@Nullable
+	public Boolean isIdempotent() {
+		return this.idempotent;
+	}
+
 	/**
 	 * @return the keyspace associated with the query. If it is {@literal null}, it means that either keyspace configured
 	 *         on the statement or from the {@link CqlSession} will be used.
@@ -195,6 +223,10 @@ public class QueryOptions {
 			return false;
 		}
 
+		if (!ObjectUtils.nullSafeEquals(idempotent, options.idempotent)) {
+			return false;
+		}
+
 		if (!ObjectUtils.nullSafeEquals(pageSize, options.pageSize)) {
 			return false;
 		}
@@ -222,6 +254,7 @@ public class QueryOptions {
 	public int hashCode() {
 		int result = ObjectUtils.nullSafeHashCode(consistencyLevel);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(executionProfileResolver);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(idempotent);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(pageSize);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(serialConsistencyLevel);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(timeout);
@@ -242,6 +275,8 @@ public class QueryOptions {
 
 		protected ExecutionProfileResolver executionProfileResolver = ExecutionProfileResolver.none();
 
+		protected @Nullable Boolean idempotent;
+
 		protected @Nullable CqlIdentifier keyspace;
 
 		protected @Nullable Integer pageSize;
@@ -252,12 +287,13 @@ public class QueryOptions {
 
 		protected @Nullable Boolean tracing;
 
-		QueryOptionsBuilder() {}
+		protected QueryOptionsBuilder() {}
 
-		QueryOptionsBuilder(QueryOptions queryOptions) {
+		protected QueryOptionsBuilder(QueryOptions queryOptions) {
 
 			this.consistencyLevel = queryOptions.consistencyLevel;
 			this.executionProfileResolver = queryOptions.executionProfileResolver;
+			this.idempotent = queryOptions.idempotent;
 			this.keyspace = queryOptions.keyspace;
 			this.pageSize = queryOptions.pageSize;
 			this.serialConsistencyLevel = queryOptions.serialConsistencyLevel;
@@ -325,6 +361,23 @@ public class QueryOptions {
 			return pageSize(fetchSize);
 		}
 
+		/**
+		 * Sets whether the query is idempotent. Idempotent queries can be retried and executed speculatively by the driver.
+		 * If left unconfigured, statements created from mapped objects infer idempotence from their structure and other
+		 * statements use the driver default.
+		 *
+		 * @param idempotent {@literal true} if the query is idempotent.
+		 * @return {@code this} {@link QueryOptionsBuilder}.
+		 * @since 3.1
+		 * @see com.datastax.oss.driver.api.core.cql.Statement#setIdempotent(Boolean)
+		 */
+		public QueryOptionsBuilder idempotent(boolean idempotent) {
+
+			this.idempotent = idempotent;
+
+			return this;
+		}
+
 		/**
 		 * Sets the {@link CqlIdentifier keyspace} to use. If left unconfigured, then the keyspace set on the statement or
 		 * {@link CqlSession} will be used.
@@ -477,8 +530,8 @@ public class QueryOptions {
 		 * @return a new {@link QueryOptions} with the configured values
 		 */
 		public QueryOptions build() {
-			return new QueryOptions(this.consistencyLevel, this.executionProfileResolver, this.keyspace, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.tracing);
+			return new QueryOptions(this.consistencyLevel, this.executionProfileResolver, this.idempotent, this.keyspace,
+					this.pageSize, this.serialConsistencyLevel, this.timeout, this.tracing);
 		}
 	}
 }
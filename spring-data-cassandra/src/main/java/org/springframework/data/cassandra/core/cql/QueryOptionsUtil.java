@@ -71,6 +71,10 @@ public abstract class QueryOptionsUtil {
 			statementToUse = statementToUse.setTimeout(queryOptions.getTimeout());
 		}
 
+		if (queryOptions.isIdempotent() != null) {
+			statementToUse = statementToUse.setIdempotent(queryOptions.isIdempotent());
+		}
+
 		if (queryOptions.getTracing() != null) {
 			// While the following statement is null-safe, avoid setting Statement tracing if the tracing query option
 			// is null since Statements are immutable and the call creates a new object.  Therefore keep the following
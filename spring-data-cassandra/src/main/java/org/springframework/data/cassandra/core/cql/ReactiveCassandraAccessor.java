@@ -44,6 +44,8 @@ public abstract class ReactiveCassandraAccessor implements InitializingBean {
 
 	private CqlExceptionTranslator exceptionTranslator = new CassandraExceptionTranslator();
 
+	private @Nullable CqlExecutionListener executionListener;
+
 	private @Nullable ReactiveSessionFactory sessionFactory;
 
 	/**
@@ -93,6 +95,27 @@ public abstract class ReactiveCassandraAccessor implements InitializingBean {
 		return this.exceptionTranslator;
 	}
 
+	/**
+	 * Set the {@link CqlExecutionListener} to notify about statement executions of this template. Execution details are
+	 * only recorded if a listener is set.
+	 *
+	 * @param executionListener the listener, can be {@literal null} to disable execution recording.
+	 * @see CqlExecutionListener
+	 * @since 3.1
+	 */
+	public void setExecutionListener(@Nullable CqlExecutionListener executionListener) {
+		this.executionListener = executionListener;
+	}
+
+	/**
+	 * @return the {@link CqlExecutionListener} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public CqlExecutionListener getExecutionListener() {
+		return this.executionListener;
+	}
+
 	/**
 	 * Ensures the Cassandra {@link ReactiveSessionFactory} and exception translator has been properly set.
 	 */
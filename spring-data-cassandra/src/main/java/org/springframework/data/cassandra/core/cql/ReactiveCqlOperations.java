@@ -397,6 +397,20 @@ public interface ReactiveCqlOperations {
 	 */
 	Flux<Row> queryForRows(Statement<?> statement) throws DataAccessException;
 
+	/**
+	 * Execute a query given static CQL, reading the result page by page in a columnar representation. Each result page
+	 * is emitted as {@link ColumnBatch}.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @return the result pages as {@link ColumnBatch}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see ReactiveResultSet#pages()
+	 */
+	Flux<ColumnBatch> queryForColumnBatches(Statement<?> statement) throws DataAccessException;
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with com.datastax.oss.driver.api.core.cql.PreparedStatement
 	// -------------------------------------------------------------------------
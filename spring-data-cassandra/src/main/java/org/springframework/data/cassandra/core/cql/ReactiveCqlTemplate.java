@@ -443,7 +443,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
 			}
 
-			return session.execute(applyStatementSettings(statement)).flatMapMany(rse::extractData);
+			return executeAndExtract(session, applyStatementSettings(statement), rse);
 		}).onErrorMap(translateException("Query", statement.toString()));
 	}
 
@@ -520,6 +520,18 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				.onErrorMap(translateException("QueryForRows", statement.toString()));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.ReactiveCqlOperations#queryForColumnBatches(com.datastax.oss.driver.api.core.cql.Statement)
+	 */
+	@Override
+	public Flux<ColumnBatch> queryForColumnBatches(Statement<?> statement) throws DataAccessException {
+
+		return queryForResultSet(statement)
+				.flatMapMany(resultSet -> resultSet.pages()
+						.map(page -> ColumnBatch.of(resultSet.getColumnDefinitions(), page.iterator(), page.size())))
+				.onErrorMap(translateException("QueryForColumnBatches", statement.toString()));
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with com.datastax.oss.driver.api.core.cql.PreparedStatement
 	// -------------------------------------------------------------------------
@@ -577,8 +589,8 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 					? preparedStatementBinder.bindValues(preparedStatement)
 					: preparedStatement.bind());
 
-			return session.execute(applyStatementSettings(boundStatement));
-		}).flatMap(rse::extractData)).onErrorMap(translateException("Query", getCql(psc)));
+			return executeAndExtract(session, applyStatementSettings(boundStatement), rse);
+		})).onErrorMap(translateException("Query", getCql(psc)));
 	}
 
 	/* (non-Javadoc)
@@ -743,9 +755,9 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 			BoundStatement boundStatement = newArgPreparedStatementBinder(objects).bindValues(ps);
 
-			return session.execute(applyStatementSettings(boundStatement));
-
-		}).map(ReactiveResultSet::wasApplied));
+			return executeAndExtract(session, applyStatementSettings(boundStatement),
+					resultSet -> Flux.just(resultSet.wasApplied()));
+		}));
 	}
 
 	// -------------------------------------------------------------------------
@@ -900,6 +912,18 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return new ArgumentPreparedStatementBinder(args);
 	}
 
+	private <T> Flux<T> executeAndExtract(ReactiveSession session, Statement<?> statement,
+			ReactiveResultSetExtractor<T> rse) {
+
+		CqlExecutionListener executionListener = getExecutionListener();
+
+		if (executionListener == null) {
+			return session.execute(statement).flatMapMany(rse::extractData);
+		}
+
+		return ExecutionRecorder.executeReactive(executionListener, statement, session::execute, rse::extractData);
+	}
+
 	private Mono<ReactiveSession> getSession() {
 
 		ReactiveSessionFactory sessionFactory = getSessionFactory();
@@ -20,16 +20,20 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoProcessor;
 import reactor.core.scheduler.Scheduler;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
+import org.springframework.data.cassandra.core.cql.util.PageReadAhead;
 import org.springframework.util.Assert;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -44,6 +48,7 @@ import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
 
 /**
  * Default implementation of a {@link ReactiveSession}. This implementation bridges asynchronous {@link CqlSession}
@@ -53,8 +58,10 @@ import com.datastax.oss.driver.api.core.cql.Statement;
  * are executed by subscribing to {@link CompletionStage} and returning the result as calls complete.
  * <p>
  * Elements are emitted on netty EventLoop threads. {@link AsyncResultSet} allows {@link AsyncResultSet#fetchNextPage()}
- * asynchronous requesting} of subsequent pages. The next page is requested after emitting all elements of the previous
- * page. However, this is an intermediate solution until Datastax can provide a fully reactive driver.
+ * asynchronous requesting} of subsequent pages. By default, the next page is requested after emitting all elements of
+ * the previous page. {@link #setPagePrefetch(PagePrefetch) Page read-ahead} requests subsequent pages while the current
+ * page is consumed. Read-ahead is driven by demand so the number of pages held in memory remains bounded. However, this
+ * is an intermediate solution until Datastax can provide a fully reactive driver.
  * <p>
  * All CQL operations performed by this class are logged at debug level, using
  * {@code org.springframework.data.cassandra.core.cql.DefaultBridgedReactiveSession} as log category.
@@ -74,6 +81,8 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 
 	private final CqlSession session;
 
+	private PagePrefetch pagePrefetch = PagePrefetch.none();
+
 	/**
 	 * Create a new {@link DefaultBridgedReactiveSession} for a {@link CqlSession}.
 	 *
@@ -87,6 +96,30 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		this.session = session;
 	}
 
+	/**
+	 * Configure page read-ahead for {@link ReactiveResultSet#rows()}. Read-ahead requests the next page once the
+	 * configured fraction of the current page was emitted so that fetching overlaps with processing. Disabled by
+	 * default.
+	 *
+	 * @param pagePrefetch must not be {@literal null}.
+	 * @since 3.1
+	 * @see PagePrefetch
+	 */
+	public void setPagePrefetch(PagePrefetch pagePrefetch) {
+
+		Assert.notNull(pagePrefetch, "PagePrefetch must not be null");
+
+		this.pagePrefetch = pagePrefetch;
+	}
+
+	/**
+	 * @return the configured {@link PagePrefetch}.
+	 * @since 3.1
+	 */
+	public PagePrefetch getPagePrefetch() {
+		return this.pagePrefetch;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.ReactiveSession#isClosed()
 	 */
@@ -103,6 +136,14 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		return this.session.getContext();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.ReactiveSession#getMetadata()
+	 */
+	@Override
+	public Metadata getMetadata() {
+		return this.session.getMetadata();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.ReactiveSession#execute(java.lang.String)
 	 */
@@ -151,7 +192,7 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 			}
 
 			return this.session.executeAsync(statement);
-		}).map(DefaultReactiveResultSet::new);
+		}).map(it -> new DefaultReactiveResultSet(it, this.pagePrefetch));
 	}
 
 	/* (non-Javadoc)
@@ -224,10 +265,18 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 	static class DefaultReactiveResultSet implements ReactiveResultSet {
 
 		private final AsyncResultSet resultSet;
+		private final PagePrefetch pagePrefetch;
 		private final boolean wasApplied;
+		private volatile ExecutionInfo executionInfo;
 
 		DefaultReactiveResultSet(AsyncResultSet resultSet) {
+			this(resultSet, PagePrefetch.none());
+		}
+
+		DefaultReactiveResultSet(AsyncResultSet resultSet, PagePrefetch pagePrefetch) {
 			this.resultSet = resultSet;
+			this.pagePrefetch = pagePrefetch;
+			this.executionInfo = resultSet.getExecutionInfo();
 
 			boolean wasApplied;
 			try {
@@ -244,6 +293,11 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		 */
 		@Override
 		public Flux<Row> rows() {
+
+			if (this.pagePrefetch.isEnabled()) {
+				return Flux.defer(() -> getRows(this.resultSet, new PageReadAhead(this.resultSet, this.pagePrefetch)));
+			}
+
 			return getRows(Mono.just(this.resultSet));
 		}
 
@@ -255,6 +309,14 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 			return toRows(this.resultSet);
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#pages()
+		 */
+		@Override
+		public Flux<List<Row>> pages() {
+			return Flux.defer(() -> getPages(this.resultSet, new PageReadAhead(this.resultSet, this.pagePrefetch)));
+		}
+
 		private Flux<Row> getRows(Mono<AsyncResultSet> nextResults) {
 
 			return nextResults.flatMapMany(it -> {
@@ -267,10 +329,67 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 
 				MonoProcessor<AsyncResultSet> processor = MonoProcessor.create();
 
-				return rows.doOnComplete(() -> fetchMore(it.fetchNextPage(), processor)).concatWith(getRows(processor));
+				return rows.doOnComplete(() -> fetchMore(it.fetchNextPage(), processor))
+						.concatWith(getRows(processor.map(this::onPage)));
 			});
 		}
 
+		private Flux<Row> getRows(AsyncResultSet resultSet, PageReadAhead readAhead) {
+
+			Flux<Row> rows = toRows(resultSet);
+
+			if (!resultSet.hasMorePages()) {
+				return rows;
+			}
+
+			int prefetchPosition = readAhead.getPrefetchPosition(resultSet);
+
+			if (prefetchPosition == 0) {
+				rows = rows.doOnSubscribe(it -> readAhead.prefetch());
+			} else {
+
+				AtomicInteger emitted = new AtomicInteger();
+				rows = rows.doOnNext(it -> {
+
+					if (emitted.incrementAndGet() == prefetchPosition) {
+						readAhead.prefetch();
+					}
+				});
+			}
+
+			return rows.concatWith(Mono.defer(() -> Mono.fromCompletionStage(readAhead.nextPage())).map(this::onPage)
+					.flatMapMany(it -> getRows(it, readAhead)));
+		}
+
+		private Flux<List<Row>> getPages(AsyncResultSet resultSet, PageReadAhead readAhead) {
+
+			Mono<List<Row>> page = Mono.fromSupplier(() -> toList(resultSet));
+
+			if (!resultSet.hasMorePages()) {
+				return page.flux();
+			}
+
+			return page.doOnSubscribe(it -> readAhead.prefetch())
+					.concatWith(Mono.defer(() -> Mono.fromCompletionStage(readAhead.nextPage())).map(this::onPage)
+							.flatMapMany(it -> getPages(it, readAhead)));
+		}
+
+		private AsyncResultSet onPage(AsyncResultSet resultSet) {
+
+			this.executionInfo = resultSet.getExecutionInfo();
+
+			return resultSet;
+		}
+
+		private static List<Row> toList(AsyncResultSet resultSet) {
+
+			List<Row> rows = new ArrayList<>(resultSet.remaining());
+
+			resultSet.currentPage().forEach(rows::add);
+
+			return rows;
+		}
+
 		static Flux<Row> toRows(AsyncResultSet resultSet) {
 			return Flux.fromIterable(resultSet.currentPage());
 		}
@@ -315,7 +434,7 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		 */
 		@Override
 		public ExecutionInfo getExecutionInfo() {
-			return this.resultSet.getExecutionInfo();
+			return this.executionInfo;
 		}
 
 		/* (non-Javadoc)
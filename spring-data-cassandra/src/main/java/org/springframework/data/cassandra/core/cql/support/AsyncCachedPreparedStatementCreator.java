@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.cassandra.core.cql.AsyncPreparedStatementCreator;
+import org.springframework.data.cassandra.core.cql.CassandraExceptionTranslator;
+import org.springframework.data.cassandra.core.cql.CqlProvider;
+import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link AsyncPreparedStatementCreator} implementation using caching of prepared statements.
+ * <p />
+ * Regular CQL statements are prepared on first use and executed as prepared statements. Preparation does not block the
+ * calling thread. Prepared statements are cached using {@link AsyncPreparedStatementCache}.
+ *
+ * @since 3.1
+ * @see AsyncPreparedStatementCache
+ */
+public class AsyncCachedPreparedStatementCreator implements AsyncPreparedStatementCreator, CqlProvider {
+
+	private static final PersistenceExceptionTranslator EXCEPTION_TRANSLATOR = new CassandraExceptionTranslator();
+
+	private final AsyncPreparedStatementCache cache;
+
+	private final SimpleStatement statement;
+
+	/**
+	 * Create a new {@link AsyncCachedPreparedStatementCreator}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 */
+	protected AsyncCachedPreparedStatementCreator(AsyncPreparedStatementCache cache, SimpleStatement statement) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+		this.statement = statement;
+	}
+
+	/**
+	 * Create a new {@link AsyncCachedPreparedStatementCreator} given {@link AsyncPreparedStatementCache} and
+	 * {@link SimpleStatement} to prepare. Subsequent calls require a {@link SimpleStatement} object with the same CQL text
+	 * for a cache hit.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link AsyncCachedPreparedStatementCreator} for {@link SimpleStatement}.
+	 */
+	public static AsyncCachedPreparedStatementCreator of(AsyncPreparedStatementCache cache,
+			SimpleStatement statement) {
+
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+
+		return new AsyncCachedPreparedStatementCreator(cache, statement);
+	}
+
+	/**
+	 * Create a new {@link AsyncCachedPreparedStatementCreator} given {@link AsyncPreparedStatementCache} and {@code cql}
+	 * to prepare. Subsequent calls require a CQL statement that {@link String#equals(Object) is equal} to the previously
+	 * used CQL string for a cache hit.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param cql must not be {@literal null} or empty.
+	 * @return the {@link AsyncCachedPreparedStatementCreator} for {@code cql}.
+	 */
+	public static AsyncCachedPreparedStatementCreator of(AsyncPreparedStatementCache cache, String cql) {
+
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.hasText(cql, "CQL statement is required");
+
+		return new AsyncCachedPreparedStatementCreator(cache, SimpleStatement.newInstance(cql));
+	}
+
+	/**
+	 * @return the underlying {@link AsyncPreparedStatementCache}.
+	 */
+	public AsyncPreparedStatementCache getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.AsyncPreparedStatementCreator#createPreparedStatement(com.datastax.oss.driver.api.core.CqlSession)
+	 */
+	@Override
+	public ListenableFuture<PreparedStatement> createPreparedStatement(CqlSession session) throws DriverException {
+		return new CassandraFutureAdapter<>(getCache().getPreparedStatement(session, this.statement),
+				EXCEPTION_TRANSLATOR);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlProvider#getCql()
+	 */
+	@Override
+	public String getCql() {
+		return this.statement.getQuery();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Cache interface to asynchronously prepare CQL statements.
+ * <p />
+ * Implementations must not block the calling thread while a statement is prepared. Concurrent requests for the same
+ * statement should share a single preparation.
+ *
+ * @since 3.1
+ * @see PreparedStatementCache
+ * @see AsyncCachedPreparedStatementCreator
+ */
+public interface AsyncPreparedStatementCache {
+
+	/**
+	 * Create a default cache backed by a {@link java.util.concurrent.ConcurrentHashMap}. The cache is unbounded, use
+	 * {@link BoundedAsyncPreparedStatementCache} to limit the number of cached statements.
+	 *
+	 * @return a new {@link MapAsyncPreparedStatementCache}.
+	 */
+	static AsyncPreparedStatementCache create() {
+		return MapAsyncPreparedStatementCache.create();
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link CqlSession} and {@link SimpleStatement}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link CompletionStage} emitting the {@link PreparedStatement}.
+	 */
+	default CompletionStage<PreparedStatement> getPreparedStatement(CqlSession session, SimpleStatement statement) {
+		return getPreparedStatement(session, statement, () -> session.prepareAsync(statement));
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link CqlSession} and {@link SimpleStatement}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param preparer must not be {@literal null}.
+	 * @return the {@link CompletionStage} emitting the {@link PreparedStatement}.
+	 */
+	CompletionStage<PreparedStatement> getPreparedStatement(CqlSession session, SimpleStatement statement,
+			Supplier<CompletionStage<PreparedStatement>> preparer);
+}
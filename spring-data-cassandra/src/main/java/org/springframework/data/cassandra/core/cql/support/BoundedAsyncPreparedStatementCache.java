@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.core.cql.support.MapPreparedStatementCache.CacheKey;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link AsyncPreparedStatementCache} that holds up to a maximum number of {@link PreparedStatement}s and evicts the
+ * least recently used entry once the limit is exceeded. This is the asynchronous counterpart of
+ * {@link BoundedPreparedStatementCache}.
+ * <p/>
+ * The cache holds the pending preparation so concurrent requests for the same statement await a single preparation.
+ * Failed preparations are removed from the cache so that a subsequent request prepares the statement again. Statements
+ * are cached with a key consisting of {@link CqlSession#getName() session name}, {@code keyspace} and the
+ * {@link SimpleStatement#getQuery() cql} text.
+ *
+ * @since 3.1
+ */
+public class BoundedAsyncPreparedStatementCache implements AsyncPreparedStatementCache {
+
+	/**
+	 * Default maximum number of cached statements.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = BoundedPreparedStatementCache.DEFAULT_MAXIMUM_SIZE;
+
+	private final BoundedPreparations<CacheKey> preparations;
+
+	private BoundedAsyncPreparedStatementCache(int maximumSize) {
+		this.preparations = new BoundedPreparations<>(maximumSize);
+	}
+
+	/**
+	 * Create a {@link BoundedAsyncPreparedStatementCache} holding up to {@link #DEFAULT_MAXIMUM_SIZE} statements.
+	 *
+	 * @return the new {@link BoundedAsyncPreparedStatementCache}.
+	 */
+	public static BoundedAsyncPreparedStatementCache create() {
+		return create(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a {@link BoundedAsyncPreparedStatementCache} holding up to {@code maximumSize} statements.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @return the new {@link BoundedAsyncPreparedStatementCache}.
+	 */
+	public static BoundedAsyncPreparedStatementCache create(int maximumSize) {
+		return new BoundedAsyncPreparedStatementCache(maximumSize);
+	}
+
+	/**
+	 * @return the maximum number of cached statements.
+	 */
+	public int getMaximumSize() {
+		return this.preparations.getMaximumSize();
+	}
+
+	/**
+	 * @return the number of cached and pending statements.
+	 */
+	public int size() {
+		return this.preparations.size();
+	}
+
+	/**
+	 * Remove all cached statements.
+	 */
+	public void clear() {
+		this.preparations.clear();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.AsyncPreparedStatementCache#getPreparedStatement(com.datastax.oss.driver.api.core.CqlSession, com.datastax.oss.driver.api.core.cql.SimpleStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public CompletionStage<PreparedStatement> getPreparedStatement(CqlSession session, SimpleStatement statement,
+			Supplier<CompletionStage<PreparedStatement>> preparer) {
+		return this.preparations.getOrPrepare(new CacheKey(session, statement), preparer);
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+
+/**
+ * Size-bounded store of pending and completed statement preparations evicting the least recently used entry once the
+ * limit is exceeded. Concurrent requests for the same key share a single preparation. Failed preparations are removed
+ * so that a subsequent request prepares the statement again. Evicting a pending preparation does not affect callers
+ * already awaiting it.
+ *
+ * @since 3.1
+ * @see BoundedAsyncPreparedStatementCache
+ * @see BoundedReactivePreparedStatementCache
+ */
+class BoundedPreparations<K> {
+
+	private final Object lock = new Object();
+
+	private final Map<K, CompletableFuture<PreparedStatement>> cache;
+
+	private final int maximumSize;
+
+	BoundedPreparations(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		this.maximumSize = maximumSize;
+		this.cache = new LinkedHashMap<K, CompletableFuture<PreparedStatement>>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, CompletableFuture<PreparedStatement>> eldest) {
+				return size() > BoundedPreparations.this.maximumSize;
+			}
+		};
+	}
+
+	int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	int size() {
+
+		synchronized (this.lock) {
+			return this.cache.size();
+		}
+	}
+
+	void clear() {
+
+		synchronized (this.lock) {
+			this.cache.clear();
+		}
+	}
+
+	/**
+	 * Return the cached or pending preparation for {@code cacheKey} or start a new preparation using {@code preparer}.
+	 * The returned {@link CompletionStage} is a dependent stage so that cancellation by a caller does not affect other
+	 * callers sharing the same preparation.
+	 */
+	CompletionStage<PreparedStatement> getOrPrepare(K cacheKey,
+			Supplier<? extends CompletionStage<PreparedStatement>> preparer) {
+
+		CompletableFuture<PreparedStatement> future;
+		CompletableFuture<PreparedStatement> pending = null;
+
+		synchronized (this.lock) {
+
+			future = this.cache.get(cacheKey);
+
+			if (future == null) {
+				pending = future = new CompletableFuture<>();
+				this.cache.put(cacheKey, pending);
+			}
+		}
+
+		if (pending != null) {
+			prepare(cacheKey, pending, preparer);
+		}
+
+		return future.thenApply(preparedStatement -> preparedStatement);
+	}
+
+	private void prepare(K cacheKey, CompletableFuture<PreparedStatement> pending,
+			Supplier<? extends CompletionStage<PreparedStatement>> preparer) {
+
+		try {
+			preparer.get().whenComplete((preparedStatement, throwable) -> {
+
+				if (throwable != null || preparedStatement == null) {
+					remove(cacheKey, pending);
+				}
+
+				if (throwable != null) {
+					pending.completeExceptionally(throwable);
+				} else {
+					pending.complete(preparedStatement);
+				}
+			});
+		} catch (RuntimeException e) {
+			remove(cacheKey, pending);
+			pending.completeExceptionally(e);
+		}
+	}
+
+	private void remove(K cacheKey, CompletableFuture<PreparedStatement> pending) {
+
+		synchronized (this.lock) {
+			this.cache.remove(cacheKey, pending);
+		}
+	}
+}
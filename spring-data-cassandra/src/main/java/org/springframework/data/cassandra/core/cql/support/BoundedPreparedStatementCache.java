@@ -0,0 +1,375 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.core.cql.support.MapPreparedStatementCache.CacheKey;
+import org.springframework.data.cassandra.core.cql.util.FutureUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link PreparedStatementCache} that holds up to a maximum number of {@link PreparedStatement}s and evicts the least
+ * recently used entry once the limit is exceeded. Entries can optionally expire after a period of inactivity.
+ * <p/>
+ * Statements are cached with a key consisting of {@link CqlSession#getName() session name}, {@code keyspace} and the
+ * {@link SimpleStatement#getQuery() cql} text. Statement preparation happens outside of the cache lock so a slow
+ * preparation does not block lookups of other statements. Concurrent lookups of the same statement prepare it only
+ * once: the first caller prepares the statement while other callers wait for its outcome and count as cache hit. Usage
+ * is tracked through {@link PreparedStatementCacheStatistics}.
+ *
+ * @since 3.1
+ * @see #getStatistics()
+ */
+public class BoundedPreparedStatementCache implements PreparedStatementCache {
+
+	/**
+	 * Default maximum number of cached statements.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+	private final Object lock = new Object();
+
+	private final Map<CacheKey, CacheEntry> cache;
+
+	private final Map<CacheKey, CompletableFuture<PreparedStatement>> pending = new HashMap<>();
+
+	private final int maximumSize;
+
+	private final long expireAfterAccessNanos;
+
+	private final Statistics statistics = new Statistics();
+
+	private BoundedPreparedStatementCache(int maximumSize, @Nullable Duration expireAfterAccess) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+		Assert.isTrue(expireAfterAccess == null || !expireAfterAccess.isNegative(),
+				"Expire after access must not be negative");
+
+		this.maximumSize = maximumSize;
+		this.expireAfterAccessNanos = expireAfterAccess != null ? expireAfterAccess.toNanos() : 0;
+		this.cache = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+
+				if (size() > BoundedPreparedStatementCache.this.maximumSize) {
+					statistics.evictions.increment();
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} holding up to {@link #DEFAULT_MAXIMUM_SIZE} statements without
+	 * expiry.
+	 *
+	 * @return the new {@link BoundedPreparedStatementCache}.
+	 */
+	public static BoundedPreparedStatementCache create() {
+		return create(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} holding up to {@code maximumSize} statements without expiry.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @return the new {@link BoundedPreparedStatementCache}.
+	 */
+	public static BoundedPreparedStatementCache create(int maximumSize) {
+		return new BoundedPreparedStatementCache(maximumSize, null);
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} holding up to {@code maximumSize} statements. Statements that were
+	 * not accessed within {@code expireAfterAccess} are removed from the cache.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @param expireAfterAccess must not be {@literal null} or negative. {@link Duration#ZERO} disables expiry.
+	 * @return the new {@link BoundedPreparedStatementCache}.
+	 */
+	public static BoundedPreparedStatementCache create(int maximumSize, Duration expireAfterAccess) {
+
+		Assert.notNull(expireAfterAccess, "Expire after access must not be null");
+
+		return new BoundedPreparedStatementCache(maximumSize, expireAfterAccess);
+	}
+
+	/**
+	 * @return the maximum number of cached statements.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * @return the live {@link PreparedStatementCacheStatistics} of this cache.
+	 */
+	public PreparedStatementCacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/**
+	 * Remove all cached statements.
+	 */
+	public void clear() {
+
+		synchronized (this.lock) {
+			this.cache.clear();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCache#getPreparedStatement(com.datastax.oss.driver.api.core.CqlSession, com.datastax.oss.driver.api.core.cql.SimpleStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public PreparedStatement getPreparedStatement(CqlSession session, SimpleStatement statement,
+			Supplier<PreparedStatement> preparer) {
+
+		CacheKey cacheKey = new CacheKey(session, statement);
+		CompletableFuture<PreparedStatement> inFlight;
+		CompletableFuture<PreparedStatement> loader = null;
+
+		synchronized (this.lock) {
+
+			CacheEntry entry = lookup(cacheKey, System.nanoTime());
+
+			if (entry != null) {
+				this.statistics.hits.increment();
+				return entry.preparedStatement;
+			}
+
+			inFlight = this.pending.get(cacheKey);
+
+			if (inFlight == null) {
+				loader = new CompletableFuture<>();
+				this.pending.put(cacheKey, loader);
+			}
+		}
+
+		if (loader == null) {
+
+			this.statistics.hits.increment();
+			return FutureUtils.getUninterruptibly(inFlight);
+		}
+
+		this.statistics.misses.increment();
+
+		return load(cacheKey, preparer, loader);
+	}
+
+	/**
+	 * Look up a cache entry and remove it if it is expired. Must be called while holding {@link #lock}.
+	 */
+	@Nullable
+	private CacheEntry lookup(CacheKey cacheKey, long now) {
+
+		CacheEntry entry = this.cache.get(cacheKey);
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (isExpired(entry, now)) {
+
+			this.cache.remove(cacheKey);
+			this.statistics.evictions.increment();
+
+			return null;
+		}
+
+		entry.lastAccess = now;
+
+		return entry;
+	}
+
+	@Nullable
+	private PreparedStatement load(CacheKey cacheKey, Supplier<PreparedStatement> preparer,
+			CompletableFuture<PreparedStatement> loader) {
+
+		PreparedStatement preparedStatement;
+
+		try {
+			preparedStatement = prepare(preparer);
+		} catch (RuntimeException | Error e) {
+
+			synchronized (this.lock) {
+				this.pending.remove(cacheKey);
+			}
+
+			loader.completeExceptionally(e);
+
+			throw e;
+		}
+
+		synchronized (this.lock) {
+
+			this.pending.remove(cacheKey);
+
+			if (preparedStatement != null) {
+
+				long now = System.nanoTime();
+
+				this.cache.put(cacheKey, new CacheEntry(preparedStatement, now));
+				removeExpired(now);
+			}
+		}
+
+		loader.complete(preparedStatement);
+
+		return preparedStatement;
+	}
+
+	private PreparedStatement prepare(Supplier<PreparedStatement> preparer) {
+
+		long start = System.nanoTime();
+
+		try {
+			return preparer.get();
+		} catch (RuntimeException e) {
+
+			this.statistics.loadFailures.increment();
+
+			throw e;
+		} finally {
+			this.statistics.totalLoadTime.add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Remove expired entries. The map is ordered by access so iteration can stop at the first entry that is not expired.
+	 * Must be called while holding {@link #lock}.
+	 */
+	private void removeExpired(long now) {
+
+		if (this.expireAfterAccessNanos == 0) {
+			return;
+		}
+
+		Iterator<CacheEntry> iterator = this.cache.values().iterator();
+
+		while (iterator.hasNext()) {
+
+			if (!isExpired(iterator.next(), now)) {
+				return;
+			}
+
+			iterator.remove();
+			this.statistics.evictions.increment();
+		}
+	}
+
+	private boolean isExpired(CacheEntry entry, long now) {
+		return this.expireAfterAccessNanos != 0 && now - entry.lastAccess >= this.expireAfterAccessNanos;
+	}
+
+	private static class CacheEntry {
+
+		final PreparedStatement preparedStatement;
+
+		long lastAccess;
+
+		CacheEntry(PreparedStatement preparedStatement, long lastAccess) {
+			this.preparedStatement = preparedStatement;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	private class Statistics implements PreparedStatementCacheStatistics {
+
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+		final LongAdder evictions = new LongAdder();
+		final LongAdder loadFailures = new LongAdder();
+		final LongAdder totalLoadTime = new LongAdder();
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics#getHitCount()
+		 */
+		@Override
+		public long getHitCount() {
+			return this.hits.sum();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics#getMissCount()
+		 */
+		@Override
+		public long getMissCount() {
+			return this.misses.sum();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics#getEvictionCount()
+		 */
+		@Override
+		public long getEvictionCount() {
+			return this.evictions.sum();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics#getLoadFailureCount()
+		 */
+		@Override
+		public long getLoadFailureCount() {
+			return this.loadFailures.sum();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics#getTotalLoadTime()
+		 */
+		@Override
+		public long getTotalLoadTime() {
+			return this.totalLoadTime.sum();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCacheStatistics#getSize()
+		 */
+		@Override
+		public long getSize() {
+
+			synchronized (lock) {
+				return cache.size();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("PreparedStatementCacheStatistics [hits=%d, misses=%d, evictions=%d, loadFailures=%d]",
+					getHitCount(), getMissCount(), getEvictionCount(), getLoadFailureCount());
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.ReactiveSession;
+import org.springframework.data.cassandra.core.cql.support.MapReactivePreparedStatementCache.CacheKey;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link ReactivePreparedStatementCache} that holds up to a maximum number of {@link PreparedStatement}s and evicts the
+ * least recently used entry once the limit is exceeded. This is the reactive counterpart of
+ * {@link BoundedPreparedStatementCache}.
+ * <p/>
+ * The cache holds the pending preparation so concurrent subscribers for the same statement await a single
+ * preparation. Failed preparations are removed from the cache so that a subsequent subscription prepares the statement
+ * again. Statements are cached with the same key as {@link MapReactivePreparedStatementCache}.
+ *
+ * @since 3.1
+ */
+public class BoundedReactivePreparedStatementCache implements ReactivePreparedStatementCache {
+
+	/**
+	 * Default maximum number of cached statements.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = BoundedPreparedStatementCache.DEFAULT_MAXIMUM_SIZE;
+
+	private final BoundedPreparations<CacheKey> preparations;
+
+	private BoundedReactivePreparedStatementCache(int maximumSize) {
+		this.preparations = new BoundedPreparations<>(maximumSize);
+	}
+
+	/**
+	 * Create a {@link BoundedReactivePreparedStatementCache} holding up to {@link #DEFAULT_MAXIMUM_SIZE} statements.
+	 *
+	 * @return the new {@link BoundedReactivePreparedStatementCache}.
+	 */
+	public static BoundedReactivePreparedStatementCache create() {
+		return create(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a {@link BoundedReactivePreparedStatementCache} holding up to {@code maximumSize} statements.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @return the new {@link BoundedReactivePreparedStatementCache}.
+	 */
+	public static BoundedReactivePreparedStatementCache create(int maximumSize) {
+		return new BoundedReactivePreparedStatementCache(maximumSize);
+	}
+
+	/**
+	 * @return the maximum number of cached statements.
+	 */
+	public int getMaximumSize() {
+		return this.preparations.getMaximumSize();
+	}
+
+	/**
+	 * @return the number of cached and pending statements.
+	 */
+	public int size() {
+		return this.preparations.size();
+	}
+
+	/**
+	 * Remove all cached statements.
+	 */
+	public void clear() {
+		this.preparations.clear();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.ReactivePreparedStatementCache#getPreparedStatement(org.springframework.data.cassandra.ReactiveSession, com.datastax.oss.driver.api.core.cql.SimpleStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, SimpleStatement statement,
+			Supplier<Mono<PreparedStatement>> preparer) {
+
+		return Mono.defer(() -> Mono.fromCompletionStage(this.preparations
+				.getOrPrepare(new CacheKey(session, statement), () -> preparer.get().toFuture())));
+	}
+}
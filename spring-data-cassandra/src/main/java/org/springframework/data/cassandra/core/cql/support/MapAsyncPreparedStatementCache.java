@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.core.cql.support.MapPreparedStatementCache.CacheKey;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link AsyncPreparedStatementCache} backed by a {@link ConcurrentMap}. Defaults to simple {@link ConcurrentHashMap}
+ * caching.
+ * <p/>
+ * The cache holds the pending preparation so concurrent requests for the same statement await a single preparation.
+ * Failed preparations are removed from the cache so that a subsequent request prepares the statement again. Statements
+ * are cached with a key consisting of {@link CqlSession#getName() session name}, {@code keyspace} and the
+ * {@link SimpleStatement#getQuery() cql} text.
+ *
+ * @since 3.1
+ */
+public class MapAsyncPreparedStatementCache implements AsyncPreparedStatementCache {
+
+	private final ConcurrentMap<CacheKey, CompletableFuture<PreparedStatement>> cache;
+
+	/**
+	 * Create a new {@link MapAsyncPreparedStatementCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	private MapAsyncPreparedStatementCache(ConcurrentMap<CacheKey, CompletableFuture<PreparedStatement>> cache) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a {@link MapAsyncPreparedStatementCache} using {@link ConcurrentHashMap}.
+	 *
+	 * @return the new {@link MapAsyncPreparedStatementCache} backed by {@link ConcurrentHashMap}.
+	 */
+	public static MapAsyncPreparedStatementCache create() {
+		return of(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Create a {@link MapAsyncPreparedStatementCache} using the given {@link ConcurrentMap}.
+	 *
+	 * @return the new {@link MapAsyncPreparedStatementCache} backed the given {@link ConcurrentMap}.
+	 */
+	public static MapAsyncPreparedStatementCache of(
+			ConcurrentMap<CacheKey, CompletableFuture<PreparedStatement>> cache) {
+		return new MapAsyncPreparedStatementCache(cache);
+	}
+
+	/**
+	 * @return the underlying {@link Map cache}.
+	 */
+	protected Map<CacheKey, CompletableFuture<PreparedStatement>> getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.AsyncPreparedStatementCache#getPreparedStatement(com.datastax.oss.driver.api.core.CqlSession, com.datastax.oss.driver.api.core.cql.SimpleStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public CompletionStage<PreparedStatement> getPreparedStatement(CqlSession session, SimpleStatement statement,
+			Supplier<CompletionStage<PreparedStatement>> preparer) {
+
+		CacheKey cacheKey = new CacheKey(session, statement);
+
+		return getOrPrepare(this.cache, cacheKey, preparer);
+	}
+
+	/**
+	 * Return the cached or pending preparation for {@code cacheKey} or start a new preparation using {@code preparer}. The
+	 * returned {@link CompletionStage} is a dependent stage so that cancellation by a caller does not affect other
+	 * callers sharing the same preparation.
+	 */
+	static <K> CompletionStage<PreparedStatement> getOrPrepare(ConcurrentMap<K, CompletableFuture<PreparedStatement>> cache,
+			K cacheKey, Supplier<? extends CompletionStage<PreparedStatement>> preparer) {
+
+		CompletableFuture<PreparedStatement> future = cache.get(cacheKey);
+
+		if (future == null) {
+
+			CompletableFuture<PreparedStatement> pending = new CompletableFuture<>();
+			future = cache.putIfAbsent(cacheKey, pending);
+
+			if (future == null) {
+				future = pending;
+				prepare(cache, cacheKey, pending, preparer);
+			}
+		}
+
+		return future.thenApply(preparedStatement -> preparedStatement);
+	}
+
+	private static <K> void prepare(ConcurrentMap<K, CompletableFuture<PreparedStatement>> cache, K cacheKey,
+			CompletableFuture<PreparedStatement> pending, Supplier<? extends CompletionStage<PreparedStatement>> preparer) {
+
+		try {
+			preparer.get().whenComplete((preparedStatement, throwable) -> {
+
+				if (throwable != null || preparedStatement == null) {
+					cache.remove(cacheKey, pending);
+				}
+
+				if (throwable != null) {
+					pending.completeExceptionally(throwable);
+				} else {
+					pending.complete(preparedStatement);
+				}
+			});
+		} catch (RuntimeException e) {
+			cache.remove(cacheKey, pending);
+			pending.completeExceptionally(e);
+		}
+	}
+}
@@ -31,7 +31,8 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
  * {@link PreparedStatementCache} backed by a {@link Map} cache. Defaults to simple {@link ConcurrentHashMap} caching.
  * <p/>
  * Statements are cached with a key consisting of {@link CqlSession#getName() session name}, {@code keyspace} and the
- * {@code cql} text. Statement options (idempotency, timeouts) apply from the statement that was initially prepared.
+ * {@link SimpleStatement#getQuery() cql} text. The keyspace is taken from {@link SimpleStatement#getKeyspace()} and
+ * falls back to the session keyspace. Statement options (idempotency, timeouts) apply from the statement that was initially prepared.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -84,7 +85,7 @@ public class MapPreparedStatementCache implements PreparedStatementCache {
 	public PreparedStatement getPreparedStatement(CqlSession session, SimpleStatement statement,
 			Supplier<PreparedStatement> preparer) {
 
-		CacheKey cacheKey = new CacheKey(session, statement.toString());
+		CacheKey cacheKey = new CacheKey(session, statement);
 
 		return getCache().computeIfAbsent(cacheKey, key -> preparer.get());
 	}
@@ -105,6 +106,14 @@ public class MapPreparedStatementCache implements PreparedStatementCache {
 			this.cql = cql;
 		}
 
+		CacheKey(CqlSession session, SimpleStatement statement) {
+
+			this.sessionName = session.getName();
+			this.keyspace = statement.getKeyspace() != null ? statement.getKeyspace().asInternal()
+					: session.getKeyspace().orElse(CqlIdentifier.fromCql("system")).asInternal();
+			this.cql = statement.getQuery();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see java.lang.Object#equals(java.lang.Object)
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.ReactiveSession;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link ReactivePreparedStatementCache} backed by a {@link ConcurrentMap}. Defaults to simple
+ * {@link ConcurrentHashMap} caching.
+ * <p/>
+ * The cache holds the pending preparation so concurrent subscribers for the same statement await a single
+ * preparation. Failed preparations are removed from the cache so that a subsequent subscription prepares the statement
+ * again. {@link ReactiveSession} does not expose its keyspace, therefore statements are cached with a key consisting
+ * of the {@link ReactiveSession} instance, the {@link SimpleStatement#getKeyspace() statement keyspace} and the
+ * {@link SimpleStatement#getQuery() cql} text.
+ *
+ * @since 3.1
+ */
+public class MapReactivePreparedStatementCache implements ReactivePreparedStatementCache {
+
+	private final ConcurrentMap<CacheKey, CompletableFuture<PreparedStatement>> cache;
+
+	/**
+	 * Create a new {@link MapReactivePreparedStatementCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	private MapReactivePreparedStatementCache(ConcurrentMap<CacheKey, CompletableFuture<PreparedStatement>> cache) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a {@link MapReactivePreparedStatementCache} using {@link ConcurrentHashMap}.
+	 *
+	 * @return the new {@link MapReactivePreparedStatementCache} backed by {@link ConcurrentHashMap}.
+	 */
+	public static MapReactivePreparedStatementCache create() {
+		return of(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Create a {@link MapReactivePreparedStatementCache} using the given {@link ConcurrentMap}.
+	 *
+	 * @return the new {@link MapReactivePreparedStatementCache} backed the given {@link ConcurrentMap}.
+	 */
+	public static MapReactivePreparedStatementCache of(
+			ConcurrentMap<CacheKey, CompletableFuture<PreparedStatement>> cache) {
+		return new MapReactivePreparedStatementCache(cache);
+	}
+
+	/**
+	 * @return the underlying {@link Map cache}.
+	 */
+	protected Map<CacheKey, CompletableFuture<PreparedStatement>> getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.ReactivePreparedStatementCache#getPreparedStatement(org.springframework.data.cassandra.ReactiveSession, com.datastax.oss.driver.api.core.cql.SimpleStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, SimpleStatement statement,
+			Supplier<Mono<PreparedStatement>> preparer) {
+
+		return Mono.defer(() -> {
+
+			CacheKey cacheKey = new CacheKey(session, statement);
+
+			return Mono.fromCompletionStage(
+					MapAsyncPreparedStatementCache.getOrPrepare(this.cache, cacheKey, () -> preparer.get().toFuture()));
+		});
+	}
+
+	/**
+	 * {@link CacheKey} for {@link PreparedStatement} caching.
+	 */
+	protected static class CacheKey {
+
+		final ReactiveSession session;
+		final @Nullable String keyspace;
+		final String cql;
+
+		CacheKey(ReactiveSession session, SimpleStatement statement) {
+
+			this.session = session;
+			this.keyspace = statement.getKeyspace() != null ? statement.getKeyspace().asInternal() : null;
+			this.cql = statement.getQuery();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey cacheKey = (CacheKey) o;
+			if (session != cacheKey.session) {
+				return false;
+			}
+			if (!ObjectUtils.nullSafeEquals(keyspace, cacheKey.keyspace)) {
+				return false;
+			}
+			return ObjectUtils.nullSafeEquals(cql, cacheKey.cql);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(session);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(keyspace);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(cql);
+			return result;
+		}
+	}
+}
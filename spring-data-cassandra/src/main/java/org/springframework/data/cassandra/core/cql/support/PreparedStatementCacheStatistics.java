@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+/**
+ * Statistics about the usage of a {@link PreparedStatementCache}. Counters are cumulative and monotonically increasing
+ * for the lifetime of the cache.
+ *
+ * @since 3.1
+ * @see BoundedPreparedStatementCache
+ */
+public interface PreparedStatementCacheStatistics {
+
+	/**
+	 * @return the number of lookups that returned a cached {@link com.datastax.oss.driver.api.core.cql.PreparedStatement}.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of lookups that required preparing the statement.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of entries that were removed because the cache exceeded its maximum size or because the entry
+	 *         expired.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of failed statement preparations.
+	 */
+	long getLoadFailureCount();
+
+	/**
+	 * @return the total time in nanoseconds spent preparing statements.
+	 */
+	long getTotalLoadTime();
+
+	/**
+	 * @return the number of entries currently held by the cache.
+	 */
+	long getSize();
+
+	/**
+	 * @return the total number of lookups.
+	 */
+	default long getRequestCount() {
+		return getHitCount() + getMissCount();
+	}
+
+	/**
+	 * @return the ratio of lookups that were served from the cache. Returns {@literal 1.0} if there were no lookups.
+	 */
+	default double getHitRatio() {
+
+		long requestCount = getRequestCount();
+
+		return requestCount == 0 ? 1.0 : (double) getHitCount() / requestCount;
+	}
+
+	/**
+	 * @return the average time in nanoseconds spent preparing a statement. Returns {@literal 0} if no statements were
+	 *         prepared.
+	 */
+	default double getAverageLoadPenalty() {
+
+		long missCount = getMissCount();
+
+		return missCount == 0 ? 0 : (double) getTotalLoadTime() / missCount;
+	}
+}
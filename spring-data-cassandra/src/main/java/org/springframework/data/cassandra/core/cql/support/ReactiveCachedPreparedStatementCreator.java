@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.cassandra.ReactiveSession;
+import org.springframework.data.cassandra.core.cql.CqlProvider;
+import org.springframework.data.cassandra.core.cql.ReactivePreparedStatementCreator;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link ReactivePreparedStatementCreator} implementation using caching of prepared statements.
+ * <p />
+ * Regular CQL statements are prepared on first use and executed as prepared statements. Preparation does not block the
+ * subscribing thread. Prepared statements are cached using {@link ReactivePreparedStatementCache}.
+ *
+ * @since 3.1
+ * @see ReactivePreparedStatementCache
+ */
+public class ReactiveCachedPreparedStatementCreator implements ReactivePreparedStatementCreator, CqlProvider {
+
+	private final ReactivePreparedStatementCache cache;
+
+	private final SimpleStatement statement;
+
+	/**
+	 * Create a new {@link ReactiveCachedPreparedStatementCreator}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 */
+	protected ReactiveCachedPreparedStatementCreator(ReactivePreparedStatementCache cache, SimpleStatement statement) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+		this.statement = statement;
+	}
+
+	/**
+	 * Create a new {@link ReactiveCachedPreparedStatementCreator} given {@link ReactivePreparedStatementCache} and
+	 * {@link SimpleStatement} to prepare. Subsequent calls require a {@link SimpleStatement} object with the same CQL text
+	 * for a cache hit.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link ReactiveCachedPreparedStatementCreator} for {@link SimpleStatement}.
+	 */
+	public static ReactiveCachedPreparedStatementCreator of(ReactivePreparedStatementCache cache,
+			SimpleStatement statement) {
+
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+
+		return new ReactiveCachedPreparedStatementCreator(cache, statement);
+	}
+
+	/**
+	 * Create a new {@link ReactiveCachedPreparedStatementCreator} given {@link ReactivePreparedStatementCache} and
+	 * {@code cql} to prepare. Subsequent calls require a CQL statement that {@link String#equals(Object) is equal} to the
+	 * previously used CQL string for a cache hit.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param cql must not be {@literal null} or empty.
+	 * @return the {@link ReactiveCachedPreparedStatementCreator} for {@code cql}.
+	 */
+	public static ReactiveCachedPreparedStatementCreator of(ReactivePreparedStatementCache cache, String cql) {
+
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.hasText(cql, "CQL statement is required");
+
+		return new ReactiveCachedPreparedStatementCreator(cache, SimpleStatement.newInstance(cql));
+	}
+
+	/**
+	 * @return the underlying {@link ReactivePreparedStatementCache}.
+	 */
+	public ReactivePreparedStatementCache getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.ReactivePreparedStatementCreator#createPreparedStatement(org.springframework.data.cassandra.ReactiveSession)
+	 */
+	@Override
+	public Mono<PreparedStatement> createPreparedStatement(ReactiveSession session) throws DriverException {
+		return getCache().getPreparedStatement(session, this.statement);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlProvider#getCql()
+	 */
+	@Override
+	public String getCql() {
+		return this.statement.getQuery();
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.DriverException;
+
+/**
+ * Utility methods to await {@link CompletionStage} completion from blocking code. This class is intended for internal
+ * use.
+ *
+ * @since 3.1
+ */
+public abstract class FutureUtils {
+
+	private FutureUtils() {}
+
+	/**
+	 * Await completion of the given {@link CompletionStage} without being interruptible. Restores the interrupt flag if
+	 * the current thread was interrupted while waiting. A {@link DriverException} is rethrown as copy to include the
+	 * stack trace of the waiting thread.
+	 *
+	 * @param stage the stage to await, must not be {@literal null}.
+	 * @return the result of {@code stage}.
+	 */
+	public static <T> T getUninterruptibly(CompletionStage<T> stage) {
+
+		Assert.notNull(stage, "CompletionStage must not be null");
+
+		CompletableFuture<T> future = stage.toCompletableFuture();
+		boolean interrupted = false;
+
+		try {
+			while (true) {
+				try {
+					return future.get();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+
+					Throwable cause = e.getCause();
+
+					if (cause instanceof DriverException) {
+						throw ((DriverException) cause).copy();
+					}
+
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+
+					throw new IllegalStateException(cause);
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.util;
+
+import org.springframework.util.Assert;
+
+/**
+ * Value object describing read-ahead of result pages. Read-ahead requests the next page once a configurable fraction
+ * ({@link #getThreshold() threshold}) of the current page was consumed instead of waiting until the current page is
+ * exhausted. At most {@link #getMaxPages()} pages are fetched ahead of the page that is currently consumed.
+ * <p>
+ * Read-ahead trades memory for latency: each page fetched ahead is held in memory until it gets consumed.
+ *
+ * @since 3.1
+ * @see PageReadAhead
+ */
+public final class PagePrefetch {
+
+	private static final PagePrefetch NONE = new PagePrefetch(1, 0);
+
+	private static final PagePrefetch DEFAULT = new PagePrefetch(0.5, 1);
+
+	private final double threshold;
+
+	private final int maxPages;
+
+	private PagePrefetch(double threshold, int maxPages) {
+		this.threshold = threshold;
+		this.maxPages = maxPages;
+	}
+
+	/**
+	 * Disable read-ahead. The next page is requested after the current page was consumed entirely.
+	 *
+	 * @return {@link PagePrefetch} without read-ahead.
+	 */
+	public static PagePrefetch none() {
+		return NONE;
+	}
+
+	/**
+	 * Read-ahead a single page when the current page is half consumed.
+	 *
+	 * @return the default {@link PagePrefetch}.
+	 */
+	public static PagePrefetch defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Create a new {@link PagePrefetch} requesting the next page once {@code threshold} of the current page was consumed
+	 * and buffering up to {@code maxPages} ahead.
+	 *
+	 * @param threshold fraction of the current page that must be consumed before requesting the next page. Must be
+	 *          between {@code 0} (inclusive, request when starting to consume a page) and {@code 1} (exclusive).
+	 * @param maxPages maximum number of pages to fetch ahead of the current page. Must be greater than zero.
+	 * @return the {@link PagePrefetch} for {@code threshold} and {@code maxPages}.
+	 */
+	public static PagePrefetch of(double threshold, int maxPages) {
+
+		Assert.isTrue(threshold >= 0 && threshold < 1, "Threshold must be between 0 (inclusive) and 1 (exclusive)");
+		Assert.isTrue(maxPages > 0, "Max pages must be greater than zero");
+
+		return new PagePrefetch(threshold, maxPages);
+	}
+
+	/**
+	 * @return {@literal true} if read-ahead is enabled.
+	 */
+	public boolean isEnabled() {
+		return this.maxPages > 0;
+	}
+
+	/**
+	 * @return fraction of the current page that must be consumed before requesting the next page.
+	 */
+	public double getThreshold() {
+		return this.threshold;
+	}
+
+	/**
+	 * @return maximum number of pages to fetch ahead of the current page.
+	 */
+	public int getMaxPages() {
+		return this.maxPages;
+	}
+
+	/**
+	 * Returns the number of rows to consume from a page with {@code pageSize} rows before requesting the next page.
+	 *
+	 * @param pageSize number of rows in the current page.
+	 * @return number of rows to consume before requesting the next page.
+	 */
+	public int getPrefetchPosition(int pageSize) {
+		return Math.min(pageSize, (int) (pageSize * this.threshold));
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof PagePrefetch)) {
+			return false;
+		}
+
+		PagePrefetch that = (PagePrefetch) o;
+
+		return Double.compare(that.threshold, this.threshold) == 0 && this.maxPages == that.maxPages;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * Double.hashCode(this.threshold) + this.maxPages;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return isEnabled() ? String.format("PagePrefetch [threshold=%s, maxPages=%d]", this.threshold, this.maxPages)
+				: "PagePrefetch [none]";
+	}
+}
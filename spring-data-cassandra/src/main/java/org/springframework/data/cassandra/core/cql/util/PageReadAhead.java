@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+
+/**
+ * Stateful page source for a single traversal of an {@link AsyncResultSet} that fetches pages ahead according to
+ * {@link PagePrefetch}. Pages can only be fetched sequentially as each page is fetched from its predecessor. Callers
+ * signal consumption progress through {@link #prefetch()} and obtain subsequent pages through {@link #nextPage()}.
+ * <p>
+ * Without read-ahead (or when {@link #prefetch()} is not called), {@link #nextPage()} fetches the next page on demand.
+ * This class is intended for internal use.
+ *
+ * @since 3.1
+ */
+public class PageReadAhead {
+
+	private final PagePrefetch prefetch;
+
+	private final Deque<CompletableFuture<AsyncResultSet>> pages = new ArrayDeque<>();
+
+	private CompletableFuture<AsyncResultSet> tail;
+
+	/**
+	 * Create a new {@link PageReadAhead} starting at the given {@link AsyncResultSet}.
+	 *
+	 * @param resultSet the current page, must not be {@literal null}.
+	 * @param prefetch must not be {@literal null}.
+	 */
+	public PageReadAhead(AsyncResultSet resultSet, PagePrefetch prefetch) {
+
+		Assert.notNull(resultSet, "AsyncResultSet must not be null");
+		Assert.notNull(prefetch, "PagePrefetch must not be null");
+
+		this.prefetch = prefetch;
+		this.tail = CompletableFuture.completedFuture(resultSet);
+	}
+
+	/**
+	 * Returns the number of rows to consume from {@code page} before calling {@link #prefetch()}.
+	 *
+	 * @param page the current page.
+	 * @return the number of rows to consume before calling {@link #prefetch()}.
+	 */
+	public int getPrefetchPosition(AsyncResultSet page) {
+		return this.prefetch.getPrefetchPosition(page.remaining());
+	}
+
+	/**
+	 * Request pages ahead of the current page until {@link PagePrefetch#getMaxPages()} pages are fetched or in flight.
+	 * Does nothing if read-ahead is disabled.
+	 */
+	public synchronized void prefetch() {
+
+		if (!this.prefetch.isEnabled()) {
+			return;
+		}
+
+		while (this.pages.size() < this.prefetch.getMaxPages()) {
+
+			CompletableFuture<AsyncResultSet> next = fetchAfter(this.tail);
+
+			this.pages.add(next);
+			this.tail = next;
+		}
+	}
+
+	/**
+	 * Obtain the page following the current page. Returns a page that was fetched ahead or fetches the next page. Must
+	 * only be called if the current page {@link AsyncResultSet#hasMorePages() has more pages}.
+	 *
+	 * @return the next page.
+	 */
+	public synchronized CompletionStage<AsyncResultSet> nextPage() {
+
+		CompletableFuture<AsyncResultSet> next = this.pages.poll();
+
+		if (next == null) {
+			next = fetchAfter(this.tail);
+			this.tail = next;
+		}
+
+		return next;
+	}
+
+	private static CompletableFuture<AsyncResultSet> fetchAfter(CompletableFuture<AsyncResultSet> previous) {
+
+		return previous.thenCompose(it -> it != null && it.hasMorePages() ? it.fetchNextPage()
+				: CompletableFuture.completedFuture(null));
+	}
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -61,6 +62,10 @@ import org.springframework.util.Assert;
  * inline or through bind markers when {@link #build(ParameterHandling, CodecRegistry) building} the statement. All
  * functions are applied in the order of their declaration.
  * <p>
+ * Statements that are {@link #shape(Object, StatementShapeCache, Supplier) associated with a shape} reuse previously
+ * rendered CQL when built with {@link ParameterHandling#BY_INDEX}. Shape keys should not contain values that are
+ * rendered through bind markers to keep the number of shapes bounded.
+ * <p>
  * All methods returning {@link StatementBuilder} point to the same instance. This class is intended for internal use.
  *
  * @author Mark Paluch
@@ -75,6 +80,8 @@ public class StatementBuilder<S extends BuildableQuery> {
 	private List<Consumer<SimpleStatementBuilder>> onBuild = new ArrayList<>();
 	private List<UnaryOperator<SimpleStatement>> onBuilt = new ArrayList<>();
 
+	private @Nullable Shape shape;
+
 	/**
 	 * Factory method used to create a new {@link StatementBuilder} with the given {@link BuildableQuery query stub}.
 	 * The stub is used as base for the built query so each query inherits properties of this stub.
@@ -114,6 +121,7 @@ public class StatementBuilder<S extends BuildableQuery> {
 		Assert.notNull(action, "BindFunction must not be null");
 
 		queryActions.add(action::bind);
+		shape = null;
 
 		return this;
 	}
@@ -130,6 +138,60 @@ public class StatementBuilder<S extends BuildableQuery> {
 		Assert.notNull(action, "BindFunction must not be null");
 
 		queryActions.add((source, termFactory) -> (S) action.apply(source));
+		shape = null;
+
+		return this;
+	}
+
+	/**
+	 * Associate the statement with a {@code shapeKey}. The shape key must identify the structure of the statement built
+	 * by all builder and bind functions declared so far. When building the statement with
+	 * {@link ParameterHandling#BY_INDEX}, builder and bind functions are skipped if the {@link StatementShapeCache}
+	 * contains CQL for the shape and only the values obtained from {@code values} are bound. Otherwise, the statement
+	 * is built regularly and its CQL is cached if the values collected by the bind functions are equal to the values
+	 * supplied by {@code values}.
+	 * <p>
+	 * Declaring further builder or bind functions removes the shape association as the structure of the statement
+	 * changes.
+	 *
+	 * @param shapeKey the key identifying the statement structure.
+	 * @param cache the cache holding rendered CQL.
+	 * @param values supplier of the values to bind in the order of their bind markers.
+	 * @return {@code this} {@link StatementBuilder}.
+	 * @since 3.1
+	 */
+	public StatementBuilder<S> shape(Object shapeKey, StatementShapeCache cache, Supplier<List<Object>> values) {
+
+		Assert.notNull(shapeKey, "Shape key must not be null");
+		Assert.notNull(cache, "StatementShapeCache must not be null");
+		Assert.notNull(values, "Values supplier must not be null");
+
+		shape = new Shape(shapeKey, cache, values);
+
+		return this;
+	}
+
+	/**
+	 * Associate the statement with a {@code shapeKey} whose values are collected from the bind functions. The shape key
+	 * must identify the structure of the statement built by all builder and bind functions declared so far. When
+	 * building the statement with {@link ParameterHandling#BY_INDEX}, builder and bind functions are applied to collect
+	 * the values to bind but the CQL is rendered only if the {@link StatementShapeCache} does not contain CQL for the
+	 * shape.
+	 * <p>
+	 * Declaring further builder or bind functions removes the shape association as the structure of the statement
+	 * changes.
+	 *
+	 * @param shapeKey the key identifying the statement structure.
+	 * @param cache the cache holding rendered CQL.
+	 * @return {@code this} {@link StatementBuilder}.
+	 * @since 3.1
+	 */
+	public StatementBuilder<S> shape(Object shapeKey, StatementShapeCache cache) {
+
+		Assert.notNull(shapeKey, "Shape key must not be null");
+		Assert.notNull(cache, "StatementShapeCache must not be null");
+
+		shape = new Shape(shapeKey, cache, null);
 
 		return this;
 	}
@@ -217,6 +279,14 @@ public class StatementBuilder<S extends BuildableQuery> {
 
 		if (parameterHandling == ParameterHandling.BY_INDEX) {
 
+			Shape shape = this.shape;
+			StatementShapeCache.RenderedStatement rendered = shape != null ? shape.cache.get(shape.key) : null;
+
+			if (rendered != null && shape.values != null) {
+				return build(SimpleStatement.builder(rendered.cql).setIdempotence(rendered.idempotent)
+						.addPositionalValues(shape.values.get()));
+			}
+
 			List<Object> values = new ArrayList<>();
 
 			TermFactory termFactory = value -> {
@@ -228,6 +298,23 @@ public class StatementBuilder<S extends BuildableQuery> {
 				statement = runnable.run(statement, termFactory);
 			}
 
+			if (rendered != null) {
+				return build(SimpleStatement.builder(rendered.cql).setIdempotence(rendered.idempotent)
+						.addPositionalValues(values));
+			}
+
+			if (shape != null) {
+
+				String cql = statement.asCql();
+
+				if (shape.values == null || values.equals(shape.values.get())) {
+					shape.cache.put(shape.key, cql, statement.isIdempotent());
+				}
+
+				return build(SimpleStatement.builder(cql).setIdempotence(statement.isIdempotent())
+						.addPositionalValues(values));
+			}
+
 			return build(statement.builder().addPositionalValues(values));
 		}
 
@@ -334,6 +421,21 @@ public class StatementBuilder<S extends BuildableQuery> {
 		S run(S source, TermFactory termFactory);
 	}
 
+	private static class Shape {
+
+		final Object key;
+
+		final StatementShapeCache cache;
+
+		final @Nullable Supplier<List<Object>> values;
+
+		Shape(Object key, StatementShapeCache cache, @Nullable Supplier<List<Object>> values) {
+			this.key = key;
+			this.cache = cache;
+			this.values = values;
+		}
+	}
+
 	/**
 	 * Enumeration to represent how parameters are rendered.
 	 */
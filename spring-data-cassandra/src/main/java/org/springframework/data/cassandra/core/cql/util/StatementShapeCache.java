@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Cache for rendered CQL of statements that share the same structure (shape) and differ only in their bound values.
+ * The shape key is provided by the component creating the {@link StatementBuilder} and must capture everything that
+ * influences the rendered CQL except values rendered through bind markers.
+ * <p>
+ * The cache holds up to a maximum number of shapes and evicts the least recently used shape once the limit is exceeded.
+ * This class is intended for internal use.
+ *
+ * @since 3.1
+ * @see StatementBuilder#shape(Object, StatementShapeCache, java.util.function.Supplier)
+ */
+public class StatementShapeCache {
+
+	/**
+	 * Default maximum number of cached shapes.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 2048;
+
+	private final Map<Object, RenderedStatement> cache;
+
+	/**
+	 * Create a new {@link StatementShapeCache} holding up to {@link #DEFAULT_MAXIMUM_SIZE} shapes.
+	 */
+	public StatementShapeCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Create a new {@link StatementShapeCache} holding up to {@code maximumSize} shapes.
+	 *
+	 * @param maximumSize maximum number of cached shapes, must be greater than zero.
+	 */
+	public StatementShapeCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		this.cache = new LinkedHashMap<Object, RenderedStatement>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, RenderedStatement> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * @return the number of cached shapes.
+	 */
+	public int size() {
+
+		synchronized (this.cache) {
+			return this.cache.size();
+		}
+	}
+
+	@Nullable
+	RenderedStatement get(Object shapeKey) {
+
+		synchronized (this.cache) {
+			return this.cache.get(shapeKey);
+		}
+	}
+
+	void put(Object shapeKey, String cql, boolean idempotent) {
+
+		synchronized (this.cache) {
+			this.cache.putIfAbsent(shapeKey, new RenderedStatement(cql, idempotent));
+		}
+	}
+
+	/**
+	 * Rendered CQL along with the idempotency derived from the statement structure.
+	 */
+	static class RenderedStatement {
+
+		final String cql;
+
+		final boolean idempotent;
+
+		RenderedStatement(String cql, boolean idempotent) {
+			this.cql = cql;
+			this.idempotent = idempotent;
+		}
+	}
+}
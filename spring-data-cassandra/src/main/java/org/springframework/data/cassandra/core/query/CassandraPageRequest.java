@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.core.query;
 
 import java.nio.ByteBuffer;
+import java.util.Base64;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -111,6 +112,28 @@ public class CassandraPageRequest extends PageRequest {
 				pagingState != null);
 	}
 
+	/**
+	 * Creates a {@link CassandraPageRequest} from an {@link #getEncodedPagingState() encoded paging state}, typically
+	 * received as request parameter of a REST endpoint that pages through a query result.
+	 *
+	 * @param current the current {@link Pageable}, must not be {@literal null}.
+	 * @param encodedPagingState the encoded paging state associated with the current {@link Pageable}. Can be
+	 *          {@literal null} or empty if there is no paging state associated.
+	 * @return the {@link CassandraPageRequest}.
+	 * @throws IllegalArgumentException if {@code encodedPagingState} is not a valid encoded paging state.
+	 * @since 3.1
+	 * @see #getEncodedPagingState()
+	 */
+	public static CassandraPageRequest fromEncodedPagingState(Pageable current, @Nullable String encodedPagingState) {
+
+		Assert.notNull(current, "Pageable must not be null");
+
+		ByteBuffer pagingState = encodedPagingState == null || encodedPagingState.isEmpty() ? null
+				: ByteBuffer.wrap(Base64.getUrlDecoder().decode(encodedPagingState));
+
+		return of(current, pagingState);
+	}
+
 	/**
 	 * Creates a new unsorted {@link PageRequest} for the first page.
 	 *
@@ -185,6 +208,29 @@ public class CassandraPageRequest extends PageRequest {
 		return this.pagingState.asReadOnlyBuffer();
 	}
 
+	/**
+	 * Returns the {@link #getPagingState() paging state} as compact string that is safe to use in URLs (Base64 with URL
+	 * and filename safe alphabet, without padding). The encoded paging state can be turned into a
+	 * {@link CassandraPageRequest} using {@link #fromEncodedPagingState(Pageable, String)}.
+	 *
+	 * @return the encoded paging state or {@literal null} if there is no paging state associated.
+	 * @since 3.1
+	 */
+	@Nullable
+	public String getEncodedPagingState() {
+
+		ByteBuffer pagingState = getPagingState();
+
+		if (pagingState == null) {
+			return null;
+		}
+
+		byte[] bytes = new byte[pagingState.remaining()];
+		pagingState.get(bytes);
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
 	/**
 	 * Returns whether there's a next {@link Pageable} we can access from the current one. Will return {@literal false} in
 	 * case the current {@link Pageable} already refers to the next page.
@@ -17,6 +17,7 @@ package org.springframework.data.cassandra.repository;
 
 import java.util.List;
 
+import org.springframework.data.cassandra.core.CountOptions;
 import org.springframework.data.cassandra.core.mapping.MapId;
 import org.springframework.data.cassandra.core.mapping.Table;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
@@ -98,4 +99,15 @@ public interface CassandraRepository<T, ID> extends CrudRepository<T, ID> {
 	 */
 	<S extends T> List<S> insert(Iterable<S> entities);
 
+	/**
+	 * Returns the number of entities by counting token ranges in parallel. {@link #count()} counts token ranges using
+	 * {@link CountOptions#empty() default options}. Use this method to tune concurrency, splits and retries per range.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return the number of entities.
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#count(Class, CountOptions)
+	 * @since 3.1
+	 */
+	long count(CountOptions options);
+
 }
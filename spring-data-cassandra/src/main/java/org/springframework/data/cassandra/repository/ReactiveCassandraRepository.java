@@ -19,6 +19,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.reactivestreams.Publisher;
+import org.springframework.data.cassandra.core.CountOptions;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
@@ -77,4 +78,15 @@ public interface ReactiveCassandraRepository<T, ID> extends ReactiveCrudReposito
 	 */
 	@Override
 	Flux<T> findAllById(Publisher<ID> publisher);
+
+	/**
+	 * Returns the number of entities by counting token ranges in parallel. {@link #count()} counts token ranges using
+	 * {@link CountOptions#empty() default options}. Use this method to tune concurrency, splits and retries per range.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return {@link Mono} emitting the number of entities.
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#count(Class, CountOptions)
+	 * @since 3.1
+	 */
+	Mono<Long> count(CountOptions options);
 }
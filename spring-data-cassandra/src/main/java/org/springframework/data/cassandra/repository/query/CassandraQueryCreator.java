@@ -260,7 +260,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Query, Filter> {
 		return where.like(like(Type.CONTAINING, bindableValue));
 	}
 
-	private Object like(Type type, Object value) {
+	static Object like(Type type, Object value) {
 
 		switch (type) {
 			case LIKE:
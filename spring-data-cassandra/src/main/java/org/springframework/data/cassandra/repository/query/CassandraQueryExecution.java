@@ -17,6 +17,8 @@ package org.springframework.data.cassandra.repository.query;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
@@ -159,7 +161,12 @@ interface CassandraQueryExecution {
 		@SuppressWarnings("unchecked")
 		public Object execute(Statement<?> statement, Class<?> type) {
 
-			List<Object> objects = operations.select(statement, (Class) type);
+			List<Object> objects;
+
+			// two rows are sufficient to detect non-unique results, stop reading and mapping further rows
+			try (Stream<Object> stream = operations.stream(statement, (Class) type)) {
+				objects = stream.limit(2).collect(Collectors.toList());
+			}
 
 			if (objects.isEmpty()) {
 				return null;
@@ -201,7 +208,8 @@ interface CassandraQueryExecution {
 
 				Row row = iterator.next();
 
-				if (!iterator.hasNext() && ProjectionUtil.qualifiesAsCountProjection(row)) {
+				// check for further rows only if the row could be a count projection to avoid fetching subsequent pages
+				if (ProjectionUtil.qualifiesAsCountProjection(row) && !iterator.hasNext()) {
 
 					Object object = row.getObject(0);
 
@@ -19,6 +19,7 @@ import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
@@ -44,6 +45,8 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 	private final StatementFactory statementFactory;
 
+	private final PartTreeQueryTemplate queryTemplate;
+
 	/**
 	 * Create a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -57,6 +60,7 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
 		this.mappingContext = operations.getConverter().getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(operations.getConverter()));
+		this.queryTemplate = PartTreeQueryTemplate.create(queryMethod, this.tree, this.mappingContext);
 	}
 
 	/**
@@ -96,20 +100,40 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 	@Override
 	protected SimpleStatement createQuery(CassandraParameterAccessor parameterAccessor) {
 
+		if (isUsePreparedStatements()) {
+			return this.queryTemplate.createStatement(parameterAccessor, it -> createQuery(parameterAccessor, it));
+		}
+
+		return createQuery(parameterAccessor, ParameterHandling.INLINE);
+	}
+
+	private SimpleStatement createQuery(CassandraParameterAccessor parameterAccessor,
+			ParameterHandling parameterHandling) {
+
 		if (isCountQuery()) {
-			return getQueryStatementCreator().count(getStatementFactory(), getTree(), parameterAccessor);
+			return getQueryStatementCreator().count(getStatementFactory(), getTree(), parameterAccessor,
+					parameterHandling);
 		}
 
 		if (isExistsQuery()) {
-			return getQueryStatementCreator().exists(getStatementFactory(), getTree(), parameterAccessor);
+			return getQueryStatementCreator().exists(getStatementFactory(), getTree(), parameterAccessor,
+					parameterHandling);
 		}
 
 		if (getTree().isDelete()) {
-			return getQueryStatementCreator().delete(getStatementFactory(), getTree(), parameterAccessor);
+			return getQueryStatementCreator().delete(getStatementFactory(), getTree(), parameterAccessor,
+					parameterHandling);
 		}
 
 		return getQueryStatementCreator().select(getStatementFactory(), getTree(), parameterAccessor,
-				getQueryMethod().getResultProcessor());
+				getQueryMethod().getResultProcessor(), parameterHandling);
+	}
+
+	private boolean isUsePreparedStatements() {
+
+		CassandraOperations operations = getOperations();
+
+		return operations instanceof CassandraTemplate && ((CassandraTemplate) operations).isUsePreparedStatements();
 	}
 
 	/* (non-Javadoc)
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.query.ConvertingParameterAccessor.PotentiallyConvertingIterator;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Precompiled form of a {@link PartTree derived query} for execution through prepared statements. The binding plan
+ * that maps query method parameters to bind markers is computed from the {@link PartTree} when creating the template.
+ * The CQL is rendered using {@link ParameterHandling#BY_INDEX} on first use and reused for subsequent invocations if
+ * the rendered values are equal to the values obtained from the binding plan. Subsequent invocations only convert and
+ * bind the method arguments.
+ * <p>
+ * Queries whose CQL depends on the actual arguments (dynamic projections, {@link org.springframework.data.domain.Sort},
+ * {@link org.springframework.data.domain.Pageable} and {@link QueryOptions} parameters, {@literal IN} and
+ * {@literal BETWEEN} parts) cannot be compiled and are rendered on each invocation using
+ * {@link ParameterHandling#INLINE}. Invocations with {@literal null} arguments are rendered the same way. Inline
+ * statements carry no bind values and are therefore executed unprepared, even if the template is configured to use
+ * prepared statements, so that distinct literals do not create a prepared statement each.
+ *
+ * @since 3.1
+ */
+class PartTreeQueryTemplate {
+
+	private static final Set<Type> SUPPORTED_TYPES = EnumSet.of(Type.SIMPLE_PROPERTY, Type.GREATER_THAN,
+			Type.GREATER_THAN_EQUAL, Type.LESS_THAN, Type.LESS_THAN_EQUAL, Type.AFTER, Type.BEFORE, Type.LIKE,
+			Type.STARTING_WITH, Type.ENDING_WITH, Type.CONTAINING, Type.TRUE, Type.FALSE);
+
+	private static final PartTreeQueryTemplate NOT_COMPILABLE = new PartTreeQueryTemplate(Collections.emptyList(),
+			false);
+
+	private final List<Binding> bindings;
+
+	private final boolean compilable;
+
+	private volatile @Nullable SimpleStatement compiled;
+
+	private volatile boolean failed;
+
+	private PartTreeQueryTemplate(List<Binding> bindings, boolean compilable) {
+		this.bindings = bindings;
+		this.compilable = compilable;
+	}
+
+	/**
+	 * Create a {@link PartTreeQueryTemplate} for the given {@link CassandraQueryMethod} and {@link PartTree}.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @return the {@link PartTreeQueryTemplate} for {@code tree}.
+	 */
+	static PartTreeQueryTemplate create(CassandraQueryMethod queryMethod, PartTree tree,
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext) {
+
+		CassandraParameters parameters = queryMethod.getParameters();
+
+		if (parameters.hasDynamicProjection() || parameters.hasSortParameter() || parameters.hasPageableParameter()
+				|| parameters.getQueryOptionsIndex() != -1 || tree.stream().count() > 1) {
+			return NOT_COMPILABLE;
+		}
+
+		List<Binding> bindings = new ArrayList<>();
+
+		for (Part part : tree.getParts()) {
+
+			if (!SUPPORTED_TYPES.contains(part.getType())) {
+				return NOT_COMPILABLE;
+			}
+
+			CassandraPersistentProperty property = mappingContext.getPersistentPropertyPath(part.getProperty())
+					.getLeafProperty();
+
+			if (property == null) {
+				return NOT_COMPILABLE;
+			}
+
+			bindings.add(new Binding(part.getType(), property));
+		}
+
+		return new PartTreeQueryTemplate(bindings, true);
+	}
+
+	/**
+	 * @return {@literal true} if the query can be compiled into a template.
+	 */
+	boolean isCompilable() {
+		return this.compilable && !this.failed;
+	}
+
+	/**
+	 * @return {@literal true} if the CQL has been rendered and verified.
+	 */
+	boolean isCompiled() {
+		return this.compiled != null;
+	}
+
+	/**
+	 * Create a {@link SimpleStatement} for the given {@link CassandraParameterAccessor}. Binds the converted arguments to
+	 * the compiled CQL if the template is compiled. Otherwise, the statement is rendered through {@code renderer}.
+	 * Queries that cannot be compiled are rendered inline without bind values to be executed unprepared.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @param renderer function rendering the statement using the given {@link ParameterHandling}.
+	 * @return the {@link SimpleStatement}.
+	 */
+	SimpleStatement createStatement(CassandraParameterAccessor parameterAccessor,
+			Function<ParameterHandling, SimpleStatement> renderer) {
+
+		List<Object> values = isCompilable() ? getValues(parameterAccessor) : null;
+
+		if (values == null) {
+			return renderInline(renderer);
+		}
+
+		SimpleStatement compiled = this.compiled;
+
+		if (compiled != null) {
+			return compiled.setPositionalValues(values);
+		}
+
+		SimpleStatement statement = renderer.apply(ParameterHandling.BY_INDEX);
+
+		if (values.equals(statement.getPositionalValues())) {
+			this.compiled = statement.getRoutingKey() == null ? statement
+					: statement.setRoutingKey((ByteBuffer) null);
+		} else {
+			this.failed = true;
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Render the statement with inlined values. The resulting statement must not carry positional values as statements
+	 * with positional values are prepared by the template.
+	 *
+	 * @param renderer function rendering the statement using the given {@link ParameterHandling}.
+	 * @return the inline {@link SimpleStatement}.
+	 */
+	private static SimpleStatement renderInline(Function<ParameterHandling, SimpleStatement> renderer) {
+
+		SimpleStatement statement = renderer.apply(ParameterHandling.INLINE);
+
+		Assert.state(statement.getPositionalValues().isEmpty() && statement.getNamedValues().isEmpty(),
+				"Inline statement must not carry bind values");
+
+		return statement;
+	}
+
+	/**
+	 * Obtain the values to bind from the {@link CassandraParameterAccessor} in the order of their bind markers.
+	 *
+	 * @return the values to bind or {@literal null} if the arguments contain {@literal null} values.
+	 */
+	@Nullable
+	private List<Object> getValues(CassandraParameterAccessor parameterAccessor) {
+
+		Iterator<Object> iterator = parameterAccessor.iterator();
+
+		if (!(iterator instanceof PotentiallyConvertingIterator)) {
+			return null;
+		}
+
+		PotentiallyConvertingIterator parameters = (PotentiallyConvertingIterator) iterator;
+		List<Object> values = new ArrayList<>(this.bindings.size());
+
+		for (Binding binding : this.bindings) {
+
+			Object value = binding.getValue(parameters);
+
+			if (value == null) {
+				return null;
+			}
+
+			values.add(value);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Binding of a {@link Part} to its bind marker.
+	 */
+	private static class Binding {
+
+		private final Type type;
+
+		private final CassandraPersistentProperty property;
+
+		Binding(Type type, CassandraPersistentProperty property) {
+			this.type = type;
+			this.property = property;
+		}
+
+		@Nullable
+		Object getValue(PotentiallyConvertingIterator parameters) {
+
+			switch (this.type) {
+				case TRUE:
+					return true;
+				case FALSE:
+					return false;
+				case LIKE:
+				case STARTING_WITH:
+				case ENDING_WITH:
+					return like(this.type, parameters.nextConverted(this.property));
+				case CONTAINING:
+
+					Object value = parameters.nextConverted(this.property);
+
+					return this.property.isCollectionLike() || this.property.isMapLike() ? value : like(this.type, value);
+				default:
+					return parameters.nextConverted(this.property);
+			}
+		}
+
+		@Nullable
+		private static Object like(Type type, @Nullable Object value) {
+			return value != null ? CassandraQueryCreator.like(type, value) : null;
+		}
+	}
+}
@@ -26,6 +26,7 @@ import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.cql.QueryExtractorDelegate;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Columns;
@@ -52,6 +53,8 @@ class QueryStatementCreator {
 
 	private static final Logger LOG = LoggerFactory.getLogger(QueryStatementCreator.class);
 
+	private static final int SINGLE_ENTITY_PAGE_SIZE = 2;
+
 	private final CassandraQueryMethod queryMethod;
 
 	private final MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext;
@@ -76,6 +79,22 @@ class QueryStatementCreator {
 	 */
 	SimpleStatement select(StatementFactory statementFactory, PartTree tree, CassandraParameterAccessor parameterAccessor,
 			ResultProcessor processor) {
+		return select(statementFactory, tree, parameterAccessor, processor, ParameterHandling.INLINE);
+	}
+
+	/**
+	 * Create a {@literal SELECT} {@link Statement} from a {@link PartTree} using the given {@link ParameterHandling} and
+	 * apply query options. Statements for single-entity queries use a page size of two unless a page size is configured.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @param parameterHandling must not be {@literal null}.
+	 * @return the {@literal SELECT} {@link Statement}.
+	 * @since 3.1
+	 */
+	SimpleStatement select(StatementFactory statementFactory, PartTree tree, CassandraParameterAccessor parameterAccessor,
+			ResultProcessor processor, ParameterHandling parameterHandling) {
 
 		Function<Query, SimpleStatement> function = query -> {
 
@@ -87,7 +106,13 @@ class QueryStatementCreator {
 				query = query.columns(columns);
 			}
 
-			SimpleStatement statement = statementFactory.select(query, getPersistentEntity()).build();
+			SimpleStatement statement = statementFactory.select(query, getPersistentEntity()).build(parameterHandling);
+
+			if (isSingleEntityQuery() && statement.getPageSize() <= 0) {
+
+				// two rows are sufficient to detect non-unique results
+				statement = statement.setPageSize(SINGLE_ENTITY_PAGE_SIZE);
+			}
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Created query [%s].", statement));
@@ -110,10 +135,26 @@ class QueryStatementCreator {
 	 */
 	SimpleStatement count(StatementFactory statementFactory, PartTree tree,
 			CassandraParameterAccessor parameterAccessor) {
+		return count(statementFactory, tree, parameterAccessor, ParameterHandling.INLINE);
+	}
+
+	/**
+	 * Create a {@literal COUNT} {@link Statement} from a {@link PartTree} using the given {@link ParameterHandling} and
+	 * apply query options.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @param parameterHandling must not be {@literal null}.
+	 * @return the {@literal SELECT} {@link Statement}.
+	 * @since 3.1
+	 */
+	SimpleStatement count(StatementFactory statementFactory, PartTree tree,
+			CassandraParameterAccessor parameterAccessor, ParameterHandling parameterHandling) {
 
 		Function<Query, SimpleStatement> function = query -> {
 
-			SimpleStatement statement = statementFactory.count(query, getPersistentEntity()).build();
+			SimpleStatement statement = statementFactory.count(query, getPersistentEntity()).build(parameterHandling);
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Created query [%s].", QueryExtractorDelegate.getCql(statement)));
@@ -137,10 +178,26 @@ class QueryStatementCreator {
 	 */
 	SimpleStatement delete(StatementFactory statementFactory, PartTree tree,
 			CassandraParameterAccessor parameterAccessor) {
+		return delete(statementFactory, tree, parameterAccessor, ParameterHandling.INLINE);
+	}
+
+	/**
+	 * Create a {@literal DELETE} {@link Statement} from a {@link PartTree} using the given {@link ParameterHandling} and
+	 * apply query options.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @param parameterHandling must not be {@literal null}.
+	 * @return the {@literal DELETE} {@link Statement}.
+	 * @since 3.1
+	 */
+	SimpleStatement delete(StatementFactory statementFactory, PartTree tree,
+			CassandraParameterAccessor parameterAccessor, ParameterHandling parameterHandling) {
 
 		Function<Query, SimpleStatement> function = query -> {
 
-			SimpleStatement statement = statementFactory.delete(query, getPersistentEntity()).build();
+			SimpleStatement statement = statementFactory.delete(query, getPersistentEntity()).build(parameterHandling);
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Created query [%s].", QueryExtractorDelegate.getCql(statement)));
@@ -164,10 +221,27 @@ class QueryStatementCreator {
 	 */
 	SimpleStatement exists(StatementFactory statementFactory, PartTree tree,
 			CassandraParameterAccessor parameterAccessor) {
+		return exists(statementFactory, tree, parameterAccessor, ParameterHandling.INLINE);
+	}
+
+	/**
+	 * Create a {@literal SELECT} {@link Statement} from a {@link PartTree} using the given {@link ParameterHandling} and
+	 * apply query options. Statements for single-entity queries use a page size of two unless a page size is configured.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @param parameterHandling must not be {@literal null}.
+	 * @return the {@literal SELECT} {@link Statement}.
+	 * @since 3.1
+	 */
+	SimpleStatement exists(StatementFactory statementFactory, PartTree tree,
+			CassandraParameterAccessor parameterAccessor, ParameterHandling parameterHandling) {
 
 		Function<Query, SimpleStatement> function = query -> {
 
-			SimpleStatement statement = statementFactory.select(query.limit(1), getPersistentEntity()).build();
+			SimpleStatement statement = statementFactory.select(query.limit(1), getPersistentEntity())
+					.build(parameterHandling);
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Created query [%s].", QueryExtractorDelegate.getCql(statement)));
@@ -219,6 +293,11 @@ class QueryStatementCreator {
 		}
 	}
 
+	private boolean isSingleEntityQuery() {
+		return !this.queryMethod.isCollectionQuery() && !this.queryMethod.isSliceQuery() && !this.queryMethod.isPageQuery()
+				&& !this.queryMethod.isStreamQuery() && !this.queryMethod.isResultSetQuery();
+	}
+
 	private boolean allowsFiltering() {
 		return this.queryMethod.getQueryAnnotation()
 				.map(org.springframework.data.cassandra.repository.Query::allowFiltering).orElse(false);
@@ -142,7 +142,8 @@ interface ReactiveCassandraQueryExecution {
 		@Override
 		public Publisher<? extends Object> execute(Statement<?> statement, Class<?> type) {
 
-			return operations.select(statement, type).buffer(2).map(objects -> {
+			// two rows are sufficient to detect non-unique results, cancel the query afterwards
+			return operations.select(statement, type).take(2).buffer(2).map(objects -> {
 
 				if (objects.isEmpty()) {
 					return null;
@@ -18,8 +18,10 @@ package org.springframework.data.cassandra.repository.query;
 import reactor.core.publisher.Mono;
 
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.core.ReactiveCassandraTemplate;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
@@ -44,6 +46,8 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 
 	private final StatementFactory statementFactory;
 
+	private final PartTreeQueryTemplate queryTemplate;
+
 	/**
 	 * Create a new {@link ReactivePartTreeCassandraQuery} from the given {@link ReactiveCassandraQueryMethod} and
 	 * {@link ReactiveCassandraOperations}.
@@ -59,6 +63,7 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
 		this.mappingContext = operations.getConverter().getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(operations.getConverter()));
+		this.queryTemplate = PartTreeQueryTemplate.create(queryMethod, this.tree, this.mappingContext);
 	}
 
 	/**
@@ -100,21 +105,42 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 
 		return Mono.fromSupplier(() -> {
 
-			if (isCountQuery()) {
-				return getQueryStatementCreator().count(getStatementFactory(), getTree(), parameterAccessor);
+			if (isUsePreparedStatements()) {
+				return this.queryTemplate.createStatement(parameterAccessor, it -> createQuery(parameterAccessor, it));
 			}
 
-			if (isExistsQuery()) {
-				return getQueryStatementCreator().exists(getStatementFactory(), getTree(), parameterAccessor);
-			}
+			return createQuery(parameterAccessor, ParameterHandling.INLINE);
+		});
+	}
 
-			if (getTree().isDelete()) {
-				return getQueryStatementCreator().delete(getStatementFactory(), getTree(), parameterAccessor);
-			}
+	private SimpleStatement createQuery(CassandraParameterAccessor parameterAccessor,
+			ParameterHandling parameterHandling) {
 
-			return getQueryStatementCreator().select(getStatementFactory(), getTree(), parameterAccessor,
-					getQueryMethod().getResultProcessor());
-		});
+		if (isCountQuery()) {
+			return getQueryStatementCreator().count(getStatementFactory(), getTree(), parameterAccessor,
+					parameterHandling);
+		}
+
+		if (isExistsQuery()) {
+			return getQueryStatementCreator().exists(getStatementFactory(), getTree(), parameterAccessor,
+					parameterHandling);
+		}
+
+		if (getTree().isDelete()) {
+			return getQueryStatementCreator().delete(getStatementFactory(), getTree(), parameterAccessor,
+					parameterHandling);
+		}
+
+		return getQueryStatementCreator().select(getStatementFactory(), getTree(), parameterAccessor,
+				getQueryMethod().getResultProcessor(), parameterHandling);
+	}
+
+	private boolean isUsePreparedStatements() {
+
+		ReactiveCassandraOperations operations = getReactiveCassandraOperations();
+
+		return operations instanceof ReactiveCassandraTemplate
+				&& ((ReactiveCassandraTemplate) operations).isUsePreparedStatements();
 	}
 
 	/* (non-Javadoc)
@@ -51,7 +51,6 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 	private final boolean isExistsQuery;
 
-	private final ExpressionParser expressionParser;
 	private final ReactiveQueryMethodEvaluationContextProvider evaluationContextProvider;
 
 	/**
@@ -95,7 +94,6 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 		Assert.hasText(query, "Query must not be empty");
 
-		this.expressionParser = expressionParser;
 		this.evaluationContextProvider = evaluationContextProvider;
 
 		this.stringBasedQuery = new StringBasedQuery(query, method.getParameters(), expressionParser);
@@ -179,8 +177,7 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 		return evaluationContextProvider
 				.getEvaluationContextLater(getQueryMethod().getParameters(), accessor.getValues(), dependencies)
-				.map(evaluationContext -> (SpELExpressionEvaluator) new DefaultSpELExpressionEvaluator(expressionParser,
-						evaluationContext))
+				.map(evaluationContext -> getStringBasedQuery().createExpressionEvaluator(evaluationContext))
 				.defaultIfEmpty(DefaultSpELExpressionEvaluator.unsupported());
 	}
 }
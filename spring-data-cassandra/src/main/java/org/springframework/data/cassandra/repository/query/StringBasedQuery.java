@@ -16,7 +16,10 @@
 package org.springframework.data.cassandra.repository.query;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +27,8 @@ import java.util.regex.Pattern;
 import org.springframework.data.cassandra.repository.query.BindingContext.ParameterBinding;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.spel.ExpressionDependencies;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -39,14 +44,16 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
  */
 class StringBasedQuery {
 
-	private final String query;
-
 	private final CassandraParameters parameters;
 
 	private final ExpressionParser expressionParser;
 
 	private final List<ParameterBinding> queryParameterBindings = new ArrayList<>();
 
+	private final BindableQuery bindableQuery;
+
+	private final Map<String, Expression> expressions;
+
 	private final ExpressionDependencies expressionDependencies;
 
 	/**
@@ -59,28 +66,62 @@ class StringBasedQuery {
 	 */
 	StringBasedQuery(String query, CassandraParameters parameters, ExpressionParser expressionParser) {
 
-		this.query = ParameterBindingParser.INSTANCE.parseAndCollectParameterBindingsFromQueryIntoBindings(query,
-				this.queryParameterBindings);
+		this.bindableQuery = BindableQuery.of(ParameterBindingParser.INSTANCE
+				.parseAndCollectParameterBindingsFromQueryIntoBindings(query, this.queryParameterBindings));
 		this.parameters = parameters;
 		this.expressionParser = expressionParser;
+		this.expressions = parseExpressions();
 		this.expressionDependencies = createExpressionDependencies();
+
+		resolveParameterNames();
 	}
 
-	private ExpressionDependencies createExpressionDependencies() {
+	/**
+	 * Replace named bindings with index bindings so that parameter names are not looked up on each invocation. Unknown
+	 * names are retained to report them when binding the query.
+	 */
+	private void resolveParameterNames() {
 
-		if (queryParameterBindings.isEmpty()) {
-			return ExpressionDependencies.none();
+		for (ListIterator<ParameterBinding> iterator = queryParameterBindings.listIterator(); iterator.hasNext();) {
+
+			ParameterBinding binding = iterator.next();
+
+			if (!binding.isNamed()) {
+				continue;
+			}
+
+			parameters.stream() //
+					.filter(it -> it.getName().filter(binding.getRequiredParameterName()::equals).isPresent()) //
+					.findFirst() //
+					.ifPresent(it -> iterator.set(ParameterBinding.indexed(it.getIndex())));
 		}
+	}
 
-		List<ExpressionDependencies> dependencies = new ArrayList<>();
+	private Map<String, Expression> parseExpressions() {
+
+		Map<String, Expression> expressions = new HashMap<>();
 
 		for (ParameterBinding binding : queryParameterBindings) {
 			if (binding.isExpression()) {
-				dependencies
-						.add(ExpressionDependencies.discover(expressionParser.parseExpression(binding.getRequiredExpression())));
+				expressions.computeIfAbsent(binding.getRequiredExpression(), expressionParser::parseExpression);
 			}
 		}
 
+		return expressions;
+	}
+
+	private ExpressionDependencies createExpressionDependencies() {
+
+		if (expressions.isEmpty()) {
+			return ExpressionDependencies.none();
+		}
+
+		List<ExpressionDependencies> dependencies = new ArrayList<>();
+
+		for (Expression expression : expressions.values()) {
+			dependencies.add(ExpressionDependencies.discover(expression));
+		}
+
 		return ExpressionDependencies.merged(dependencies);
 	}
 
@@ -93,6 +134,32 @@ class StringBasedQuery {
 		return expressionDependencies;
 	}
 
+	/**
+	 * Create a {@link SpELExpressionEvaluator} that evaluates the expressions of this query against the given
+	 * {@link EvaluationContext}. Expressions contained in the query are parsed once when creating the
+	 * {@link StringBasedQuery} and reused across evaluations.
+	 *
+	 * @param evaluationContext must not be {@literal null}.
+	 * @return the {@link SpELExpressionEvaluator} for {@code evaluationContext}.
+	 * @since 3.1
+	 */
+	public SpELExpressionEvaluator createExpressionEvaluator(EvaluationContext evaluationContext) {
+
+		Assert.notNull(evaluationContext, "EvaluationContext must not be null");
+
+		return new ParsedExpressionEvaluator(evaluationContext);
+	}
+
+	/**
+	 * Returns the CQL of this query with parameter bindings replaced by positional bind markers.
+	 *
+	 * @return the bindable CQL.
+	 * @since 3.1
+	 */
+	public String getBindableQuery() {
+		return this.bindableQuery.cql;
+	}
+
 	/**
 	 * Bind the query to actual parameters using {@link CassandraParameterAccessor},
 	 *
@@ -110,26 +177,65 @@ class StringBasedQuery {
 
 		List<Object> arguments = bindingContext.getBindingValues();
 
-		return ParameterBinder.INSTANCE.bind(this.query, arguments);
+		return this.bindableQuery.bind(arguments);
 	}
 
 	/**
-	 * A parser that extracts the parameter bindings from a given query string.
+	 * {@link SpELExpressionEvaluator} using expressions that were parsed upfront.
+	 */
+	private class ParsedExpressionEvaluator implements SpELExpressionEvaluator {
+
+		private final EvaluationContext evaluationContext;
+
+		ParsedExpressionEvaluator(EvaluationContext evaluationContext) {
+			this.evaluationContext = evaluationContext;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.mapping.model.SpELExpressionEvaluator#evaluate(java.lang.String)
+		 */
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T evaluate(String expression) {
+
+			Expression parsed = expressions.get(expression);
+
+			if (parsed == null) {
+				parsed = expressionParser.parseExpression(expression);
+			}
+
+			return (T) parsed.getValue(this.evaluationContext);
+		}
+	}
+
+	/**
+	 * CQL with positional bind markers computed once from a query containing argument placeholders.
 	 *
 	 * @author Mark Paluch
+	 * @since 3.1
 	 */
-	enum ParameterBinder {
-
-		INSTANCE;
+	static class BindableQuery {
 
 		private static final String ARGUMENT_PLACEHOLDER = "?_param_?";
 		private static final Pattern ARGUMENT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(ARGUMENT_PLACEHOLDER));
 
-		public SimpleStatement bind(String input, List<Object> parameters) {
+		private final String cql;
 
-			if (parameters.isEmpty()) {
-				return SimpleStatement.newInstance(input);
-			}
+		private final int bindMarkerCount;
+
+		private BindableQuery(String cql, int bindMarkerCount) {
+			this.cql = cql;
+			this.bindMarkerCount = bindMarkerCount;
+		}
+
+		/**
+		 * Create a {@link BindableQuery} by replacing argument placeholders in {@code input} with positional bind markers.
+		 *
+		 * @param input the query containing argument placeholders.
+		 * @return the {@link BindableQuery}.
+		 */
+		static BindableQuery of(String input) {
 
 			StringBuilder result = new StringBuilder();
 
@@ -156,7 +262,22 @@ class StringBasedQuery {
 
 			String bindableStatement = result.append(input.subSequence(currentPosition, input.length())).toString();
 
-			return SimpleStatement.newInstance(bindableStatement, parameters.subList(0, parameterIndex).toArray());
+			return new BindableQuery(bindableStatement, parameterIndex);
+		}
+
+		/**
+		 * Create a {@link SimpleStatement} binding {@code parameters} to the bind markers.
+		 *
+		 * @param parameters the values to bind.
+		 * @return the {@link SimpleStatement}.
+		 */
+		SimpleStatement bind(List<Object> parameters) {
+
+			if (parameters.isEmpty() || this.bindMarkerCount == 0) {
+				return SimpleStatement.newInstance(this.cql);
+			}
+
+			return SimpleStatement.newInstance(this.cql, parameters.subList(0, this.bindMarkerCount).toArray());
 		}
 	}
 
@@ -15,15 +15,18 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
-import static org.springframework.data.cassandra.core.query.Criteria.*;
-
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.CassandraUncategorizedException;
+import org.springframework.data.cassandra.core.BulkWriteOptions;
+import org.springframework.data.cassandra.core.BulkWriteResult;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.CountOptions;
 import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
@@ -97,11 +100,47 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 	 * @see org.springframework.data.repository.CrudRepository#saveAll(java.lang.Iterable)
 	 */
 	@Override
+	@SuppressWarnings("unchecked")
 	public <S extends T> List<S> saveAll(Iterable<S> entities) {
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
 		List<S> result = new ArrayList<>();
+		boolean versioned = false;
+
+		for (S entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			BasicCassandraPersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(entity.getClass());
+			versioned |= persistentEntity != null && persistentEntity.hasVersionProperty();
+
+			result.add(entity);
+		}
+
+		if (versioned) {
+			return saveEach(result);
+		}
+
+		BulkWriteResult writeResult = this.operations.bulkInsert(result,
+				BulkWriteOptions.builder().insertOptions(INSERT_NULLS).retainEntities().build());
+
+		if (!writeResult.wasSuccessful()) {
+			throw toDataAccessException(writeResult);
+		}
+
+		List<S> saved = new ArrayList<>(result.size());
+
+		for (Object entity : writeResult.getEntities()) {
+			saved.add((S) entity);
+		}
+
+		return saved;
+	}
+
+	private <S extends T> List<S> saveEach(List<S> entities) {
+
+		List<S> result = new ArrayList<>(entities.size());
 
 		for (S entity : entities) {
 			result.add(save(entity));
@@ -110,6 +149,18 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 		return result;
 	}
 
+	private static DataAccessException toDataAccessException(BulkWriteResult writeResult) {
+
+		Throwable failure = writeResult.getFailures().get(0);
+
+		if (failure instanceof DataAccessException) {
+			return (DataAccessException) failure;
+		}
+
+		return new CassandraUncategorizedException(String.format("Failed to save %d of %d entities",
+				writeResult.getFailureCount(), writeResult.getFailureCount() + writeResult.getSuccessCount()), failure);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.TypedIdCassandraRepository#insert(java.lang.Object)
 	 */
@@ -169,7 +220,18 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 	 */
 	@Override
 	public long count() {
-		return this.operations.count(this.entityInformation.getJavaType());
+		return count(CountOptions.empty());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.CassandraRepository#count(org.springframework.data.cassandra.core.CountOptions)
+	 */
+	@Override
+	public long count(CountOptions options) {
+
+		Assert.notNull(options, "CountOptions must not be null");
+
+		return this.operations.count(this.entityInformation.getJavaType(), options);
 	}
 
 	/* (non-Javadoc)
@@ -188,19 +250,14 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(ids, "The given Iterable of id's must not be null");
 
-		FindByIdQuery mapIdQuery = FindByIdQuery.forIds(ids);
-		List<Object> idCollection = mapIdQuery.getIdCollection();
-		String idField = mapIdQuery.getIdProperty();
+		List<ID> idsToLoad = new ArrayList<>();
+		ids.forEach(idsToLoad::add);
 
-		if (idCollection.isEmpty()) {
+		if (idsToLoad.isEmpty()) {
 			return Collections.emptyList();
 		}
 
-		if (idField == null) {
-			idField = this.entityInformation.getIdAttribute();
-		}
-
-		return this.operations.select(Query.query(where(idField).in(idCollection)), this.entityInformation.getJavaType());
+		return this.operations.selectAllById(idsToLoad, this.entityInformation.getJavaType());
 	}
 
 	/* (non-Javadoc)
@@ -15,15 +15,12 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
-import static org.springframework.data.cassandra.core.query.Criteria.*;
-
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
-
 import org.reactivestreams.Publisher;
 
+import org.springframework.data.cassandra.core.CountOptions;
 import org.springframework.data.cassandra.core.EntityWriteResult;
 import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
@@ -151,7 +148,19 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 	 */
 	@Override
 	public Mono<Long> count() {
-		return this.operations.count(this.entityInformation.getJavaType());
+		return count(CountOptions.empty());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.ReactiveCassandraRepository#count(org.springframework.data.cassandra.core.CountOptions)
+	 */
+	@Override
+	public Mono<Long> count(CountOptions options) {
+
+		Assert.notNull(options, "CountOptions must not be null");
+
+		return this.operations.count(this.entityInformation.getJavaType(), options);
 	}
 
 	/*
@@ -220,23 +229,7 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(ids, "The given Iterable of ids must not be null");
 
-		if (FindByIdQuery.hasCompositeKeys(ids)) {
-			return findAllById(Flux.fromIterable(ids));
-		}
-
-		FindByIdQuery query = FindByIdQuery.forIds(ids);
-		List<Object> idCollection = query.getIdCollection();
-		String idField = query.getIdProperty();
-
-		if (idCollection.isEmpty()) {
-			return Flux.empty();
-		}
-
-		if (idField == null) {
-			idField = this.entityInformation.getIdAttribute();
-		}
-
-		return this.operations.select(Query.query(where(idField).in(idCollection)), this.entityInformation.getJavaType());
+		return findAllById(Flux.fromIterable(ids));
 	}
 
 	/*
@@ -248,7 +241,7 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(idStream, "The given Publisher of ids must not be null");
 
-		return Flux.from(idStream).flatMap(this::findById);
+		return this.operations.selectAllById(idStream, this.entityInformation.getJavaType());
 	}
 
 	/*
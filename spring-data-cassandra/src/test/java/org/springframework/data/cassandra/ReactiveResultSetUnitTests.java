@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link ReactiveResultSet}.
+ */
+class ReactiveResultSetUnitTests {
+
+	@Test
+	void pagesShouldEmitRowsInBoundedChunks() {
+
+		Row row = mock(Row.class);
+		ReactiveResultSet resultSet = mock(ReactiveResultSet.class);
+
+		doReturn(Flux.range(0, 12_000).map(it -> row)).when(resultSet).rows();
+		doCallRealMethod().when(resultSet).pages();
+
+		resultSet.pages().as(StepVerifier::create) //
+				.assertNext(page -> assertThat(page).hasSize(5000)) //
+				.assertNext(page -> assertThat(page).hasSize(5000)) //
+				.assertNext(page -> assertThat(page).hasSize(2000)) //
+				.verifyComplete();
+	}
+}
@@ -54,6 +54,7 @@ import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -348,6 +349,26 @@ public class AsyncCassandraTemplateUnitTests {
 		}
 	}
 
+	@Test
+	void bulkInsertShouldNotRecurseOnSynchronousCompletion() throws Exception {
+
+		CompletableFuture<PreparedStatement> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new NoNodeAvailableException());
+
+		when(session.prepareAsync(any(SimpleStatement.class))).thenReturn(failed);
+
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 50_000; i++) {
+			users.add(new User("id" + i, "Walter", "White"));
+		}
+
+		BulkWriteResult result = template.bulkInsert(users, BulkWriteOptions.builder().concurrency(1).build()).get();
+
+		assertThat(result.getSuccessCount()).isZero();
+		assertThat(result.getFailureCount()).isEqualTo(50_000);
+		assertThat(result.getFailures()).hasSize(BulkWriteResult.MAX_REPORTED_FAILURES);
+	}
+
 	@Test // DATACASS-292, DATACASS-618
 	void updateShouldUpdateEntity() {
 
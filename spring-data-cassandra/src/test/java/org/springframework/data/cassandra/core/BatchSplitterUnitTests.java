@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.BatchSplitter.EntityStatement;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.domain.User;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link BatchSplitter}.
+ */
+class BatchSplitterUnitTests {
+
+	CassandraConverter converter = new MappingCassandraConverter();
+
+	CassandraPersistentEntity<?> groupEntity = converter.getMappingContext().getRequiredPersistentEntity(Group.class);
+
+	CassandraPersistentEntity<?> userEntity = converter.getMappingContext().getRequiredPersistentEntity(User.class);
+
+	@Test
+	void shouldGroupStatementsByPartition() {
+
+		List<EntityStatement> statements = Arrays.asList(group("users", "0x1", "walter"), group("admins", "0x1", "gus"),
+				group("users", "0x1", "mike"), user("heisenberg"));
+
+		List<BatchStatement> batches = new BatchSplitter(converter, BatchSplitOptions.empty()).split(statements,
+				BatchType.UNLOGGED, 1234L);
+
+		assertThat(batches).hasSize(3);
+		assertThat(batches).extracting(BatchStatement::size).containsExactly(2, 1, 1);
+		assertThat(batches).extracting(BatchStatement::getBatchType).containsOnly(BatchType.UNLOGGED);
+		assertThat(batches).extracting(BatchStatement::getQueryTimestamp).containsOnly(1234L);
+	}
+
+	@Test
+	void shouldCapBatchesByStatementCount() {
+
+		List<EntityStatement> statements = Arrays.asList(group("users", "0x1", "walter"), group("users", "0x1", "mike"),
+				group("users", "0x1", "jesse"));
+
+		List<BatchStatement> batches = new BatchSplitter(converter,
+				BatchSplitOptions.builder().maxStatements(2).build()).split(statements, BatchType.LOGGED, null);
+
+		assertThat(batches).extracting(BatchStatement::size).containsExactly(2, 1);
+	}
+
+	@Test
+	void shouldCapBatchesByEstimatedSize() {
+
+		List<EntityStatement> statements = Arrays.asList(group("users", "0x1", "walter"), group("users", "0x1", "mike"),
+				group("users", "0x1", "jesse"));
+
+		List<BatchStatement> batches = new BatchSplitter(converter,
+				BatchSplitOptions.builder().maxSizeInBytes(1).build()).split(statements, BatchType.LOGGED, null);
+
+		assertThat(batches).extracting(BatchStatement::size).containsExactly(1, 1, 1);
+	}
+
+	@Test
+	void shouldCreateSingleBatch() {
+
+		BatchStatement batch = BatchSplitter.createBatch(
+				Arrays.asList(group("users", "0x1", "walter"), group("admins", "0x1", "gus")), BatchType.COUNTER, null);
+
+		assertThat(batch.size()).isEqualTo(2);
+		assertThat(batch.getBatchType()).isEqualTo(BatchType.COUNTER);
+	}
+
+	@Test
+	void batchShouldBeIdempotentIfAllStatementsAreIdempotent() {
+
+		EntityStatement walter = idempotent(group("users", "0x1", "walter"));
+		EntityStatement mike = idempotent(group("users", "0x1", "mike"));
+		EntityStatement jesse = group("users", "0x1", "jesse");
+
+		assertThat(BatchSplitter.createBatch(Arrays.asList(walter, mike), BatchType.UNLOGGED, null).isIdempotent())
+				.isTrue();
+		assertThat(BatchSplitter.createBatch(Arrays.asList(walter, jesse), BatchType.UNLOGGED, null).isIdempotent())
+				.isNull();
+	}
+
+	@Test
+	void shouldCombineWriteResults() {
+
+		WriteResult applied = new WriteResult(Collections.emptyList(), true, Collections.emptyList());
+		WriteResult notApplied = new WriteResult(Collections.emptyList(), false, Collections.emptyList());
+
+		assertThat(BatchSplitter.combine(Arrays.asList(applied, applied)).wasApplied()).isTrue();
+		assertThat(BatchSplitter.combine(Arrays.asList(applied, notApplied)).wasApplied()).isFalse();
+		assertThat(BatchSplitter.combine(Collections.emptyList()).wasApplied()).isTrue();
+	}
+
+	private EntityStatement group(String groupname, String hashPrefix, String username) {
+
+		Group group = new Group(new GroupKey(groupname, hashPrefix, username));
+
+		return new EntityStatement(SimpleStatement.newInstance("INSERT INTO group (groupname,hash_prefix,username) VALUES ('"
+				+ groupname + "','" + hashPrefix + "','" + username + "')"), group, groupEntity);
+	}
+
+	private static EntityStatement idempotent(EntityStatement statement) {
+		return statement.withStatement(((SimpleStatement) statement.getStatement()).setIdempotent(true));
+	}
+
+	private EntityStatement user(String id) {
+		return new EntityStatement(SimpleStatement.newInstance("INSERT INTO users (id) VALUES ('" + id + "')"),
+				new User(id, "Walter", "White"), userEntity);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BulkWriteOptions}.
+ */
+class BulkWriteOptionsUnitTests {
+
+	@Test
+	void shouldConfigureBulkWriteOptions() {
+
+		InsertOptions insertOptions = InsertOptions.builder().withInsertNulls().build();
+
+		BulkWriteOptions options = BulkWriteOptions.builder().insertOptions(insertOptions).concurrency(16).build();
+
+		assertThat(options.getInsertOptions()).isEqualTo(insertOptions);
+		assertThat(options.getConcurrency()).isEqualTo(16);
+	}
+
+	@Test
+	void emptyShouldUseDefaults() {
+
+		BulkWriteOptions options = BulkWriteOptions.empty();
+
+		assertThat(options.getInsertOptions()).isEqualTo(InsertOptions.empty());
+		assertThat(options.getConcurrency()).isEqualTo(BulkWriteOptions.DEFAULT_CONCURRENCY);
+		assertThat(options.isRetainEntities()).isFalse();
+	}
+
+	@Test
+	void shouldConfigureRetainEntities() {
+
+		BulkWriteOptions options = BulkWriteOptions.builder().retainEntities().build();
+
+		assertThat(options.isRetainEntities()).isTrue();
+		assertThat(options.mutate().build()).isEqualTo(options);
+		assertThat(options).isNotEqualTo(BulkWriteOptions.empty());
+	}
+
+	@Test
+	void mutateShouldRetainSettings() {
+
+		BulkWriteOptions options = BulkWriteOptions.builder().concurrency(8).build();
+
+		BulkWriteOptions mutated = options.mutate().insertOptions(InsertOptions.builder().withIfNotExists().build())
+				.build();
+
+		assertThat(mutated).isNotSameAs(options);
+		assertThat(mutated.getConcurrency()).isEqualTo(8);
+		assertThat(mutated.getInsertOptions().isIfNotExists()).isTrue();
+	}
+
+	@Test
+	void shouldRejectInvalidConcurrency() {
+		assertThatIllegalArgumentException().isThrownBy(() -> BulkWriteOptions.builder().concurrency(0));
+	}
+}
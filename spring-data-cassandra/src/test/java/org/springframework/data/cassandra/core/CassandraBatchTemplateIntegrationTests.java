@@ -31,6 +31,7 @@ import org.springframework.data.cassandra.domain.GroupKey;
 import org.springframework.data.cassandra.repository.support.SchemaTestUtils;
 import org.springframework.data.cassandra.test.util.AbstractKeyspaceCreatingIntegrationTests;
 
+import com.datastax.oss.driver.api.core.cql.BatchType;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 
@@ -73,6 +74,21 @@ class CassandraBatchTemplateIntegrationTests extends AbstractKeyspaceCreatingInt
 		assertThat(loaded.getId().getUsername()).isEqualTo(walter.getId().getUsername());
 	}
 
+	@Test
+	void shouldInsertEntitiesInUnloggedPartitionBatches() {
+
+		Group gus = new Group(new GroupKey("admins", "0x1", "gus"));
+
+		CassandraBatchOperations batchOperations = new CassandraBatchTemplate(template);
+		WriteResult writeResult = batchOperations.insert(walter, gus, mike).withBatchType(BatchType.UNLOGGED)
+				.splitByPartition(BatchSplitOptions.builder().maxStatements(1).build()).execute();
+
+		assertThat(writeResult.wasApplied()).isTrue();
+		assertThat(writeResult.getExecutionInfo()).hasSize(3);
+		assertThat(template.selectOneById(gus.getId(), Group.class)).isNotNull();
+		assertThat(template.selectOneById(walter.getId(), Group.class)).isNotNull();
+	}
+
 	@Test // DATACASS-288
 	void shouldInsertEntitiesWithLwt() {
 
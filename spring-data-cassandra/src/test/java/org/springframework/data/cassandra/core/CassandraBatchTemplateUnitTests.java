@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.domain.User;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link CassandraBatchTemplate}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CassandraBatchTemplateUnitTests {
+
+	@Mock CqlSession session;
+
+	@Mock ResultSet resultSet;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@Mock(answer = Answers.RETURNS_SELF) BoundStatement heisenberg;
+
+	@Mock(answer = Answers.RETURNS_SELF) BoundStatement pinkman;
+
+	@Captor ArgumentCaptor<SimpleStatement> preparedCaptor;
+
+	@Captor ArgumentCaptor<Statement<?>> statementCaptor;
+
+	private CassandraTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		template = new CassandraTemplate(session);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("Walter", "heisenberg", "White")).thenReturn(heisenberg);
+		when(preparedStatement.bind("Jesse", "pinkman", "Pinkman")).thenReturn(pinkman);
+	}
+
+	@Test
+	void shouldBatchBoundStatements() {
+
+		template.setUsePreparedStatements(true);
+
+		template.batchOps().withBatchType(BatchType.UNLOGGED)
+				.insert(new User("heisenberg", "Walter", "White"), new User("pinkman", "Jesse", "Pinkman")).execute();
+
+		verify(session).prepare(preparedCaptor.capture());
+		assertThat(preparedCaptor.getValue().getQuery())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES (?,?,?)");
+		verify(session).execute(statementCaptor.capture());
+
+		BatchStatement batch = (BatchStatement) statementCaptor.getValue();
+
+		assertThat(batch.getBatchType()).isEqualTo(BatchType.UNLOGGED);
+		assertThat(batch).containsExactly(heisenberg, pinkman);
+	}
+
+	@Test
+	void shouldBatchInlineStatementsByDefault() {
+
+		template.batchOps().insert(new User("heisenberg", "Walter", "White")).execute();
+
+		verify(session, never()).prepare(any(SimpleStatement.class));
+		verify(session).execute(statementCaptor.capture());
+
+		BatchStatement batch = (BatchStatement) statementCaptor.getValue();
+		BatchableStatement<?> statement = batch.iterator().next();
+
+		assertThat(batch.getBatchType()).isEqualTo(BatchType.LOGGED);
+		assertThat(((SimpleStatement) statement).getQuery())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES ('Walter','heisenberg','White')");
+	}
+
+	@Test
+	void shouldApplyStatementSettingsToSubBatches() {
+
+		AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+		when(asyncResultSet.currentPage()).thenReturn(Collections.emptyList());
+		when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+
+		((CqlTemplate) template.getCqlOperations()).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		template.batchOps().splitByPartition()
+				.insert(new User("heisenberg", "Walter", "White"), new User("pinkman", "Jesse", "Pinkman")).execute();
+
+		verify(session, times(2)).executeAsync(statementCaptor.capture());
+
+		assertThat(statementCaptor.getAllValues()).extracting(Statement::getConsistencyLevel)
+				.containsOnly(DefaultConsistencyLevel.LOCAL_QUORUM);
+	}
+
+	@Test
+	void shouldStopIssuingSubBatchesAfterFailure() {
+
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new NoNodeAvailableException());
+		when(session.executeAsync(any(Statement.class))).thenReturn(failed);
+
+		CassandraBatchOperations batchOperations = template.batchOps()
+				.splitByPartition(BatchSplitOptions.builder().concurrency(1).build())
+				.insert(new User("heisenberg", "Walter", "White"), new User("pinkman", "Jesse", "Pinkman"));
+
+		assertThatExceptionOfType(CassandraConnectionFailureException.class).isThrownBy(batchOperations::execute);
+		verify(session).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	void shouldUseStatementFactoryOfTemplate() {
+
+		CassandraBatchTemplate batchTemplate = (CassandraBatchTemplate) template.batchOps();
+
+		assertThat(batchTemplate.getStatementFactory()).isSameAs(template.getStatementFactory());
+	}
+}
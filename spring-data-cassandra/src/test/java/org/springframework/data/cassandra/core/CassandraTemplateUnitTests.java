@@ -20,8 +20,14 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.cassandra.core.query.Criteria.*;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,26 +39,42 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.cassandra.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.cassandra.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.cassandra.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.cassandra.core.query.Filter;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cassandra.domain.VersionedUser;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
 import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenRange;
 
 /**
  * Unit tests for {@link CassandraTemplate}.
@@ -128,6 +150,45 @@ class CassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users");
 	}
 
+	@Test
+	void selectShouldNotEmitEventsIfDisabled() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		template.setApplicationEventPublisher(publisher);
+		template.setEntityLifecycleEventsEnabled(false);
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("myid");
+
+		template.select("SELECT * FROM users", User.class);
+
+		assertThat(template.isEntityLifecycleEventsEnabled()).isFalse();
+		verifyNoInteractions(publisher);
+	}
+
+	@Test
+	void selectShouldEmitEventsToPublisher() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		template.setApplicationEventPublisher(publisher);
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("myid");
+
+		template.select("SELECT * FROM users", User.class);
+
+		verify(publisher).publishEvent(any(AfterLoadEvent.class));
+		verify(publisher).publishEvent(any(AfterConvertEvent.class));
+	}
+
 	@Test // DATACASS-292
 	void selectShouldTranslateException() {
 
@@ -198,6 +259,175 @@ class CassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id='myid' LIMIT 1");
 	}
 
+	@Test
+	void selectAllByIdShouldIssueSinglePartitionLookups() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement heisenberg = mock(BoundStatement.class, RETURNS_SELF);
+		BoundStatement pinkman = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet emptyResult = mock(AsyncResultSet.class);
+		AsyncResultSet singleResult = mock(AsyncResultSet.class);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("heisenberg")).thenReturn(heisenberg);
+		when(preparedStatement.bind("pinkman")).thenReturn(pinkman);
+		when(session.executeAsync(heisenberg)).thenReturn(CompletableFuture.completedFuture(emptyResult));
+		when(session.executeAsync(pinkman)).thenReturn(CompletableFuture.completedFuture(singleResult));
+		when(emptyResult.currentPage()).thenReturn(Collections.emptyList());
+		when(singleResult.currentPage()).thenReturn(Collections.singletonList(row));
+
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+		when(row.getObject(0)).thenReturn("pinkman");
+		when(row.getObject(1)).thenReturn("Jesse");
+		when(row.getObject(2)).thenReturn("Pinkman");
+
+		List<User> users = template.selectAllById(Arrays.asList("heisenberg", "pinkman", "heisenberg"), User.class);
+
+		assertThat(users).containsExactly(new User("pinkman", "Jesse", "Pinkman"));
+		verify(session).prepare(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id=? LIMIT 1");
+		verify(session, times(2)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	void selectAllByIdShouldApplyStatementSettings() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement heisenberg = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet emptyResult = mock(AsyncResultSet.class);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("heisenberg")).thenReturn(heisenberg);
+		when(session.executeAsync(heisenberg)).thenReturn(CompletableFuture.completedFuture(emptyResult));
+		when(emptyResult.currentPage()).thenReturn(Collections.emptyList());
+
+		((CqlTemplate) template.getCqlOperations()).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		template.selectAllById(Collections.singletonList("heisenberg"), User.class);
+
+		verify(heisenberg).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+		verify(session).executeAsync(heisenberg);
+	}
+
+	@Test
+	void scanAllShouldApplyStatementSettings() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet emptyResult = mock(AsyncResultSet.class);
+
+		stubSingleTokenRing();
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind()).thenReturn(boundStatement);
+		when(session.executeAsync(boundStatement)).thenReturn(CompletableFuture.completedFuture(emptyResult));
+		when(emptyResult.currentPage()).thenReturn(Collections.emptyList());
+
+		((CqlTemplate) template.getCqlOperations()).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		assertThat(template.scanAll(User.class, ScanOptions.empty())).isEmpty();
+
+		verify(boundStatement).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+		verify(session).executeAsync(boundStatement);
+	}
+
+	@Test
+	void countWithOptionsShouldApplyStatementSettings() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet countResult = mock(AsyncResultSet.class);
+
+		stubSingleTokenRing();
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind()).thenReturn(boundStatement);
+		when(session.executeAsync(boundStatement)).thenReturn(CompletableFuture.completedFuture(countResult));
+		when(countResult.one()).thenReturn(row);
+		when(row.getLong(0)).thenReturn(42L);
+
+		((CqlTemplate) template.getCqlOperations()).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		assertThat(template.count(User.class, CountOptions.empty())).isEqualTo(42L);
+
+		verify(boundStatement).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+		verify(session).executeAsync(boundStatement);
+	}
+
+	@Test
+	void shouldNotPrepareStatementsWithoutValues() {
+
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		template.setUsePreparedStatements(true);
+		template.select("SELECT * FROM users WHERE id='myid'", User.class);
+
+		verify(session, never()).prepare(any(SimpleStatement.class));
+		verify(session).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id='myid'");
+	}
+
+	@Test
+	void cursorShouldFetchPagesUsingPagingState() {
+
+		ByteBuffer pagingState = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(executionInfo.getPagingState()).thenReturn(pagingState, (ByteBuffer) null);
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(resultSet.iterator()).thenAnswer(invocation -> Collections.singleton(row).iterator());
+		stubUserRow();
+
+		Iterator<Slice<User>> cursor = template
+				.cursor(Query.empty().pageRequest(CassandraPageRequest.first(1)), User.class).iterator();
+
+		Slice<User> first = cursor.next();
+		Slice<User> second = cursor.next();
+
+		assertThat(first.getContent()).containsExactly(new User("myid", "Walter", "White"));
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.getNumber()).isOne();
+		assertThat(second.hasNext()).isFalse();
+		assertThat(cursor.hasNext()).isFalse();
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getAllValues()).extracting(SimpleStatement::getQuery)
+				.containsOnly("SELECT * FROM users");
+		assertThat(statementCaptor.getAllValues().get(0).getPagingState()).isNull();
+		assertThat(statementCaptor.getAllValues().get(1).getPagingState()).isEqualTo(pagingState);
+	}
+
+	@Test
+	void cursorShouldPrepareAndBindStatementOnce() {
+
+		ByteBuffer pagingState = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class, RETURNS_SELF);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("myid")).thenReturn(boundStatement);
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(executionInfo.getPagingState()).thenReturn(pagingState, (ByteBuffer) null);
+		when(resultSet.iterator()).thenAnswer(invocation -> Collections.emptyIterator());
+
+		template.setUsePreparedStatements(true);
+
+		Iterable<Slice<User>> cursor = template
+				.cursor(Query.query(where("id").is("myid")).pageRequest(CassandraPageRequest.first(1)), User.class);
+
+		assertThat(cursor).hasSize(2);
+
+		verify(session).prepare(any(SimpleStatement.class));
+		verify(preparedStatement).bind("myid");
+		verify(boundStatement).setPagingState(pagingState);
+		verify(session, times(2)).execute(boundStatement);
+	}
+
 	@Test // DATACASS-313
 	void selectProjectedOneShouldReturnMappedResults() {
 
@@ -295,6 +525,98 @@ class CassandraTemplateUnitTests {
 		assertThat(beforeSave).isSameAs(user);
 	}
 
+	@Test
+	void bulkInsertShouldExecutePreparedInsertsAndCollectFailures() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement heisenberg = mock(BoundStatement.class, RETURNS_SELF);
+		BoundStatement pinkman = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet insertResult = mock(AsyncResultSet.class);
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new NoNodeAvailableException());
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("Walter", "heisenberg", "White")).thenReturn(heisenberg);
+		when(preparedStatement.bind("Jesse", "pinkman", "Pinkman")).thenReturn(pinkman);
+		when(session.executeAsync(heisenberg)).thenReturn(CompletableFuture.completedFuture(insertResult));
+		when(session.executeAsync(pinkman)).thenReturn(failed);
+
+		BulkWriteResult result = template.bulkInsert(
+				Arrays.asList(new User("heisenberg", "Walter", "White"), new User("pinkman", "Jesse", "Pinkman")),
+				BulkWriteOptions.builder().concurrency(1).build());
+
+		assertThat(result.getSuccessCount()).isEqualTo(1);
+		assertThat(result.getFailureCount()).isEqualTo(1);
+		assertThat(result.wasSuccessful()).isFalse();
+		assertThat(result.getFailures()).hasSize(1).first().isInstanceOf(CassandraConnectionFailureException.class);
+		assertThat(result.getEntities()).isEmpty();
+
+		verify(session).prepare(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES (?,?,?)");
+		verify(session, never()).execute(any(Statement.class));
+	}
+
+	@Test
+	void bulkInsertShouldRetainWrittenEntitiesInSourceOrder() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement heisenberg = mock(BoundStatement.class, RETURNS_SELF);
+		BoundStatement pinkman = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet insertResult = mock(AsyncResultSet.class);
+		CompletableFuture<AsyncResultSet> pending = new CompletableFuture<>();
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("Walter", "heisenberg", "White")).thenReturn(heisenberg);
+		when(preparedStatement.bind("Jesse", "pinkman", "Pinkman")).thenReturn(pinkman);
+		when(session.executeAsync(heisenberg)).thenReturn(pending);
+		when(session.executeAsync(pinkman)).then(invocation -> {
+
+			pending.complete(insertResult);
+			return CompletableFuture.completedFuture(insertResult);
+		});
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("pinkman", "Jesse", "Pinkman");
+
+		BulkWriteResult result = template.bulkInsert(Arrays.asList(walter, jesse),
+				BulkWriteOptions.builder().concurrency(2).retainEntities().build());
+
+		assertThat(result.getSuccessCount()).isEqualTo(2);
+		assertThat(result.getEntities()).containsExactly(walter, jesse);
+	}
+
+	@Test
+	void bulkInsertShouldApplyStatementSettingsAndPublishEventsOnCallingThread() throws InterruptedException {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement heisenberg = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet insertResult = mock(AsyncResultSet.class);
+		CompletableFuture<AsyncResultSet> pending = new CompletableFuture<>();
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		List<Thread> publishingThreads = new CopyOnWriteArrayList<>();
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("Walter", "heisenberg", "White")).thenReturn(heisenberg);
+		when(session.executeAsync(heisenberg)).thenReturn(pending);
+		doAnswer(invocation -> publishingThreads.add(Thread.currentThread())).when(publisher)
+				.publishEvent((Object) any(AfterSaveEvent.class));
+
+		template.setApplicationEventPublisher(publisher);
+		((CqlTemplate) template.getCqlOperations()).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		Thread completion = new Thread(() -> pending.complete(insertResult));
+		completion.start();
+
+		BulkWriteResult result = template.bulkInsert(Collections.singletonList(new User("heisenberg", "Walter", "White")),
+				BulkWriteOptions.empty());
+		completion.join();
+
+		assertThat(result.getSuccessCount()).isEqualTo(1);
+		assertThat(publishingThreads).containsExactly(Thread.currentThread());
+		verify(heisenberg).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+	}
+
 	@Test // DATACASS-618
 	void insertShouldInsertVersionedEntity() {
 
@@ -553,6 +875,30 @@ class CassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("TRUNCATE users");
 	}
 
+	private void stubSingleTokenRing() {
+
+		Metadata metadata = mock(Metadata.class);
+		TokenMap tokenMap = mock(TokenMap.class);
+		Murmur3Token token = new Murmur3Token(1);
+
+		when(session.getMetadata()).thenReturn(metadata);
+		when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+		when(tokenMap.getTokenRanges()).thenReturn(Collections.singleton(new Murmur3TokenRange(token, token)));
+	}
+
+	private void stubUserRow() {
+
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+	}
+
 	private interface UserProjection {
 		String getFirstname();
 	}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cassandra.domain.VersionedUser;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.oss.driver.api.core.cql.BatchType;
+
+/**
+ * Unit tests for {@link CoalescingWriter} and {@link ReactiveCoalescingWriter}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CoalescingWriterUnitTests {
+
+	@Mock CassandraOperations operations;
+
+	@Mock(answer = Answers.RETURNS_SELF) CassandraBatchOperations batchOperations;
+
+	@Mock ReactiveCassandraOperations reactiveOperations;
+
+	@Mock(answer = Answers.RETURNS_SELF) ReactiveCassandraBatchOperations reactiveBatchOperations;
+
+	@Captor ArgumentCaptor<Iterable<?>> entitiesCaptor;
+
+	CoalescingOptions options = CoalescingOptions.builder().bufferSize(3).flushInterval(Duration.ofHours(1)).build();
+
+	WriteResult writeResult = new WriteResult(Collections.emptyList(), true, Collections.emptyList());
+
+	CoalescingWriter writer;
+
+	@BeforeEach
+	void setUp() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		when(operations.getConverter()).thenReturn(converter);
+		when(operations.batchOps()).thenReturn(batchOperations);
+		when(batchOperations.execute()).thenReturn(writeResult);
+
+		when(reactiveOperations.getConverter()).thenReturn(converter);
+		when(reactiveOperations.batchOps()).thenReturn(reactiveBatchOperations);
+		when(reactiveBatchOperations.execute()).thenReturn(Mono.just(writeResult));
+
+		writer = new CoalescingWriter(operations, options);
+	}
+
+	@AfterEach
+	void tearDown() {
+		writer.close();
+	}
+
+	@Test
+	void shouldWriteBatchPerPartitionOnceBufferIsFull() throws Exception {
+
+		Group walter = new Group(new GroupKey("cast", "w", "heisenberg"));
+		Group jesse = new Group(new GroupKey("cast", "w", "pinkman"));
+		User saul = new User("saul", "Saul", "Goodman");
+
+		ListenableFuture<Group> first = writer.insert(walter);
+		ListenableFuture<User> second = writer.insert(saul);
+
+		verify(operations, never()).batchOps();
+
+		ListenableFuture<Group> third = writer.insert(jesse);
+
+		assertThat(first.get(1, TimeUnit.SECONDS)).isSameAs(walter);
+		assertThat(second.get(1, TimeUnit.SECONDS)).isSameAs(saul);
+		assertThat(third.get(1, TimeUnit.SECONDS)).isSameAs(jesse);
+
+		verify(batchOperations, times(2)).withBatchType(BatchType.UNLOGGED);
+		verify(batchOperations, times(2)).insert(entitiesCaptor.capture(), eq(options.getInsertOptions()));
+
+		assertThat(entitiesCaptor.getAllValues()).containsExactlyInAnyOrder(Arrays.asList(walter, jesse),
+				Collections.singletonList(saul));
+	}
+
+	@Test
+	void shouldSplitPartitionIntoBatchesOfMaxBatchStatements() throws Exception {
+
+		writer.close();
+		writer = new CoalescingWriter(operations, options.mutate().maxBatchStatements(2).build());
+
+		writer.insert(new Group(new GroupKey("cast", "w", "heisenberg")));
+		writer.insert(new Group(new GroupKey("cast", "w", "pinkman")));
+		writer.insert(new Group(new GroupKey("cast", "w", "saul"))).get(1, TimeUnit.SECONDS);
+
+		verify(batchOperations, timeout(1000).times(2)).insert(entitiesCaptor.capture(), any(WriteOptions.class));
+
+		assertThat(entitiesCaptor.getAllValues()).extracting(it -> ((List<?>) it).size()).containsExactlyInAnyOrder(2, 1);
+	}
+
+	@Test
+	void shouldWriteBufferedEntitiesOnFlush() throws Exception {
+
+		ListenableFuture<User> future = writer.insert(new User("saul", "Saul", "Goodman"));
+
+		writer.flush();
+
+		assertThat(future.get(1, TimeUnit.SECONDS)).isNotNull();
+	}
+
+	@Test
+	void shouldWriteBufferedEntitiesAfterFlushInterval() throws Exception {
+
+		writer.close();
+		writer = new CoalescingWriter(operations, options.mutate().flushInterval(Duration.ofMillis(10)).build());
+
+		assertThat(writer.insert(new User("saul", "Saul", "Goodman")).get(1, TimeUnit.SECONDS)).isNotNull();
+	}
+
+	@Test
+	void shouldFailAllWritesOfFailedBatch() {
+
+		when(batchOperations.execute()).thenThrow(new QueryTimeoutException("timeout"));
+
+		ListenableFuture<User> future = writer.insert(new User("saul", "Saul", "Goodman"));
+
+		writer.flush();
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+				.withCauseInstanceOf(QueryTimeoutException.class);
+	}
+
+	@Test
+	void shouldRejectVersionedEntities() {
+		assertThatIllegalArgumentException().isThrownBy(() -> writer.insert(new VersionedUser("saul", "Saul", "Goodman")));
+	}
+
+	@Test
+	void shouldRejectInsertsAfterClose() {
+
+		writer.close();
+
+		assertThatIllegalStateException().isThrownBy(() -> writer.insert(new User("saul", "Saul", "Goodman")));
+	}
+
+	@Test
+	void shouldBlockInsertsExceedingMaxPendingWrites() throws Exception {
+
+		writer.close();
+		writer = new CoalescingWriter(operations, options.mutate().maxPendingWrites(1).build());
+
+		ListenableFuture<User> first = writer.insert(new User("saul", "Saul", "Goodman"));
+		CompletableFuture<ListenableFuture<User>> second = CompletableFuture
+				.supplyAsync(() -> writer.insert(new User("heisenberg", "Walter", "White")));
+
+		assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> second.get(100, TimeUnit.MILLISECONDS));
+
+		writer.flush();
+
+		assertThat(first.get(1, TimeUnit.SECONDS)).isNotNull();
+
+		ListenableFuture<User> pending = second.get(1, TimeUnit.SECONDS);
+		writer.flush();
+
+		assertThat(pending.get(1, TimeUnit.SECONDS)).isNotNull();
+	}
+
+	@Test
+	void shouldFailWritesEnqueuedAfterClose() {
+
+		List<List<WriteCoalescer.PendingWrite>> written = new ArrayList<>();
+		WriteCoalescer coalescer = new WriteCoalescer(operations.getConverter(), options) {
+
+			@Override
+			void scheduleFlush(Duration delay) {}
+
+			@Override
+			void write(List<List<PendingWrite>> groups) {
+				written.addAll(groups);
+			}
+		};
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		WriteCoalescer.Completion completion = new WriteCoalescer.Completion() {
+
+			@Override
+			public void succeeded() {}
+
+			@Override
+			public void failed(Throwable e) {
+				failure.set(e);
+			}
+		};
+
+		coalescer.enqueue(new User("saul", "Saul", "Goodman"), completion);
+		coalescer.close();
+
+		assertThat(written).hasSize(1);
+
+		coalescer.enqueue(new User("heisenberg", "Walter", "White"), completion);
+
+		assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+		assertThat(written).hasSize(1);
+	}
+
+	@Test
+	void reactiveWriterShouldCompleteEachInsert() {
+
+		ReactiveCoalescingWriter reactiveWriter = new ReactiveCoalescingWriter(reactiveOperations,
+				options.mutate().bufferSize(2).build());
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("pinkman", "Jesse", "Pinkman");
+
+		Mono.zip(reactiveWriter.insert(walter), reactiveWriter.insert(jesse)).as(StepVerifier::create)
+				.assertNext(actual -> {
+					assertThat(actual.getT1()).isSameAs(walter);
+					assertThat(actual.getT2()).isSameAs(jesse);
+				}).verifyComplete();
+
+		verify(reactiveBatchOperations, times(2)).withBatchType(BatchType.UNLOGGED);
+	}
+
+	@Test
+	void reactiveWriterShouldFailWritesOfFailedBatch() {
+
+		when(reactiveBatchOperations.execute()).thenReturn(Mono.error(new QueryTimeoutException("timeout")));
+
+		ReactiveCoalescingWriter reactiveWriter = new ReactiveCoalescingWriter(reactiveOperations,
+				options.mutate().bufferSize(1).build());
+
+		reactiveWriter.insert(new User("saul", "Saul", "Goodman")).as(StepVerifier::create)
+				.verifyError(QueryTimeoutException.class);
+	}
+
+	@Test
+	void reactiveWriterShouldLimitPendingWrites() {
+
+		MonoProcessor<WriteResult> firstBatch = MonoProcessor.create();
+		when(reactiveBatchOperations.execute()).thenReturn(firstBatch, Mono.just(writeResult));
+
+		ReactiveCoalescingWriter reactiveWriter = new ReactiveCoalescingWriter(reactiveOperations,
+				options.mutate().bufferSize(1).maxPendingWrites(1).build());
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("pinkman", "Jesse", "Pinkman");
+
+		Mono.zip(reactiveWriter.insert(walter), reactiveWriter.insert(jesse)).as(StepVerifier::create).then(() -> {
+
+			verify(reactiveBatchOperations).execute();
+			firstBatch.onNext(writeResult);
+		}).expectNextCount(1).verifyComplete();
+
+		verify(reactiveBatchOperations, times(2)).execute();
+	}
+
+	@Test
+	void reactiveWriterShouldFlushOnDisposeAndRejectSubsequentInserts() {
+
+		ReactiveCoalescingWriter reactiveWriter = new ReactiveCoalescingWriter(reactiveOperations, options);
+
+		reactiveWriter.insert(new User("saul", "Saul", "Goodman")).as(StepVerifier::create)
+				.then(reactiveWriter::dispose).expectNextCount(1).verifyComplete();
+
+		assertThat(reactiveWriter.isDisposed()).isTrue();
+
+		reactiveWriter.insert(new User("heisenberg", "Walter", "White")).as(StepVerifier::create)
+				.verifyError(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+
+/**
+ * Unit tests for {@link CountOptions}.
+ */
+class CountOptionsUnitTests {
+
+	@Test
+	void emptyShouldUseDefaults() {
+
+		CountOptions options = CountOptions.empty();
+
+		assertThat(options.getConcurrency()).isEqualTo(CountOptions.DEFAULT_CONCURRENCY);
+		assertThat(options.getSplitsPerRange()).isOne();
+		assertThat(options.getRetriesPerRange()).isEqualTo(CountOptions.DEFAULT_RETRIES_PER_RANGE);
+	}
+
+	@Test
+	void mutateShouldRetainSettings() {
+
+		CountOptions options = CountOptions.builder().concurrency(8).splitsPerRange(4).retriesPerRange(0)
+				.consistencyLevel(DefaultConsistencyLevel.LOCAL_ONE).build();
+
+		CountOptions mutated = options.mutate().pageSize(100).build();
+
+		assertThat(mutated).isNotEqualTo(options);
+		assertThat(mutated.getConcurrency()).isEqualTo(8);
+		assertThat(mutated.getSplitsPerRange()).isEqualTo(4);
+		assertThat(mutated.getRetriesPerRange()).isZero();
+		assertThat(mutated.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_ONE);
+	}
+
+	@Test
+	void shouldCreateScanOptions() {
+
+		CountOptions options = CountOptions.builder().concurrency(8).splitsPerRange(4)
+				.consistencyLevel(DefaultConsistencyLevel.LOCAL_ONE).build();
+
+		ScanOptions scanOptions = options.toScanOptions();
+
+		assertThat(scanOptions.getConcurrency()).isEqualTo(8);
+		assertThat(scanOptions.getSplitsPerRange()).isEqualTo(4);
+		assertThat(scanOptions.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_ONE);
+	}
+
+	@Test
+	void shouldRejectInvalidSettings() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> CountOptions.builder().concurrency(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> CountOptions.builder().splitsPerRange(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> CountOptions.builder().retriesPerRange(-1));
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.cassandra.core.mapping.event.AbstractCassandraEventListener;
+import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.cassandra.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.cassandra.core.mapping.event.CassandraMappingEvent;
+
+/**
+ * Unit tests for {@link EntityLifecycleEventDelegate}.
+ */
+class EntityLifecycleEventDelegateUnitTests {
+
+	private GenericApplicationContext context = new GenericApplicationContext();
+
+	private EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+
+	@BeforeEach
+	void setUp() {
+		delegate.setPublisher(context);
+	}
+
+	@AfterEach
+	void tearDown() {
+		context.close();
+	}
+
+	@Test
+	void shouldPublishToArbitraryPublisher() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		delegate.setPublisher(publisher);
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isTrue();
+
+		delegate.publishEvent("foo");
+
+		verify(publisher).publishEvent("foo");
+	}
+
+	@Test
+	void shouldNotPublishIfDisabled() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		delegate.setPublisher(publisher);
+		delegate.setEventsEnabled(false);
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isFalse();
+
+		delegate.publishEvent("foo");
+
+		verifyNoInteractions(publisher);
+	}
+
+	@Test
+	void shouldNotPublishWithoutPublisher() {
+
+		delegate.setPublisher(null);
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isFalse();
+	}
+
+	@Test
+	void shouldDetectAbsentListeners() {
+
+		context.refresh();
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isFalse();
+		assertThat(delegate.isPublishing(AfterConvertEvent.class)).isFalse();
+	}
+
+	@Test
+	void shouldIgnoreListenersForOtherEvents() {
+
+		context.addApplicationListener((ApplicationListener<ContextRefreshedEvent>) event -> {});
+		context.refresh();
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isFalse();
+	}
+
+	@Test
+	void shouldDetectListenerBeans() {
+
+		context.registerBean(SampleListener.class);
+		context.refresh();
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isTrue();
+	}
+
+	@Test
+	void shouldDetectAddedListeners() {
+
+		context.refresh();
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isFalse();
+
+		context.addApplicationListener((ApplicationListener<CassandraMappingEvent<?>>) event -> {});
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isTrue();
+	}
+
+	@Test
+	void shouldConsiderParentContextListeners() {
+
+		GenericApplicationContext parent = new GenericApplicationContext();
+		parent.registerBean(SampleListener.class);
+		parent.refresh();
+
+		context.setParent(parent);
+		context.refresh();
+
+		assertThat(delegate.isPublishing(AfterLoadEvent.class)).isTrue();
+
+		parent.close();
+	}
+
+	static class SampleListener extends AbstractCassandraEventListener<Object> {}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.cassandra.core.query.Criteria.*;
+
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.AsyncCqlTemplate;
+import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.core.cql.ReactiveCqlTemplate;
+import org.springframework.data.cassandra.core.cql.session.DefaultBridgedReactiveSession;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.core.query.Update;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cassandra.repository.support.SchemaTestUtils;
+import org.springframework.data.cassandra.test.util.AbstractKeyspaceCreatingIntegrationTests;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+
+/**
+ * Integration tests for prepared statement usage of {@link CassandraTemplate}, {@link AsyncCassandraTemplate} and
+ * {@link ReactiveCassandraTemplate}.
+ */
+class PreparedStatementIntegrationTests extends AbstractKeyspaceCreatingIntegrationTests {
+
+	private final AtomicInteger prepareCalls = new AtomicInteger();
+
+	private CqlSession countingSession;
+	private MappingCassandraConverter converter;
+	private CassandraTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		countingSession = countPrepareCalls(session, prepareCalls);
+
+		converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		template = new CassandraTemplate(new CqlTemplate(countingSession), converter);
+		template.setUsePreparedStatements(true);
+
+		SchemaTestUtils.potentiallyCreateTableFor(User.class, template);
+		SchemaTestUtils.truncate(User.class, template);
+	}
+
+	@Test
+	void templateShouldReusePreparedStatements() {
+
+		template.insert(new User("warm-up", "Walter", "White"));
+		template.selectOneById("warm-up", User.class);
+		template.update(Query.query(where("id").is("warm-up")), Update.update("firstname", "Skyler"), User.class);
+		template.count(User.class);
+
+		int preparedStatements = prepareCalls.get();
+		assertThat(preparedStatements).isPositive();
+
+		for (int i = 0; i < 10; i++) {
+
+			User user = new User("heisenberg-" + i, "Walter", "White");
+			template.insert(user);
+
+			assertThat(template.selectOneById(user.getId(), User.class)).isEqualTo(user);
+			assertThat(template.update(Query.query(where("id").is(user.getId())), Update.update("firstname", "Skyler"),
+					User.class)).isTrue();
+		}
+
+		assertThat(template.count(User.class)).isEqualTo(11);
+		assertThat(prepareCalls).hasValue(preparedStatements);
+	}
+
+	@Test
+	void asyncTemplateShouldReusePreparedStatements() {
+
+		AsyncCassandraTemplate asyncTemplate = new AsyncCassandraTemplate(new AsyncCqlTemplate(countingSession), converter);
+		asyncTemplate.setUsePreparedStatements(true);
+
+		getUninterruptibly(asyncTemplate.insert(new User("warm-up", "Walter", "White")));
+		getUninterruptibly(asyncTemplate.selectOneById("warm-up", User.class));
+
+		int preparedStatements = prepareCalls.get();
+		assertThat(preparedStatements).isPositive();
+
+		for (int i = 0; i < 10; i++) {
+
+			User user = new User("heisenberg-" + i, "Walter", "White");
+			getUninterruptibly(asyncTemplate.insert(user));
+
+			assertThat(getUninterruptibly(asyncTemplate.selectOneById(user.getId(), User.class))).isEqualTo(user);
+		}
+
+		assertThat(prepareCalls).hasValue(preparedStatements);
+	}
+
+	@Test
+	void reactiveTemplateShouldReusePreparedStatements() {
+
+		ReactiveCassandraTemplate reactiveTemplate = new ReactiveCassandraTemplate(
+				new ReactiveCqlTemplate(new DefaultBridgedReactiveSession(countingSession)), converter);
+		reactiveTemplate.setUsePreparedStatements(true);
+
+		reactiveTemplate.insert(new User("warm-up", "Walter", "White")).as(StepVerifier::create).expectNextCount(1)
+				.verifyComplete();
+		reactiveTemplate.selectOneById("warm-up", User.class).as(StepVerifier::create).expectNextCount(1)
+				.verifyComplete();
+
+		int preparedStatements = prepareCalls.get();
+		assertThat(preparedStatements).isPositive();
+
+		for (int i = 0; i < 10; i++) {
+
+			User user = new User("heisenberg-" + i, "Walter", "White");
+
+			reactiveTemplate.insert(user).as(StepVerifier::create).expectNext(user).verifyComplete();
+			reactiveTemplate.selectOneById(user.getId(), User.class).as(StepVerifier::create).expectNext(user)
+					.verifyComplete();
+		}
+
+		assertThat(prepareCalls).hasValue(preparedStatements);
+	}
+
+	/**
+	 * Create a {@link CqlSession} proxy counting client-side {@code prepare} and {@code prepareAsync} calls.
+	 */
+	private static CqlSession countPrepareCalls(CqlSession session, AtomicInteger prepareCalls) {
+
+		return (CqlSession) Proxy.newProxyInstance(PreparedStatementIntegrationTests.class.getClassLoader(),
+				new Class<?>[] { CqlSession.class }, (proxy, method, args) -> {
+
+					if (method.getName().startsWith("prepare")) {
+						prepareCalls.incrementAndGet();
+					}
+
+					try {
+						return method.invoke(session, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+
+	private static <T> T getUninterruptibly(Future<T> future) {
+
+		try {
+			return future.get();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -39,6 +39,8 @@ import org.springframework.data.cassandra.domain.GroupKey;
 import org.springframework.data.cassandra.repository.support.SchemaTestUtils;
 import org.springframework.data.cassandra.test.util.AbstractKeyspaceCreatingIntegrationTests;
 
+import com.datastax.oss.driver.api.core.cql.BatchType;
+
 /**
  * Integration tests for {@link ReactiveCassandraBatchTemplate}.
  *
@@ -87,6 +89,25 @@ class ReactiveCassandraBatchTemplateIntegrationTests extends AbstractKeyspaceCre
 				.verifyComplete();
 	}
 
+	@Test
+	void shouldInsertEntitiesInUnloggedPartitionBatches() {
+
+		Group gus = new Group(new GroupKey("admins", "0x1", "gus"));
+
+		ReactiveCassandraBatchOperations batchOperations = new ReactiveCassandraBatchTemplate(template);
+		Mono<WriteResult> execution = batchOperations.insert(walter, gus, mike).withBatchType(BatchType.UNLOGGED)
+				.splitByPartition().execute();
+
+		execution.as(StepVerifier::create) //
+				.assertNext(writeResult -> {
+
+					assertThat(writeResult.wasApplied()).isTrue();
+					assertThat(writeResult.getExecutionInfo()).hasSize(2);
+				}).verifyComplete();
+
+		template.selectOneById(gus.getId(), Group.class).as(StepVerifier::create).expectNextCount(1).verifyComplete();
+	}
+
 	@Test // DATACASS-574
 	void shouldInsertCollectionOfEntities() {
 
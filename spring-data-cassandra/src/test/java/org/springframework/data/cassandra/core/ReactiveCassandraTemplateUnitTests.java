@@ -47,8 +47,10 @@ import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -164,6 +166,34 @@ class ReactiveCassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id='myid' LIMIT 1");
 	}
 
+	@Test
+	void selectAllByIdShouldIssueSinglePartitionLookups() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class, RETURNS_SELF);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row));
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		template.selectAllById(Flux.just("myid", "other", "myid"), User.class).as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		verify(session, atLeastOnce()).prepare(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id=? LIMIT 1");
+		verify(session, times(2)).execute(boundStatement);
+	}
+
 	@Test // DATACASS-313
 	void selectProjectedOneShouldReturnMappedResults() {
 
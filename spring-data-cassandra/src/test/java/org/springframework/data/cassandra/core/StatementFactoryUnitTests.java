@@ -17,6 +17,8 @@ package org.springframework.data.cassandra.core;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +27,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
@@ -33,6 +36,7 @@ import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
+import org.springframework.data.cassandra.core.mapping.BasicMapId;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.Column;
 import org.springframework.data.cassandra.core.query.Columns;
@@ -610,6 +614,286 @@ class StatementFactoryUnitTests {
 				.isEqualTo("SELECT count(1) FROM group WHERE foo='bar'");
 	}
 
+	@Test
+	void shouldReuseRenderedStatementForSameInsertShape() {
+
+		Person first = new Person();
+		first.id = "foo";
+		first.firstName = "Walter";
+
+		Person second = new Person();
+		second.id = "bar";
+		second.firstName = "Skyler";
+
+		SimpleStatement firstInsert = statementFactory
+				.insert(first, WriteOptions.empty(), personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+		SimpleStatement secondInsert = statementFactory
+				.insert(second, WriteOptions.empty(), personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(firstInsert.getQuery()).isEqualTo("INSERT INTO person (first_name,id) VALUES (?,?)");
+		assertThat(secondInsert.getQuery()).isEqualTo(firstInsert.getQuery());
+		assertThat(secondInsert.getPositionalValues()).containsExactly("Skyler", "bar");
+		assertThat(secondInsert.isIdempotent()).isEqualTo(firstInsert.isIdempotent());
+	}
+
+	@Test
+	void shouldRenderDifferentInsertShapes() {
+
+		Person first = new Person();
+		first.id = "foo";
+
+		Person second = new Person();
+		second.id = "bar";
+		second.number = 42;
+
+		statementFactory.insert(first, WriteOptions.empty(), personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+		SimpleStatement insert = statementFactory
+				.insert(second, WriteOptions.empty(), personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(insert.getQuery()).isEqualTo("INSERT INTO person (id,number) VALUES (?,?)");
+		assertThat(insert.getPositionalValues()).containsExactly("bar", 42);
+	}
+
+	@Test
+	void shouldReuseRenderedStatementForSelectOneById() {
+
+		statementFactory.selectOneById("foo", personEntity, personEntity.getTableName()).build(ParameterHandling.BY_INDEX);
+		SimpleStatement select = statementFactory.selectOneById("bar", personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(select.getQuery()).isEqualTo("SELECT * FROM person WHERE id=? LIMIT 1");
+		assertThat(select.getPositionalValues()).containsExactly("bar");
+	}
+
+	@Test
+	void shapeShouldNotApplyToInlineRendering() {
+
+		statementFactory.selectOneById("foo", personEntity, personEntity.getTableName()).build(ParameterHandling.BY_INDEX);
+		SimpleStatement select = statementFactory.selectOneById("bar", personEntity, personEntity.getTableName())
+				.build(ParameterHandling.INLINE);
+
+		assertThat(select.getQuery()).isEqualTo("SELECT * FROM person WHERE id='bar' LIMIT 1");
+	}
+
+	@Test
+	void furtherBindFunctionsShouldDiscardShape() {
+
+		Person person = new Person();
+		person.id = "foo";
+		person.firstName = "bar";
+
+		statementFactory.update(person, WriteOptions.empty(), personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+
+		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update = statementFactory.update(person,
+				WriteOptions.empty(), personEntity, personEntity.getTableName());
+		update.bind((statement, factory) -> statement.if_(
+				com.datastax.oss.driver.api.querybuilder.condition.Condition.column("number").isEqualTo(factory.create(1))));
+
+		SimpleStatement statement = update.build(ParameterHandling.BY_INDEX);
+
+		assertThat(statement.getQuery()).endsWith("IF number=?");
+		assertThat(statement.getPositionalValues()).endsWith(1);
+	}
+
+	@Test
+	void shouldBindTtlAndTimestampOfInsertShape() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		statementFactory.insert(person, WriteOptions.builder().ttl(Duration.ofMinutes(1)).timestamp(1234).build(),
+				personEntity, personEntity.getTableName()).build(ParameterHandling.BY_INDEX);
+		SimpleStatement insert = statementFactory
+				.insert(person, WriteOptions.builder().ttl(Duration.ofMinutes(2)).timestamp(5678).build(), personEntity,
+						personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(insert.getQuery()).isEqualTo("INSERT INTO person (id) VALUES (?) USING TIMESTAMP ? AND TTL ?");
+		assertThat(insert.getPositionalValues()).containsExactly("foo", 5678L, 120);
+	}
+
+	@Test
+	void shouldBindTtlOfUpdateShape() {
+
+		Person person = new Person();
+		person.id = "foo";
+		person.firstName = "Walter";
+
+		SimpleStatement update = statementFactory.update(person, WriteOptions.builder().ttl(Duration.ofMinutes(1)).build(),
+				personEntity, personEntity.getTableName()).build(ParameterHandling.BY_INDEX);
+
+		assertThat(update.getQuery()).startsWith("UPDATE person USING TTL ? SET").endsWith("WHERE id=?");
+		assertThat(update.getPositionalValues()).startsWith(60).endsWith("foo");
+	}
+
+	@Test
+	void shouldBindTimestampOfUpdateQuery() {
+
+		Query query = Query.query(Criteria.where("foo").is("bar"))
+				.queryOptions(WriteOptions.builder().timestamp(1234).build());
+
+		SimpleStatement update = statementFactory.update(query, Update.empty().set("firstName", "baz"), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(update.getQuery()).isEqualTo("UPDATE person USING TIMESTAMP ? SET first_name=? WHERE foo=?");
+		assertThat(update.getPositionalValues()).containsExactly(1234L, "baz", "bar");
+	}
+
+	@Test
+	void shouldBindTimestampOfDeleteShape() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		SimpleStatement delete = statementFactory
+				.delete(person, DeleteOptions.builder().timestamp(1234).build(), converter, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(delete.getQuery()).isEqualTo("DELETE FROM person USING TIMESTAMP ? WHERE id=?");
+		assertThat(delete.getPositionalValues()).containsExactly(1234L, "foo");
+	}
+
+	@Test
+	void shouldReuseRenderedStatementForQueryShape() {
+
+		statementFactory.select(Query.query(Criteria.where("id").is("foo")), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+		SimpleStatement select = statementFactory.select(Query.query(Criteria.where("id").is("bar")), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(select.getQuery()).isEqualTo("SELECT * FROM person WHERE id=?");
+		assertThat(select.getPositionalValues()).containsExactly("bar");
+	}
+
+	@Test
+	void queriesDifferingInLimitShouldShareShape() {
+
+		statementFactory.select(Query.query(Criteria.where("id").is("foo")).limit(10), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+		SimpleStatement select = statementFactory
+				.select(Query.query(Criteria.where("id").is("bar")).limit(20), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(select.getQuery()).isEqualTo("SELECT * FROM person WHERE id=? LIMIT ?");
+		assertThat(select.getPositionalValues()).containsExactly("bar", 20);
+		assertThat(statementFactory.select(Query.query(Criteria.where("id").is("bar")).limit(20), personEntity).build()
+				.getQuery()).isEqualTo("SELECT * FROM person WHERE id='bar' LIMIT 20");
+	}
+
+	@Test
+	void shouldNotShapeQueriesRenderingLiterals() {
+
+		statementFactory.select(Query.query(Criteria.where("id").in("foo", "bar")), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+		SimpleStatement select = statementFactory.select(Query.query(Criteria.where("id").in("baz")), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(select.getQuery()).isEqualTo("SELECT * FROM person WHERE id IN ('baz')");
+	}
+
+	@Test
+	void shouldSetRoutingKeyForInsert() {
+
+		Person person = new Person();
+		person.id = "foo";
+		person.firstName = "Walter";
+
+		SimpleStatement insert = statementFactory.insert(person, WriteOptions.empty()).build();
+
+		assertThat(insert.getRoutingKey()).isEqualTo(utf8("foo"));
+	}
+
+	@Test
+	void shouldSetRoutingKeyForSingleColumnIdQueries() {
+
+		assertThat(statementFactory.selectOneById("foo", personEntity, personEntity.getTableName()).build().getRoutingKey())
+				.isEqualTo(utf8("foo"));
+		assertThat(statementFactory.deleteById("foo", personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX).getRoutingKey()).isEqualTo(utf8("foo"));
+	}
+
+	@Test
+	void shouldSetComposedRoutingKeyForSinglePartitionQuery() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("cast"), Criteria.where("id.hashPrefix").is("w"));
+
+		SimpleStatement select = statementFactory.select(query, groupEntity).build();
+
+		assertThat(select.getRoutingKey())
+				.isEqualTo(SimpleStatement.newInstance("").setRoutingKey(utf8("cast"), utf8("w")).getRoutingKey());
+	}
+
+	@Test
+	void shouldNotSetRoutingKeyForMultiPartitionQuery() {
+
+		Query partial = Query.query(Criteria.where("id.groupname").is("cast"));
+		Query in = Query.query(Criteria.where("id.groupname").is("cast"), Criteria.where("id.hashPrefix").in("w", "j"));
+
+		assertThat(statementFactory.select(partial, groupEntity).build().getRoutingKey()).isNull();
+		assertThat(statementFactory.select(in, groupEntity).build().getRoutingKey()).isNull();
+	}
+
+	@Test
+	void selectOneByIdShouldRejectEmptyMapId() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> statementFactory.selectOneById(BasicMapId.id(), personEntity, personEntity.getTableName()));
+	}
+
+	@Test
+	void shouldRemoveRoutingKeyFromStatementToPrepare() {
+
+		SimpleStatement select = statementFactory.selectOneById("foo", personEntity, personEntity.getTableName())
+				.build(ParameterHandling.BY_INDEX);
+
+		SimpleStatement statementToPrepare = PreparedStatementDelegate.getStatementForPreparation(select);
+
+		assertThat(statementToPrepare.getRoutingKey()).isNull();
+		assertThat(statementToPrepare.getPositionalValues()).isEmpty();
+		assertThat(select.getRoutingKey()).isEqualTo(utf8("foo"));
+	}
+
+	@Test
+	void shouldInferIdempotence() {
+
+		Person person = new Person();
+		person.id = "foo";
+		person.firstName = "Walter";
+
+		Query byId = Query.query(Criteria.where("id").is("foo"));
+
+		assertThat(statementFactory.select(byId, personEntity).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.insert(person, WriteOptions.empty()).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.insert(person, InsertOptions.builder().withIfNotExists().build()).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory.update(person, WriteOptions.empty()).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.update(byId, Update.empty().addTo("list").appendAll("spring"), personEntity).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory.update(byId, Update.empty().increment("number"), personEntity).build()
+				.isIdempotent()).isFalse();
+	}
+
+	@Test
+	void queryOptionsShouldOverrideInferredIdempotence() {
+
+		Query query = Query.query(Criteria.where("id").is("foo"))
+				.queryOptions(UpdateOptions.builder().idempotent(true).build());
+
+		SimpleStatement update = statementFactory.update(query, Update.empty().increment("number"), personEntity)
+				.build(ParameterHandling.BY_INDEX);
+
+		assertThat(update.isIdempotent()).isTrue();
+	}
+
+	private static ByteBuffer utf8(String value) {
+		return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+
 	@SuppressWarnings("unused")
 	static class Person {
 
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.cassandra.CassandraInvalidQueryException;
+import org.springframework.data.cassandra.core.TokenRangeScanner.ScanRange;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenRange;
+
+/**
+ * Unit tests for {@link TokenRangeScanner}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenRangeScannerUnitTests {
+
+	@Mock Metadata metadata;
+
+	@Mock TokenMap tokenMap;
+
+	CassandraMappingContext mappingContext = new CassandraMappingContext();
+
+	CassandraPersistentEntity<?> entity;
+
+	@BeforeEach
+	void before() {
+
+		entity = mappingContext.getRequiredPersistentEntity(User.class);
+
+		when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+		when(tokenMap.format(any(Token.class)))
+				.thenAnswer(invocation -> Long.toString(((Murmur3Token) invocation.getArgument(0)).getValue()));
+	}
+
+	@Test
+	void shouldUnwrapRangesInRingOrder() {
+
+		ringOf(100, -100);
+
+		List<ScanCheckpoint> checkpoints = checkpoints(createScanner(ScanOptions.empty()).getRanges());
+
+		assertThat(checkpoints).containsExactly(ScanCheckpoint.of("-100", "100"),
+				ScanCheckpoint.of("100", null), ScanCheckpoint.of(Long.toString(Long.MIN_VALUE), "-100"));
+	}
+
+	@Test
+	void shouldSplitRanges() {
+
+		ringOf(-100, 100);
+
+		List<ScanRange> ranges = createScanner(ScanOptions.builder().splitsPerRange(2).build()).getRanges();
+
+		assertThat(checkpoints(ranges)).startsWith(ScanCheckpoint.of("-100", "0"), ScanCheckpoint.of("0", "100"));
+	}
+
+	@Test
+	void shouldScanFullRingForSingleToken() {
+
+		when(tokenMap.getTokenRanges()).thenReturn(Collections.singleton(range(1, 1)));
+
+		TokenRangeScanner scanner = createScanner(ScanOptions.empty());
+		List<ScanRange> ranges = scanner.getRanges();
+
+		assertThat(checkpoints(ranges)).containsExactly(ScanCheckpoint.of(null, null));
+		assertThat(scanner.getStatement(ranges.get(0)).getQuery()).isEqualTo("SELECT * FROM users");
+	}
+
+	@Test
+	void shouldSkipCompletedRanges() {
+
+		ringOf(-100, 100);
+
+		ScanOptions options = ScanOptions.builder().resumeFrom(Arrays.asList(ScanCheckpoint.of("-100", "100"))).build();
+
+		assertThat(checkpoints(createScanner(options).getRanges())).doesNotContain(ScanCheckpoint.of("-100", "100"))
+				.hasSize(2);
+	}
+
+	@Test
+	void shouldCreateTokenRangeStatement() {
+
+		ringOf(-100, 100);
+
+		TokenRangeScanner scanner = createScanner(
+				ScanOptions.builder().consistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM).pageSize(100).build());
+
+		SimpleStatement bounded = scanner.getStatement(scanner.getRanges().get(0));
+		SimpleStatement openEnded = scanner.getStatement(scanner.getRanges().get(1));
+
+		assertThat(bounded.getQuery()).isEqualTo("SELECT * FROM users WHERE token(id)>? AND token(id)<=?");
+		assertThat(bounded.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_QUORUM);
+		assertThat(bounded.getPageSize()).isEqualTo(100);
+		assertThat(openEnded.getQuery()).isEqualTo("SELECT * FROM users WHERE token(id)>?");
+	}
+
+	@Test
+	void shouldCreateTokenRangeCountStatement() {
+
+		ringOf(-100, 100);
+
+		TokenRangeScanner scanner = createScanner(ScanOptions.empty());
+
+		assertThat(scanner.getCountStatement(scanner.getRanges().get(0)).getQuery())
+				.isEqualTo("SELECT count(*) FROM users WHERE token(id)>? AND token(id)<=?");
+	}
+
+	@Test
+	void shouldSumRangeCountsAndRetryFailedRanges() throws Exception {
+
+		ringOf(-100, 100);
+
+		AtomicInteger attempts = new AtomicInteger();
+		TokenRangeScanner scanner = createScanner(ScanOptions.builder().concurrency(2).build());
+
+		ListenableFuture<Long> count = scanner.countAsync(range -> {
+
+			SettableListenableFuture<Long> result = new SettableListenableFuture<>();
+
+			if (attempts.incrementAndGet() == 1) {
+				result.setException(new QueryTimeoutException("Read timed out"));
+			} else {
+				result.set(10L);
+			}
+
+			return result;
+		}, 1);
+
+		assertThat(count.get()).isEqualTo(30L);
+		assertThat(attempts).hasValue(4);
+	}
+
+	@Test
+	void shouldFailCountAfterExhaustingRetries() {
+
+		ringOf(-100, 100);
+
+		TokenRangeScanner scanner = createScanner(ScanOptions.empty());
+
+		AtomicInteger attempts = new AtomicInteger();
+		TokenRangeScanner scanner = createScanner(ScanOptions.builder().concurrency(1).build());
+
+		ListenableFuture<Long> count = scanner.countAsync(range -> {
+
+			attempts.incrementAndGet();
+
+			SettableListenableFuture<Long> result = new SettableListenableFuture<>();
+			result.setException(new QueryTimeoutException("Read timed out"));
+			return result;
+		}, 2);
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(count::get)
+				.withCauseInstanceOf(QueryTimeoutException.class);
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void shouldNotRetryNonTransientCountFailures() {
+
+		ringOf(-100, 100);
+
+		AtomicInteger attempts = new AtomicInteger();
+		TokenRangeScanner scanner = createScanner(ScanOptions.builder().concurrency(1).build());
+
+		ListenableFuture<Long> count = scanner.countAsync(range -> {
+
+			attempts.incrementAndGet();
+
+			SettableListenableFuture<Long> result = new SettableListenableFuture<>();
+			result.setException(new CassandraInvalidQueryException("Undefined column name"));
+			return result;
+		}, 2);
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(count::get)
+				.withCauseInstanceOf(CassandraInvalidQueryException.class);
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void shouldConsiderTransientErrorsRetryable() {
+
+		Node node = mock(Node.class);
+
+		assertThat(TokenRangeScanner.isRetryable(new QueryTimeoutException("Read timed out"))).isTrue();
+		assertThat(TokenRangeScanner.isRetryable(new DriverTimeoutException("Query timed out"))).isTrue();
+		assertThat(TokenRangeScanner.isRetryable(new CompletionException(new OverloadedException(node)))).isTrue();
+		assertThat(TokenRangeScanner.isRetryable(new NoNodeAvailableException())).isTrue();
+
+		assertThat(TokenRangeScanner.isRetryable(new InvalidQueryException(node, "Undefined column name"))).isFalse();
+		assertThat(TokenRangeScanner.isRetryable(new CassandraInvalidQueryException("Undefined column name"))).isFalse();
+		assertThat(TokenRangeScanner.isRetryable(new IllegalStateException())).isFalse();
+	}
+
+	@Test
+	void shouldPrepareCountStatementsOnCallingThread() {
+
+		ringOf(-100, 100);
+
+		CqlSession session = mock(CqlSession.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class, RETURNS_SELF);
+		AsyncResultSet resultSet = mock(AsyncResultSet.class);
+		Row row = mock(Row.class);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		when(preparedStatement.bind()).thenReturn(boundStatement);
+		when(resultSet.one()).thenReturn(row);
+		when(row.getLong(0)).thenReturn(10L);
+		when(session.executeAsync(any(Statement.class)))
+				.thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> resultSet, executor));
+
+		List<Thread> preparingThreads = new ArrayList<>();
+		TokenRangeScanner scanner = createScanner(ScanOptions.builder().concurrency(1).build());
+
+		try {
+
+			long count = scanner.count(session::executeAsync, statement -> {
+
+				preparingThreads.add(Thread.currentThread());
+				return preparedStatement;
+			}, 0);
+
+			assertThat(count).isEqualTo(30L);
+			assertThat(preparingThreads).hasSize(2).containsOnly(Thread.currentThread());
+			verify(session, times(3)).executeAsync(any(Statement.class));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void shouldNotifyCheckpointListener() {
+
+		ringOf(-100, 100);
+
+		List<ScanCheckpoint> completed = new ArrayList<>();
+		TokenRangeScanner scanner = createScanner(ScanOptions.builder().checkpointListener(completed::add).build());
+
+		scanner.completed(scanner.getRanges().get(0));
+
+		assertThat(completed).containsExactly(ScanCheckpoint.of("-100", "100"));
+	}
+
+	@Test
+	void shouldRejectMissingTokenMetadata() {
+
+		when(metadata.getTokenMap()).thenReturn(Optional.empty());
+
+		assertThatIllegalStateException().isThrownBy(() -> createScanner(ScanOptions.empty()));
+	}
+
+	private TokenRangeScanner createScanner(ScanOptions options) {
+		return TokenRangeScanner.create(metadata, mappingContext, entity, CqlIdentifier.fromCql("users"), options);
+	}
+
+	private void ringOf(long first, long second) {
+		when(tokenMap.getTokenRanges())
+				.thenReturn(new LinkedHashSet<>(Arrays.asList(range(first, second), range(second, first))));
+	}
+
+	private static TokenRange range(long start, long end) {
+		return new Murmur3TokenRange(new Murmur3Token(start), new Murmur3Token(end));
+	}
+
+	private static List<ScanCheckpoint> checkpoints(List<ScanRange> ranges) {
+		return ranges.stream().map(ScanRange::getCheckpoint).collect(Collectors.toList());
+	}
+}
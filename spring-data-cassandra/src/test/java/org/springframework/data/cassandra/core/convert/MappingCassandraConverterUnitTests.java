@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.data.cassandra.core.mapping.BasicMapId.*;
 import static org.springframework.data.cassandra.test.util.RowMockUtil.*;
 
@@ -37,6 +38,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,8 +64,11 @@ import org.springframework.data.cassandra.domain.TypeWithMapId;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cassandra.domain.UserToken;
 import org.springframework.data.cassandra.test.util.RowMockUtil;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 
@@ -1385,4 +1390,90 @@ public class MappingCassandraConverterUnitTests {
 		WithNullableEmbeddedType target = mappingCassandraConverter.read(WithNullableEmbeddedType.class, source);
 		assertThat(target.nested).isNull();
 	}
+
+	@Test
+	void shouldReuseReadingPlanForRowsSharingColumnDefinitions() {
+
+		Row first = RowMockUtil.newRowMock(column("id", "id-1", DataTypes.TEXT), column("age", 30, DataTypes.INT),
+				column("firstname", "fn", DataTypes.TEXT));
+		Row second = RowMockUtil.newRowMock(column("id", "id-2", DataTypes.TEXT), column("age", 42, DataTypes.INT),
+				column("firstname", "other", DataTypes.TEXT));
+		ColumnDefinitions columnDefinitions = first.getColumnDefinitions();
+		when(second.getColumnDefinitions()).thenReturn(columnDefinitions);
+
+		WithNullableEmbeddedType firstResult = mappingCassandraConverter.read(WithNullableEmbeddedType.class, first);
+		WithNullableEmbeddedType secondResult = mappingCassandraConverter.read(WithNullableEmbeddedType.class, second);
+
+		assertThat(firstResult.id).isEqualTo("id-1");
+		assertThat(firstResult.nested).isEqualTo(new EmbeddedWithSimpleTypes("fn", 30, null));
+		assertThat(secondResult.id).isEqualTo("id-2");
+		assertThat(secondResult.nested).isEqualTo(new EmbeddedWithSimpleTypes("other", 42, null));
+
+		verify(columnDefinitions).firstIndexOf("firstname");
+	}
+
+	@Test
+	void shouldReadRowsWithDifferentColumnDefinitions() {
+
+		Row first = RowMockUtil.newRowMock(column("id", "id-1", DataTypes.TEXT), column("age", 30, DataTypes.INT),
+				column("firstname", "fn", DataTypes.TEXT));
+		Row second = RowMockUtil.newRowMock(column("firstname", "other", DataTypes.TEXT),
+				column("id", "id-2", DataTypes.TEXT));
+
+		WithNullableEmbeddedType firstResult = mappingCassandraConverter.read(WithNullableEmbeddedType.class, first);
+		WithNullableEmbeddedType secondResult = mappingCassandraConverter.read(WithNullableEmbeddedType.class, second);
+
+		assertThat(firstResult.nested).isEqualTo(new EmbeddedWithSimpleTypes("fn", 30, null));
+		assertThat(secondResult.id).isEqualTo("id-2");
+		assertThat(secondResult.nested).isEqualTo(new EmbeddedWithSimpleTypes("other", null, null));
+	}
+
+	@Test
+	void shouldReadClosedProjectionLazilyFromRow() {
+
+		Row row = RowMockUtil.newRowMock(column("id", "id-1", DataTypes.TEXT), column("firstname", "fn", DataTypes.TEXT),
+				column("lastname", "ln", DataTypes.TEXT));
+
+		Function<Row, UserProjection> reader = mappingCassandraConverter.getProjectionReader(User.class,
+				UserProjection.class, new SpelAwareProxyProjectionFactory());
+
+		assertThat(reader).isNotNull();
+
+		UserProjection projection = reader.apply(row);
+
+		verify(row, never()).getObject(anyInt());
+
+		assertThat(projection.getFirstname()).isEqualTo("fn");
+		assertThat(projection.getFirstname()).isEqualTo("fn");
+
+		verify(row).getObject(1);
+		verify(row, never()).getObject(2);
+	}
+
+	@Test
+	void shouldNotCreateProjectionReaderForOpenOrUnmappedProjections() {
+
+		ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+		assertThat(mappingCassandraConverter.getProjectionReader(User.class, OpenUserProjection.class, projectionFactory))
+				.isNull();
+		assertThat(mappingCassandraConverter.getProjectionReader(User.class, UnmappedProjection.class, projectionFactory))
+				.isNull();
+	}
+
+	interface UserProjection {
+
+		String getFirstname();
+	}
+
+	interface OpenUserProjection {
+
+		@Value("#{target.firstname + ' ' + target.lastname}")
+		String getFullname();
+	}
+
+	interface UnmappedProjection {
+
+		String getNickname();
+	}
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link RowReadingPlanCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RowReadingPlanCacheUnitTests {
+
+	@Mock Row first;
+	@Mock Row second;
+	@Mock Row third;
+
+	@Mock ColumnDefinitions firstColumns;
+	@Mock ColumnDefinitions secondColumns;
+	@Mock ColumnDefinitions thirdColumns;
+
+	@BeforeEach
+	void setUp() {
+
+		when(first.getColumnDefinitions()).thenReturn(firstColumns);
+		when(second.getColumnDefinitions()).thenReturn(secondColumns);
+		when(third.getColumnDefinitions()).thenReturn(thirdColumns);
+	}
+
+	@Test
+	void shouldRetainPlansForAlternatingColumnDefinitions() {
+
+		RowReadingPlanCache cache = new RowReadingPlanCache();
+
+		RowReadingPlan firstPlan = cache.getPlan(first);
+		RowReadingPlan secondPlan = cache.getPlan(second);
+
+		assertThat(cache.getPlan(first)).isSameAs(firstPlan);
+		assertThat(cache.getPlan(second)).isSameAs(secondPlan);
+		assertThat(firstPlan).isNotSameAs(secondPlan);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedPlan() {
+
+		RowReadingPlanCache cache = new RowReadingPlanCache(2);
+
+		RowReadingPlan firstPlan = cache.getPlan(first);
+		RowReadingPlan secondPlan = cache.getPlan(second);
+		cache.getPlan(first);
+		cache.getPlan(third);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getPlan(first)).isSameAs(firstPlan);
+		assertThat(cache.getPlan(second)).isNotSameAs(secondPlan);
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -184,6 +185,28 @@ class AsyncCqlTemplateUnitTests {
 		});
 	}
 
+	@Test
+	void queryShouldNotifyExecutionListener() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(new TestResultSetFuture(resultSet));
+		when(resultSet.currentPage()).thenReturn(Arrays.asList(row, row));
+		when(row.getString(0)).thenReturn("Walter");
+
+		List<CqlExecution> executions = new ArrayList<>();
+		template.setExecutionListener(executions::add);
+
+		List<String> names = getUninterruptibly(template.query("SELECT name FROM users", (row, index) -> row.getString(0)));
+
+		assertThat(names).containsExactly("Walter", "Walter");
+		assertThat(executions).hasSize(1);
+
+		CqlExecution execution = executions.get(0);
+
+		assertThat(execution.getOperation()).isEqualTo(CqlExecution.Operation.SELECT);
+		assertThat(execution.getRowCount()).isEqualTo(2);
+		assertThat(execution.getPageCount()).isEqualTo(1);
+	}
+
 	@Test // DATACASS-292
 	void queryWithResultSetExtractorWithArgumentsShouldCallExecution() {
 
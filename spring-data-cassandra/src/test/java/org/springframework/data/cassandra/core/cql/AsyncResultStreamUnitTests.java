@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
 import org.springframework.util.concurrent.ListenableFuture;
 
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
@@ -101,6 +102,75 @@ class AsyncResultStreamUnitTests {
 		assertThatThrownBy(completion::get).hasRootCauseInstanceOf(RuntimeException.class);
 	}
 
+	@Test
+	void shouldIteratePages() {
+
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(last.currentPage()).thenReturn(Collections.singletonList(row2));
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(last));
+		when(first.hasMorePages()).thenReturn(true);
+
+		List<AsyncResultSet> pages = new ArrayList<>();
+
+		AsyncResultStream.from(first).forEachPage(pages::add);
+
+		assertThat(pages).containsExactly(first, last);
+	}
+
+	@Test
+	void shouldFetchNextPageBeforeMappingCurrentPage() {
+
+		when(first.remaining()).thenReturn(1);
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(last.currentPage()).thenReturn(Collections.singletonList(row2));
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(last));
+		when(first.hasMorePages()).thenReturn(true);
+
+		List<String> rows = new ArrayList<>();
+
+		AsyncResultStream.from(first).prefetch(PagePrefetch.of(0, 1)).map((row, rowNum) -> {
+
+			if (row == row1) {
+				verify(first).fetchNextPage();
+			}
+
+			return "row-" + rowNum;
+		}).forEach(rows::add);
+
+		assertThat(rows).containsExactly("row-1", "row-2");
+		verify(first).fetchNextPage();
+	}
+
+	@Test
+	void shouldNotFetchBeyondMaxPages() throws ExecutionException, InterruptedException {
+
+		AsyncResultSet second = mock(AsyncResultSet.class);
+		CompletableFuture<AsyncResultSet> secondFuture = new CompletableFuture<>();
+		CompletableFuture<AsyncResultSet> lastFuture = new CompletableFuture<>();
+
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(first.hasMorePages()).thenReturn(true);
+		when(first.fetchNextPage()).thenReturn(secondFuture);
+		when(second.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(second.hasMorePages()).thenReturn(true);
+		when(second.fetchNextPage()).thenReturn(lastFuture);
+		when(last.currentPage()).thenReturn(Collections.singletonList(row2));
+
+		ListenableFuture<List<Row>> collect = AsyncResultStream.from(first).prefetch(PagePrefetch.of(0, 1))
+				.collect(Collectors.toList());
+
+		verify(first).fetchNextPage();
+		verify(second, never()).fetchNextPage();
+
+		secondFuture.complete(second);
+		verify(second).fetchNextPage();
+		assertThat(collect).isNotDone();
+
+		lastFuture.complete(last);
+
+		assertThat(collect.get()).containsExactly(row1, row1, row2);
+	}
+
 	@Test // DATACASS-656
 	void shouldCollectFirstPage() throws ExecutionException, InterruptedException {
 
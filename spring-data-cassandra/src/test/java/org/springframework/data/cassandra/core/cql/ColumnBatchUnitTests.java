@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+
+/**
+ * Unit tests for {@link ColumnBatch}.
+ */
+class ColumnBatchUnitTests {
+
+	@Test
+	void shouldReadPrimitiveColumns() {
+
+		ColumnDefinitions columns = columns(DataTypes.INT, DataTypes.BIGINT, DataTypes.DOUBLE, DataTypes.BOOLEAN);
+
+		Row first = mock(Row.class);
+		when(first.getInt(0)).thenReturn(1);
+		when(first.getLong(1)).thenReturn(2L);
+		when(first.getDouble(2)).thenReturn(3.5);
+		when(first.getBoolean(3)).thenReturn(true);
+
+		Row second = mock(Row.class);
+		when(second.isNull(0)).thenReturn(true);
+		when(second.getLong(1)).thenReturn(4L);
+
+		ColumnBatch batch = ColumnBatch.of(columns, Arrays.asList(first, second).iterator(), 2);
+
+		assertThat(batch.size()).isEqualTo(2);
+		assertThat(batch.getColumnCount()).isEqualTo(4);
+		assertThat(batch.getInts(0)).containsExactly(1, 0);
+		assertThat(batch.isNull(0, 0)).isFalse();
+		assertThat(batch.isNull(0, 1)).isTrue();
+		assertThat(batch.getLongs(1)).containsExactly(2L, 4L);
+		assertThat(batch.getDoubles(2)).containsExactly(3.5, 0);
+		assertThat(batch.getBooleans(3)).containsExactly(true, false);
+		verify(second, never()).getInt(0);
+	}
+
+	@Test
+	void shouldReadTimestampsAsEpochMillis() {
+
+		Row row = mock(Row.class);
+		when(row.getBytesUnsafe(0)).thenReturn(ByteBuffer.allocate(8).putLong(0, 1234L));
+
+		ColumnBatch batch = ColumnBatch.of(columns(DataTypes.TIMESTAMP), Arrays.asList(row).iterator(), 1);
+
+		assertThat(batch.getTimestamps(0)).containsExactly(1234L);
+		verify(row, never()).getInstant(0);
+	}
+
+	@Test
+	void shouldDictionaryEncodeText() {
+
+		Row first = textRow("Walter");
+		Row second = textRow("Skyler");
+		Row third = textRow("Walter");
+		Row fourth = mock(Row.class);
+		when(fourth.isNull(0)).thenReturn(true);
+
+		ColumnBatch batch = ColumnBatch.of(columns(DataTypes.TEXT),
+				Arrays.asList(first, second, third, fourth).iterator(), 4);
+
+		assertThat(batch.getDictionary(0)).containsExactly("Walter", "Skyler");
+		assertThat(batch.getDictionaryCodes(0)).containsExactly(0, 1, 0, -1);
+		assertThat(batch.getString(0, 2)).isEqualTo("Walter");
+		assertThat(batch.getString(0, 3)).isNull();
+		verify(third, never()).getString(0);
+	}
+
+	@Test
+	void shouldReadOtherTypesAsObjects() {
+
+		Row row = mock(Row.class);
+		when(row.getObject(0)).thenReturn(CqlIdentifier.fromCql("foo"));
+
+		ColumnBatch batch = ColumnBatch.of(columns(DataTypes.UUID), Arrays.asList(row).iterator(), 1);
+
+		assertThat(batch.getObjects(0)).containsExactly(CqlIdentifier.fromCql("foo"));
+	}
+
+	@Test
+	void shouldReadUpToMaxRows() {
+
+		Row first = mock(Row.class);
+		Row second = mock(Row.class);
+
+		ColumnBatch batch = ColumnBatch.of(columns(DataTypes.INT), Arrays.asList(first, second).iterator(), 1);
+
+		assertThat(batch.size()).isEqualTo(1);
+		verifyNoInteractions(second);
+	}
+
+	@Test
+	void shouldRejectAccessWithMismatchedType() {
+
+		ColumnBatch batch = ColumnBatch.of(columns(DataTypes.INT), Arrays.<Row> asList().iterator(), 0);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> batch.getLongs(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> batch.getDictionary(0));
+	}
+
+	private static Row textRow(String value) {
+
+		Row row = mock(Row.class);
+		when(row.getBytesUnsafe(0)).thenReturn(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)));
+		when(row.getString(0)).thenReturn(value);
+
+		return row;
+	}
+
+	private static ColumnDefinitions columns(DataType... types) {
+
+		ColumnDefinitions columnDefinitions = mock(ColumnDefinitions.class);
+		when(columnDefinitions.size()).thenReturn(types.length);
+
+		for (int i = 0; i < types.length; i++) {
+
+			ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+			when(columnDefinition.getType()).thenReturn(types[i]);
+			when(columnDefinition.getName()).thenReturn(CqlIdentifier.fromCql("col" + i));
+			when(columnDefinitions.get(i)).thenReturn(columnDefinition);
+		}
+
+		return columnDefinitions;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.cql.CqlExecution.Operation;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link CqlExecution}.
+ */
+class CqlExecutionUnitTests {
+
+	@Test
+	void shouldDetermineOperation() {
+
+		assertThat(operationOf("SELECT * FROM users")).isEqualTo(Operation.SELECT);
+		assertThat(operationOf("  insert INTO users (id) VALUES (?)")).isEqualTo(Operation.INSERT);
+		assertThat(operationOf("UPDATE users SET name = ?")).isEqualTo(Operation.UPDATE);
+		assertThat(operationOf("DELETE FROM users")).isEqualTo(Operation.DELETE);
+		assertThat(operationOf("BEGIN BATCH APPLY BATCH")).isEqualTo(Operation.BATCH);
+		assertThat(operationOf("TRUNCATE users")).isEqualTo(Operation.OTHER);
+		assertThat(Operation.from(BatchStatement.newInstance(DefaultBatchType.LOGGED))).isEqualTo(Operation.BATCH);
+	}
+
+	@Test
+	void shouldDetermineKeyspaceAndTableFromBoundVariables() {
+
+		ColumnDefinition column = mock(ColumnDefinition.class);
+		when(column.getKeyspace()).thenReturn(CqlIdentifier.fromCql("ks"));
+		when(column.getTable()).thenReturn(CqlIdentifier.fromCql("users"));
+
+		ColumnDefinitions variables = mock(ColumnDefinitions.class);
+		when(variables.size()).thenReturn(1);
+		when(variables.get(0)).thenReturn(column);
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		when(preparedStatement.getQuery()).thenReturn("UPDATE users SET name = ? WHERE id = ?");
+		when(preparedStatement.getVariableDefinitions()).thenReturn(variables);
+
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		when(boundStatement.getPreparedStatement()).thenReturn(preparedStatement);
+
+		CqlExecution execution = new CqlExecution(boundStatement, null, 10, 30, 0, 1);
+
+		assertThat(execution.getCql()).isEqualTo("UPDATE users SET name = ? WHERE id = ?");
+		assertThat(execution.getOperation()).isEqualTo(Operation.UPDATE);
+		assertThat(execution.getKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks"));
+		assertThat(execution.getTable()).isEqualTo(CqlIdentifier.fromCql("users"));
+		assertThat(execution.getMappingTime().toNanos()).isEqualTo(20);
+	}
+
+	@Test
+	void shouldPreferStatementKeyspace() {
+
+		CqlExecution execution = new CqlExecution(
+				SimpleStatement.newInstance("SELECT * FROM users").setKeyspace("other"), null, 0, 0, 0, 1);
+
+		assertThat(execution.getKeyspace()).isEqualTo(CqlIdentifier.fromCql("other"));
+		assertThat(execution.getTable()).isNull();
+	}
+
+	private static Operation operationOf(String cql) {
+		return Operation.from(SimpleStatement.newInstance(cql));
+	}
+}
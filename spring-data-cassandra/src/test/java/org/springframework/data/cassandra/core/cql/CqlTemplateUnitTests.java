@@ -19,10 +19,12 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +42,7 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
 import org.springframework.data.cassandra.CassandraInvalidQueryException;
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
 import org.springframework.lang.Nullable;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
@@ -47,14 +50,18 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataTypes;
 
 /**
  * Unit tests for {@link CqlTemplate}.
@@ -202,6 +209,125 @@ class CqlTemplateUnitTests {
 		}
 	}
 
+	@Test
+	void queryForColumnBatchesShouldHandOutBatchPerPage() {
+
+		ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+		when(columnDefinition.getType()).thenReturn(DataTypes.INT);
+		when(columnDefinitions.size()).thenReturn(1);
+		when(columnDefinitions.get(0)).thenReturn(columnDefinition);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row, row).iterator());
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2, 1);
+		when(row.getInt(0)).thenReturn(42);
+
+		List<Integer> batchSizes = new ArrayList<>();
+
+		template.queryForColumnBatches(SimpleStatement.newInstance("SELECT age FROM user"), batch -> {
+
+			assertThat(batch.getInts(0)).containsOnly(42);
+			batchSizes.add(batch.size());
+		});
+
+		assertThat(batchSizes).containsExactly(2, 1);
+	}
+
+	@Test
+	void queryShouldNotifyExecutionListener() {
+
+		ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+		when(columnDefinition.getKeyspace()).thenReturn(CqlIdentifier.fromCql("ks"));
+		when(columnDefinition.getTable()).thenReturn(CqlIdentifier.fromCql("users"));
+		when(columnDefinitions.size()).thenReturn(1);
+		when(columnDefinitions.get(0)).thenReturn(columnDefinition);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row).iterator());
+		when(resultSet.getExecutionInfos()).thenReturn(Arrays.asList(mock(ExecutionInfo.class), mock(ExecutionInfo.class)));
+		when(row.getString(0)).thenReturn("Walter");
+
+		List<CqlExecution> executions = new ArrayList<>();
+		template.setExecutionListener(executions::add);
+
+		List<String> names = template.query("SELECT name FROM users", (row, index) -> row.getString(0));
+
+		assertThat(names).containsExactly("Walter", "Walter");
+		assertThat(executions).hasSize(1);
+
+		CqlExecution execution = executions.get(0);
+
+		assertThat(execution.getCql()).isEqualTo("SELECT name FROM users");
+		assertThat(execution.getOperation()).isEqualTo(CqlExecution.Operation.SELECT);
+		assertThat(execution.getKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks"));
+		assertThat(execution.getTable()).isEqualTo(CqlIdentifier.fromCql("users"));
+		assertThat(execution.getRowCount()).isEqualTo(2);
+		assertThat(execution.getPageCount()).isEqualTo(2);
+		assertThat(execution.getTotalTime()).isGreaterThanOrEqualTo(execution.getExecutionTime());
+	}
+
+	@Test
+	void queryShouldNotifyExecutionListenerAboutFailure() {
+
+		when(session.execute(any(Statement.class))).thenThrow(new NoNodeAvailableException());
+
+		List<Throwable> failures = new ArrayList<>();
+		template.setExecutionListener(new CqlExecutionListener() {
+
+			@Override
+			public void onSuccess(CqlExecution execution) {}
+
+			@Override
+			public void onError(CqlExecution execution, Throwable exception) {
+				failures.add(exception);
+			}
+		});
+
+		assertThatExceptionOfType(CassandraConnectionFailureException.class)
+				.isThrownBy(() -> template.query("UPDATE user SET a = 'b';", ResultSet::wasApplied));
+		assertThat(failures).hasSize(1).hasOnlyElementsOfType(NoNodeAvailableException.class);
+	}
+
+	@Test
+	void executeAsyncShouldApplyStatementSettings() {
+
+		AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+		when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+
+		template.setConsistencyLevel(DefaultConsistencyLevel.QUORUM);
+		template.setExecutionProfile("olap");
+
+		assertThat(template.executeAsync(SimpleStatement.newInstance("SELECT * FROM users")).toCompletableFuture().join())
+				.isSameAs(asyncResultSet);
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(session).executeAsync(captor.capture());
+
+		assertThat(captor.getValue().getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.QUORUM);
+		assertThat(captor.getValue().getExecutionProfileName()).isEqualTo("olap");
+	}
+
+	@Test
+	void executeAsyncShouldNotifyExecutionListener() {
+
+		AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+		when(asyncResultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(asyncResultSet.remaining()).thenReturn(3);
+		when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+
+		List<CqlExecution> executions = new ArrayList<>();
+		template.setExecutionListener(executions::add);
+
+		template.executeAsync(SimpleStatement.newInstance("SELECT * FROM users")).toCompletableFuture().join();
+
+		assertThat(executions).hasSize(1);
+		assertThat(executions.get(0).getCql()).isEqualTo("SELECT * FROM users");
+		assertThat(executions.get(0).getRowCount()).isEqualTo(3);
+		assertThat(executions.get(0).getPageCount()).isEqualTo(1);
+	}
+
 	@Test // DATACASS-292
 	void queryForObjectCqlShouldReturnRecord() {
 
@@ -352,6 +478,70 @@ class CqlTemplateUnitTests {
 		});
 	}
 
+	@Test
+	void queryForStreamShouldFetchPagesAhead() {
+
+		AsyncResultSet first = mock(AsyncResultSet.class);
+		AsyncResultSet last = mock(AsyncResultSet.class);
+		Row row2 = mock(Row.class);
+
+		when(first.remaining()).thenReturn(2);
+		when(first.currentPage()).thenReturn(Arrays.asList(row, row));
+		when(first.hasMorePages()).thenReturn(true);
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(last));
+		when(last.currentPage()).thenReturn(Collections.singletonList(row2));
+		when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(first));
+
+		template.setPagePrefetch(PagePrefetch.of(0.5, 1));
+
+		Iterator<Row> rows = template.queryForStream(SimpleStatement.newInstance("SELECT * from USERS"),
+				(it, rowNum) -> it).iterator();
+
+		assertThat(rows.next()).isSameAs(row);
+		verify(first).fetchNextPage();
+
+		assertThat(rows.next()).isSameAs(row);
+		assertThat(rows.next()).isSameAs(row2);
+		assertThat(rows.hasNext()).isFalse();
+
+		verify(first).fetchNextPage();
+		verify(session, never()).execute(any(Statement.class));
+	}
+
+	@Test
+	void queryForStreamWithPagePrefetchShouldNotifyExecutionListener() {
+
+		AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+		when(asyncResultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(asyncResultSet.remaining()).thenReturn(1);
+		when(asyncResultSet.currentPage()).thenReturn(Collections.singletonList(row));
+		when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+
+		List<CqlExecution> executions = new ArrayList<>();
+		template.setExecutionListener(executions::add);
+		template.setPagePrefetch(PagePrefetch.defaults());
+
+		assertThat(template.queryForStream(SimpleStatement.newInstance("SELECT * FROM users"), (it, rowNum) -> it))
+				.containsOnly(row);
+
+		assertThat(executions).hasSize(1);
+		assertThat(executions.get(0).getCql()).isEqualTo("SELECT * FROM users");
+		assertThat(executions.get(0).getRowCount()).isEqualTo(1);
+	}
+
+	@Test
+	void queryForStreamWithPagePrefetchShouldTranslateExceptions() {
+
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new NoNodeAvailableException());
+		when(session.executeAsync(any(Statement.class))).thenReturn(failed);
+
+		template.setPagePrefetch(PagePrefetch.defaults());
+
+		assertThatExceptionOfType(CassandraConnectionFailureException.class).isThrownBy(
+				() -> template.queryForStream(SimpleStatement.newInstance("SELECT * from USERS"), (it, rowNum) -> it));
+	}
+
 	@Test // DATACASS-292
 	void queryStatementShouldTranslateExceptions() {
 
@@ -38,10 +38,12 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.core.cql.session.DefaultBridgedReactiveSession;
+import org.springframework.data.cassandra.core.cql.util.PagePrefetch;
 import org.springframework.scheduling.annotation.AsyncResult;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -209,9 +211,88 @@ class DefaultBridgedReactiveSessionUnitTests {
 
 		verify(emptyResultSet).hasMorePages();
 		verify(emptyResultSet).currentPage();
+		verify(emptyResultSet).getExecutionInfo();
 		verifyNoMoreInteractions(emptyResultSet);
 	}
 
+	@Test
+	void shouldPrefetchNextPageAtThreshold() {
+
+		AsyncResultSet resultSet = mockPage(10, true);
+		AsyncResultSet lastResultSet = mockPage(10, false);
+		when(resultSet.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(lastResultSet));
+		future.complete(resultSet);
+
+		reactiveSession.setPagePrefetch(PagePrefetch.of(0.5, 1));
+
+		Flux<Row> flux = reactiveSession.execute(SimpleStatement.newInstance("")).flatMapMany(ReactiveResultSet::rows);
+
+		StepVerifier.create(flux, 0).thenRequest(4).expectNextCount(4).then(() -> {
+			verify(resultSet, never()).fetchNextPage();
+		}).thenRequest(1).expectNextCount(1).then(() -> {
+			verify(resultSet).fetchNextPage();
+		}).thenRequest(20).expectNextCount(15).verifyComplete();
+
+		verify(resultSet).fetchNextPage();
+		verify(lastResultSet, never()).fetchNextPage();
+	}
+
+	@Test
+	void shouldNotPrefetchBeyondMaxPages() {
+
+		AsyncResultSet first = mockPage(10, true);
+		AsyncResultSet second = mockPage(10, true);
+		AsyncResultSet third = mockPage(10, false);
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(second));
+		when(second.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(third));
+		future.complete(first);
+
+		reactiveSession.setPagePrefetch(PagePrefetch.of(0, 1));
+
+		Flux<Row> flux = reactiveSession.execute(SimpleStatement.newInstance("")).flatMapMany(ReactiveResultSet::rows);
+
+		StepVerifier.create(flux, 0).thenRequest(1).expectNextCount(1).then(() -> {
+			verify(first).fetchNextPage();
+			verify(second, never()).fetchNextPage();
+		}).thenRequest(10).expectNextCount(10).then(() -> {
+			verify(second).fetchNextPage();
+		}).thenRequest(20).expectNextCount(19).verifyComplete();
+	}
+
+	@Test
+	void shouldRetainExecutionInfoOfLatestPageOnly() {
+
+		ExecutionInfo firstInfo = mock(ExecutionInfo.class);
+		ExecutionInfo secondInfo = mock(ExecutionInfo.class);
+		AsyncResultSet first = mockPage(10, true);
+		AsyncResultSet second = mockPage(10, false);
+		when(first.getExecutionInfo()).thenReturn(firstInfo);
+		when(second.getExecutionInfo()).thenReturn(secondInfo);
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(second));
+		future.complete(first);
+
+		ReactiveResultSet resultSet = reactiveSession.execute(SimpleStatement.newInstance("")).block();
+
+		assertThat(resultSet.getExecutionInfo()).isSameAs(firstInfo);
+
+		resultSet.rows().as(StepVerifier::create).expectNextCount(20).verifyComplete();
+
+		assertThat(resultSet.getExecutionInfo()).isSameAs(secondInfo);
+		assertThat(resultSet.getAllExecutionInfo()).containsExactly(secondInfo);
+	}
+
+	private static AsyncResultSet mockPage(int rows, boolean hasMorePages) {
+
+		AsyncResultSet resultSet = mock(AsyncResultSet.class);
+
+		when(resultSet.remaining()).thenReturn(rows);
+		when(resultSet.currentPage())
+				.thenReturn(IntStream.range(0, rows).mapToObj(value -> mock(Row.class)).collect(Collectors.toList()));
+		when(resultSet.hasMorePages()).thenReturn(hasMorePages);
+
+		return resultSet;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static Iterator<Row> mockIterator() {
 
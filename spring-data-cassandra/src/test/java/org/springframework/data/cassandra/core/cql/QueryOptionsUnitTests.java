@@ -41,6 +41,7 @@ class QueryOptionsUnitTests {
 				.pageSize(10) //
 				.tracing(true) //
 				.keyspace(CqlIdentifier.fromCql("ks1")) //
+				.idempotent(true) //
 				.build();
 
 		assertThat(queryOptions.getClass()).isEqualTo(QueryOptions.class);
@@ -49,6 +50,7 @@ class QueryOptionsUnitTests {
 		assertThat(queryOptions.getPageSize()).isEqualTo(10);
 		assertThat(queryOptions.getTracing()).isTrue();
 		assertThat(queryOptions.getKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks1"));
+		assertThat(queryOptions.isIdempotent()).isTrue();
 	}
 
 	@Test // DATACASS-56
@@ -71,5 +73,27 @@ class QueryOptionsUnitTests {
 		assertThat(mutated.getPageSize()).isEqualTo(10);
 		assertThat(mutated.getTracing()).isTrue();
 		assertThat(mutated.getKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks1"));
+		assertThat(mutated.isIdempotent()).isNull();
+	}
+
+	@Test
+	void idempotenceShouldBeConsideredInEquality() {
+
+		QueryOptions idempotent = QueryOptions.builder().idempotent(true).build();
+
+		assertThat(idempotent).isNotEqualTo(QueryOptions.empty()).isEqualTo(idempotent.mutate().build());
+		assertThat(idempotent.mutate().idempotent(false).build().isIdempotent()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void deprecatedConstructorShouldLeaveIdempotenceUnset() {
+
+		QueryOptions options = new QueryOptions(DefaultConsistencyLevel.ONE, ExecutionProfileResolver.none(), null, 10,
+				null, Duration.ZERO, null) {};
+
+		assertThat(options.isIdempotent()).isNull();
+		assertThat(options.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.ONE);
+		assertThat(options.getPageSize()).isEqualTo(10);
 	}
 }
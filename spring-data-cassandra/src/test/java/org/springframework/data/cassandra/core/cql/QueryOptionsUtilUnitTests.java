@@ -96,6 +96,16 @@ class QueryOptionsUtilUnitTests {
 		verify(simpleStatement).setTracing(true);
 	}
 
+	@Test
+	void addIdempotentOptionShouldAddDriverQueryOptions() {
+
+		when(simpleStatement.setIdempotent(anyBoolean())).thenReturn(simpleStatement);
+
+		QueryOptionsUtil.addQueryOptions(simpleStatement, QueryOptions.builder().idempotent(false).build());
+
+		verify(simpleStatement).setIdempotent(false);
+	}
+
 	@Test // DATACASS-767
 	void addKeyspaceOptionsOnSimpleStatementShouldAddDriverQueryOptions() {
 
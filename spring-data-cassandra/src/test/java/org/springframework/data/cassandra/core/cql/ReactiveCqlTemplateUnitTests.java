@@ -23,6 +23,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +52,7 @@ import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -188,6 +192,48 @@ class ReactiveCqlTemplateUnitTests {
 		});
 	}
 
+	@Test
+	void queryShouldNotifyExecutionListener() {
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row));
+		when(row.getString(0)).thenReturn("Walter");
+
+		List<CqlExecution> executions = new ArrayList<>();
+		template.setExecutionListener(executions::add);
+
+		template.query("SELECT name FROM users", (row, index) -> row.getString(0)).as(StepVerifier::create)
+				.expectNext("Walter", "Walter").verifyComplete();
+
+		assertThat(executions).hasSize(1);
+		assertThat(executions.get(0).getOperation()).isEqualTo(CqlExecution.Operation.SELECT);
+		assertThat(executions.get(0).getRowCount()).isEqualTo(2);
+	}
+
+	@Test
+	void executionListenerShouldCountPagesByExecutionInfo() {
+
+		ExecutionInfo firstPage = mock(ExecutionInfo.class);
+		ExecutionInfo secondPage = mock(ExecutionInfo.class);
+		AtomicReference<ExecutionInfo> currentPage = new AtomicReference<>(firstPage);
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.getExecutionInfo()).thenAnswer(invocation -> currentPage.get());
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row)
+				.concatWith(Mono.<Row> empty().doOnSubscribe(it -> currentPage.set(secondPage))).concatWith(Flux.just(row)));
+		when(row.getString(0)).thenReturn("Walter");
+
+		List<CqlExecution> executions = new ArrayList<>();
+		template.setExecutionListener(executions::add);
+
+		template.query("SELECT name FROM users", (row, index) -> row.getString(0)).as(StepVerifier::create)
+				.expectNextCount(3).verifyComplete();
+
+		assertThat(executions).hasSize(1);
+		assertThat(executions.get(0).getRowCount()).isEqualTo(3);
+		assertThat(executions.get(0).getPageCount()).isEqualTo(2);
+	}
+
 	@Test // DATACASS-335
 	void queryWithResultSetExtractorWithArgumentsShouldCallExecution() {
 
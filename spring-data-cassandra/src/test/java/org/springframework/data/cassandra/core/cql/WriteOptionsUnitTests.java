@@ -89,4 +89,16 @@ class WriteOptionsUnitTests {
 		assertThat(mutated.getPageSize()).isEqualTo(10);
 		assertThat(mutated.getTracing()).isTrue();
 	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void deprecatedConstructorShouldLeaveIdempotenceUnset() {
+
+		WriteOptions options = new WriteOptions(DefaultConsistencyLevel.ONE, ExecutionProfileResolver.none(), null, null,
+				null, Duration.ZERO, Duration.ofSeconds(10), 42L, null) {};
+
+		assertThat(options.isIdempotent()).isNull();
+		assertThat(options.getTtl()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(options.getTimestamp()).isEqualTo(42L);
+	}
 }
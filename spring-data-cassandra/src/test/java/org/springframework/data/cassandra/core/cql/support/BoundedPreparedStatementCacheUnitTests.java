@@ -0,0 +1,250 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link BoundedPreparedStatementCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BoundedPreparedStatementCacheUnitTests {
+
+	@Mock CqlSession session;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@BeforeEach
+	void before() {
+
+		when(session.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql("mykeyspace")));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+	}
+
+	@Test
+	void shouldCachePreparedStatementAndRecordStatistics() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+
+		assertThat(cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users")))
+				.isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users")))
+				.isSameAs(preparedStatement);
+
+		verify(session).prepare(any(SimpleStatement.class));
+
+		PreparedStatementCacheStatistics statistics = cache.getStatistics();
+		assertThat(statistics.getHitCount()).isEqualTo(1);
+		assertThat(statistics.getMissCount()).isEqualTo(1);
+		assertThat(statistics.getHitRatio()).isEqualTo(0.5);
+		assertThat(statistics.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldCacheByQueryAndKeyspace() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users"));
+		cache.getPreparedStatement(session,
+				SimpleStatement.newInstance("SELECT * FROM users").setKeyspace(CqlIdentifier.fromCql("other")));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users WHERE id = ?", "foo"));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users WHERE id = ?", "bar"));
+
+		verify(session, times(3)).prepare(any(SimpleStatement.class));
+		assertThat(cache.getStatistics().getSize()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedStatement() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create(2);
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 1 FROM users"));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 2 FROM users"));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 1 FROM users"));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 3 FROM users"));
+
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 1 FROM users"));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 2 FROM users"));
+
+		verify(session, times(4)).prepare(any(SimpleStatement.class));
+	}
+
+	@Test
+	void shouldExpireStatementsAfterAccess() throws InterruptedException {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create(10, Duration.ofMillis(1));
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users"));
+
+		Thread.sleep(10);
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users"));
+
+		verify(session, times(2)).prepare(any(SimpleStatement.class));
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRecordLoadFailures() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+
+		assertThatIllegalStateException().isThrownBy(() -> cache.getPreparedStatement(session,
+				SimpleStatement.newInstance("SELECT * FROM users"), () -> {
+					throw new IllegalStateException();
+				}));
+
+		assertThat(cache.getStatistics().getLoadFailureCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().getSize()).isZero();
+	}
+
+	@Test
+	void shouldPrepareConcurrentlyRequestedStatementOnce() throws Exception {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+		CountDownLatch preparing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger preparations = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		Supplier<PreparedStatement> preparer = () -> {
+
+			preparations.incrementAndGet();
+			preparing.countDown();
+			await(release);
+
+			return preparedStatement;
+		};
+
+		try {
+
+			Future<PreparedStatement> first = executor
+					.submit(() -> cache.getPreparedStatement(session, statement, preparer));
+			await(preparing);
+
+			Future<PreparedStatement> second = executor
+					.submit(() -> cache.getPreparedStatement(session, statement, preparer));
+			awaitHits(cache, 1);
+			release.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(preparedStatement);
+			assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(preparedStatement);
+			assertThat(preparations).hasValue(1);
+			assertThat(cache.getStatistics().getMissCount()).isEqualTo(1);
+			assertThat(cache.getStatistics().getSize()).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldPropagatePreparationFailureToWaitingCallers() throws Exception {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+		CountDownLatch preparing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		Supplier<PreparedStatement> failing = () -> {
+
+			preparing.countDown();
+			await(release);
+
+			throw new IllegalStateException();
+		};
+
+		try {
+
+			Future<PreparedStatement> first = executor
+					.submit(() -> cache.getPreparedStatement(session, statement, failing));
+			await(preparing);
+
+			Future<PreparedStatement> second = executor
+					.submit(() -> cache.getPreparedStatement(session, statement, failing));
+			awaitHits(cache, 1);
+			release.countDown();
+
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+					.withCauseInstanceOf(IllegalStateException.class);
+			assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+					.withCauseInstanceOf(IllegalStateException.class);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(cache.getPreparedStatement(session, statement)).isSameAs(preparedStatement);
+		assertThat(cache.getStatistics().getLoadFailureCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRejectInvalidMaximumSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> BoundedPreparedStatementCache.create(0));
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void awaitHits(BoundedPreparedStatementCache cache, long hits) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (cache.getStatistics().getHitCount() < hits) {
+
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(1);
+		}
+	}
+}
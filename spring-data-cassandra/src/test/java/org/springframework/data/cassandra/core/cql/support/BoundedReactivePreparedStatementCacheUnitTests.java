@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.cassandra.ReactiveSession;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link BoundedReactivePreparedStatementCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class BoundedReactivePreparedStatementCacheUnitTests {
+
+	@Mock ReactiveSession session;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@Test
+	void shouldPrepareLazilyAndCache() {
+
+		PublisherProbe<PreparedStatement> probe = PublisherProbe.of(Mono.just(preparedStatement));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(probe.mono());
+
+		BoundedReactivePreparedStatementCache cache = BoundedReactivePreparedStatementCache.create();
+
+		Mono<PreparedStatement> prepared = cache.getPreparedStatement(session,
+				SimpleStatement.newInstance("SELECT * FROM users"));
+
+		probe.assertWasNotSubscribed();
+
+		prepared.as(StepVerifier::create).expectNext(preparedStatement).verifyComplete();
+		prepared.as(StepVerifier::create).expectNext(preparedStatement).verifyComplete();
+
+		verify(session).prepare(any(SimpleStatement.class));
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedStatement() {
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+
+		BoundedReactivePreparedStatementCache cache = BoundedReactivePreparedStatementCache.create(1);
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 1 FROM users"))
+				.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 2 FROM users"))
+				.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT 1 FROM users"))
+				.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		assertThat(cache.size()).isOne();
+		verify(session, times(3)).prepare(any(SimpleStatement.class));
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link MapAsyncPreparedStatementCache} and {@link AsyncCachedPreparedStatementCreator}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MapAsyncPreparedStatementCacheUnitTests {
+
+	@Mock CqlSession session;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@BeforeEach
+	void before() {
+		when(session.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql("mykeyspace")));
+	}
+
+	@Test
+	void shouldShareConcurrentPreparation() {
+
+		CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+		when(session.prepareAsync(any(SimpleStatement.class))).thenReturn(preparation);
+
+		AsyncPreparedStatementCache cache = AsyncPreparedStatementCache.create();
+
+		CompletionStage<PreparedStatement> first = cache.getPreparedStatement(session,
+				SimpleStatement.newInstance("SELECT * FROM users"));
+		CompletionStage<PreparedStatement> second = cache.getPreparedStatement(session,
+				SimpleStatement.newInstance("SELECT * FROM users"));
+
+		assertThat(first.toCompletableFuture()).isNotDone();
+		assertThat(second.toCompletableFuture()).isNotDone();
+
+		preparation.complete(preparedStatement);
+
+		assertThat(first.toCompletableFuture()).isCompletedWithValue(preparedStatement);
+		assertThat(second.toCompletableFuture()).isCompletedWithValue(preparedStatement);
+		verify(session).prepareAsync(any(SimpleStatement.class));
+	}
+
+	@Test
+	void shouldRetryFailedPreparation() {
+
+		CompletableFuture<PreparedStatement> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException());
+		when(session.prepareAsync(any(SimpleStatement.class))).thenReturn(failed,
+				CompletableFuture.completedFuture(preparedStatement));
+
+		MapAsyncPreparedStatementCache cache = MapAsyncPreparedStatementCache.create();
+
+		assertThat(cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users"))
+				.toCompletableFuture()).isCompletedExceptionally();
+		assertThat(cache.getCache()).isEmpty();
+
+		assertThat(cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users"))
+				.toCompletableFuture()).isCompletedWithValue(preparedStatement);
+		assertThat(cache.getCache()).hasSize(1);
+	}
+
+	@Test
+	void cancellationShouldNotAffectCachedPreparation() {
+
+		CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+		when(session.prepareAsync(any(SimpleStatement.class))).thenReturn(preparation);
+
+		AsyncPreparedStatementCache cache = AsyncPreparedStatementCache.create();
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users")).toCompletableFuture()
+				.cancel(true);
+
+		CompletionStage<PreparedStatement> second = cache.getPreparedStatement(session,
+				SimpleStatement.newInstance("SELECT * FROM users"));
+		preparation.complete(preparedStatement);
+
+		assertThat(second.toCompletableFuture()).isCompletedWithValue(preparedStatement);
+	}
+
+	@Test
+	void creatorShouldPrepareThroughCache() throws Exception {
+
+		when(session.prepareAsync(any(SimpleStatement.class)))
+				.thenReturn(CompletableFuture.completedFuture(preparedStatement));
+
+		AsyncPreparedStatementCache cache = AsyncPreparedStatementCache.create();
+
+		AsyncCachedPreparedStatementCreator creator = AsyncCachedPreparedStatementCreator.of(cache,
+				"SELECT * FROM users");
+
+		assertThat(creator.createPreparedStatement(session).get()).isSameAs(preparedStatement);
+		assertThat(creator.createPreparedStatement(session).get()).isSameAs(preparedStatement);
+		assertThat(creator.getCql()).isEqualTo("SELECT * FROM users");
+
+		verify(session).prepareAsync(any(SimpleStatement.class));
+	}
+}
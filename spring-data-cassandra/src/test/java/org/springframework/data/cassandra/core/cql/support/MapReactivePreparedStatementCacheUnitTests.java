@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.cassandra.ReactiveSession;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link MapReactivePreparedStatementCache} and {@link ReactiveCachedPreparedStatementCreator}.
+ */
+@ExtendWith(MockitoExtension.class)
+class MapReactivePreparedStatementCacheUnitTests {
+
+	@Mock ReactiveSession session;
+
+	@Mock ReactiveSession otherSession;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@Test
+	void shouldPrepareLazilyAndCache() {
+
+		PublisherProbe<PreparedStatement> probe = PublisherProbe.of(Mono.just(preparedStatement));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(probe.mono());
+
+		ReactivePreparedStatementCache cache = ReactivePreparedStatementCache.create();
+
+		Mono<PreparedStatement> prepared = cache.getPreparedStatement(session,
+				SimpleStatement.newInstance("SELECT * FROM users"));
+
+		probe.assertWasNotSubscribed();
+
+		prepared.as(StepVerifier::create).expectNext(preparedStatement).verifyComplete();
+		prepared.as(StepVerifier::create).expectNext(preparedStatement).verifyComplete();
+
+		verify(session).prepare(any(SimpleStatement.class));
+	}
+
+	@Test
+	void shouldCachePerSession() {
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(otherSession.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+
+		ReactivePreparedStatementCache cache = ReactivePreparedStatementCache.create();
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM users"))
+				.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		cache.getPreparedStatement(otherSession, SimpleStatement.newInstance("SELECT * FROM users"))
+				.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		verify(session).prepare(any(SimpleStatement.class));
+		verify(otherSession).prepare(any(SimpleStatement.class));
+	}
+
+	@Test
+	void shouldRetryFailedPreparation() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+				? Mono.error(new IllegalStateException()) : Mono.just(preparedStatement)));
+
+		ReactiveCachedPreparedStatementCreator creator = ReactiveCachedPreparedStatementCreator
+				.of(ReactivePreparedStatementCache.create(), "SELECT * FROM users");
+
+		creator.createPreparedStatement(session).as(StepVerifier::create).verifyError(IllegalStateException.class);
+		creator.createPreparedStatement(session).as(StepVerifier::create).expectNext(preparedStatement)
+				.verifyComplete();
+		creator.createPreparedStatement(session).as(StepVerifier::create).expectNext(preparedStatement)
+				.verifyComplete();
+	}
+}
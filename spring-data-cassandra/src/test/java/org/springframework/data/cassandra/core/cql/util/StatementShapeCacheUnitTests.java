@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link StatementShapeCache}.
+ */
+class StatementShapeCacheUnitTests {
+
+	@Test
+	void shouldEvictLeastRecentlyUsedShape() {
+
+		StatementShapeCache cache = new StatementShapeCache(2);
+
+		cache.put("first", "SELECT 1", true);
+		cache.put("second", "SELECT 2", true);
+		cache.get("first");
+		cache.put("third", "SELECT 3", true);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("first")).isNotNull();
+		assertThat(cache.get("second")).isNull();
+		assertThat(cache.get("third")).isNotNull();
+	}
+
+	@Test
+	void shouldKeepFirstRenderedStatement() {
+
+		StatementShapeCache cache = new StatementShapeCache(1);
+
+		cache.put("shape", "SELECT 1", true);
+		cache.put("shape", "SELECT 2", false);
+
+		assertThat(cache.get("shape").cql).isEqualTo("SELECT 1");
+		assertThat(cache.get("shape").idempotent).isTrue();
+	}
+
+	@Test
+	void shouldRejectInvalidMaximumSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new StatementShapeCache(0));
+	}
+}
@@ -112,4 +112,31 @@ class CassandraPageRequestUnitTests {
 		assertThat(withPaging).isEqualTo(withPaging);
 		assertThat(withPaging).isNotEqualTo(anotherFirst);
 	}
+
+	@Test
+	void shouldEncodePagingStateUrlSafe() {
+
+		ByteBuffer pagingState = ByteBuffer.wrap(new byte[] { (byte) 0xfb, (byte) 0xff, 0x01, 0x02 });
+		CassandraPageRequest pageRequest = CassandraPageRequest.of(PageRequest.of(1, 10), pagingState);
+
+		String encoded = pageRequest.getEncodedPagingState();
+
+		assertThat(encoded).isEqualTo("-_8BAg");
+		assertThat(pageRequest.getPagingState()).isEqualTo(pagingState);
+		assertThat(CassandraPageRequest.fromEncodedPagingState(PageRequest.of(1, 10), encoded)).isEqualTo(pageRequest);
+	}
+
+	@Test
+	void shouldNotEncodeAbsentPagingState() {
+
+		assertThat(CassandraPageRequest.first(10).getEncodedPagingState()).isNull();
+		assertThat(CassandraPageRequest.fromEncodedPagingState(PageRequest.of(0, 10), null).getPagingState()).isNull();
+		assertThat(CassandraPageRequest.fromEncodedPagingState(PageRequest.of(0, 10), "").getPagingState()).isNull();
+	}
+
+	@Test
+	void shouldRejectInvalidEncodedPagingState() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> CassandraPageRequest.fromEncodedPagingState(PageRequest.of(1, 10), "a+b/"));
+	}
 }
@@ -122,8 +122,11 @@ class RepositoryMapIdIntegrationTests extends AbstractSpringDataEmbeddedCassandr
 		assertThat(selected.getKey1()).isEqualTo(saved.getKey1());
 		assertThat(selected.getValue()).isEqualTo(saved.getValue());
 
-		assertThatThrownBy(() -> multiPrimaryKeyColumnsRepository.findAllById(Collections.singletonList(id)))
-				.isInstanceOf(InvalidDataAccessApiUsageException.class);
+		List<MultiPrimaryKeyColumns> allById = multiPrimaryKeyColumnsRepository.findAllById(Collections.singletonList(id));
+
+		assertThat(allById).hasSize(1);
+		assertThat(allById.get(0).getKey0()).isEqualTo(saved.getKey0());
+		assertThat(allById.get(0).getKey1()).isEqualTo(saved.getKey1());
 
 		// update
 		selected.setValue(uuid());
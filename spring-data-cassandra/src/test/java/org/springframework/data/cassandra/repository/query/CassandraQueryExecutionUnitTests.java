@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ExistsExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SingleEntityExecution;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link CassandraQueryExecution}.
+ */
+@ExtendWith(MockitoExtension.class)
+class CassandraQueryExecutionUnitTests {
+
+	@Mock CassandraOperations operations;
+
+	@Mock CqlOperations cqlOperations;
+
+	@Mock ResultSet resultSet;
+
+	@Mock Iterator<Row> iterator;
+
+	@Mock Row row;
+
+	@Mock ColumnDefinitions columnDefinitions;
+
+	SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM person");
+
+	@Test
+	void singleEntityExecutionShouldStopAfterSecondRow() {
+
+		AtomicInteger mapped = new AtomicInteger();
+		when(operations.stream(any(Statement.class), eq(String.class)))
+				.thenReturn(Stream.iterate("row", it -> it).peek(it -> mapped.incrementAndGet()));
+
+		SingleEntityExecution execution = new SingleEntityExecution(operations, false);
+
+		assertThatExceptionOfType(IncorrectResultSizeDataAccessException.class)
+				.isThrownBy(() -> execution.execute(statement, String.class));
+		assertThat(mapped).hasValue(2);
+	}
+
+	@Test
+	void singleEntityExecutionShouldReturnSingleResult() {
+
+		when(operations.stream(any(Statement.class), eq(String.class))).thenReturn(Stream.of("row"));
+
+		assertThat(new SingleEntityExecution(operations, false).execute(statement, String.class)).isEqualTo("row");
+	}
+
+	@Test
+	void singleEntityExecutionShouldReturnNullForEmptyResult() {
+
+		when(operations.stream(any(Statement.class), eq(String.class))).thenReturn(Stream.empty());
+
+		assertThat(new SingleEntityExecution(operations, false).execute(statement, String.class)).isNull();
+	}
+
+	@Test
+	void existsExecutionShouldStopAfterFirstEntityRow() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.queryForResultSet(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(iterator);
+		when(iterator.hasNext()).thenReturn(true);
+		when(iterator.next()).thenReturn(row);
+		when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.size()).thenReturn(3);
+
+		assertThat(new ExistsExecution(operations).execute(statement, Object.class)).isEqualTo(true);
+
+		verify(iterator).hasNext();
+		verify(iterator).next();
+	}
+
+	@Test
+	void existsExecutionShouldReturnFalseForEmptyResult() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.queryForResultSet(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Collections.<Row> emptyIterator());
+
+		assertThat(new ExistsExecution(operations).execute(statement, Object.class)).isEqualTo(false);
+	}
+}
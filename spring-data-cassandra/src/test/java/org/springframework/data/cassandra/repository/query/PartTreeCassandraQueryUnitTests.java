@@ -224,6 +224,17 @@ class PartTreeCassandraQueryUnitTests {
 		assertThat(statement.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_ONE);
 	}
 
+	@Test
+	void shouldLimitPageSizeForSingleEntityQuery() {
+
+		SimpleStatement single = deriveQueryFromMethod(Repo.class, "findPersonBy", new Class[0]);
+		SimpleStatement collection = deriveQueryFromMethod(Repo.class, "findAllByNickname", new Class[] { String.class },
+				"Heisenberg");
+
+		assertThat(single.getPageSize()).isEqualTo(2);
+		assertThat(collection.getPageSize()).isLessThanOrEqualTo(0);
+	}
+
 	@Test // DATACASS-512
 	void shouldCreateCountQuery() {
 
@@ -331,6 +342,8 @@ class PartTreeCassandraQueryUnitTests {
 
 		PersonProjection findPersonProjectedByNickname(String nickname);
 
+		Collection<Person> findAllByNickname(String nickname);
+
 		<T> T findDynamicallyProjectedBy(Class<T> type);
 	}
 
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.repository.AllowFiltering;
+import org.springframework.data.cassandra.repository.MapIdCassandraRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link PartTreeQueryTemplate} through {@link PartTreeCassandraQuery}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PartTreeQueryTemplateUnitTests {
+
+	@Mock CassandraTemplate template;
+
+	CassandraMappingContext mappingContext = new CassandraMappingContext();
+
+	CassandraConverter converter = new MappingCassandraConverter(mappingContext);
+
+	@BeforeEach
+	void before() {
+
+		when(template.getConverter()).thenReturn(converter);
+		when(template.isUsePreparedStatements()).thenReturn(true);
+	}
+
+	@Test
+	void shouldRenderBindMarkersAndCompileTemplate() {
+
+		PartTreeCassandraQuery query = createQuery("findByLastnameAndFirstname", String.class, String.class);
+
+		SimpleStatement statement = createStatement(query, "White", "Walter");
+
+		assertThat(statement.getQuery()).isEqualTo("SELECT * FROM person WHERE lastname=? AND firstname=?");
+		assertThat(statement.getPositionalValues()).containsExactly("White", "Walter");
+		assertThat(getQueryTemplate(query).isCompiled()).isTrue();
+	}
+
+	@Test
+	void shouldBindArgumentsToCompiledTemplate() {
+
+		PartTreeCassandraQuery query = createQuery("findByLastnameAndFirstname", String.class, String.class);
+
+		SimpleStatement first = createStatement(query, "White", "Walter");
+		SimpleStatement second = createStatement(query, "Pinkman", "Jesse");
+
+		assertThat(second.getQuery()).isEqualTo(first.getQuery());
+		assertThat(second.getPositionalValues()).containsExactly("Pinkman", "Jesse");
+		assertThat(second.getRoutingKey()).isNull();
+	}
+
+	@Test
+	void shouldApplyPartTypesToBoundValues() {
+
+		PartTreeCassandraQuery query = createQuery("findByLastnameAndNicknameStartingWithAndCoolTrue", String.class,
+				String.class);
+
+		createStatement(query, "White", "Heisen");
+		SimpleStatement statement = createStatement(query, "Pinkman", "Cap");
+
+		assertThat(statement.getQuery())
+				.isEqualTo("SELECT * FROM person WHERE lastname=? AND nickname LIKE ? AND cool=? ALLOW FILTERING");
+		assertThat(statement.getPositionalValues()).containsExactly("Pinkman", "Cap%", true);
+	}
+
+	@Test
+	void shouldRenderInlineForNullArguments() {
+
+		PartTreeCassandraQuery query = createQuery("findByLastnameAndFirstname", String.class, String.class);
+
+		SimpleStatement statement = createStatement(query, "White", null);
+
+		assertThat(statement.getPositionalValues()).isEmpty();
+		assertThat(getQueryTemplate(query).isCompiled()).isFalse();
+	}
+
+	@Test
+	void shouldNotCompileArgumentDependentQueries() {
+
+		assertThat(getQueryTemplate(createQuery("findByLastnameIn", Collection.class)).isCompilable()).isFalse();
+		assertThat(getQueryTemplate(createQuery("findByLastname", QueryOptions.class, String.class)).isCompilable())
+				.isFalse();
+		assertThat(getQueryTemplate(createQuery("findByLastnameAndFirstname", String.class, String.class)).isCompilable())
+				.isTrue();
+	}
+
+	@Test
+	void shouldRenderUncompilableQueriesInlineWithoutBindValues() {
+
+		PartTreeCassandraQuery query = createQuery("findByLastnameIn", Collection.class);
+
+		SimpleStatement statement = createStatement(query, Collections.singletonList("White"));
+
+		assertThat(statement.getQuery()).isEqualTo("SELECT * FROM person WHERE lastname IN ('White')");
+		assertThat(statement.getPositionalValues()).isEmpty();
+		assertThat(statement.getNamedValues()).isEmpty();
+		assertThat(getQueryTemplate(query).isCompiled()).isFalse();
+	}
+
+	@Test
+	void shouldRenderInlineWithoutPreparedStatements() {
+
+		when(template.isUsePreparedStatements()).thenReturn(false);
+
+		PartTreeCassandraQuery query = createQuery("findByLastnameIn", Collection.class);
+
+		SimpleStatement statement = createStatement(query, Collections.singletonList("White"));
+
+		assertThat(statement.getQuery()).isEqualTo("SELECT * FROM person WHERE lastname IN ('White')");
+	}
+
+	private PartTreeCassandraQuery createQuery(String methodName, Class<?>... parameterTypes) {
+
+		Method method = ReflectionUtils.findMethod(PersonRepository.class, methodName, parameterTypes);
+		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method,
+				new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(), mappingContext);
+
+		return new PartTreeCassandraQuery(queryMethod, template);
+	}
+
+	private SimpleStatement createStatement(PartTreeCassandraQuery query, Object... args) {
+
+		CassandraParameterAccessor accessor = new CassandraParametersParameterAccessor(query.getQueryMethod(), args);
+
+		return query.createQuery(new ConvertingParameterAccessor(converter, accessor));
+	}
+
+	private static PartTreeQueryTemplate getQueryTemplate(PartTreeCassandraQuery query) {
+		return (PartTreeQueryTemplate) ReflectionTestUtils.getField(query, "queryTemplate");
+	}
+
+	@SuppressWarnings("unused")
+	interface PersonRepository extends MapIdCassandraRepository<Person> {
+
+		Person findByLastnameAndFirstname(String lastname, String firstname);
+
+		@AllowFiltering
+		Person findByLastnameAndNicknameStartingWithAndCoolTrue(String lastname, String nickname);
+
+		Person findByLastnameIn(Collection<String> lastname);
+
+		Person findByLastname(QueryOptions options, String lastname);
+	}
+}
@@ -247,6 +247,23 @@ class StringBasedCassandraQueryUnitTests {
 		assertThat(actual.getPositionalValues().get(0)).isEqualTo("Matthews");
 	}
 
+	@Test
+	void shouldComputeBindableQueryUpfront() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByNamedParameter", String.class, String.class);
+
+		assertThat(cassandraQuery.getStringBasedQuery().getBindableQuery())
+				.isEqualTo("SELECT * FROM person WHERE lastname = ?;");
+
+		SimpleStatement first = cassandraQuery
+				.createQuery(new CassandraParametersParameterAccessor(cassandraQuery.getQueryMethod(), "Walter", "Matthews"));
+		SimpleStatement second = cassandraQuery
+				.createQuery(new CassandraParametersParameterAccessor(cassandraQuery.getQueryMethod(), "Jesse", "Pinkman"));
+
+		assertThat(second.getQuery()).isEqualTo(first.getQuery());
+		assertThat(second.getPositionalValues()).containsExactly("Pinkman");
+	}
+
 	@Test // DATACASS-117
 	void bindsIndexExpressionParameterCorrectly() {
 
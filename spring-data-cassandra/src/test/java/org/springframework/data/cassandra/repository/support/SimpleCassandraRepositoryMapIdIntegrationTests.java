@@ -22,7 +22,6 @@ import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.core.mapping.BasicMapId;
 import org.springframework.data.cassandra.core.mapping.MapId;
@@ -74,7 +73,7 @@ class SimpleCassandraRepositoryMapIdIntegrationTests extends AbstractKeyspaceCre
 		assertThat(simple.findAllById(Collections.singletonList(BasicMapId.id("id", user.getId())))).hasSize(1);
 	}
 
-	@Test // DATACASS-661
+	@Test
 	void shouldFindByIdWithCompositeKey() {
 
 		TypeWithMapId withMapId = new TypeWithMapId();
@@ -83,7 +82,6 @@ class SimpleCassandraRepositoryMapIdIntegrationTests extends AbstractKeyspaceCre
 
 		composite.save(withMapId);
 
-		assertThatThrownBy(() -> composite.findAllById(Collections.singletonList(withMapId.getMapId())))
-				.isInstanceOf(InvalidDataAccessApiUsageException.class);
+		assertThat(composite.findAllById(Collections.singletonList(withMapId.getMapId()))).hasSize(1);
 	}
 }
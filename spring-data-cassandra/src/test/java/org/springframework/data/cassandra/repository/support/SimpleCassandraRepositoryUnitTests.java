@@ -15,11 +15,18 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,19 +37,32 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.CountOptions;
 import org.springframework.data.cassandra.core.EntityWriteResult;
 import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.PrimaryKeyType;
+import org.springframework.data.cassandra.core.mapping.BasicMapId;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.MapId;
+import org.springframework.data.cassandra.core.mapping.PrimaryKeyColumn;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mapping.callback.EntityCallbacks;
 
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 
 /**
@@ -62,6 +82,7 @@ class SimpleCassandraRepositoryUnitTests {
 
 	@Mock CassandraOperations cassandraOperations;
 	@Mock CqlOperations cqlOperations;
+	@Mock CqlSession session;
 	@Mock UserDefinedType userType;
 	@Mock UserTypeResolver userTypeResolver;
 	@Mock EntityWriteResult writeResult;
@@ -197,6 +218,121 @@ class SimpleCassandraRepositoryUnitTests {
 				SimplePerson.class);
 	}
 
+	@Test
+	void saveAllShouldReturnWrittenEntities() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement heisenberg = mock(BoundStatement.class, RETURNS_SELF);
+		BoundStatement pinkman = mock(BoundStatement.class, RETURNS_SELF);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("heisenberg")).thenReturn(heisenberg);
+		when(preparedStatement.bind("pinkman")).thenReturn(pinkman);
+		when(session.executeAsync(any(BoundStatement.class)))
+				.thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		List<Object> written = new ArrayList<>();
+		CassandraTemplate template = new CassandraTemplate(session);
+		template.setEntityCallbacks(EntityCallbacks.create((BeforeSaveCallback<Object>) (entity, tableName, statement) -> {
+
+			SimplePerson copy = new SimplePerson();
+			copy.setId(((SimplePerson) entity).getId());
+			written.add(copy);
+			return copy;
+		}));
+
+		when(cassandraOperations.bulkInsert(any(), any()))
+				.thenAnswer(invocation -> template.bulkInsert(invocation.getArgument(0), invocation.getArgument(1)));
+
+		SimpleCassandraRepository<Object, String> repository = new SimpleCassandraRepository<>(
+				new MappingCassandraEntityInformation(
+						converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class), converter),
+				cassandraOperations);
+
+		SimplePerson walter = new SimplePerson();
+		walter.setId("heisenberg");
+		SimplePerson jesse = new SimplePerson();
+		jesse.setId("pinkman");
+
+		List<Object> saved = repository.saveAll(Arrays.asList(walter, jesse));
+
+		assertThat(saved).hasSize(2).containsExactlyElementsOf(written);
+		assertThat(saved.get(0)).isNotSameAs(walter);
+		assertThat(saved.get(1)).isNotSameAs(jesse);
+	}
+
+	@Test
+	void countWithOptionsShouldCountTokenRanges() {
+
+		CountOptions options = CountOptions.builder().concurrency(8).build();
+
+		repository = new SimpleCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(
+						converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class), converter),
+				cassandraOperations);
+
+		repository.count(options);
+
+		verify(cassandraOperations).count(SimplePerson.class, options);
+	}
+
+	@Test
+	void countShouldCountTokenRanges() {
+
+		repository = new SimpleCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(
+						converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class), converter),
+				cassandraOperations);
+
+		repository.count();
+
+		verify(cassandraOperations).count(SimplePerson.class, CountOptions.empty());
+	}
+
+	@Test
+	void findAllByIdShouldNotQueryForEmptyIds() {
+
+		repository = new SimpleCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(
+						converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class), converter),
+				cassandraOperations);
+
+		assertThat(repository.findAllById(Collections.emptyList())).isEmpty();
+
+		verify(cassandraOperations, never()).selectAllById(any(), any());
+	}
+
+	@Test
+	void findAllByIdShouldIterateIdsOnce() {
+
+		SimpleCassandraRepository<Object, String> repository = new SimpleCassandraRepository<>(
+				new MappingCassandraEntityInformation(
+						converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class), converter),
+				cassandraOperations);
+
+		Iterator<String> iterator = Arrays.asList("foo", "bar").iterator();
+		Iterable<String> oneShot = () -> iterator;
+
+		repository.findAllById(oneShot);
+
+		verify(cassandraOperations).selectAllById(Arrays.asList("foo", "bar"), SimplePerson.class);
+	}
+
+	@Test
+	void findAllByIdShouldAcceptMapIdsWithMultipleKeys() {
+
+		SimpleCassandraRepository<Object, MapId> repository = new SimpleCassandraRepository<>(
+				new MappingCassandraEntityInformation(
+						converter.getMappingContext().getRequiredPersistentEntity(CompositePerson.class), converter),
+				cassandraOperations);
+
+		MapId id = BasicMapId.id("firstname", "Walter").with("lastname", "White");
+
+		repository.findAllById(Collections.singletonList(id));
+
+		verify(cassandraOperations).selectAllById(Collections.singletonList(id), CompositePerson.class);
+	}
+
 	@Data
 	static class SimplePerson {
 
@@ -209,4 +345,11 @@ class SimpleCassandraRepositoryUnitTests {
 		@Id String id;
 		@Version long version;
 	}
+
+	@Data
+	static class CompositePerson {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED) String firstname;
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED) String lastname;
+	}
 }
@@ -18,9 +18,13 @@ package org.springframework.data.cassandra.repository.support;
 import static org.mockito.Mockito.*;
 
 import lombok.Data;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.cassandra.core.CountOptions;
 import org.springframework.data.cassandra.core.EntityWriteResult;
 import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
@@ -101,6 +106,38 @@ class SimpleReactiveCassandraRepositoryUnitTests {
 		verify(cassandraOperations).update(versionedPerson);
 	}
 
+	@Test
+	void findAllByIdShouldIterateIdsOnce() {
+
+		when(cassandraOperations.selectAllById(any(), any()))
+				.thenAnswer(invocation -> Flux.from(invocation.getArgument(0)));
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(VersionedPerson.class);
+
+		SimpleReactiveCassandraRepository<Object, String> repository = new SimpleReactiveCassandraRepository<>(
+				new MappingCassandraEntityInformation(entity, converter), cassandraOperations);
+
+		Iterator<String> iterator = Arrays.asList("foo", "bar").iterator();
+		Iterable<String> oneShot = () -> iterator;
+
+		repository.findAllById(oneShot).as(StepVerifier::create).expectNext("foo", "bar").verifyComplete();
+	}
+
+	@Test
+	void countShouldCountTokenRanges() {
+
+		when(cassandraOperations.count(VersionedPerson.class, CountOptions.empty())).thenReturn(Mono.just(42L));
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(VersionedPerson.class);
+
+		repository = new SimpleReactiveCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(entity, converter), cassandraOperations);
+
+		repository.count().as(StepVerifier::create).expectNext(42L).verifyComplete();
+	}
+
 	@Data
 	static class VersionedPerson {
 